@@ -75,6 +75,8 @@ public class PropertyKeyConst {
     
     public static final String NAMING_CACHE_REGISTRY_DIR = "namingCacheRegistryDir";
     
+    public static final String NAMING_CACHE_SNAPSHOT = "namingCacheSnapshot";
+    
     public static final String NAMING_CLIENT_BEAT_THREAD_COUNT = "namingClientBeatThreadCount";
     
     public static final String NAMING_POLLING_MAX_THREAD_COUNT = "namingPollingMaxThreadCount";
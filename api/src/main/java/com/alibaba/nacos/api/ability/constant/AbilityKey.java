@@ -37,6 +37,17 @@ public enum AbilityKey {
     SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC("supportPersistentInstanceByGrpc",
             "support persistent instance by grpc", AbilityMode.SERVER),
     
+    /**
+     * Server support decoding binary payload body of hot requests, see {@code BinaryPayloadCodecs} in nacos-common.
+     */
+    SERVER_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support binary payload body", AbilityMode.SERVER),
+    
+    /**
+     * Server support subscribe a batch of services by one request.
+     */
+    SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE("supportBatchSubscribeService", "support batch subscribe service",
+            AbilityMode.SERVER),
+    
     /**
      * For Test temporarily.
      */
@@ -47,6 +58,17 @@ public enum AbilityKey {
      */
     SERVER_TEST_2("test_2", "just for junit test", AbilityMode.SERVER),
     
+    /**
+     * Sdk client support applying delta(incremental) naming push, which only contains changed instances.
+     */
+    SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH("supportNamingDeltaPush", "support apply delta naming push",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support decoding binary payload body of hot requests, see {@code BinaryPayloadCodecs} in nacos-common.
+     */
+    SDK_CLIENT_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support binary payload body", AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
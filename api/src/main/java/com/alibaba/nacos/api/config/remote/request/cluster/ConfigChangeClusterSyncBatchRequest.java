@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batch of config change sync requests to one cluster member.
+ *
+ * <p>Only sent to members which report the {@code supportClusterSyncBatch} config ability, the response is {@link
+ * com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse}.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeClusterSyncBatchRequest extends AbstractConfigRequest {
+    
+    private List<ConfigChangeClusterSyncRequest> syncRequests = new ArrayList<>();
+    
+    public ConfigChangeClusterSyncBatchRequest() {
+    }
+    
+    public ConfigChangeClusterSyncBatchRequest(List<ConfigChangeClusterSyncRequest> syncRequests) {
+        this.syncRequests = syncRequests;
+    }
+    
+    public List<ConfigChangeClusterSyncRequest> getSyncRequests() {
+        return syncRequests;
+    }
+    
+    public void setSyncRequests(List<ConfigChangeClusterSyncRequest> syncRequests) {
+        this.syncRequests = syncRequests;
+    }
+}
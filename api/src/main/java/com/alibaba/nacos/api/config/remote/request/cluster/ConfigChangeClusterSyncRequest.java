@@ -34,6 +34,19 @@ public class ConfigChangeClusterSyncRequest extends AbstractConfigRequest {
     
     boolean isBatch;
     
+    /**
+     * Content of the change carried inline, null if the receiver should read the change from database.
+     */
+    String content;
+    
+    String md5;
+    
+    String type;
+    
+    String encryptedDataKey;
+    
+    String betaIps;
+    
     public boolean isBeta() {
         return isBeta;
     }
@@ -86,4 +99,43 @@ public class ConfigChangeClusterSyncRequest extends AbstractConfigRequest {
         this.lastModified = lastModified;
     }
     
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public void setMd5(String md5) {
+        this.md5 = md5;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    public void setEncryptedDataKey(String encryptedDataKey) {
+        this.encryptedDataKey = encryptedDataKey;
+    }
+    
+    public String getBetaIps() {
+        return betaIps;
+    }
+    
+    public void setBetaIps(String betaIps) {
+        this.betaIps = betaIps;
+    }
 }
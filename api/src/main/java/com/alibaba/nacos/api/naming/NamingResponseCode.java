@@ -38,4 +38,9 @@ public class NamingResponseCode extends ResponseCode {
      */
     public static final int NO_NEED_RETRY = 21600;
     
+    /**
+     * The base revision of delta push is not the revision of client cached service info.
+     */
+    public static final int DELTA_PUSH_REVISION_MISMATCH = 21601;
+    
 }
@@ -577,6 +577,29 @@ public interface NamingService {
     void unsubscribe(String serviceName, String groupName, NamingSelector selector, EventListener listener)
             throws NacosException;
     
+    /**
+     * Subscribe a batch of services in one group to receive events of instances alteration, the services are
+     * subscribed to server by one request.
+     *
+     * @param serviceNames names of services
+     * @param groupName    group of services
+     * @param listener     event listener
+     * @throws NacosException nacos exception
+     * @since 2.4.0
+     */
+    void batchSubscribe(List<String> serviceNames, String groupName, EventListener listener) throws NacosException;
+    
+    /**
+     * Unsubscribe event listener of a batch of services in one group.
+     *
+     * @param serviceNames names of services
+     * @param groupName    group of services
+     * @param listener     event listener
+     * @throws NacosException nacos exception
+     * @since 2.4.0
+     */
+    void batchUnsubscribe(List<String> serviceNames, String groupName, EventListener listener) throws NacosException;
+    
     /**
      * Get all service names from server.
      *
@@ -34,6 +34,21 @@ public class ServerNamingAbility implements Serializable {
      */
     private boolean supportJraft;
     
+    /**
+     * Nacos server can verify distro data by digest.
+     */
+    private boolean supportDistroVerifyDigest;
+    
+    /**
+     * Nacos server can load distro snapshot by slices and pages.
+     */
+    private boolean supportDistroSnapshotSlice;
+    
+    /**
+     * Nacos server can receive batch of distro sync data in one request.
+     */
+    private boolean supportDistroBatchSync;
+    
     public boolean isSupportJraft() {
         return supportJraft;
     }
@@ -42,6 +57,30 @@ public class ServerNamingAbility implements Serializable {
         this.supportJraft = supportJraft;
     }
     
+    public boolean isSupportDistroVerifyDigest() {
+        return supportDistroVerifyDigest;
+    }
+    
+    public void setSupportDistroVerifyDigest(boolean supportDistroVerifyDigest) {
+        this.supportDistroVerifyDigest = supportDistroVerifyDigest;
+    }
+    
+    public boolean isSupportDistroSnapshotSlice() {
+        return supportDistroSnapshotSlice;
+    }
+    
+    public void setSupportDistroSnapshotSlice(boolean supportDistroSnapshotSlice) {
+        this.supportDistroSnapshotSlice = supportDistroSnapshotSlice;
+    }
+    
+    public boolean isSupportDistroBatchSync() {
+        return supportDistroBatchSync;
+    }
+    
+    public void setSupportDistroBatchSync(boolean supportDistroBatchSync) {
+        this.supportDistroBatchSync = supportDistroBatchSync;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -51,11 +90,14 @@ public class ServerNamingAbility implements Serializable {
             return false;
         }
         ServerNamingAbility that = (ServerNamingAbility) o;
-        return supportJraft == that.supportJraft;
+        return supportJraft == that.supportJraft && supportDistroVerifyDigest == that.supportDistroVerifyDigest
+                && supportDistroSnapshotSlice == that.supportDistroSnapshotSlice
+                && supportDistroBatchSync == that.supportDistroBatchSync;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(supportJraft);
+        return Objects.hash(supportJraft, supportDistroVerifyDigest, supportDistroSnapshotSlice,
+                supportDistroBatchSync);
     }
 }
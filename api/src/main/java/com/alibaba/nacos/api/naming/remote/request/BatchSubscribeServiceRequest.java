@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nacos naming request to subscribe or unsubscribe a batch of services in one namespace.
+ *
+ * @author Nacos
+ */
+public class BatchSubscribeServiceRequest extends AbstractNamingRequest {
+    
+    private boolean subscribe;
+    
+    private List<ServiceContext> serviceContexts = new ArrayList<>();
+    
+    public BatchSubscribeServiceRequest() {
+    }
+    
+    public BatchSubscribeServiceRequest(String namespace, List<ServiceContext> serviceContexts, boolean subscribe) {
+        super(namespace, null, null);
+        this.serviceContexts = serviceContexts;
+        this.subscribe = subscribe;
+    }
+    
+    public boolean isSubscribe() {
+        return subscribe;
+    }
+    
+    public void setSubscribe(boolean subscribe) {
+        this.subscribe = subscribe;
+    }
+    
+    public List<ServiceContext> getServiceContexts() {
+        return serviceContexts;
+    }
+    
+    public void setServiceContexts(List<ServiceContext> serviceContexts) {
+        this.serviceContexts = serviceContexts;
+    }
+    
+    /**
+     * One service to subscribe or unsubscribe.
+     */
+    public static class ServiceContext {
+        
+        private String groupName;
+        
+        private String serviceName;
+        
+        private String clusters;
+        
+        public ServiceContext() {
+        }
+        
+        public ServiceContext(String groupName, String serviceName, String clusters) {
+            this.groupName = groupName;
+            this.serviceName = serviceName;
+            this.clusters = clusters;
+        }
+        
+        public String getGroupName() {
+            return groupName;
+        }
+        
+        public void setGroupName(String groupName) {
+            this.groupName = groupName;
+        }
+        
+        public String getServiceName() {
+            return serviceName;
+        }
+        
+        public void setServiceName(String serviceName) {
+            this.serviceName = serviceName;
+        }
+        
+        public String getClusters() {
+            return clusters;
+        }
+        
+        public void setClusters(String clusters) {
+            this.clusters = clusters;
+        }
+        
+        @Override
+        public String toString() {
+            return "ServiceContext{" + "groupName='" + groupName + '\'' + ", serviceName='" + serviceName + '\''
+                    + ", clusters='" + clusters + '\'' + '}';
+        }
+    }
+}
@@ -16,14 +16,22 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 
+import java.util.List;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
  * Notify subscriber request.
  *
+ * <p>For client which supports {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH},
+ * the request might be a delta request. In delta request, the hosts of {@link #serviceInfo} only contains the added and
+ * modified instances, and {@link #removedHosts} contains the removed instances, which should be applied to the
+ * service info of {@link #baseRevision} cached by client.
+ *
  * @author xiweng.yy
  */
 public class NotifySubscriberRequest extends ServerRequest {
@@ -36,6 +44,17 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * Revision of pushed service info, {@code 0} means unknown revision.
+     */
+    private long revision;
+    
+    private boolean delta;
+    
+    private long baseRevision;
+    
+    private List<Instance> removedHosts;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -52,6 +71,38 @@ public class NotifySubscriberRequest extends ServerRequest {
         return new NotifySubscriberRequest(serviceInfo);
     }
     
+    /**
+     * Build full notify subscriber request with revision.
+     *
+     * @param serviceInfo full service info
+     * @param revision    revision of service info
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildNotifySubscriberRequest(ServiceInfo serviceInfo, long revision) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setRevision(revision);
+        return result;
+    }
+    
+    /**
+     * Build delta notify subscriber request.
+     *
+     * @param serviceInfo  service info only contains added and modified instances
+     * @param removedHosts removed instances
+     * @param baseRevision revision of service info which the delta based on
+     * @param revision     revision of service info after applying the delta
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildNotifySubscriberDeltaRequest(ServiceInfo serviceInfo,
+            List<Instance> removedHosts, long baseRevision, long revision) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setDelta(true);
+        result.setRemovedHosts(removedHosts);
+        result.setBaseRevision(baseRevision);
+        result.setRevision(revision);
+        return result;
+    }
+    
     public ServiceInfo getServiceInfo() {
         return serviceInfo;
     }
@@ -84,4 +135,36 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public boolean isDelta() {
+        return delta;
+    }
+    
+    public void setDelta(boolean delta) {
+        this.delta = delta;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public void setRemovedHosts(List<Instance> removedHosts) {
+        this.removedHosts = removedHosts;
+    }
+    
 }
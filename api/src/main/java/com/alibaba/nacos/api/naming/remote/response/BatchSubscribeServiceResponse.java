@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.response;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.List;
+
+/**
+ * Nacos naming batch subscribe service response, service infos are in the same order of the request.
+ *
+ * @author Nacos
+ */
+public class BatchSubscribeServiceResponse extends Response {
+    
+    private List<ServiceInfo> serviceInfos;
+    
+    public BatchSubscribeServiceResponse() {
+    }
+    
+    public BatchSubscribeServiceResponse(int resultCode, String message, List<ServiceInfo> serviceInfos) {
+        super();
+        setResultCode(resultCode);
+        setMessage(message);
+        this.serviceInfos = serviceInfos;
+    }
+    
+    public List<ServiceInfo> getServiceInfos() {
+        return serviceInfos;
+    }
+    
+    public void setServiceInfos(List<ServiceInfo> serviceInfos) {
+        this.serviceInfos = serviceInfos;
+    }
+}
@@ -198,4 +198,15 @@ public class NamingUtils {
     public static boolean isNumber(String str) {
         return !StringUtils.isEmpty(str) && NUMBER_PATTERN.matcher(str).matches();
     }
+    
+    /**
+     * Get the identity key of instance in one service, which is used to apply delta of instances.
+     *
+     * @param instance instance
+     * @return 'ip#port#clusterName'
+     */
+    public static String getInstanceKey(Instance instance) {
+        return instance.getIp() + Constants.NAMING_INSTANCE_ID_SPLITTER + instance.getPort()
+                + Constants.NAMING_INSTANCE_ID_SPLITTER + instance.getClusterName();
+    }
 }
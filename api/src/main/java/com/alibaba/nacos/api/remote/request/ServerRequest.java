@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.api.remote.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * ServerPushResponse.
  *
@@ -24,5 +26,20 @@ package com.alibaba.nacos.api.remote.request;
  */
 @SuppressWarnings("PMD.AbstractClassShouldStartWithAbstractNamingRule")
 public abstract class ServerRequest extends Request {
-
+    
+    /**
+     * Encoded body shared by requests with the same content pushed to different connections. Only used by server side,
+     * never serialized.
+     */
+    @JsonIgnore
+    private SharedRequestBody sharedBody;
+    
+    @JsonIgnore
+    public SharedRequestBody getSharedBody() {
+        return sharedBody;
+    }
+    
+    public void setSharedBody(SharedRequestBody sharedBody) {
+        this.sharedBody = sharedBody;
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.remote.request;
+
+import com.google.protobuf.ByteString;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Encoded body shared by server requests with the same content sent to different connections.
+ *
+ * <p>The body is encoded without request id and headers, so it can be reused for each connection. Connections might
+ * use different payload formats, so one encoded body is kept for each format.
+ *
+ * @author Nacos
+ */
+public class SharedRequestBody {
+    
+    private final Map<String, ByteString> encodedBodies = new ConcurrentHashMap<>(2);
+    
+    /**
+     * Get the encoded body of format, encode it if absent.
+     *
+     * @param format  payload format of the body
+     * @param encoder encoder to encode the body of format
+     * @return immutable encoded body
+     */
+    public ByteString getOrEncode(String format, Supplier<ByteString> encoder) {
+        return encodedBodies.computeIfAbsent(format, each -> encoder.get());
+    }
+}
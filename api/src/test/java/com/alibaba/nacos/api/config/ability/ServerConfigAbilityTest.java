@@ -34,5 +34,10 @@ class ServerConfigAbilityTest {
         assertNotEquals(ability, newOne);
         newOne.setSupportRemoteMetrics(true);
         assertEquals(ability, newOne);
+        ability.setSupportClusterSyncBatch(true);
+        assertNotEquals(ability, newOne);
+        newOne.setSupportClusterSyncBatch(true);
+        assertEquals(ability, newOne);
+        assertEquals(ability.hashCode(), newOne.hashCode());
     }
 }
\ No newline at end of file
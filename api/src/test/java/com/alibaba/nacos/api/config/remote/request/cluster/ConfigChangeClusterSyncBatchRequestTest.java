@@ -0,0 +1,80 @@
+/*
+ * Copyright 1999-2021 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.remote.request.BasedConfigRequestTest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigChangeClusterSyncBatchRequestTest extends BasedConfigRequestTest {
+    
+    ConfigChangeClusterSyncBatchRequest batchRequest;
+    
+    String requestId;
+    
+    @BeforeEach
+    void before() {
+        ConfigChangeClusterSyncRequest syncRequest = new ConfigChangeClusterSyncRequest();
+        syncRequest.setDataId(DATA_ID);
+        syncRequest.setGroup(GROUP);
+        syncRequest.setTenant(TENANT);
+        syncRequest.setLastModified(1L);
+        syncRequest.setContent(CONTENT);
+        syncRequest.setMd5(MD5);
+        batchRequest = new ConfigChangeClusterSyncBatchRequest(Collections.singletonList(syncRequest));
+        batchRequest.putAllHeader(HEADERS);
+        requestId = injectRequestUuId(batchRequest);
+    }
+    
+    @Override
+    @Test
+    public void testSerialize() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(batchRequest);
+        assertTrue(json.contains("\"module\":\"" + Constants.Config.CONFIG_MODULE));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+        assertTrue(json.contains("\"syncRequests\":[{"));
+        assertTrue(json.contains("\"dataId\":\"" + DATA_ID));
+        assertTrue(json.contains("\"content\":\"" + CONTENT));
+        assertTrue(json.contains("\"md5\":\"" + MD5));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{\"header1\":\"test_header1\"},\"requestId\":\"ece89111-3c42-4055-aca4-c95e16ec564b\","
+                + "\"syncRequests\":[{\"dataId\":\"test_data\",\"group\":\"group\",\"tenant\":\"test_tenant\","
+                + "\"lastModified\":1,\"content\":\"content\",\"md5\":\"test_MD5\",\"module\":\"config\"}],"
+                + "\"module\":\"config\"}";
+        ConfigChangeClusterSyncBatchRequest actual = mapper.readValue(json, ConfigChangeClusterSyncBatchRequest.class);
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
+        assertEquals(1, actual.getSyncRequests().size());
+        ConfigChangeClusterSyncRequest syncRequest = actual.getSyncRequests().get(0);
+        assertEquals(DATA_ID, syncRequest.getDataId());
+        assertEquals(GROUP, syncRequest.getGroup());
+        assertEquals(TENANT, syncRequest.getTenant());
+        assertEquals(1L, syncRequest.getLastModified());
+        assertEquals(CONTENT, syncRequest.getContent());
+        assertEquals(MD5, syncRequest.getMd5());
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigChangeClusterSyncRequestTest extends BasedConfigRequestTest {
@@ -75,5 +76,22 @@ class ConfigChangeClusterSyncRequestTest extends BasedConfigRequestTest {
         assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
         assertEquals(0L, actual.getLastModified());
         assertTrue(actual.isBeta());
+        assertNull(actual.getContent());
+    }
+    
+    @Test
+    void testSerializeWithContent() throws JsonProcessingException {
+        configChangeClusterSyncRequest.setContent("content");
+        configChangeClusterSyncRequest.setMd5("md5");
+        configChangeClusterSyncRequest.setType("yaml");
+        configChangeClusterSyncRequest.setEncryptedDataKey("key");
+        configChangeClusterSyncRequest.setBetaIps("127.0.0.1");
+        String json = mapper.writeValueAsString(configChangeClusterSyncRequest);
+        ConfigChangeClusterSyncRequest actual = mapper.readValue(json, ConfigChangeClusterSyncRequest.class);
+        assertEquals("content", actual.getContent());
+        assertEquals("md5", actual.getMd5());
+        assertEquals("yaml", actual.getType());
+        assertEquals("key", actual.getEncryptedDataKey());
+        assertEquals("127.0.0.1", actual.getBetaIps());
     }
 }
@@ -43,6 +43,9 @@ class ServerNamingAbilityTest {
         String nonExistItemJson = "{\"exampleAbility\":false}";
         ServerNamingAbility actual = jacksonMapper.readValue(nonExistItemJson, ServerNamingAbility.class);
         assertFalse(actual.isSupportJraft());
+        assertFalse(actual.isSupportDistroVerifyDigest());
+        assertFalse(actual.isSupportDistroSnapshotSlice());
+        assertFalse(actual.isSupportDistroBatchSync());
     }
     
     @Test
@@ -56,6 +59,18 @@ class ServerNamingAbilityTest {
         assertNotEquals(expected, actual);
         actual.setSupportJraft(true);
         assertEquals(expected, actual);
+        expected.setSupportDistroVerifyDigest(true);
+        assertNotEquals(expected, actual);
+        actual.setSupportDistroVerifyDigest(true);
+        assertEquals(expected, actual);
+        expected.setSupportDistroSnapshotSlice(true);
+        assertNotEquals(expected, actual);
+        actual.setSupportDistroSnapshotSlice(true);
+        assertEquals(expected, actual);
+        expected.setSupportDistroBatchSync(true);
+        assertNotEquals(expected, actual);
+        actual.setSupportDistroBatchSync(true);
+        assertEquals(expected, actual);
     }
     
     @Test
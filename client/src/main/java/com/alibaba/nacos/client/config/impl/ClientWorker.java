@@ -89,6 +89,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -170,6 +171,7 @@ public class ClientWorker implements Closeable {
             }
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
+            agent.markListenDirty(cache);
             // make sure cache exists in cacheMap
             if (getCache(dataId, group) != cache) {
                 putCache(GroupKey.getKey(dataId, group), cache);
@@ -197,6 +199,7 @@ public class ClientWorker implements Closeable {
             }
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
+            agent.markListenDirty(cache);
             // ensure cache present in cacheMap
             if (getCache(dataId, group, tenant) != cache) {
                 putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
@@ -229,6 +232,7 @@ public class ClientWorker implements Closeable {
             }
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
+            agent.markListenDirty(cache);
             // make sure cache exists in cacheMap
             if (getCache(dataId, group, tenant) != cache) {
                 putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
@@ -254,6 +258,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    agent.markListenDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -278,6 +283,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    agent.markListenDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -592,6 +598,23 @@ public class ClientWorker implements Closeable {
         
         private long lastAllSyncTime = System.currentTimeMillis();
         
+        /**
+         * groupKeys of caches which might be not consistent with server, only these caches are checked in listen cycle
+         * unless all caches need to be checked.
+         */
+        private final Set<String> dirtyCacheKeys = ConcurrentHashMap.newKeySet();
+        
+        /**
+         * Whether to check all caches in next listen cycle, such as the first cycle and after disconnected.
+         */
+        private volatile boolean needCheckAll = true;
+        
+        /**
+         * Whether failover directory existed in last listen cycle, all caches are checked when failover directory
+         * exists, and once more after it is deleted.
+         */
+        private boolean failoverDirExisted = false;
+        
         Subscriber subscriber = null;
         
         /**
@@ -675,6 +698,7 @@ public class ClientWorker implements Closeable {
                 synchronized (cacheData) {
                     cacheData.getReceiveNotifyChanged().set(true);
                     cacheData.setConsistentWithServer(false);
+                    dirtyCacheKeys.add(groupKey);
                     notifyListenConfig();
                 }
                 
@@ -719,6 +743,7 @@ public class ClientWorker implements Closeable {
                 public void onDisConnect(Connection connection) {
                     String taskId = rpcClientInner.getLabels().get("taskId");
                     LOGGER.info("[{}] DisConnected,clear listen context...", rpcClientInner.getName());
+                    needCheckAll = true;
                     Collection<CacheData> values = cacheMap.get().values();
                     
                     for (CacheData cacheData : values) {
@@ -809,11 +834,15 @@ public class ClientWorker implements Closeable {
             Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
-            for (CacheData cache : cacheMap.get().values()) {
+            boolean checkAll = isNeedCheckAll(needAllSync);
+            Collection<CacheData> caches = checkAll ? cacheMap.get().values() : pollDirtyCaches();
+            for (CacheData cache : caches) {
                 
                 synchronized (cache) {
                     
-                    checkLocalConfig(cache);
+                    if (checkAll) {
+                        checkLocalConfig(cache);
+                    }
                     
                     // check local listeners consistent.
                     if (cache.isConsistentWithServer()) {
@@ -842,7 +871,7 @@ public class ClientWorker implements Closeable {
             }
             
             //execute check listen ,return true if has change keys.
-            boolean hasChangedKeys = checkListenCache(listenCachesMap);
+            final boolean hasChangedKeys = checkListenCache(listenCachesMap);
             
             //execute check remove listen.
             checkRemoveListenCache(removeListenCachesMap);
@@ -850,6 +879,14 @@ public class ClientWorker implements Closeable {
             if (needAllSync) {
                 lastAllSyncTime = now;
             }
+            // caches still not consistent with server will be checked again in next cycle.
+            for (CacheData cache : caches) {
+                if (!cache.isConsistentWithServer()) {
+                    markListenDirty(cache);
+                }
+            }
+            MetricsMonitor.getListenConfigCheckCountMonitor().set(caches.size());
+            MetricsMonitor.getListenConfigCheckCostMonitor().set(System.currentTimeMillis() - now);
             //If has changed keys,notify re sync md5.
             if (hasChangedKeys) {
                 notifyListenConfig();
@@ -857,6 +894,41 @@ public class ClientWorker implements Closeable {
             
         }
         
+        /**
+         * Mark the cache to be checked in next listen cycle.
+         *
+         * @param cacheData cache data which might be not consistent with server
+         */
+        void markListenDirty(CacheData cacheData) {
+            dirtyCacheKeys.add(GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.tenant));
+        }
+        
+        private boolean isNeedCheckAll(boolean needAllSync) {
+            boolean lastFailoverDirExisted = failoverDirExisted;
+            failoverDirExisted = LocalConfigInfoProcessor.existFailoverDir(getName());
+            boolean checkAll = needCheckAll || needAllSync || lastFailoverDirExisted || failoverDirExisted;
+            if (checkAll) {
+                // keys marked during this cycle are kept to next cycle.
+                needCheckAll = false;
+                dirtyCacheKeys.clear();
+            }
+            return checkAll;
+        }
+        
+        private List<CacheData> pollDirtyCaches() {
+            Map<String, CacheData> caches = cacheMap.get();
+            List<CacheData> dirtyCaches = new ArrayList<>(dirtyCacheKeys.size());
+            Iterator<String> iterator = dirtyCacheKeys.iterator();
+            while (iterator.hasNext()) {
+                CacheData cache = caches.get(iterator.next());
+                iterator.remove();
+                if (cache != null) {
+                    dirtyCaches.add(cache);
+                }
+            }
+            return dirtyCaches;
+        }
+        
         /**
          * Checks and handles local configuration for a given CacheData object. This method evaluates the use of
          * failover files for local configuration storage and updates the CacheData accordingly.
@@ -190,6 +190,18 @@ public class LocalConfigInfoProcessor {
         }
     }
     
+    /**
+     * Whether the failover directory of server exists, failover files can only exist under the directory.
+     *
+     * @param serverName server name
+     * @return {@code true} if failover directory exists
+     */
+    static boolean existFailoverDir(String serverName) {
+        serverName = simplyEnvNameIfOverLimit(serverName);
+        File tmp = new File(LOCAL_SNAPSHOT_PATH, serverName + SUFFIX);
+        return new File(tmp, FAILOVER_FILE_CHILD_1).exists();
+    }
+    
     static File getFailoverFile(String serverName, String dataId, String group, String tenant) {
         serverName = simplyEnvNameIfOverLimit(serverName);
         File tmp = new File(LOCAL_SNAPSHOT_PATH, serverName + SUFFIX);
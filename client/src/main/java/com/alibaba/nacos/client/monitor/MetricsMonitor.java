@@ -46,6 +46,14 @@ public class MetricsMonitor {
         return NACOS_MONITOR.labels("config", "listenConfigCount");
     }
     
+    public static Gauge.Child getListenConfigCheckCountMonitor() {
+        return NACOS_MONITOR.labels("config", "listenConfigCheckCount");
+    }
+    
+    public static Gauge.Child getListenConfigCheckCostMonitor() {
+        return NACOS_MONITOR.labels("config", "listenConfigCheckCost");
+    }
+    
     public static Histogram.Child getConfigRequestMonitor(String method, String url, String code) {
         return NACOS_CLIENT_REQUEST_HISTOGRAM.labels("config", method, url, code);
     }
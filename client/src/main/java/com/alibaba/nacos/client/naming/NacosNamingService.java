@@ -481,6 +481,44 @@ public class NacosNamingService implements NamingService {
         doUnsubscribe(serviceName, groupName, selector, listener);
     }
     
+    @Override
+    public void batchSubscribe(List<String> serviceNames, String groupName, EventListener listener)
+            throws NacosException {
+        if (CollectionUtils.isEmpty(serviceNames) || listener == null) {
+            return;
+        }
+        List<String> clusters = new ArrayList<>();
+        String clusterString = getUniqueClusterString(clusters);
+        NamingSelector clusterSelector = NamingSelectorFactory.newClusterSelector(clusters);
+        for (String each : serviceNames) {
+            NamingSelectorWrapper wrapper = new NamingSelectorWrapper(each, groupName, clusterString, clusterSelector,
+                    listener);
+            notifyIfSubscribed(each, groupName, wrapper);
+            changeNotifier.registerListener(groupName, each, wrapper);
+        }
+        clientProxy.batchSubscribe(serviceNames, groupName, Constants.NULL);
+    }
+    
+    @Override
+    public void batchUnsubscribe(List<String> serviceNames, String groupName, EventListener listener)
+            throws NacosException {
+        if (CollectionUtils.isEmpty(serviceNames) || listener == null) {
+            return;
+        }
+        NamingSelector clusterSelector = NamingSelectorFactory.newClusterSelector(new ArrayList<>());
+        List<String> unsubscribeServiceNames = new ArrayList<>(serviceNames.size());
+        for (String each : serviceNames) {
+            NamingSelectorWrapper wrapper = new NamingSelectorWrapper(clusterSelector, listener);
+            changeNotifier.deregisterListener(groupName, each, wrapper);
+            if (!changeNotifier.isSubscribed(groupName, each)) {
+                unsubscribeServiceNames.add(each);
+            }
+        }
+        if (!unsubscribeServiceNames.isEmpty()) {
+            clientProxy.batchUnsubscribe(unsubscribeServiceNames, groupName, Constants.NULL);
+        }
+    }
+    
     private void doUnsubscribe(String serviceName, String groupName, NamingSelector selector, EventListener listener)
             throws NacosException {
         if (selector == null || listener == null) {
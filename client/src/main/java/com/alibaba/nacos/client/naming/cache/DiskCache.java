@@ -21,6 +21,7 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.client.naming.utils.CollectionUtils;
 import com.alibaba.nacos.client.utils.ConcurrentDiskUtil;
+import com.alibaba.nacos.client.utils.SnapshotLogFile;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
@@ -45,6 +46,8 @@ import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
  */
 public class DiskCache {
     
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+    
     /**
      * Write service info to dir.
      *
@@ -77,6 +80,60 @@ public class DiskCache {
         }
     }
     
+    /**
+     * Append service info to the single file snapshot of dir.
+     *
+     * @param dom service info
+     * @param dir directory
+     */
+    public static void writeSnapshot(ServiceInfo dom, String dir) {
+        try {
+            String json = dom.getJsonFromServer();
+            if (StringUtils.isEmpty(json)) {
+                json = JacksonUtils.toJson(dom);
+            }
+            getSnapshotFile(dir).put(dom.getKey(), json);
+        } catch (Throwable e) {
+            NAMING_LOGGER.error("[NA] failed to write cache snapshot for dom:" + dom.getName(), e);
+        }
+    }
+    
+    /**
+     * Read service info from the single file snapshot of dir, fall back to the cache files in dir if no snapshot.
+     *
+     * @param cacheDir cache file dir
+     * @return service infos
+     */
+    public static Map<String, ServiceInfo> readSnapshot(String cacheDir) {
+        Map<String, String> snapshot;
+        try {
+            snapshot = getSnapshotFile(cacheDir).readAll();
+        } catch (Throwable e) {
+            NAMING_LOGGER.error("[NA] failed to read cache snapshot", e);
+            return read(cacheDir);
+        }
+        if (snapshot.isEmpty()) {
+            return read(cacheDir);
+        }
+        Map<String, ServiceInfo> domMap = new HashMap<>(snapshot.size());
+        for (Map.Entry<String, String> entry : snapshot.entrySet()) {
+            try {
+                ServiceInfo dom = JacksonUtils.toObj(entry.getValue(), ServiceInfo.class);
+                if (!CollectionUtils.isEmpty(dom.getHosts())) {
+                    domMap.put(entry.getKey(), dom);
+                }
+            } catch (Throwable e) {
+                NAMING_LOGGER.error("[NA] error while parsing cache snapshot of dom: " + entry.getKey(), e);
+            }
+        }
+        return domMap;
+    }
+    
+    private static SnapshotLogFile getSnapshotFile(String cacheDir) {
+        File dir = new File(cacheDir);
+        return SnapshotLogFile.getInstance(new File(dir.getParentFile(), dir.getName() + SNAPSHOT_FILE_SUFFIX));
+    }
+    
     public static String getLineSeparator() {
         return System.getProperty("line.separator");
     }
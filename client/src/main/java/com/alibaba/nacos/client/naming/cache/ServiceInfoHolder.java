@@ -18,6 +18,7 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
@@ -32,6 +33,9 @@ import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -47,12 +51,22 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * Revision of service info pushed by server, only exists when the cached service info is the same as server pushed.
+     */
+    private final ConcurrentMap<String, Long> pushRevisionMap = new ConcurrentHashMap<>(16);
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
     
     private final InstancesDiffer instancesDiffer;
     
+    /**
+     * Whether to write cache into one append only snapshot file instead of one file per service.
+     */
+    private final boolean cacheSnapshot;
+    
     private String cacheDir;
     
     private String notifierEventScope;
@@ -60,8 +74,10 @@ public class ServiceInfoHolder implements Closeable {
     public ServiceInfoHolder(String namespace, String notifierEventScope, NacosClientProperties properties) {
         cacheDir = CacheDirUtil.initCacheDir(namespace, properties);
         instancesDiffer = new InstancesDiffer();
+        cacheSnapshot = isCacheSnapshot(properties);
         if (isLoadCacheAtStart(properties)) {
-            this.serviceInfoMap = new ConcurrentHashMap<>(DiskCache.read(this.cacheDir));
+            this.serviceInfoMap = new ConcurrentHashMap<>(
+                    cacheSnapshot ? DiskCache.readSnapshot(this.cacheDir) : DiskCache.read(this.cacheDir));
         } else {
             this.serviceInfoMap = new ConcurrentHashMap<>(16);
         }
@@ -80,6 +96,15 @@ public class ServiceInfoHolder implements Closeable {
         return loadCacheAtStart;
     }
     
+    private boolean isCacheSnapshot(NacosClientProperties properties) {
+        boolean cacheSnapshot = false;
+        if (properties != null && StringUtils.isNotEmpty(
+                properties.getProperty(PropertyKeyConst.NAMING_CACHE_SNAPSHOT))) {
+            cacheSnapshot = ConvertUtils.toBoolean(properties.getProperty(PropertyKeyConst.NAMING_CACHE_SNAPSHOT));
+        }
+        return cacheSnapshot;
+    }
+    
     private boolean isPushEmptyProtect(NacosClientProperties properties) {
         boolean pushEmptyProtection = false;
         if (properties != null && StringUtils.isNotEmpty(
@@ -139,6 +164,7 @@ public class ServiceInfoHolder implements Closeable {
         }
         MetricsMonitor.getServiceInfoMapSizeMonitor().set(serviceInfoMap.size());
         if (diff.hasDifferent()) {
+            pushRevisionMap.remove(serviceKey);
             NAMING_LOGGER.info("current ips:({}) service: {} -> {}", serviceInfo.ipCount(), serviceInfo.getKey(),
                     JacksonUtils.toJson(serviceInfo.getHosts()));
             
@@ -147,11 +173,71 @@ public class ServiceInfoHolder implements Closeable {
                         new InstancesChangeEvent(notifierEventScope, serviceInfo.getName(), serviceInfo.getGroupName(),
                                 serviceInfo.getClusters(), serviceInfo.getHosts(), diff));
             }
-            DiskCache.write(serviceInfo, cacheDir);
+            if (cacheSnapshot) {
+                DiskCache.writeSnapshot(serviceInfo, cacheDir);
+            } else {
+                DiskCache.write(serviceInfo, cacheDir);
+            }
         }
         return serviceInfo;
     }
     
+    /**
+     * Process full service info pushed by server with revision.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of new service info
+     * @return service info
+     */
+    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = processServiceInfo(serviceInfo);
+        if (result == serviceInfo) {
+            pushRevisionMap.put(serviceInfo.getKey(), revision);
+        }
+        return result;
+    }
+    
+    /**
+     * Process delta service info pushed by server.
+     *
+     * <p>The delta can only be applied to the cached service info of base revision, otherwise {@code null} will be
+     * returned and server should push the full service info.
+     *
+     * @param deltaServiceInfo service info which hosts only contains added and modified instances
+     * @param removedHosts     removed instances
+     * @param baseRevision     revision of service info which the delta based on
+     * @param revision         revision of service info after applying the delta
+     * @return service info after applying the delta, {@code null} if the cached service info is not base revision
+     */
+    public ServiceInfo processServiceInfoDelta(ServiceInfo deltaServiceInfo, List<Instance> removedHosts,
+            long baseRevision, long revision) {
+        String serviceKey = deltaServiceInfo.getKey();
+        ServiceInfo oldService = null == serviceKey ? null : serviceInfoMap.get(serviceKey);
+        Long currentRevision = null == serviceKey ? null : pushRevisionMap.get(serviceKey);
+        if (null == oldService || null == currentRevision || currentRevision != baseRevision) {
+            NAMING_LOGGER.warn("process delta service info but revision mismatch, serviceKey: {}, current: {}, base: {}",
+                    serviceKey, currentRevision, baseRevision);
+            return null;
+        }
+        Map<String, Instance> hosts = new LinkedHashMap<>(oldService.getHosts().size());
+        for (Instance each : oldService.getHosts()) {
+            hosts.put(NamingUtils.getInstanceKey(each), each);
+        }
+        if (null != removedHosts) {
+            for (Instance each : removedHosts) {
+                hosts.remove(NamingUtils.getInstanceKey(each));
+            }
+        }
+        if (null != deltaServiceInfo.getHosts()) {
+            for (Instance each : deltaServiceInfo.getHosts()) {
+                hosts.put(NamingUtils.getInstanceKey(each), each);
+            }
+        }
+        deltaServiceInfo.setHosts(new ArrayList<>(hosts.values()));
+        deltaServiceInfo.setJsonFromServer(null);
+        return processServiceInfo(deltaServiceInfo, revision);
+    }
+    
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
         return null == serviceInfo.getHosts() || (pushEmptyProtection && !serviceInfo.validate());
     }
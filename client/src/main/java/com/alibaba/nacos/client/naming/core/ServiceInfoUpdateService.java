@@ -19,6 +19,7 @@ package com.alibaba.nacos.client.naming.core;
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
@@ -30,18 +31,27 @@ import com.alibaba.nacos.common.lifecycle.Closeable;
 import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
 
 /**
  * Service information update service.
  *
+ * <p>Push from server is the primary way to update service information, the update tasks only reconcile services
+ * which are not refreshed by push in time. All tasks share one dispatcher which checks the due tasks every
+ * {@link #DISPATCH_INTERVAL} milliseconds, instead of each task scheduling a timer of its own. The due tasks which need
+ * to query server are queried by one batch query, instead of one query for each service. The next update time of task is
+ * jittered so that tasks of services subscribed at the same time spread out.
+ *
  * @author xiweng.yy
  */
 public class ServiceInfoUpdateService implements Closeable {
@@ -52,7 +62,15 @@ public class ServiceInfoUpdateService implements Closeable {
     
     private static final int MIN_THREAD_NUM = 1;
     
-    private final Map<String, ScheduledFuture<?>> futureMap = new HashMap<>();
+    private static final long DISPATCH_INTERVAL = 200L;
+    
+    private static final long MAX_DELAY = DEFAULT_DELAY * 60;
+    
+    private static final int JITTER_RATIO = 10;
+    
+    private final Map<String, UpdateTask> updateTasks = new ConcurrentHashMap<>(16);
+    
+    private final AtomicBoolean dispatcherStarted = new AtomicBoolean(false);
     
     private final ServiceInfoHolder serviceInfoHolder;
     
@@ -104,21 +122,91 @@ public class ServiceInfoUpdateService implements Closeable {
             return;
         }
         String serviceKey = ServiceInfo.getKey(NamingUtils.getGroupedName(serviceName, groupName), clusters);
-        if (futureMap.get(serviceKey) != null) {
+        if (updateTasks.containsKey(serviceKey)) {
             return;
         }
-        synchronized (futureMap) {
-            if (futureMap.get(serviceKey) != null) {
-                return;
+        updateTasks.computeIfAbsent(serviceKey, key -> new UpdateTask(serviceName, groupName, clusters));
+        startDispatcherIfAbsent();
+    }
+    
+    private void startDispatcherIfAbsent() {
+        if (dispatcherStarted.compareAndSet(false, true)) {
+            executor.scheduleWithFixedDelay(() -> dispatchDueTasks(System.currentTimeMillis()), DISPATCH_INTERVAL,
+                    DISPATCH_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Collect the due update tasks in one pass and execute them by the polling threads.
+     *
+     * @param now current time
+     */
+    void dispatchDueTasks(long now) {
+        try {
+            List<UpdateTask> dueTasks = new ArrayList<>();
+            for (UpdateTask each : updateTasks.values()) {
+                if (each.tryAcquire(now)) {
+                    dueTasks.add(each);
+                }
             }
-            
-            ScheduledFuture<?> future = addTask(new UpdateTask(serviceName, groupName, clusters));
-            futureMap.put(serviceKey, future);
+            if (dueTasks.size() == 1) {
+                executor.execute(dueTasks.get(0));
+            } else if (!dueTasks.isEmpty()) {
+                executor.execute(() -> batchUpdate(dueTasks));
+            }
+        } catch (Throwable e) {
+            NAMING_LOGGER.warn("[NA] failed to dispatch service update tasks", e);
         }
     }
     
-    private synchronized ScheduledFuture<?> addTask(UpdateTask task) {
-        return executor.schedule(task, DEFAULT_DELAY, TimeUnit.MILLISECONDS);
+    /**
+     * Update the due tasks, the services need to query are queried from server by one batch query. The services not
+     * queried by the batch query, or all of them if the batch query failed, are queried one by one by the polling
+     * threads.
+     *
+     * @param dueTasks due update tasks
+     */
+    private void batchUpdate(List<UpdateTask> dueTasks) {
+        List<UpdateTask> queryTasks = new ArrayList<>(dueTasks.size());
+        List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts = new ArrayList<>(dueTasks.size());
+        for (UpdateTask each : dueTasks) {
+            if (each.isStopped() || !each.needQuery()) {
+                each.run();
+            } else {
+                queryTasks.add(each);
+                serviceContexts.add(new BatchSubscribeServiceRequest.ServiceContext(each.groupName, each.serviceName,
+                        each.clusters));
+            }
+        }
+        if (queryTasks.size() == 1) {
+            queryTasks.get(0).run();
+            return;
+        }
+        if (queryTasks.isEmpty()) {
+            return;
+        }
+        List<ServiceInfo> serviceInfos;
+        try {
+            serviceInfos = namingClientProxy.batchQuerySubscribedServices(serviceContexts);
+        } catch (Throwable e) {
+            NAMING_LOGGER.warn("[NA] failed to batch query {} services, query them one by one", queryTasks.size(), e);
+            for (UpdateTask each : queryTasks) {
+                executor.execute(each);
+            }
+            return;
+        }
+        for (int i = 0; i < queryTasks.size(); i++) {
+            ServiceInfo serviceInfo = serviceInfos.get(i);
+            if (null == serviceInfo) {
+                executor.execute(queryTasks.get(i));
+            } else {
+                queryTasks.get(i).update(serviceInfo);
+            }
+        }
+    }
+    
+    UpdateTask getUpdateTask(String serviceKey) {
+        return updateTasks.get(serviceKey);
     }
     
     /**
@@ -130,15 +218,7 @@ public class ServiceInfoUpdateService implements Closeable {
      */
     public void stopUpdateIfContain(String serviceName, String groupName, String clusters) {
         String serviceKey = ServiceInfo.getKey(NamingUtils.getGroupedName(serviceName, groupName), clusters);
-        if (!futureMap.containsKey(serviceKey)) {
-            return;
-        }
-        synchronized (futureMap) {
-            if (!futureMap.containsKey(serviceKey)) {
-                return;
-            }
-            futureMap.remove(serviceKey);
-        }
+        updateTasks.remove(serviceKey);
     }
     
     @Override
@@ -165,6 +245,11 @@ public class ServiceInfoUpdateService implements Closeable {
         
         private final String serviceKey;
         
+        /**
+         * Next time to update, {@code Long.MAX_VALUE} means the task has been dispatched and is still running.
+         */
+        private volatile long nextUpdateTime;
+        
         /**
          * the fail situation. 1:can't connect to server 2:serviceInfo's hosts is empty
          */
@@ -176,15 +261,45 @@ public class ServiceInfoUpdateService implements Closeable {
             this.clusters = clusters;
             this.groupedServiceName = NamingUtils.getGroupedName(serviceName, groupName);
             this.serviceKey = ServiceInfo.getKey(groupedServiceName, clusters);
+            this.nextUpdateTime = System.currentTimeMillis() + DEFAULT_DELAY;
+        }
+        
+        private synchronized boolean tryAcquire(long now) {
+            if (nextUpdateTime > now) {
+                return false;
+            }
+            nextUpdateTime = Long.MAX_VALUE;
+            return true;
+        }
+        
+        long getNextUpdateTime() {
+            return nextUpdateTime;
+        }
+        
+        private boolean isStopped() {
+            return !changeNotifier.isSubscribed(groupName, serviceName) && !updateTasks.containsKey(serviceKey);
+        }
+        
+        private boolean needQuery() {
+            ServiceInfo serviceObj = serviceInfoHolder.getServiceInfoMap().get(serviceKey);
+            return serviceObj == null || serviceObj.getLastRefTime() <= lastRefTime;
         }
         
         @Override
         public void run() {
+            update(null);
+        }
+        
+        /**
+         * Update service info.
+         *
+         * @param queried service info queried by batch query, {@code null} if not queried yet
+         */
+        private void update(ServiceInfo queried) {
             long delayTime = DEFAULT_DELAY;
             
             try {
-                if (!changeNotifier.isSubscribed(groupName, serviceName) && !futureMap.containsKey(
-                        serviceKey)) {
+                if (isStopped()) {
                     NAMING_LOGGER.info("update task is stopped, service:{}, clusters:{}", groupedServiceName, clusters);
                     isCancel = true;
                     return;
@@ -192,7 +307,7 @@ public class ServiceInfoUpdateService implements Closeable {
                 
                 ServiceInfo serviceObj = serviceInfoHolder.getServiceInfoMap().get(serviceKey);
                 if (serviceObj == null) {
-                    serviceObj = namingClientProxy.queryInstancesOfService(serviceName, groupName, clusters, false);
+                    serviceObj = query(queried);
                     serviceInfoHolder.processServiceInfo(serviceObj);
                     // TODO multiple time can be configured.
                     delayTime = serviceObj.getCacheMillis() * DEFAULT_UPDATE_CACHE_TIME_MULTIPLE;
@@ -201,7 +316,7 @@ public class ServiceInfoUpdateService implements Closeable {
                 }
                 
                 if (serviceObj.getLastRefTime() <= lastRefTime) {
-                    serviceObj = namingClientProxy.queryInstancesOfService(serviceName, groupName, clusters, false);
+                    serviceObj = query(queried);
                     serviceInfoHolder.processServiceInfo(serviceObj);
                 }
                 lastRefTime = serviceObj.getLastRefTime();
@@ -217,10 +332,24 @@ public class ServiceInfoUpdateService implements Closeable {
             } catch (Throwable e) {
                 handleUnknownException(e);
             } finally {
-                if (!isCancel) {
-                    executor.schedule(this, Math.min(delayTime << failCount, DEFAULT_DELAY * 60),
-                            TimeUnit.MILLISECONDS);
-                }
+                scheduleNext(delayTime);
+            }
+        }
+        
+        private ServiceInfo query(ServiceInfo queried) throws NacosException {
+            if (null != queried) {
+                return queried;
+            }
+            return namingClientProxy.queryInstancesOfService(serviceName, groupName, clusters, false);
+        }
+        
+        private void scheduleNext(long delayTime) {
+            if (isCancel) {
+                updateTasks.remove(serviceKey, this);
+            } else {
+                long delay = Math.min(delayTime << failCount, MAX_DELAY);
+                delay += ThreadLocalRandom.current().nextLong(delay / JITTER_RATIO + 1);
+                nextUpdateTime = System.currentTimeMillis() + delay;
             }
         }
         
@@ -21,6 +21,7 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ListView;
 import com.alibaba.nacos.api.naming.pojo.Service;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.api.selector.AbstractSelector;
 import com.alibaba.nacos.common.lifecycle.Closeable;
 
@@ -98,6 +99,20 @@ public interface NamingClientProxy extends Closeable {
     ServiceInfo queryInstancesOfService(String serviceName, String groupName, String clusters, boolean healthyOnly)
             throws NacosException;
     
+    /**
+     * Query all instances of a batch of subscribed services, used to reconcile the services not refreshed by push.
+     *
+     * <p>The services which can't be queried by batch, such as the server doesn't support batch query, are returned as
+     * {@code null}, and should be queried one by one by {@link #queryInstancesOfService}.
+     *
+     * @param serviceContexts subscribed services
+     * @return current service infos of services in the same order of service contexts, {@code null} for services not
+     *     queried
+     * @throws NacosException nacos exception
+     */
+    List<ServiceInfo> batchQuerySubscribedServices(List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts)
+            throws NacosException;
+    
     /**
      * Query Service.
      *
@@ -170,6 +185,28 @@ public interface NamingClientProxy extends Closeable {
      */
     void unsubscribe(String serviceName, String groupName, String clusters) throws NacosException;
     
+    /**
+     * Subscribe a batch of services in one group.
+     *
+     * @param serviceNames service names
+     * @param groupName    group name
+     * @param clusters     clusters, current only support subscribe all clusters, maybe deprecated
+     * @return current service infos of subscribe services, in the same order of service names
+     * @throws NacosException nacos exception
+     */
+    List<ServiceInfo> batchSubscribe(List<String> serviceNames, String groupName, String clusters)
+            throws NacosException;
+    
+    /**
+     * Unsubscribe a batch of services in one group.
+     *
+     * @param serviceNames service names
+     * @param groupName    group name
+     * @param clusters     clusters, current only support subscribe all clusters, maybe deprecated
+     * @throws NacosException nacos exception
+     */
+    void batchUnsubscribe(List<String> serviceNames, String groupName, String clusters) throws NacosException;
+    
     /**
      * Judge whether service has been subscribed.
      *
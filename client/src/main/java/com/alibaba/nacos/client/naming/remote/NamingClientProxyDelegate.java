@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ListView;
 import com.alibaba.nacos.api.naming.pojo.Service;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.api.selector.AbstractSelector;
 import com.alibaba.nacos.client.env.NacosClientProperties;
@@ -37,6 +38,7 @@ import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
@@ -133,6 +135,12 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
         return grpcClientProxy.queryInstancesOfService(serviceName, groupName, clusters, healthyOnly);
     }
     
+    @Override
+    public List<ServiceInfo> batchQuerySubscribedServices(
+            List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts) throws NacosException {
+        return grpcClientProxy.batchQuerySubscribedServices(serviceContexts);
+    }
+    
     @Override
     public Service queryService(String serviceName, String groupName) throws NacosException {
         return null;
@@ -181,6 +189,46 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
         grpcClientProxy.unsubscribe(serviceName, groupName, clusters);
     }
     
+    @Override
+    public List<ServiceInfo> batchSubscribe(List<String> serviceNames, String groupName, String clusters)
+            throws NacosException {
+        NAMING_LOGGER.info("[SUBSCRIBE-SERVICE] services:{}, group:{}, clusters:{} ", serviceNames, groupName,
+                clusters);
+        List<ServiceInfo> result = new ArrayList<>(serviceNames.size());
+        List<String> needSubscribe = new ArrayList<>();
+        List<Integer> needSubscribeIndexes = new ArrayList<>();
+        for (String each : serviceNames) {
+            serviceInfoUpdateService.scheduleUpdateIfAbsent(each, groupName, clusters);
+            String serviceKey = ServiceInfo.getKey(NamingUtils.getGroupedName(each, groupName), clusters);
+            ServiceInfo serviceInfo = serviceInfoHolder.getServiceInfoMap().get(serviceKey);
+            if (null == serviceInfo || !isSubscribed(each, groupName, clusters)) {
+                needSubscribe.add(each);
+                needSubscribeIndexes.add(result.size());
+            }
+            result.add(serviceInfo);
+        }
+        if (!needSubscribe.isEmpty()) {
+            List<ServiceInfo> subscribed = grpcClientProxy.batchSubscribe(needSubscribe, groupName, clusters);
+            for (int i = 0; i < needSubscribeIndexes.size(); i++) {
+                result.set(needSubscribeIndexes.get(i), subscribed.get(i));
+            }
+        }
+        for (ServiceInfo each : result) {
+            serviceInfoHolder.processServiceInfo(each);
+        }
+        return result;
+    }
+    
+    @Override
+    public void batchUnsubscribe(List<String> serviceNames, String groupName, String clusters) throws NacosException {
+        NAMING_LOGGER.debug("[UNSUBSCRIBE-SERVICE] services:{}, group:{}, cluster:{} ", serviceNames, groupName,
+                clusters);
+        for (String each : serviceNames) {
+            serviceInfoUpdateService.stopUpdateIfContain(each, groupName, clusters);
+        }
+        grpcClientProxy.batchUnsubscribe(serviceNames, groupName, clusters);
+    }
+    
     @Override
     public boolean isSubscribed(String serviceName, String groupName, String clusters) throws NacosException {
         return grpcClientProxy.isSubscribed(serviceName, groupName, clusters);
@@ -28,12 +28,14 @@ import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
 import com.alibaba.nacos.api.naming.remote.request.AbstractNamingRequest;
 import com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.PersistentInstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceListRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.response.BatchInstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.BatchSubscribeServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.QueryServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.ServiceListResponse;
 import com.alibaba.nacos.api.naming.remote.response.SubscribeServiceResponse;
@@ -64,6 +66,7 @@ import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -83,6 +86,8 @@ import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
  */
 public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
     
+    private static final int MAX_BATCH_SUBSCRIBE_SIZE = 500;
+    
     private final String namespaceId;
     
     private final String uuid;
@@ -338,6 +343,43 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         return response.getServiceInfo();
     }
     
+    /**
+     * Query a batch of subscribed services.
+     *
+     * <p>Subscribing a subscribed service again is idempotent and returns its current service info, so the services
+     * whose subscriber is registered are queried by {@link BatchSubscribeServiceRequest}s. The others, or all services
+     * if server does not support batch subscribe, are not queried so that no new subscription is created.
+     *
+     * @param serviceContexts subscribed services
+     * @return current service infos of services in the same order of service contexts, {@code null} for services not
+     *     queried
+     * @throws NacosException nacos exception
+     */
+    @Override
+    public List<ServiceInfo> batchQuerySubscribedServices(
+            List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts) throws NacosException {
+        List<ServiceInfo> result = new ArrayList<>(Collections.nCopies(serviceContexts.size(), null));
+        if (!isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)) {
+            return result;
+        }
+        List<BatchSubscribeServiceRequest.ServiceContext> subscribed = new ArrayList<>();
+        List<Integer> subscribedIndexes = new ArrayList<>();
+        for (int i = 0; i < serviceContexts.size(); i++) {
+            BatchSubscribeServiceRequest.ServiceContext each = serviceContexts.get(i);
+            if (redoService.isSubscriberRegistered(each.getServiceName(), each.getGroupName(), each.getClusters())) {
+                subscribed.add(each);
+                subscribedIndexes.add(i);
+            }
+        }
+        if (!subscribed.isEmpty()) {
+            List<ServiceInfo> serviceInfos = doBatchSubscribe(subscribed);
+            for (int i = 0; i < subscribedIndexes.size(); i++) {
+                result.set(subscribedIndexes.get(i), serviceInfos.get(i));
+            }
+        }
+        return result;
+    }
+    
     @Override
     public Service queryService(String serviceName, String groupName) throws NacosException {
         return null;
@@ -403,6 +445,87 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         doUnsubscribe(serviceName, groupName, clusters);
     }
     
+    @Override
+    public List<ServiceInfo> batchSubscribe(List<String> serviceNames, String groupName, String clusters)
+            throws NacosException {
+        NAMING_LOGGER.info("[GRPC-SUBSCRIBE] services:{}, group:{}, cluster:{} ", serviceNames, groupName, clusters);
+        List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts = new ArrayList<>(serviceNames.size());
+        for (String each : serviceNames) {
+            redoService.cacheSubscriberForRedo(each, groupName, clusters);
+            serviceContexts.add(new BatchSubscribeServiceRequest.ServiceContext(groupName, each, clusters));
+        }
+        return doBatchSubscribe(serviceContexts);
+    }
+    
+    /**
+     * Execute subscribe operation for a batch of services.
+     *
+     * <p>Services are sent by {@link BatchSubscribeServiceRequest}s of at most {@link #MAX_BATCH_SUBSCRIBE_SIZE}
+     * services, or subscribed one by one if server does not support batch subscribe.
+     *
+     * @param serviceContexts services to subscribe
+     * @return current service infos of subscribe services, in the same order of service contexts
+     * @throws NacosException nacos exception
+     */
+    public List<ServiceInfo> doBatchSubscribe(List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts)
+            throws NacosException {
+        List<ServiceInfo> result = new ArrayList<>(serviceContexts.size());
+        if (!isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)) {
+            for (BatchSubscribeServiceRequest.ServiceContext each : serviceContexts) {
+                result.add(doSubscribe(each.getServiceName(), each.getGroupName(), each.getClusters()));
+            }
+            return result;
+        }
+        for (int from = 0; from < serviceContexts.size(); from += MAX_BATCH_SUBSCRIBE_SIZE) {
+            List<BatchSubscribeServiceRequest.ServiceContext> batch = new ArrayList<>(
+                    serviceContexts.subList(from, Math.min(serviceContexts.size(), from + MAX_BATCH_SUBSCRIBE_SIZE)));
+            BatchSubscribeServiceRequest request = new BatchSubscribeServiceRequest(namespaceId, batch, true);
+            BatchSubscribeServiceResponse response = requestToServer(request, BatchSubscribeServiceResponse.class);
+            for (BatchSubscribeServiceRequest.ServiceContext each : batch) {
+                redoService.subscriberRegistered(each.getServiceName(), each.getGroupName(), each.getClusters());
+            }
+            result.addAll(response.getServiceInfos());
+        }
+        return result;
+    }
+    
+    @Override
+    public void batchUnsubscribe(List<String> serviceNames, String groupName, String clusters) throws NacosException {
+        NAMING_LOGGER.info("[GRPC-UNSUBSCRIBE] services:{}, group:{}, cluster:{} ", serviceNames, groupName,
+                clusters);
+        List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts = new ArrayList<>(serviceNames.size());
+        for (String each : serviceNames) {
+            redoService.subscriberDeregister(each, groupName, clusters);
+            serviceContexts.add(new BatchSubscribeServiceRequest.ServiceContext(groupName, each, clusters));
+        }
+        doBatchUnsubscribe(serviceContexts);
+    }
+    
+    /**
+     * Execute unsubscribe operation for a batch of services.
+     *
+     * @param serviceContexts services to unsubscribe
+     * @throws NacosException nacos exception
+     */
+    public void doBatchUnsubscribe(List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts)
+            throws NacosException {
+        if (!isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)) {
+            for (BatchSubscribeServiceRequest.ServiceContext each : serviceContexts) {
+                doUnsubscribe(each.getServiceName(), each.getGroupName(), each.getClusters());
+            }
+            return;
+        }
+        for (int from = 0; from < serviceContexts.size(); from += MAX_BATCH_SUBSCRIBE_SIZE) {
+            List<BatchSubscribeServiceRequest.ServiceContext> batch = new ArrayList<>(
+                    serviceContexts.subList(from, Math.min(serviceContexts.size(), from + MAX_BATCH_SUBSCRIBE_SIZE)));
+            BatchSubscribeServiceRequest request = new BatchSubscribeServiceRequest(namespaceId, batch, false);
+            requestToServer(request, BatchSubscribeServiceResponse.class);
+            for (BatchSubscribeServiceRequest.ServiceContext each : batch) {
+                redoService.removeSubscriberForRedo(each.getServiceName(), each.getGroupName(), each.getClusters());
+            }
+        }
+    }
+    
     @Override
     public boolean isSubscribed(String serviceName, String groupName, String clusters) throws NacosException {
         return redoService.isSubscriberRegistered(serviceName, groupName, clusters);
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.naming.NamingResponseCode;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -41,9 +43,27 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            if (notifyRequest.isDelta()) {
+                return processDelta(notifyRequest);
+            }
+            if (notifyRequest.getRevision() > 0) {
+                serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRevision());
+            } else {
+                serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            }
             return new NotifySubscriberResponse();
         }
         return null;
     }
+    
+    private Response processDelta(NotifySubscriberRequest notifyRequest) {
+        ServiceInfo result = serviceInfoHolder.processServiceInfoDelta(notifyRequest.getServiceInfo(),
+                notifyRequest.getRemovedHosts(), notifyRequest.getBaseRevision(), notifyRequest.getRevision());
+        NotifySubscriberResponse response = new NotifySubscriberResponse();
+        if (null == result) {
+            response.setErrorInfo(NamingResponseCode.DELTA_PUSH_REVISION_MISMATCH,
+                    "Delta push base revision mismatch, need full push.");
+        }
+        return response;
+    }
 }
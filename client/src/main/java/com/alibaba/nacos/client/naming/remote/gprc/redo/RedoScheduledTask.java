@@ -16,7 +16,9 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc.redo;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.client.naming.remote.gprc.NamingGrpcClientProxy;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.BatchInstanceRedoData;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.InstanceRedoData;
@@ -25,6 +27,9 @@ import com.alibaba.nacos.client.naming.remote.gprc.redo.data.SubscriberRedoData;
 import com.alibaba.nacos.client.utils.LogUtils;
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Redo task.
  *
@@ -103,6 +108,10 @@ public class RedoScheduledTask extends AbstractExecuteTask {
     }
     
     private void redoForSubscribes() {
+        if (clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)) {
+            batchRedoForSubscribes();
+            return;
+        }
         for (SubscriberRedoData each : redoService.findSubscriberRedoData()) {
             try {
                 redoForSubscribe(each);
@@ -113,6 +122,48 @@ public class RedoScheduledTask extends AbstractExecuteTask {
         }
     }
     
+    private void batchRedoForSubscribes() {
+        List<BatchSubscribeServiceRequest.ServiceContext> subscribes = new ArrayList<>();
+        List<BatchSubscribeServiceRequest.ServiceContext> unsubscribes = new ArrayList<>();
+        for (SubscriberRedoData each : redoService.findSubscriberRedoData()) {
+            switch (each.getRedoType()) {
+                case REGISTER:
+                    subscribes.add(new BatchSubscribeServiceRequest.ServiceContext(each.getGroupName(),
+                            each.getServiceName(), each.get()));
+                    break;
+                case UNREGISTER:
+                    unsubscribes.add(new BatchSubscribeServiceRequest.ServiceContext(each.getGroupName(),
+                            each.getServiceName(), each.get()));
+                    break;
+                case REMOVE:
+                    redoService.removeSubscriberForRedo(each.getServiceName(), each.getGroupName(), each.get());
+                    break;
+                default:
+            }
+        }
+        if (isClientDisabled()) {
+            return;
+        }
+        if (!subscribes.isEmpty()) {
+            LogUtils.NAMING_LOGGER.info("Redo subscriber operation REGISTER for {} subscribers", subscribes.size());
+            try {
+                clientProxy.doBatchSubscribe(subscribes);
+            } catch (NacosException e) {
+                LogUtils.NAMING_LOGGER.error("Redo subscriber operation REGISTER for {} subscribers failed. ",
+                        subscribes.size(), e);
+            }
+        }
+        if (!unsubscribes.isEmpty()) {
+            LogUtils.NAMING_LOGGER.info("Redo subscriber operation UNREGISTER for {} subscribers", unsubscribes.size());
+            try {
+                clientProxy.doBatchUnsubscribe(unsubscribes);
+            } catch (NacosException e) {
+                LogUtils.NAMING_LOGGER.error("Redo subscriber operation UNREGISTER for {} subscribers failed. ",
+                        unsubscribes.size(), e);
+            }
+        }
+    }
+    
     private void redoForSubscribe(SubscriberRedoData redoData) throws NacosException {
         RedoData.RedoType redoType = redoData.getRedoType();
         String serviceName = redoData.getServiceName();
@@ -24,6 +24,7 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ListView;
 import com.alibaba.nacos.api.naming.pojo.Service;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.api.selector.AbstractSelector;
 import com.alibaba.nacos.api.selector.ExpressionSelector;
@@ -51,6 +52,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.http.HttpStatus;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -321,6 +323,22 @@ public class NamingHttpClientProxy extends AbstractNamingClientProxy {
     public void unsubscribe(String serviceName, String groupName, String clusters) throws NacosException {
     }
     
+    @Override
+    public List<ServiceInfo> batchQuerySubscribedServices(
+            List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts) throws NacosException {
+        return new ArrayList<>(Collections.nCopies(serviceContexts.size(), null));
+    }
+    
+    @Override
+    public List<ServiceInfo> batchSubscribe(List<String> serviceNames, String groupName, String clusters)
+            throws NacosException {
+        throw new UnsupportedOperationException("Do not support subscribe service by UDP, please use gRPC replaced.");
+    }
+    
+    @Override
+    public void batchUnsubscribe(List<String> serviceNames, String groupName, String clusters) throws NacosException {
+    }
+    
     @Override
     public boolean isSubscribed(String serviceName, String groupName, String clusters) throws NacosException {
         return true;
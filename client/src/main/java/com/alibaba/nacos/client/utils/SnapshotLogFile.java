@@ -0,0 +1,254 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Single file, append only key-value snapshot.
+ *
+ * <p>Each {@link #put(String, String)} appends one record framed as {@code length | crc32 | keyLength | key | value}
+ * to the end of the file, and {@link #readAll()} loads all records with one sequential read, later records override
+ * earlier records with the same key. A record with broken length or checksum, such as a torn write of a crashed
+ * process, ends the read. The file is compacted in place once it grows larger than twice of its live records.
+ *
+ * <p>Files are shared by all processes using the same cache dir, so every access holds a file lock, and instances are
+ * shared in one JVM by {@link #getInstance(File)} because file locks can not be held twice by one JVM.
+ *
+ * @author Nacos
+ */
+public class SnapshotLogFile {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotLogFile.class);
+    
+    private static final Map<String, SnapshotLogFile> INSTANCES = new ConcurrentHashMap<>(4);
+    
+    private static final int MAGIC = 0x4E53_4E50;
+    
+    private static final int VERSION = 1;
+    
+    private static final int HEADER_LENGTH = 8;
+    
+    private static final int RECORD_HEADER_LENGTH = 8;
+    
+    private static final long MIN_COMPACT_LENGTH = 1024 * 1024;
+    
+    private static final int COMPACT_RATIO = 2;
+    
+    private final File file;
+    
+    private long liveLength;
+    
+    private long validLength;
+    
+    private boolean tailRepaired;
+    
+    private SnapshotLogFile(File file) {
+        this.file = file;
+    }
+    
+    /**
+     * Get the shared snapshot file instance of the file.
+     *
+     * @param file snapshot file
+     * @return snapshot file instance
+     */
+    public static SnapshotLogFile getInstance(File file) {
+        return INSTANCES.computeIfAbsent(file.getAbsolutePath(), path -> new SnapshotLogFile(new File(path)));
+    }
+    
+    public File getFile() {
+        return file;
+    }
+    
+    /**
+     * Append a record of the key, and compact the file if too many records are overridden.
+     *
+     * @param key   key
+     * @param value value
+     * @throws IOException if write file failed
+     */
+    public synchronized void put(String key, String value) throws IOException {
+        ByteBuffer record = encode(key, value);
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs() && !parent.exists()) {
+            throw new IOException("failed to create snapshot dir " + parent);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE); FileLock ignored = channel.lock()) {
+            long length = repairTailIfNecessary(channel);
+            if (length < HEADER_LENGTH) {
+                channel.truncate(0);
+                writeFully(channel, header(), 0);
+                length = HEADER_LENGTH;
+            }
+            writeFully(channel, record, length);
+            length += record.capacity();
+            if (length > Math.max(MIN_COMPACT_LENGTH, liveLength * COMPACT_RATIO)) {
+                compact(channel);
+            }
+        }
+    }
+    
+    /**
+     * Read all live records of the file.
+     *
+     * @return key-value map of live records, empty if file not exists or broken
+     * @throws IOException if read file failed
+     */
+    public synchronized Map<String, String> readAll() throws IOException {
+        if (!file.isFile()) {
+            return new HashMap<>(1);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                FileLock ignored = channel.lock(0, Long.MAX_VALUE, true)) {
+            return decodeAll(channel);
+        }
+    }
+    
+    /**
+     * Truncate the broken tail left by a crash before the first append, otherwise records appended after the broken
+     * record could never be read.
+     */
+    private long repairTailIfNecessary(FileChannel channel) throws IOException {
+        long length = channel.size();
+        if (tailRepaired) {
+            return length;
+        }
+        decodeAll(channel);
+        if (validLength < length) {
+            LOGGER.warn("[SnapshotLogFile] truncate broken tail of file {} from {} to {}", file, length,
+                    validLength);
+            channel.truncate(validLength);
+            length = validLength;
+        }
+        tailRepaired = true;
+        return length;
+    }
+    
+    private Map<String, String> decodeAll(FileChannel channel) throws IOException {
+        Map<String, String> result = new LinkedHashMap<>(16);
+        long size = channel.size();
+        if (size < HEADER_LENGTH || size > Integer.MAX_VALUE) {
+            liveLength = 0;
+            validLength = 0;
+            return result;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        if (buffer.remaining() < HEADER_LENGTH || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            LOGGER.warn("[SnapshotLogFile] unknown snapshot format, ignore file {}", file);
+            liveLength = 0;
+            validLength = 0;
+            return result;
+        }
+        Map<String, Integer> recordLengths = new HashMap<>(16);
+        CRC32 crc32 = new CRC32();
+        int end = buffer.position();
+        while (buffer.remaining() >= RECORD_HEADER_LENGTH) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            final int checksum = buffer.getInt();
+            if (length < Integer.BYTES || length > buffer.remaining()) {
+                break;
+            }
+            crc32.reset();
+            crc32.update(buffer.array(), buffer.position(), length);
+            int keyLength = buffer.getInt();
+            if ((int) crc32.getValue() != checksum || keyLength < 0 || keyLength > length - Integer.BYTES) {
+                LOGGER.warn("[SnapshotLogFile] broken record at {} of file {}, ignore the rest", start, file);
+                break;
+            }
+            String key = new String(buffer.array(), buffer.position(), keyLength, StandardCharsets.UTF_8);
+            int valueLength = length - Integer.BYTES - keyLength;
+            final String value = new String(buffer.array(), buffer.position() + keyLength, valueLength,
+                    StandardCharsets.UTF_8);
+            end = start + RECORD_HEADER_LENGTH + length;
+            buffer.position(end);
+            result.remove(key);
+            result.put(key, value);
+            recordLengths.put(key, RECORD_HEADER_LENGTH + length);
+        }
+        validLength = end;
+        long live = HEADER_LENGTH;
+        for (int each : recordLengths.values()) {
+            live += each;
+        }
+        liveLength = live;
+        return result;
+    }
+    
+    private void compact(FileChannel channel) throws IOException {
+        Map<String, String> live = decodeAll(channel);
+        ByteBuffer buffer = ByteBuffer.allocate((int) liveLength);
+        buffer.put(header());
+        for (Map.Entry<String, String> entry : live.entrySet()) {
+            buffer.put(encode(entry.getKey(), entry.getValue()));
+        }
+        buffer.flip();
+        // Truncate first, so that a crash during rewriting loses records instead of resurrecting overridden ones.
+        channel.truncate(0);
+        writeFully(channel, buffer, 0);
+        channel.force(false);
+        LOGGER.info("[SnapshotLogFile] compact file {}, {} records, {} bytes", file, live.size(), liveLength);
+    }
+    
+    private static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.putInt(MAGIC).putInt(VERSION).flip();
+        return header;
+    }
+    
+    private static ByteBuffer encode(String key, String value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Integer.BYTES + keyBytes.length + valueBytes.length;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_LENGTH + length);
+        record.putInt(length).putInt(0).putInt(keyBytes.length).put(keyBytes).put(valueBytes);
+        CRC32 crc32 = new CRC32();
+        crc32.update(record.array(), RECORD_HEADER_LENGTH, length);
+        record.putInt(Integer.BYTES, (int) crc32.getValue());
+        record.flip();
+        return record;
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            current += channel.write(buffer, current);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import com.alibaba.nacos.client.config.common.GroupKey;
 import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
 import com.alibaba.nacos.client.config.filter.impl.ConfigResponse;
 import com.alibaba.nacos.client.env.NacosClientProperties;
+import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import com.alibaba.nacos.common.remote.client.RpcClientFactory;
@@ -57,6 +58,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -580,6 +582,51 @@ class ClientWorkerTest {
         
     }
     
+    @Test
+    void testExecuteConfigListenOnlyDirtyCaches() throws Exception {
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        Mockito.when(agent.getName()).thenReturn("mocktest");
+        ClientWorker clientWorker = new ClientWorker(filter, agent,
+                NacosClientProperties.PROTOTYPE.derive(new Properties()));
+        clientWorker.shutdown();
+        
+        String group = "group123";
+        String tenant = "tenant122324";
+        String dataId1 = "dataIdDirty1" + System.currentTimeMillis();
+        String dataId2 = "dataIdDirty2" + System.currentTimeMillis();
+        CacheData cache1 = normalNotConsistentCache(filter, agent.getName(), dataId1, group, tenant);
+        CacheData cache2 = normalNotConsistentCache(filter, agent.getName(), dataId2, group, tenant);
+        cache1.setConsistentWithServer(true);
+        cache2.setConsistentWithServer(true);
+        Map<String, CacheData> caches = new HashMap<>();
+        caches.put(GroupKey.getKeyTenant(dataId1, group, tenant), cache1);
+        caches.put(GroupKey.getKeyTenant(dataId2, group, tenant), cache2);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        cacheMap.set(clientWorker, new AtomicReference<>(caches));
+        
+        // first cycle checks all caches.
+        clientWorker.getAgent().executeConfigListen();
+        assertEquals(2, (int) MetricsMonitor.getListenConfigCheckCountMonitor().get());
+        // nothing changed, no cache is checked.
+        clientWorker.getAgent().executeConfigListen();
+        assertEquals(0, (int) MetricsMonitor.getListenConfigCheckCountMonitor().get());
+        localConfigInfoProcessorMockedStatic.verify(
+                () -> LocalConfigInfoProcessor.getFailoverFile(agent.getName(), dataId1, group, tenant), times(1));
+        // only dirty cache is checked.
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).markListenDirty(cache1);
+        clientWorker.getAgent().executeConfigListen();
+        assertEquals(1, (int) MetricsMonitor.getListenConfigCheckCountMonitor().get());
+        // all caches are checked when failover directory exists.
+        localConfigInfoProcessorMockedStatic.when(() -> LocalConfigInfoProcessor.existFailoverDir(agent.getName()))
+                .thenReturn(true);
+        clientWorker.getAgent().executeConfigListen();
+        assertEquals(2, (int) MetricsMonitor.getListenConfigCheckCountMonitor().get());
+        localConfigInfoProcessorMockedStatic.verify(
+                () -> LocalConfigInfoProcessor.getFailoverFile(agent.getName(), dataId1, group, tenant), times(2));
+    }
+    
     private CacheData discardCache(ConfigFilterChainManager filter, String envName, String dataId, String group,
             String tenant) {
         CacheData cacheData = new CacheData(filter, envName, dataId, group, tenant);
@@ -891,6 +891,45 @@ class NacosNamingServiceTest {
         
     }
     
+    @Test
+    void testBatchSubscribe() throws NacosException {
+        //given
+        List<String> serviceNames = Arrays.asList("service1", "service2");
+        String groupName = "group1";
+        EventListener listener = event -> {
+        
+        };
+        //when
+        client.batchSubscribe(serviceNames, groupName, listener);
+        //then
+        for (String each : serviceNames) {
+            NamingSelectorWrapper wrapper = new NamingSelectorWrapper(each, groupName, Constants.NULL,
+                    NamingSelectorFactory.newClusterSelector(Collections.emptyList()), listener);
+            verify(changeNotifier, times(1)).registerListener(groupName, each, wrapper);
+        }
+        verify(proxy, times(1)).batchSubscribe(serviceNames, groupName, Constants.NULL);
+        verify(proxy, never()).subscribe(anyString(), anyString(), anyString());
+    }
+    
+    @Test
+    void testBatchUnsubscribe() throws NacosException {
+        //given
+        String groupName = "group1";
+        EventListener listener = event -> {
+        
+        };
+        when(changeNotifier.isSubscribed(groupName, "service1")).thenReturn(false);
+        when(changeNotifier.isSubscribed(groupName, "service2")).thenReturn(true);
+        //when
+        client.batchUnsubscribe(Arrays.asList("service1", "service2"), groupName, listener);
+        //then
+        NamingSelectorWrapper wrapper = new NamingSelectorWrapper(
+                NamingSelectorFactory.newClusterSelector(Collections.emptyList()), listener);
+        verify(changeNotifier, times(1)).deregisterListener(groupName, "service1", wrapper);
+        verify(changeNotifier, times(1)).deregisterListener(groupName, "service2", wrapper);
+        verify(proxy, times(1)).batchUnsubscribe(Collections.singletonList("service1"), groupName, Constants.NULL);
+    }
+    
     @Test
     void testUnSubscribe1() throws NacosException {
         //given
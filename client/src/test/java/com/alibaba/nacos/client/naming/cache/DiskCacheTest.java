@@ -23,6 +23,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.Collections;
 import java.util.List;
@@ -37,6 +39,9 @@ class DiskCacheTest {
     
     private static final String CACHE_DIR = DiskCacheTest.class.getResource("/").getPath() + "cache/";
     
+    private static final File SNAPSHOT_FILE = new File(DiskCacheTest.class.getResource("/").getPath(),
+            "cache.snapshot");
+    
     private ServiceInfo serviceInfo;
     
     private Instance instance;
@@ -63,6 +68,7 @@ class DiskCacheTest {
             }
             file.delete();
         }
+        SNAPSHOT_FILE.delete();
     }
     
     @Test
@@ -74,6 +80,45 @@ class DiskCacheTest {
         assertServiceInfo(actual.get(serviceInfo.getKey()), serviceInfo);
     }
     
+    @Test
+    void testCacheSnapshot() {
+        DiskCache.writeSnapshot(serviceInfo, CACHE_DIR);
+        Instance newInstance = new Instance();
+        newInstance.setClusterName("testClusters");
+        newInstance.setIp("2.2.2.2");
+        newInstance.setPort(1234);
+        newInstance.setServiceName("testName");
+        serviceInfo.setHosts(Collections.singletonList(newInstance));
+        DiskCache.writeSnapshot(serviceInfo, CACHE_DIR);
+        ServiceInfo other = new ServiceInfo("G@@otherName", "testClusters");
+        other.setHosts(Collections.singletonList(instance));
+        DiskCache.writeSnapshot(other, CACHE_DIR);
+        assertTrue(SNAPSHOT_FILE.isFile());
+        Map<String, ServiceInfo> actual = DiskCache.readSnapshot(CACHE_DIR);
+        assertEquals(2, actual.size());
+        assertServiceInfo(actual.get(serviceInfo.getKey()), serviceInfo);
+        assertServiceInfo(actual.get(other.getKey()), other);
+    }
+    
+    @Test
+    void testReadCacheSnapshotWithBrokenTail() throws IOException {
+        DiskCache.writeSnapshot(serviceInfo, CACHE_DIR);
+        try (FileOutputStream outputStream = new FileOutputStream(SNAPSHOT_FILE, true)) {
+            outputStream.write(new byte[] {0, 0, 0, 100, 1, 2, 3, 4, 5});
+        }
+        Map<String, ServiceInfo> actual = DiskCache.readSnapshot(CACHE_DIR);
+        assertEquals(1, actual.size());
+        assertServiceInfo(actual.get(serviceInfo.getKey()), serviceInfo);
+    }
+    
+    @Test
+    void testReadCacheSnapshotFallbackToCacheFiles() {
+        DiskCache.write(serviceInfo, CACHE_DIR);
+        Map<String, ServiceInfo> actual = DiskCache.readSnapshot(CACHE_DIR);
+        assertEquals(1, actual.size());
+        assertServiceInfo(actual.get(serviceInfo.getKey()), serviceInfo);
+    }
+    
     @Test
     void testWriteCacheWithErrorPath() {
         File file = new File(CACHE_DIR, serviceInfo.getKeyEncoded());
@@ -30,11 +30,14 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -91,6 +94,44 @@ class ServiceInfoHolderTest {
         assertEquals(info2, actual2);
     }
     
+    @Test
+    void testProcessServiceInfoDelta() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info, 1L);
+        
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0);
+        ServiceInfo delta = new ServiceInfo("a@@b@@c");
+        delta.setHosts(new ArrayList<>(Arrays.asList(modified, createInstance("1.1.1.3", 3))));
+        ServiceInfo actual = holder.processServiceInfoDelta(delta, Collections.singletonList(createInstance("1.1.1.2", 2)),
+                1L, 2L);
+        
+        assertNotNull(actual);
+        assertEquals(2, actual.getHosts().size());
+        assertEquals(2.0, actual.getHosts().get(0).getWeight(), 0.0);
+        assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+    }
+    
+    @Test
+    void testProcessServiceInfoDeltaWithRevisionMismatch() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(new ArrayList<>(Collections.singletonList(createInstance("1.1.1.1", 1))));
+        holder.processServiceInfo(info, 1L);
+        
+        ServiceInfo delta = new ServiceInfo("a@@b@@c");
+        delta.setHosts(new ArrayList<>());
+        assertNull(holder.processServiceInfoDelta(delta, Collections.emptyList(), 2L, 3L));
+        // service info changed by query, revision is unknown.
+        ServiceInfo queried = new ServiceInfo("a@@b@@c");
+        queried.setHosts(new ArrayList<>(Collections.singletonList(createInstance("1.1.1.2", 2))));
+        holder.processServiceInfo(queried);
+        assertNull(holder.processServiceInfoDelta(delta, Collections.emptyList(), 1L, 2L));
+    }
+    
     private Instance createInstance(String ip, int port) {
         Instance instance = new Instance();
         instance.setIp(ip);
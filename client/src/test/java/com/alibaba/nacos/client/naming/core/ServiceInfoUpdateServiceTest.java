@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.client.naming.event.InstancesChangeNotifier;
@@ -28,21 +29,26 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -148,38 +154,38 @@ class ServiceInfoUpdateServiceTest {
     
     @Test
     void testScheduleUpdateIfAbsentWith403Exception()
-            throws InterruptedException, NacosException, NoSuchFieldException, IllegalAccessException {
+            throws InterruptedException, NacosException {
         nacosClientProperties.setProperty(PropertyKeyConst.NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE, "true");
         serviceInfoUpdateService = new ServiceInfoUpdateService(nacosClientProperties, holder, proxy, notifier);
         serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName, group, clusters);
         when(proxy.queryInstancesOfService(serviceName, group, clusters, false)).thenThrow(
                 new NacosException(403, "test"));
         TimeUnit.MILLISECONDS.sleep(1500);
-        assertTrue(getScheduleFuture().getDelay(TimeUnit.MILLISECONDS) > 1000);
+        assertTrue(getNextUpdateDelay() > 1000);
     }
     
     @Test
     void testScheduleUpdateIfAbsentWith500Exception()
-            throws InterruptedException, NacosException, NoSuchFieldException, IllegalAccessException {
+            throws InterruptedException, NacosException {
         nacosClientProperties.setProperty(PropertyKeyConst.NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE, "true");
         serviceInfoUpdateService = new ServiceInfoUpdateService(nacosClientProperties, holder, proxy, notifier);
         serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName, group, clusters);
         when(proxy.queryInstancesOfService(serviceName, group, clusters, false)).thenThrow(
                 new NacosException(500, "test"));
         TimeUnit.MILLISECONDS.sleep(1500);
-        assertTrue(getScheduleFuture().getDelay(TimeUnit.MILLISECONDS) > 2000);
+        assertTrue(getNextUpdateDelay() > 2000);
     }
     
     @Test
     void testScheduleUpdateIfAbsentWithOtherException()
-            throws InterruptedException, NacosException, NoSuchFieldException, IllegalAccessException {
+            throws InterruptedException, NacosException {
         nacosClientProperties.setProperty(PropertyKeyConst.NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE, "true");
         serviceInfoUpdateService = new ServiceInfoUpdateService(nacosClientProperties, holder, proxy, notifier);
         serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName, group, clusters);
         when(proxy.queryInstancesOfService(serviceName, group, clusters, false)).thenThrow(
                 new RuntimeException("test"));
         TimeUnit.MILLISECONDS.sleep(1500);
-        assertTrue(getScheduleFuture().getDelay(TimeUnit.MILLISECONDS) > 1000);
+        assertTrue(getNextUpdateDelay() > 1000);
     }
     
     @Test
@@ -203,10 +209,82 @@ class ServiceInfoUpdateServiceTest {
         serviceInfoUpdateService.shutdown();
     }
     
-    private ScheduledFuture getScheduleFuture() throws NoSuchFieldException, IllegalAccessException {
-        Field field = serviceInfoUpdateService.getClass().getDeclaredField("executor");
-        field.setAccessible(true);
-        ScheduledThreadPoolExecutor executorService = (ScheduledThreadPoolExecutor) field.get(serviceInfoUpdateService);
-        return (ScheduledFuture) executorService.getQueue().peek();
+    @Test
+    void testScheduleUpdateForManyServices() throws InterruptedException, NacosException {
+        info.setCacheMillis(10000L);
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE, "true");
+        serviceInfoUpdateService = new ServiceInfoUpdateService(nacosClientProperties, holder, proxy, notifier);
+        when(proxy.batchQuerySubscribedServices(any())).thenAnswer(invocation -> {
+            List<BatchSubscribeServiceRequest.ServiceContext> contexts = invocation.getArgument(0);
+            List<ServiceInfo> result = new ArrayList<>();
+            for (BatchSubscribeServiceRequest.ServiceContext context : contexts) {
+                ServiceInfo each = new ServiceInfo();
+                each.setName(context.getServiceName());
+                each.setGroupName(context.getGroupName());
+                each.setClusters(context.getClusters());
+                each.setCacheMillis(10000L);
+                result.add(each);
+            }
+            return result;
+        });
+        for (int i = 0; i < 100; i++) {
+            serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName + i, group, clusters);
+        }
+        // all tasks are due at the same dispatch
+        serviceInfoUpdateService.dispatchDueTasks(System.currentTimeMillis() + 2000L);
+        TimeUnit.MILLISECONDS.sleep(500);
+        ArgumentCaptor<List<BatchSubscribeServiceRequest.ServiceContext>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(proxy).batchQuerySubscribedServices(captor.capture());
+        assertEquals(100, captor.getValue().size());
+        Mockito.verify(proxy, Mockito.never()).queryInstancesOfService(anyString(), anyString(), anyString(),
+                anyBoolean());
+        for (int i = 0; i < 100; i++) {
+            ServiceInfoUpdateService.UpdateTask task = serviceInfoUpdateService.getUpdateTask(
+                    ServiceInfo.getKey(group + "@@" + serviceName + i, clusters));
+            long delay = task.getNextUpdateTime() - System.currentTimeMillis();
+            assertTrue(delay > 50000L && delay <= 60000L + 6000L);
+        }
+    }
+    
+    @Test
+    void testBatchQueryFailed() throws InterruptedException, NacosException {
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE, "true");
+        serviceInfoUpdateService = new ServiceInfoUpdateService(nacosClientProperties, holder, proxy, notifier);
+        when(proxy.batchQuerySubscribedServices(any())).thenThrow(new NacosException(500, "test"));
+        serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName, group, clusters);
+        serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName + 1, group, clusters);
+        serviceInfoUpdateService.dispatchDueTasks(System.currentTimeMillis() + 2000L);
+        TimeUnit.MILLISECONDS.sleep(500);
+        Mockito.verify(proxy).batchQuerySubscribedServices(any());
+        // services are queried one by one and the failure of batch query doesn't back off them
+        Mockito.verify(proxy).queryInstancesOfService(serviceName, group, clusters, false);
+        Mockito.verify(proxy).queryInstancesOfService(serviceName + 1, group, clusters, false);
+        assertTrue(getNextUpdateDelay() > 5000);
+    }
+    
+    @Test
+    void testBatchQueryPartially() throws InterruptedException, NacosException {
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE, "true");
+        serviceInfoUpdateService = new ServiceInfoUpdateService(nacosClientProperties, holder, proxy, notifier);
+        ServiceInfo queried = new ServiceInfo();
+        queried.setName(serviceName + 1);
+        queried.setGroupName(group);
+        queried.setClusters(clusters);
+        when(proxy.batchQuerySubscribedServices(any())).thenReturn(Arrays.asList(null, queried));
+        serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName, group, clusters);
+        serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName + 1, group, clusters);
+        serviceInfoUpdateService.dispatchDueTasks(System.currentTimeMillis() + 2000L);
+        TimeUnit.MILLISECONDS.sleep(500);
+        // only the service not queried by batch query is queried alone
+        Mockito.verify(proxy).queryInstancesOfService(serviceName, group, clusters, false);
+        Mockito.verify(proxy, Mockito.never()).queryInstancesOfService(serviceName + 1, group, clusters, false);
+        Mockito.verify(holder).processServiceInfo(queried);
+        Mockito.verify(holder).processServiceInfo(info);
+    }
+    
+    private long getNextUpdateDelay() {
+        ServiceInfoUpdateService.UpdateTask task = serviceInfoUpdateService.getUpdateTask(
+                ServiceInfo.getKey(group + "@@" + serviceName, clusters));
+        return task.getNextUpdateTime() - System.currentTimeMillis();
     }
 }
@@ -24,6 +24,7 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ListView;
 import com.alibaba.nacos.api.naming.pojo.Service;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.api.selector.AbstractSelector;
 import com.alibaba.nacos.client.auth.ram.utils.SignUtil;
 import com.alibaba.nacos.client.naming.event.ServerListChangedEvent;
@@ -133,6 +134,12 @@ class AbstractNamingClientProxyTest {
             return null;
         }
         
+        @Override
+        public List<ServiceInfo> batchQuerySubscribedServices(
+                List<BatchSubscribeServiceRequest.ServiceContext> serviceContexts) throws NacosException {
+            return null;
+        }
+        
         @Override
         public Service queryService(String serviceName, String groupName) throws NacosException {
             return null;
@@ -169,6 +176,18 @@ class AbstractNamingClientProxyTest {
         
         }
         
+        @Override
+        public List<ServiceInfo> batchSubscribe(List<String> serviceNames, String groupName, String clusters)
+                throws NacosException {
+            return null;
+        }
+        
+        @Override
+        public void batchUnsubscribe(List<String> serviceNames, String groupName, String clusters)
+                throws NacosException {
+        
+        }
+        
         @Override
         public boolean isSubscribed(String serviceName, String groupName, String clusters) throws NacosException {
             return false;
@@ -28,10 +28,13 @@ import com.alibaba.nacos.api.naming.pojo.Service;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
 import com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.PersistentInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.response.BatchInstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.BatchSubscribeServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.InstanceResponse;
 import com.alibaba.nacos.api.naming.remote.response.QueryServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.ServiceListResponse;
@@ -92,6 +95,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -484,6 +488,102 @@ class NamingGrpcClientProxyTest {
         assertEquals(info, actual);
     }
     
+    @Test
+    void testBatchSubscribe() throws Exception {
+        when(this.rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                AbilityStatus.SUPPORTED);
+        List<String> serviceNames = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            serviceNames.add(SERVICE_NAME + i);
+        }
+        when(this.rpcClient.request(any())).thenAnswer(invocation -> {
+            BatchSubscribeServiceRequest request = invocation.getArgument(0);
+            List<ServiceInfo> serviceInfos = request.getServiceContexts().stream().map(
+                    each -> new ServiceInfo(each.getGroupName() + "@@" + each.getServiceName() + "@@" + each.getClusters()))
+                    .collect(Collectors.toList());
+            return new BatchSubscribeServiceResponse(200, "success", serviceInfos);
+        });
+        List<ServiceInfo> actual = client.batchSubscribe(serviceNames, GROUP_NAME, CLUSTERS);
+        assertEquals(600, actual.size());
+        for (int i = 0; i < 600; i++) {
+            assertEquals(SERVICE_NAME + i, actual.get(i).getName());
+            assertTrue(client.isSubscribed(SERVICE_NAME + i, GROUP_NAME, CLUSTERS));
+        }
+        verify(this.rpcClient, times(2)).request(argThat(request -> request instanceof BatchSubscribeServiceRequest
+                && ((BatchSubscribeServiceRequest) request).isSubscribe() && NAMESPACE_ID.equals(
+                ((BatchSubscribeServiceRequest) request).getNamespace())));
+    }
+    
+    @Test
+    void testBatchSubscribeWithoutServerAbility() throws Exception {
+        when(this.rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                AbilityStatus.NOT_SUPPORTED);
+        SubscribeServiceResponse res = new SubscribeServiceResponse();
+        ServiceInfo info = new ServiceInfo(GROUP_NAME + "@@" + SERVICE_NAME + "@@" + CLUSTERS);
+        res.setServiceInfo(info);
+        when(this.rpcClient.request(any())).thenReturn(res);
+        List<ServiceInfo> actual = client.batchSubscribe(Arrays.asList(SERVICE_NAME, SERVICE_NAME + 1), GROUP_NAME,
+                CLUSTERS);
+        assertEquals(2, actual.size());
+        verify(this.rpcClient, times(2)).request(argThat(request -> request instanceof SubscribeServiceRequest));
+    }
+    
+    @Test
+    void testBatchQuerySubscribedServices() throws Exception {
+        when(this.rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                AbilityStatus.SUPPORTED);
+        when(this.rpcClient.request(any())).thenAnswer(invocation -> {
+            BatchSubscribeServiceRequest request = invocation.getArgument(0);
+            List<ServiceInfo> serviceInfos = request.getServiceContexts().stream()
+                    .map(each -> new ServiceInfo(each.getGroupName() + "@@" + each.getServiceName()))
+                    .collect(Collectors.toList());
+            return new BatchSubscribeServiceResponse(200, "success", serviceInfos);
+        });
+        client.batchSubscribe(Arrays.asList(SERVICE_NAME, SERVICE_NAME + 2), GROUP_NAME, CLUSTERS);
+        List<ServiceInfo> actual = client.batchQuerySubscribedServices(buildServiceContexts());
+        assertEquals(3, actual.size());
+        assertEquals(SERVICE_NAME, actual.get(0).getName());
+        // not subscribed service is left to be queried alone
+        assertNull(actual.get(1));
+        assertEquals(SERVICE_NAME + 2, actual.get(2).getName());
+        // one for batch subscribe and one for batch query of subscribed services
+        verify(this.rpcClient, times(2)).request(argThat(request -> request instanceof BatchSubscribeServiceRequest));
+        verify(this.rpcClient, never()).request(argThat(request -> request instanceof ServiceQueryRequest));
+    }
+    
+    @Test
+    void testBatchQuerySubscribedServicesWithoutAbility() throws Exception {
+        when(this.rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                AbilityStatus.NOT_SUPPORTED);
+        List<ServiceInfo> actual = client.batchQuerySubscribedServices(buildServiceContexts());
+        assertEquals(3, actual.size());
+        for (ServiceInfo each : actual) {
+            assertNull(each);
+        }
+        verify(this.rpcClient, never()).request(any());
+    }
+    
+    private List<BatchSubscribeServiceRequest.ServiceContext> buildServiceContexts() {
+        List<BatchSubscribeServiceRequest.ServiceContext> contexts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            contexts.add(new BatchSubscribeServiceRequest.ServiceContext(GROUP_NAME,
+                    0 == i ? SERVICE_NAME : SERVICE_NAME + i, CLUSTERS));
+        }
+        return contexts;
+    }
+    
+    @Test
+    void testBatchUnsubscribe() throws Exception {
+        when(this.rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(
+                AbilityStatus.SUPPORTED);
+        when(this.rpcClient.request(any())).thenReturn(
+                new BatchSubscribeServiceResponse(200, "success", Collections.emptyList()));
+        client.batchUnsubscribe(Arrays.asList(SERVICE_NAME, SERVICE_NAME + 1), GROUP_NAME, CLUSTERS);
+        verify(this.rpcClient, times(1)).request(argThat(request -> request instanceof BatchSubscribeServiceRequest
+                && !((BatchSubscribeServiceRequest) request).isSubscribe()
+                && ((BatchSubscribeServiceRequest) request).getServiceContexts().size() == 2));
+    }
+    
     @Test
     void testUnsubscribe() throws Exception {
         SubscribeServiceResponse res = new SubscribeServiceResponse();
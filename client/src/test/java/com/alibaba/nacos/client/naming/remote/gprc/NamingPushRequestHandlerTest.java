@@ -18,6 +18,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.naming.NamingResponseCode;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
@@ -29,11 +30,16 @@ import com.alibaba.nacos.client.naming.remote.TestConnection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class NamingPushRequestHandlerTest {
     
@@ -51,6 +57,22 @@ class NamingPushRequestHandlerTest {
         verify(holder, times(1)).processServiceInfo(info);
     }
     
+    @Test
+    void testRequestReplyDelta() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(info, Collections.emptyList(), 1L, 2L);
+        when(holder.processServiceInfoDelta(info, Collections.emptyList(), 1L, 2L)).thenReturn(info);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response.isSuccess());
+        
+        when(holder.processServiceInfoDelta(info, Collections.emptyList(), 1L, 2L)).thenReturn(null);
+        response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertFalse(response.isSuccess());
+        assertEquals(NamingResponseCode.DELTA_PUSH_REVISION_MISMATCH, response.getErrorCode());
+    }
+    
     @Test
     void testRequestReplyOtherType() {
         ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc.redo;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.client.naming.remote.gprc.NamingGrpcClientProxy;
@@ -34,6 +35,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -203,6 +206,40 @@ class RedoScheduledTaskTest {
         // Not any exception thrown
     }
     
+    @Test
+    void testRunBatchRedoRegisterSubscriber() throws NacosException {
+        when(clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(true);
+        Set<SubscriberRedoData> mockData = generateMockSubscriberData(false, false, true);
+        when(redoService.findSubscriberRedoData()).thenReturn(mockData);
+        redoTask.run();
+        verify(clientProxy, never()).doSubscribe(SERVICE, GROUP, CLUSTER);
+        verify(clientProxy).doBatchSubscribe(argThat(contexts -> contexts.size() == 1 && SERVICE.equals(
+                contexts.get(0).getServiceName()) && GROUP.equals(contexts.get(0).getGroupName()) && CLUSTER.equals(
+                contexts.get(0).getClusters())));
+        verify(clientProxy, never()).doBatchUnsubscribe(anyList());
+    }
+    
+    @Test
+    void testRunBatchRedoDeregisterSubscriber() throws NacosException {
+        when(clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(true);
+        Set<SubscriberRedoData> mockData = generateMockSubscriberData(true, true, false);
+        when(redoService.findSubscriberRedoData()).thenReturn(mockData);
+        redoTask.run();
+        verify(clientProxy, never()).doUnsubscribe(SERVICE, GROUP, CLUSTER);
+        verify(clientProxy).doBatchUnsubscribe(argThat(contexts -> contexts.size() == 1));
+        verify(clientProxy, never()).doBatchSubscribe(anyList());
+    }
+    
+    @Test
+    void testRunBatchRedoRegisterSubscriberWithClientDisabled() throws NacosException {
+        when(clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_SUPPORT_BATCH_SUBSCRIBE_SERVICE)).thenReturn(true);
+        when(clientProxy.isEnable()).thenReturn(false);
+        Set<SubscriberRedoData> mockData = generateMockSubscriberData(false, false, true);
+        when(redoService.findSubscriberRedoData()).thenReturn(mockData);
+        redoTask.run();
+        verify(clientProxy, never()).doBatchSubscribe(anyList());
+    }
+    
     private Set<SubscriberRedoData> generateMockSubscriberData(boolean registered, boolean unregistering,
             boolean expectedRegistered) {
         SubscriberRedoData redoData = SubscriberRedoData.build(SERVICE, GROUP, CLUSTER);
@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotLogFileTest {
+    
+    @TempDir
+    File dir;
+    
+    @Test
+    void testPutAndReadAll() throws IOException {
+        SnapshotLogFile snapshot = SnapshotLogFile.getInstance(new File(dir, "snapshot"));
+        snapshot.put("a", "1");
+        snapshot.put("b", "2");
+        snapshot.put("a", "3");
+        Map<String, String> actual = snapshot.readAll();
+        assertEquals(2, actual.size());
+        assertEquals("3", actual.get("a"));
+        assertEquals("2", actual.get("b"));
+    }
+    
+    @Test
+    void testPutAfterBrokenTail() throws IOException {
+        File file = newFileWithBrokenTail();
+        long brokenLength = file.length();
+        SnapshotLogFile snapshot = SnapshotLogFile.getInstance(file);
+        snapshot.put("c", "3");
+        assertTrue(file.length() < brokenLength + 16);
+        Map<String, String> actual = snapshot.readAll();
+        assertEquals(3, actual.size());
+        assertEquals("1", actual.get("a"));
+        assertEquals("2", actual.get("b"));
+        assertEquals("3", actual.get("c"));
+    }
+    
+    @Test
+    void testCompactAfterBrokenTail() throws IOException {
+        File file = newFileWithBrokenTail();
+        SnapshotLogFile snapshot = SnapshotLogFile.getInstance(file);
+        char[] chars = new char[100 * 1024];
+        for (int i = 0; i < 20; i++) {
+            Arrays.fill(chars, (char) ('a' + i));
+            snapshot.put("c", new String(chars));
+        }
+        assertTrue(file.length() < 1024 * 1024);
+        Map<String, String> actual = snapshot.readAll();
+        assertEquals(3, actual.size());
+        assertEquals("1", actual.get("a"));
+        assertEquals("2", actual.get("b"));
+        assertEquals(new String(chars), actual.get("c"));
+    }
+    
+    /**
+     * Build a file whose last record is torn, as if the process crashed while appending.
+     */
+    private File newFileWithBrokenTail() throws IOException {
+        File origin = new File(dir, "origin");
+        SnapshotLogFile snapshot = SnapshotLogFile.getInstance(origin);
+        snapshot.put("a", "1");
+        snapshot.put("b", "2");
+        snapshot.put("broken", "value of broken record");
+        byte[] bytes = Files.readAllBytes(origin.toPath());
+        File result = new File(dir, "broken");
+        try (FileOutputStream outputStream = new FileOutputStream(result)) {
+            outputStream.write(bytes, 0, bytes.length - 5);
+        }
+        assertEquals(2, SnapshotLogFile.getInstance(result).readAll().size());
+        return result;
+    }
+}
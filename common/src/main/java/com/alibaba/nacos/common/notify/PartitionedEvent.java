@@ -0,0 +1,34 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+/**
+ * Event which can be dispatched in parallel by {@link PartitionedEventPublisher}.
+ *
+ * <p>Events with the same partition key are always handled by the same thread in publish order.
+ *
+ * @author Nacos
+ */
+public interface PartitionedEvent {
+    
+    /**
+     * Partition key of event, events with the same key keep the publish order.
+     *
+     * @return partition key, {@code null} means the event is dispatched by the first partition
+     */
+    Object partitionKey();
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Event publisher which dispatches events by multiple threads.
+ *
+ * <p>Each partition owns one thread and one staging queue. {@link PartitionedEvent}s are routed to the partition by
+ * the hash of {@link PartitionedEvent#partitionKey()}, so events with the same key are handled in publish order, and
+ * events with different keys can be handled in parallel. Other events are always routed to the first partition.
+ *
+ * <p>Subscribers of this publisher might be called by multiple threads at the same time, so they must be thread safe.
+ *
+ * @author Nacos
+ */
+public class PartitionedEventPublisher implements ShardedEventPublisher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final String THREAD_NAME = "nacos.publisher-";
+    
+    private static final int DEFAULT_WAIT_TIME = 60;
+    
+    private final Map<Class<? extends Event>, Set<Subscriber<? extends Event>>> subscribes = new ConcurrentHashMap<>();
+    
+    private final int partitionCount;
+    
+    private Partition[] partitions;
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    private int queueMaxSize = -1;
+    
+    private String publisherName;
+    
+    public PartitionedEventPublisher(int partitionCount) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("Partition count of publisher should be positive: " + partitionCount);
+        }
+        this.partitionCount = partitionCount;
+    }
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        this.queueMaxSize = bufferSize;
+        this.publisherName = type.getSimpleName();
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(THREAD_NAME + publisherName + "-" + i, bufferSize);
+        }
+        for (Partition each : partitions) {
+            each.start();
+        }
+        initialized = true;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        long result = 0;
+        for (Partition each : partitions) {
+            result += each.queue.size();
+        }
+        return result;
+    }
+    
+    /**
+     * Get the number of currently staged events of each partition.
+     *
+     * @return event size of each partition, indexed by partition
+     */
+    public int[] currentPartitionEventSizes() {
+        int[] result = new int[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            result[i] = partitions[i].queue.size();
+        }
+        return result;
+    }
+    
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+    
+    public String getPublisherName() {
+        return publisherName;
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        addSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfAbsent(subscribeType, inputType -> new ConcurrentHashSet<>()).add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        removeSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfPresent(subscribeType, (inputType, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        boolean success = partitions[partitionOf(event)].queue.offer(event);
+        if (!success) {
+            LOGGER.warn("Unable to plug in due to interruption, synchronize sending time, event : {}", event);
+            handleEvent(event);
+        }
+        return true;
+    }
+    
+    int partitionOf(Event event) {
+        if (!(event instanceof PartitionedEvent)) {
+            return 0;
+        }
+        Object key = ((PartitionedEvent) event).partitionKey();
+        if (null == key) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % partitionCount;
+    }
+    
+    @Override
+    public void notifySubscriber(Subscriber subscriber, Event event) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        }
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        if (null == partitions) {
+            return;
+        }
+        for (Partition each : partitions) {
+            each.queue.clear();
+            each.interrupt();
+        }
+    }
+    
+    private void handleEvent(Event event) {
+        Class<? extends Event> eventType = event.getClass();
+        Set<Subscriber<? extends Event>> subscribers = subscribes.get(eventType);
+        if (null == subscribers) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("[NotifyCenter] No subscribers for event {}", eventType.getName());
+            }
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.scopeMatches(event)) {
+                notifySubscriber(subscriber, event);
+            }
+        }
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    /**
+     * Get status of each partition of publisher.
+     *
+     * @return status of publisher
+     */
+    public String getStatus() {
+        StringBuilder result = new StringBuilder(
+                String.format("Publisher %-30s: shutdown=%5s, queue=%7d/%-7d, partitions=%d", publisherName, shutdown,
+                        currentEventSize(), (long) queueMaxSize * partitionCount, partitionCount));
+        int[] sizes = currentPartitionEventSizes();
+        for (int i = 0; i < sizes.length; i++) {
+            result.append(String.format("%n\t\tpartition %-3d: queue=%7d/%-7d", i, sizes[i], queueMaxSize));
+        }
+        return result.toString();
+    }
+    
+    private class Partition extends Thread {
+        
+        private final BlockingQueue<Event> queue;
+        
+        private Partition(String name, int bufferSize) {
+            super(name);
+            setDaemon(true);
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+        
+        @Override
+        public void run() {
+            waitSubscriberForInit();
+            while (!shutdown) {
+                try {
+                    handleEvent(queue.take());
+                } catch (InterruptedException e) {
+                    if (!shutdown) {
+                        LOGGER.warn("Publisher {} take event from queue failed:", getName(), e);
+                    }
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Throwable e) {
+                    LOGGER.error("Publisher {} handle event failed:", getName(), e);
+                }
+            }
+        }
+        
+        private void waitSubscriberForInit() {
+            // To ensure that messages are not lost, enable EventHandler when
+            // waiting for the first Subscriber to register
+            for (int waitTimes = DEFAULT_WAIT_TIME; waitTimes > 0; waitTimes--) {
+                if (shutdown || !subscribes.isEmpty()) {
+                    break;
+                }
+                ThreadUtils.sleep(1000L);
+            }
+        }
+    }
+}
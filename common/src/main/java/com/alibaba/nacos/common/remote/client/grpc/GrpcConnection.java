@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.common.remote.client.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.grpc.auto.RequestGrpc;
@@ -69,7 +71,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public Response request(Request request, long timeouts) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, isBinaryPayloadSupported());
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         Payload grpcResponse;
         try {
@@ -87,7 +89,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, isBinaryPayloadSupported());
         
         final ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         return new RequestFuture() {
@@ -119,6 +121,10 @@ public class GrpcConnection extends Connection {
         };
     }
     
+    private boolean isBinaryPayloadSupported() {
+        return AbilityStatus.SUPPORTED == getConnectionAbility(AbilityKey.SERVER_SUPPORT_BINARY_PAYLOAD);
+    }
+    
     public void sendResponse(Response response) {
         Payload convert = GrpcUtils.convert(response);
         payloadStreamObserver.onNext(convert);
@@ -131,7 +137,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public void asyncRequest(Request request, final RequestCallBack requestCallBack) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, isBinaryPayloadSupported());
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         
         //set callback .
@@ -21,9 +21,12 @@ import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.api.remote.request.SharedRequestBody;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodecs;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
@@ -32,6 +35,7 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.UnsafeByteOperations;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,6 +47,12 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    private static final String REQUEST_ID_PREFIX = "{\"requestId\":";
+    
+    private static final int EMPTY_JSON_OBJECT_SIZE = 2;
+    
+    private static final String JSON_FORMAT = "json";
+    
     /**
      * convert request to payload.
      *
@@ -73,16 +83,31 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, false);
+    }
+    
+    /**
+     * convert request to payload, the body is encoded into binary if the request type supports it and the peer
+     * supports binary payload, see {@link BinaryPayloadCodecs}.
+     *
+     * @param request         request.
+     * @param binarySupported whether the peer supports binary payload.
+     * @return payload.
+     */
+    public static Payload convert(Request request, boolean binarySupported) {
         
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
+        boolean binary = binarySupported && BinaryPayloadCodecs.isSupported(request.getClass());
+        Any.Builder bodyBuilder = Any.newBuilder().setValue(convertRequestBody(request, binary));
+        if (binary) {
+            bodyBuilder.setTypeUrl(BinaryPayloadCodecs.BINARY_FORMAT);
+        }
         
         Payload.Builder builder = Payload.newBuilder();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
+        return builder.setBody(bodyBuilder).setMetadata(newMeta).build();
         
     }
     
@@ -100,6 +125,46 @@ public class GrpcUtils {
                 .setMetadata(metaBuilder.build()).build();
     }
     
+    private static ByteString convertRequestBody(Request request, boolean binary) {
+        SharedRequestBody sharedBody = request instanceof ServerRequest ? ((ServerRequest) request).getSharedBody() : null;
+        if (null == sharedBody) {
+            return binary ? BinaryPayloadCodecs.encode(request)
+                    : UnsafeByteOperations.unsafeWrap(convertRequestToByte(request));
+        }
+        String format = binary ? BinaryPayloadCodecs.BINARY_FORMAT : JSON_FORMAT;
+        ByteString body = sharedBody.getOrEncode(format, () -> encodeWithoutRequestId(request, binary));
+        return binary ? BinaryPayloadCodecs.withRequestId(body, request.getRequestId())
+                : withRequestId(body, request.getRequestId());
+    }
+    
+    /**
+     * Encode request body without request id, which can be shared by the same requests sent to different connections.
+     */
+    private static ByteString encodeWithoutRequestId(Request request, boolean binary) {
+        String requestId = request.getRequestId();
+        request.setRequestId(null);
+        try {
+            return binary ? BinaryPayloadCodecs.encode(request)
+                    : UnsafeByteOperations.unsafeWrap(convertRequestToByte(request));
+        } finally {
+            request.setRequestId(requestId);
+        }
+    }
+    
+    /**
+     * Add request id into shared json body, the shared bytes are not copied.
+     */
+    private static ByteString withRequestId(ByteString sharedBody, String requestId) {
+        if (null == requestId) {
+            return sharedBody;
+        }
+        StringBuilder prefix = new StringBuilder(REQUEST_ID_PREFIX).append(JacksonUtils.toJson(requestId));
+        if (sharedBody.size() > EMPTY_JSON_OBJECT_SIZE) {
+            prefix.append(',');
+        }
+        return ByteString.copyFrom(prefix.toString(), StandardCharsets.UTF_8).concat(sharedBody.substring(1));
+    }
+    
     private static byte[] convertRequestToByte(Request request) {
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
@@ -118,8 +183,13 @@ public class GrpcUtils {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
             ByteString byteString = payload.getBody().getValue();
-            ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Object obj;
+            if (BinaryPayloadCodecs.BINARY_FORMAT.equals(payload.getBody().getTypeUrl())) {
+                obj = BinaryPayloadCodecs.decode(classType, byteString);
+            } else {
+                ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
+                obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            }
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+/**
+ * Abstract binary codec of payload model.
+ *
+ * <p>The model is encoded in protobuf wire format, each field of model is written with a fixed field number by the
+ * codec, so the format is compact and no schema or reflection is needed. Null fields are not written, unknown fields are
+ * skipped when decoding, so new fields can be added with new field numbers.
+ *
+ * @param <T> type of model
+ * @author Nacos
+ */
+public abstract class AbstractBinaryCodec<T> {
+    
+    /**
+     * Encode model into output.
+     *
+     * @param value  model
+     * @param output output
+     * @throws IOException encode failed
+     */
+    public abstract void encode(T value, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Compute the encoded size of model, which is needed to write nested model without buffering.
+     *
+     * @param value model
+     * @return encoded size
+     */
+    public abstract int getSerializedSize(T value);
+    
+    /**
+     * Decode model from input until the end of input or the limit of nested message.
+     *
+     * @param input input
+     * @return model
+     * @throws IOException decode failed
+     */
+    public T decode(CodedInputStream input) throws IOException {
+        T result = newInstance();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (!decodeField(result, WireFormat.getTagFieldNumber(tag), input)) {
+                input.skipField(tag);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Create new empty model to fill decoded fields.
+     *
+     * @return new model
+     */
+    protected abstract T newInstance();
+    
+    /**
+     * Decode one field into model.
+     *
+     * @param target      model
+     * @param fieldNumber field number
+     * @param input       input
+     * @return {@code false} if the field is unknown
+     * @throws IOException decode failed
+     */
+    protected abstract boolean decodeField(T target, int fieldNumber, CodedInputStream input) throws IOException;
+    
+    protected static void writeString(CodedOutputStream output, int fieldNumber, String value) throws IOException {
+        if (null != value) {
+            output.writeString(fieldNumber, value);
+        }
+    }
+    
+    protected static int computeStringSize(int fieldNumber, String value) {
+        return null == value ? 0 : CodedOutputStream.computeStringSize(fieldNumber, value);
+    }
+    
+    protected static <N> void writeNested(CodedOutputStream output, int fieldNumber, N value,
+            AbstractBinaryCodec<N> codec) throws IOException {
+        if (null != value) {
+            output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(codec.getSerializedSize(value));
+            codec.encode(value, output);
+        }
+    }
+    
+    protected static <N> int computeNestedSize(int fieldNumber, N value, AbstractBinaryCodec<N> codec) {
+        if (null == value) {
+            return 0;
+        }
+        int size = codec.getSerializedSize(value);
+        return CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+    
+    protected static <N> N readNested(CodedInputStream input, AbstractBinaryCodec<N> codec) throws IOException {
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+        N result = codec.decode(input);
+        input.popLimit(oldLimit);
+        return result;
+    }
+    
+    /**
+     * Encode model into bytes.
+     *
+     * @param value model
+     * @return encoded bytes
+     * @throws IOException encode failed
+     */
+    public ByteString toByteString(T value) throws IOException {
+        byte[] result = new byte[getSerializedSize(value)];
+        CodedOutputStream output = CodedOutputStream.newInstance(result);
+        encode(value, output);
+        output.checkNoSpaceLeft();
+        return UnsafeByteOperations.unsafeWrap(result);
+    }
+}
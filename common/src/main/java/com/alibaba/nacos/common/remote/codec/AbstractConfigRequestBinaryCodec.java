@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Abstract binary codec of config request, encodes data id, group and tenant.
+ *
+ * @param <T> type of config request
+ * @author Nacos
+ */
+public abstract class AbstractConfigRequestBinaryCodec<T extends AbstractConfigRequest>
+        extends AbstractRequestBinaryCodec<T> {
+    
+    private static final int DATA_ID = FIRST_FIELD_NUMBER;
+    
+    private static final int GROUP = FIRST_FIELD_NUMBER + 1;
+    
+    private static final int TENANT = FIRST_FIELD_NUMBER + 2;
+    
+    protected static final int FIRST_CONFIG_FIELD_NUMBER = FIRST_FIELD_NUMBER + 3;
+    
+    @Override
+    protected void encodeFields(T request, CodedOutputStream output) throws IOException {
+        writeString(output, DATA_ID, request.getDataId());
+        writeString(output, GROUP, request.getGroup());
+        writeString(output, TENANT, request.getTenant());
+        encodeConfigFields(request, output);
+    }
+    
+    @Override
+    protected int computeFieldsSize(T request) {
+        return computeStringSize(DATA_ID, request.getDataId())
+                + computeStringSize(GROUP, request.getGroup())
+                + computeStringSize(TENANT, request.getTenant())
+                + computeConfigFieldsSize(request);
+    }
+    
+    @Override
+    protected boolean decodeRequestField(T target, int fieldNumber, CodedInputStream input) throws IOException {
+        switch (fieldNumber) {
+            case DATA_ID:
+                target.setDataId(input.readString());
+                return true;
+            case GROUP:
+                target.setGroup(input.readString());
+                return true;
+            case TENANT:
+                target.setTenant(input.readString());
+                return true;
+            default:
+                return decodeConfigField(target, fieldNumber, input);
+        }
+    }
+    
+    /**
+     * Encode fields of config request except the common fields.
+     *
+     * @param request request
+     * @param output  output
+     * @throws IOException encode failed
+     */
+    protected abstract void encodeConfigFields(T request, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Compute the encoded size of fields except the common fields.
+     *
+     * @param request request
+     * @return encoded size
+     */
+    protected abstract int computeConfigFieldsSize(T request);
+    
+    /**
+     * Decode one field of config request except the common fields.
+     *
+     * @param target      request
+     * @param fieldNumber field number
+     * @param input       input
+     * @return {@code false} if the field is unknown
+     * @throws IOException decode failed
+     */
+    protected abstract boolean decodeConfigField(T target, int fieldNumber, CodedInputStream input)
+            throws IOException;
+}
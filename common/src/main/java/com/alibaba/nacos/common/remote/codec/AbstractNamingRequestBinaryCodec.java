@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.remote.request.AbstractNamingRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Abstract binary codec of naming request, encodes namespace, service name and group name.
+ *
+ * @param <T> type of naming request
+ * @author Nacos
+ */
+public abstract class AbstractNamingRequestBinaryCodec<T extends AbstractNamingRequest>
+        extends AbstractRequestBinaryCodec<T> {
+    
+    private static final int NAMESPACE = FIRST_FIELD_NUMBER;
+    
+    private static final int SERVICE_NAME = FIRST_FIELD_NUMBER + 1;
+    
+    private static final int GROUP_NAME = FIRST_FIELD_NUMBER + 2;
+    
+    protected static final int FIRST_NAMING_FIELD_NUMBER = FIRST_FIELD_NUMBER + 3;
+    
+    @Override
+    protected void encodeFields(T request, CodedOutputStream output) throws IOException {
+        writeString(output, NAMESPACE, request.getNamespace());
+        writeString(output, SERVICE_NAME, request.getServiceName());
+        writeString(output, GROUP_NAME, request.getGroupName());
+        encodeNamingFields(request, output);
+    }
+    
+    @Override
+    protected int computeFieldsSize(T request) {
+        return computeStringSize(NAMESPACE, request.getNamespace())
+                + computeStringSize(SERVICE_NAME, request.getServiceName())
+                + computeStringSize(GROUP_NAME, request.getGroupName())
+                + computeNamingFieldsSize(request);
+    }
+    
+    @Override
+    protected boolean decodeRequestField(T target, int fieldNumber, CodedInputStream input) throws IOException {
+        switch (fieldNumber) {
+            case NAMESPACE:
+                target.setNamespace(input.readString());
+                return true;
+            case SERVICE_NAME:
+                target.setServiceName(input.readString());
+                return true;
+            case GROUP_NAME:
+                target.setGroupName(input.readString());
+                return true;
+            default:
+                return decodeNamingField(target, fieldNumber, input);
+        }
+    }
+    
+    /**
+     * Encode fields of naming request except the common fields.
+     *
+     * @param request request
+     * @param output  output
+     * @throws IOException encode failed
+     */
+    protected abstract void encodeNamingFields(T request, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Compute the encoded size of fields except the common fields.
+     *
+     * @param request request
+     * @return encoded size
+     */
+    protected abstract int computeNamingFieldsSize(T request);
+    
+    /**
+     * Decode one field of naming request except the common fields.
+     *
+     * @param target      request
+     * @param fieldNumber field number
+     * @param input       input
+     * @return {@code false} if the field is unknown
+     * @throws IOException decode failed
+     */
+    protected abstract boolean decodeNamingField(T target, int fieldNumber, CodedInputStream input)
+            throws IOException;
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.remote.request.Request;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Abstract binary codec of request.
+ *
+ * <p>Field number {@code 1} is the request id, sub classes use field numbers from {@link #FIRST_FIELD_NUMBER}. Headers
+ * of request are carried by payload metadata, so they are not encoded.
+ *
+ * @param <T> type of request
+ * @author Nacos
+ */
+public abstract class AbstractRequestBinaryCodec<T extends Request> extends AbstractBinaryCodec<T> {
+    
+    static final int REQUEST_ID = 1;
+    
+    protected static final int FIRST_FIELD_NUMBER = 2;
+    
+    /**
+     * Get the request type which this codec supports.
+     *
+     * @return request type
+     */
+    public abstract Class<T> getRequestType();
+    
+    @Override
+    public void encode(T request, CodedOutputStream output) throws IOException {
+        writeString(output, REQUEST_ID, request.getRequestId());
+        encodeFields(request, output);
+    }
+    
+    @Override
+    public int getSerializedSize(T request) {
+        return computeStringSize(REQUEST_ID, request.getRequestId()) + computeFieldsSize(request);
+    }
+    
+    @Override
+    protected boolean decodeField(T target, int fieldNumber, CodedInputStream input) throws IOException {
+        if (REQUEST_ID == fieldNumber) {
+            target.setRequestId(input.readString());
+            return true;
+        }
+        return decodeRequestField(target, fieldNumber, input);
+    }
+    
+    /**
+     * Encode fields of request except request id.
+     *
+     * @param request request
+     * @param output  output
+     * @throws IOException encode failed
+     */
+    protected abstract void encodeFields(T request, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Compute the encoded size of fields except request id.
+     *
+     * @param request request
+     * @return encoded size
+     */
+    protected abstract int computeFieldsSize(T request);
+    
+    /**
+     * Decode one field of request except request id.
+     *
+     * @param target      request
+     * @param fieldNumber field number
+     * @param input       input
+     * @return {@code false} if the field is unknown
+     * @throws IOException decode failed
+     */
+    protected abstract boolean decodeRequestField(T target, int fieldNumber, CodedInputStream input)
+            throws IOException;
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnsafeByteOperations;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary codecs of the hottest requests.
+ *
+ * <p>Binary body is only sent to the peer which supports it by ability negotiation, see
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SERVER_SUPPORT_BINARY_PAYLOAD} and
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SDK_CLIENT_SUPPORT_BINARY_PAYLOAD}. Other requests and peers
+ * keep using json body.
+ *
+ * @author Nacos
+ */
+public class BinaryPayloadCodecs {
+    
+    /**
+     * Payload format of binary body, which is set as the type url of payload body.
+     */
+    public static final String BINARY_FORMAT = "nacos/binary";
+    
+    private static final Map<Class<?>, AbstractRequestBinaryCodec<? extends Request>> CODECS = new HashMap<>(8);
+    
+    static {
+        register(new InstanceRequestBinaryCodec());
+        register(new SubscribeServiceRequestBinaryCodec());
+        register(new NotifySubscriberRequestBinaryCodec());
+        register(new ConfigBatchListenRequestBinaryCodec());
+        register(new ConfigQueryRequestBinaryCodec());
+        register(new ConfigChangeNotifyRequestBinaryCodec());
+    }
+    
+    private static void register(AbstractRequestBinaryCodec<? extends Request> codec) {
+        CODECS.put(codec.getRequestType(), codec);
+    }
+    
+    /**
+     * Whether the request type can be encoded into binary body.
+     *
+     * @param requestType request type
+     * @return {@code true} if binary codec exists
+     */
+    public static boolean isSupported(Class<?> requestType) {
+        return CODECS.containsKey(requestType);
+    }
+    
+    /**
+     * Encode request into binary body.
+     *
+     * @param request request
+     * @return binary body
+     */
+    @SuppressWarnings("unchecked")
+    public static ByteString encode(Request request) {
+        AbstractRequestBinaryCodec<Request> codec = (AbstractRequestBinaryCodec<Request>) getCodec(request.getClass());
+        try {
+            return codec.toByteString(request);
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
+    /**
+     * Add request id into binary body encoded without request id, the body bytes are not copied.
+     *
+     * @param body      binary body encoded without request id
+     * @param requestId request id
+     * @return binary body with request id
+     */
+    public static ByteString withRequestId(ByteString body, String requestId) {
+        if (null == requestId) {
+            return body;
+        }
+        int size = CodedOutputStream.computeStringSize(AbstractRequestBinaryCodec.REQUEST_ID, requestId);
+        byte[] prefix = new byte[size];
+        CodedOutputStream output = CodedOutputStream.newInstance(prefix);
+        try {
+            output.writeString(AbstractRequestBinaryCodec.REQUEST_ID, requestId);
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+        return UnsafeByteOperations.unsafeWrap(prefix).concat(body);
+    }
+    
+    /**
+     * Decode binary body into request.
+     *
+     * @param requestType request type
+     * @param body        binary body
+     * @return request
+     */
+    public static Request decode(Class<?> requestType, ByteString body) {
+        try {
+            return getCodec(requestType).decode(body.newCodedInput());
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
+    private static AbstractRequestBinaryCodec<? extends Request> getCodec(Class<?> requestType) {
+        AbstractRequestBinaryCodec<? extends Request> result = CODECS.get(requestType);
+        if (null == result) {
+            throw new RemoteException(NacosException.SERVER_ERROR,
+                    "No binary codec for payload type:" + requestType.getSimpleName());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest.ConfigListenContext;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link ConfigBatchListenRequest}.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchListenRequestBinaryCodec extends AbstractConfigRequestBinaryCodec<ConfigBatchListenRequest> {
+    
+    private static final int LISTEN = FIRST_CONFIG_FIELD_NUMBER;
+    
+    private static final int CONFIG_LISTEN_CONTEXTS = FIRST_CONFIG_FIELD_NUMBER + 1;
+    
+    private static final ConfigListenContextBinaryCodec CONTEXT_CODEC = new ConfigListenContextBinaryCodec();
+    
+    @Override
+    public Class<ConfigBatchListenRequest> getRequestType() {
+        return ConfigBatchListenRequest.class;
+    }
+    
+    @Override
+    protected void encodeConfigFields(ConfigBatchListenRequest request, CodedOutputStream output) throws IOException {
+        output.writeBool(LISTEN, request.isListen());
+        if (null != request.getConfigListenContexts()) {
+            for (ConfigListenContext each : request.getConfigListenContexts()) {
+                writeNested(output, CONFIG_LISTEN_CONTEXTS, each, CONTEXT_CODEC);
+            }
+        }
+    }
+    
+    @Override
+    protected int computeConfigFieldsSize(ConfigBatchListenRequest request) {
+        int size = CodedOutputStream.computeBoolSize(LISTEN, request.isListen());
+        if (null != request.getConfigListenContexts()) {
+            for (ConfigListenContext each : request.getConfigListenContexts()) {
+                size += computeNestedSize(CONFIG_LISTEN_CONTEXTS, each, CONTEXT_CODEC);
+            }
+        }
+        return size;
+    }
+    
+    @Override
+    protected ConfigBatchListenRequest newInstance() {
+        return new ConfigBatchListenRequest();
+    }
+    
+    @Override
+    protected boolean decodeConfigField(ConfigBatchListenRequest target, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case LISTEN:
+                target.setListen(input.readBool());
+                return true;
+            case CONFIG_LISTEN_CONTEXTS:
+                target.getConfigListenContexts().add(readNested(input, CONTEXT_CODEC));
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static class ConfigListenContextBinaryCodec extends AbstractBinaryCodec<ConfigListenContext> {
+        
+        private static final int GROUP = 1;
+        
+        private static final int MD5 = 2;
+        
+        private static final int DATA_ID = 3;
+        
+        private static final int TENANT = 4;
+        
+        @Override
+        public void encode(ConfigListenContext context, CodedOutputStream output) throws IOException {
+            writeString(output, GROUP, context.getGroup());
+            writeString(output, MD5, context.getMd5());
+            writeString(output, DATA_ID, context.getDataId());
+            writeString(output, TENANT, context.getTenant());
+        }
+        
+        @Override
+        public int getSerializedSize(ConfigListenContext context) {
+            return computeStringSize(GROUP, context.getGroup()) + computeStringSize(MD5, context.getMd5())
+                    + computeStringSize(DATA_ID, context.getDataId()) + computeStringSize(TENANT, context.getTenant());
+        }
+        
+        @Override
+        protected ConfigListenContext newInstance() {
+            return new ConfigListenContext();
+        }
+        
+        @Override
+        protected boolean decodeField(ConfigListenContext target, int fieldNumber, CodedInputStream input)
+                throws IOException {
+            switch (fieldNumber) {
+                case GROUP:
+                    target.setGroup(input.readString());
+                    return true;
+                case MD5:
+                    target.setMd5(input.readString());
+                    return true;
+                case DATA_ID:
+                    target.setDataId(input.readString());
+                    return true;
+                case TENANT:
+                    target.setTenant(input.readString());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link ConfigChangeNotifyRequest}.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeNotifyRequestBinaryCodec extends AbstractRequestBinaryCodec<ConfigChangeNotifyRequest> {
+    
+    private static final int DATA_ID = FIRST_FIELD_NUMBER;
+    
+    private static final int GROUP = FIRST_FIELD_NUMBER + 1;
+    
+    private static final int TENANT = FIRST_FIELD_NUMBER + 2;
+    
+    @Override
+    public Class<ConfigChangeNotifyRequest> getRequestType() {
+        return ConfigChangeNotifyRequest.class;
+    }
+    
+    @Override
+    protected void encodeFields(ConfigChangeNotifyRequest request, CodedOutputStream output) throws IOException {
+        writeString(output, DATA_ID, request.getDataId());
+        writeString(output, GROUP, request.getGroup());
+        writeString(output, TENANT, request.getTenant());
+    }
+    
+    @Override
+    protected int computeFieldsSize(ConfigChangeNotifyRequest request) {
+        return computeStringSize(DATA_ID, request.getDataId()) + computeStringSize(GROUP, request.getGroup())
+                + computeStringSize(TENANT, request.getTenant());
+    }
+    
+    @Override
+    protected ConfigChangeNotifyRequest newInstance() {
+        return new ConfigChangeNotifyRequest();
+    }
+    
+    @Override
+    protected boolean decodeRequestField(ConfigChangeNotifyRequest target, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case DATA_ID:
+                target.setDataId(input.readString());
+                return true;
+            case GROUP:
+                target.setGroup(input.readString());
+                return true;
+            case TENANT:
+                target.setTenant(input.readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link ConfigQueryRequest}.
+ *
+ * @author Nacos
+ */
+public class ConfigQueryRequestBinaryCodec extends AbstractConfigRequestBinaryCodec<ConfigQueryRequest> {
+    
+    private static final int TAG = FIRST_CONFIG_FIELD_NUMBER;
+    
+    @Override
+    public Class<ConfigQueryRequest> getRequestType() {
+        return ConfigQueryRequest.class;
+    }
+    
+    @Override
+    protected void encodeConfigFields(ConfigQueryRequest request, CodedOutputStream output) throws IOException {
+        writeString(output, TAG, request.getTag());
+    }
+    
+    @Override
+    protected int computeConfigFieldsSize(ConfigQueryRequest request) {
+        return computeStringSize(TAG, request.getTag());
+    }
+    
+    @Override
+    protected ConfigQueryRequest newInstance() {
+        return new ConfigQueryRequest();
+    }
+    
+    @Override
+    protected boolean decodeConfigField(ConfigQueryRequest target, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        if (TAG == fieldNumber) {
+            target.setTag(input.readString());
+            return true;
+        }
+        return false;
+    }
+}
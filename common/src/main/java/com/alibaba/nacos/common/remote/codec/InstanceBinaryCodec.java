@@ -0,0 +1,175 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Binary codec of {@link Instance}.
+ *
+ * @author Nacos
+ */
+public class InstanceBinaryCodec extends AbstractBinaryCodec<Instance> {
+    
+    public static final InstanceBinaryCodec INSTANCE = new InstanceBinaryCodec();
+    
+    private static final int INSTANCE_ID = 1;
+    
+    private static final int IP = 2;
+    
+    private static final int PORT = 3;
+    
+    private static final int WEIGHT = 4;
+    
+    private static final int HEALTHY = 5;
+    
+    private static final int ENABLED = 6;
+    
+    private static final int EPHEMERAL = 7;
+    
+    private static final int CLUSTER_NAME = 8;
+    
+    private static final int SERVICE_NAME = 9;
+    
+    private static final int METADATA = 10;
+    
+    private static final int METADATA_KEY = 1;
+    
+    private static final int METADATA_VALUE = 2;
+    
+    @Override
+    public void encode(Instance instance, CodedOutputStream output) throws IOException {
+        writeString(output, INSTANCE_ID, instance.getInstanceId());
+        writeString(output, IP, instance.getIp());
+        output.writeInt32(PORT, instance.getPort());
+        output.writeDouble(WEIGHT, instance.getWeight());
+        output.writeBool(HEALTHY, instance.isHealthy());
+        output.writeBool(ENABLED, instance.isEnabled());
+        output.writeBool(EPHEMERAL, instance.isEphemeral());
+        writeString(output, CLUSTER_NAME, instance.getClusterName());
+        writeString(output, SERVICE_NAME, instance.getServiceName());
+        if (null != instance.getMetadata()) {
+            for (Map.Entry<String, String> entry : instance.getMetadata().entrySet()) {
+                encodeMetadataEntry(entry, output);
+            }
+        }
+    }
+    
+    private void encodeMetadataEntry(Map.Entry<String, String> entry, CodedOutputStream output) throws IOException {
+        output.writeTag(METADATA, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(computeMetadataEntrySize(entry));
+        writeString(output, METADATA_KEY, entry.getKey());
+        writeString(output, METADATA_VALUE, entry.getValue());
+    }
+    
+    @Override
+    public int getSerializedSize(Instance instance) {
+        int size = computeStringSize(INSTANCE_ID, instance.getInstanceId()) + computeStringSize(IP, instance.getIp())
+                + CodedOutputStream.computeInt32Size(PORT, instance.getPort())
+                + CodedOutputStream.computeDoubleSize(WEIGHT, instance.getWeight())
+                + CodedOutputStream.computeBoolSize(HEALTHY, instance.isHealthy())
+                + CodedOutputStream.computeBoolSize(ENABLED, instance.isEnabled())
+                + CodedOutputStream.computeBoolSize(EPHEMERAL, instance.isEphemeral())
+                + computeStringSize(CLUSTER_NAME, instance.getClusterName())
+                + computeStringSize(SERVICE_NAME, instance.getServiceName());
+        if (null != instance.getMetadata()) {
+            for (Map.Entry<String, String> entry : instance.getMetadata().entrySet()) {
+                int entrySize = computeMetadataEntrySize(entry);
+                size += CodedOutputStream.computeTagSize(METADATA) + CodedOutputStream.computeUInt32SizeNoTag(entrySize)
+                        + entrySize;
+            }
+        }
+        return size;
+    }
+    
+    private int computeMetadataEntrySize(Map.Entry<String, String> entry) {
+        return computeStringSize(METADATA_KEY, entry.getKey()) + computeStringSize(METADATA_VALUE, entry.getValue());
+    }
+    
+    @Override
+    protected Instance newInstance() {
+        return new Instance();
+    }
+    
+    @Override
+    protected boolean decodeField(Instance target, int fieldNumber, CodedInputStream input) throws IOException {
+        switch (fieldNumber) {
+            case INSTANCE_ID:
+                target.setInstanceId(input.readString());
+                return true;
+            case IP:
+                target.setIp(input.readString());
+                return true;
+            case PORT:
+                target.setPort(input.readInt32());
+                return true;
+            case WEIGHT:
+                target.setWeight(input.readDouble());
+                return true;
+            case HEALTHY:
+                target.setHealthy(input.readBool());
+                return true;
+            case ENABLED:
+                target.setEnabled(input.readBool());
+                return true;
+            case EPHEMERAL:
+                target.setEphemeral(input.readBool());
+                return true;
+            case CLUSTER_NAME:
+                target.setClusterName(input.readString());
+                return true;
+            case SERVICE_NAME:
+                target.setServiceName(input.readString());
+                return true;
+            case METADATA:
+                decodeMetadataEntry(target, input);
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private void decodeMetadataEntry(Instance target, CodedInputStream input) throws IOException {
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+        String key = null;
+        String value = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case METADATA_KEY:
+                    key = input.readString();
+                    break;
+                case METADATA_VALUE:
+                    value = input.readString();
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        input.popLimit(oldLimit);
+        if (null != key) {
+            target.getMetadata().put(key, value);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link InstanceRequest}.
+ *
+ * @author Nacos
+ */
+public class InstanceRequestBinaryCodec extends AbstractNamingRequestBinaryCodec<InstanceRequest> {
+    
+    private static final int TYPE = FIRST_NAMING_FIELD_NUMBER;
+    
+    private static final int INSTANCE = FIRST_NAMING_FIELD_NUMBER + 1;
+    
+    @Override
+    public Class<InstanceRequest> getRequestType() {
+        return InstanceRequest.class;
+    }
+    
+    @Override
+    protected void encodeNamingFields(InstanceRequest request, CodedOutputStream output) throws IOException {
+        writeString(output, TYPE, request.getType());
+        writeNested(output, INSTANCE, request.getInstance(), InstanceBinaryCodec.INSTANCE);
+    }
+    
+    @Override
+    protected int computeNamingFieldsSize(InstanceRequest request) {
+        return computeStringSize(TYPE, request.getType())
+                + computeNestedSize(INSTANCE, request.getInstance(), InstanceBinaryCodec.INSTANCE);
+    }
+    
+    @Override
+    protected InstanceRequest newInstance() {
+        return new InstanceRequest();
+    }
+    
+    @Override
+    protected boolean decodeNamingField(InstanceRequest target, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case TYPE:
+                target.setType(input.readString());
+                return true;
+            case INSTANCE:
+                target.setInstance(readNested(input, InstanceBinaryCodec.INSTANCE));
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Binary codec of {@link NotifySubscriberRequest}.
+ *
+ * @author Nacos
+ */
+public class NotifySubscriberRequestBinaryCodec extends AbstractRequestBinaryCodec<NotifySubscriberRequest> {
+    
+    private static final int NAMESPACE = FIRST_FIELD_NUMBER;
+    
+    private static final int SERVICE_NAME = FIRST_FIELD_NUMBER + 1;
+    
+    private static final int GROUP_NAME = FIRST_FIELD_NUMBER + 2;
+    
+    private static final int SERVICE_INFO = FIRST_FIELD_NUMBER + 3;
+    
+    private static final int REVISION = FIRST_FIELD_NUMBER + 4;
+    
+    private static final int DELTA = FIRST_FIELD_NUMBER + 5;
+    
+    private static final int BASE_REVISION = FIRST_FIELD_NUMBER + 6;
+    
+    private static final int REMOVED_HOSTS = FIRST_FIELD_NUMBER + 7;
+    
+    @Override
+    public Class<NotifySubscriberRequest> getRequestType() {
+        return NotifySubscriberRequest.class;
+    }
+    
+    @Override
+    protected void encodeFields(NotifySubscriberRequest request, CodedOutputStream output) throws IOException {
+        writeString(output, NAMESPACE, request.getNamespace());
+        writeString(output, SERVICE_NAME, request.getServiceName());
+        writeString(output, GROUP_NAME, request.getGroupName());
+        writeNested(output, SERVICE_INFO, request.getServiceInfo(), ServiceInfoBinaryCodec.INSTANCE);
+        output.writeInt64(REVISION, request.getRevision());
+        output.writeBool(DELTA, request.isDelta());
+        output.writeInt64(BASE_REVISION, request.getBaseRevision());
+        if (null != request.getRemovedHosts()) {
+            for (Instance each : request.getRemovedHosts()) {
+                writeNested(output, REMOVED_HOSTS, each, InstanceBinaryCodec.INSTANCE);
+            }
+        }
+    }
+    
+    @Override
+    protected int computeFieldsSize(NotifySubscriberRequest request) {
+        int size = computeStringSize(NAMESPACE, request.getNamespace())
+                + computeStringSize(SERVICE_NAME, request.getServiceName())
+                + computeStringSize(GROUP_NAME, request.getGroupName())
+                + computeNestedSize(SERVICE_INFO, request.getServiceInfo(), ServiceInfoBinaryCodec.INSTANCE)
+                + CodedOutputStream.computeInt64Size(REVISION, request.getRevision())
+                + CodedOutputStream.computeBoolSize(DELTA, request.isDelta())
+                + CodedOutputStream.computeInt64Size(BASE_REVISION, request.getBaseRevision());
+        if (null != request.getRemovedHosts()) {
+            for (Instance each : request.getRemovedHosts()) {
+                size += computeNestedSize(REMOVED_HOSTS, each, InstanceBinaryCodec.INSTANCE);
+            }
+        }
+        return size;
+    }
+    
+    @Override
+    protected NotifySubscriberRequest newInstance() {
+        return new NotifySubscriberRequest();
+    }
+    
+    @Override
+    protected boolean decodeRequestField(NotifySubscriberRequest target, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case NAMESPACE:
+                target.setNamespace(input.readString());
+                return true;
+            case SERVICE_NAME:
+                target.setServiceName(input.readString());
+                return true;
+            case GROUP_NAME:
+                target.setGroupName(input.readString());
+                return true;
+            case SERVICE_INFO:
+                target.setServiceInfo(readNested(input, ServiceInfoBinaryCodec.INSTANCE));
+                return true;
+            case REVISION:
+                target.setRevision(input.readInt64());
+                return true;
+            case DELTA:
+                target.setDelta(input.readBool());
+                return true;
+            case BASE_REVISION:
+                target.setBaseRevision(input.readInt64());
+                return true;
+            case REMOVED_HOSTS:
+                if (null == target.getRemovedHosts()) {
+                    target.setRemovedHosts(new ArrayList<>());
+                }
+                target.getRemovedHosts().add(readNested(input, InstanceBinaryCodec.INSTANCE));
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link ServiceInfo}.
+ *
+ * @author Nacos
+ */
+public class ServiceInfoBinaryCodec extends AbstractBinaryCodec<ServiceInfo> {
+    
+    public static final ServiceInfoBinaryCodec INSTANCE = new ServiceInfoBinaryCodec();
+    
+    private static final int NAME = 1;
+    
+    private static final int GROUP_NAME = 2;
+    
+    private static final int CLUSTERS = 3;
+    
+    private static final int CACHE_MILLIS = 4;
+    
+    private static final int HOSTS = 5;
+    
+    private static final int LAST_REF_TIME = 6;
+    
+    private static final int CHECKSUM = 7;
+    
+    private static final int ALL_IPS = 8;
+    
+    private static final int REACH_PROTECTION_THRESHOLD = 9;
+    
+    @Override
+    public void encode(ServiceInfo serviceInfo, CodedOutputStream output) throws IOException {
+        writeString(output, NAME, serviceInfo.getName());
+        writeString(output, GROUP_NAME, serviceInfo.getGroupName());
+        writeString(output, CLUSTERS, serviceInfo.getClusters());
+        output.writeInt64(CACHE_MILLIS, serviceInfo.getCacheMillis());
+        if (serviceInfo.isValid()) {
+            for (Instance each : serviceInfo.getHosts()) {
+                writeNested(output, HOSTS, each, InstanceBinaryCodec.INSTANCE);
+            }
+        }
+        output.writeInt64(LAST_REF_TIME, serviceInfo.getLastRefTime());
+        writeString(output, CHECKSUM, serviceInfo.getChecksum());
+        output.writeBool(ALL_IPS, serviceInfo.isAllIPs());
+        output.writeBool(REACH_PROTECTION_THRESHOLD, serviceInfo.isReachProtectionThreshold());
+    }
+    
+    @Override
+    public int getSerializedSize(ServiceInfo serviceInfo) {
+        int size = computeStringSize(NAME, serviceInfo.getName())
+                + computeStringSize(GROUP_NAME, serviceInfo.getGroupName())
+                + computeStringSize(CLUSTERS, serviceInfo.getClusters())
+                + CodedOutputStream.computeInt64Size(CACHE_MILLIS, serviceInfo.getCacheMillis())
+                + CodedOutputStream.computeInt64Size(LAST_REF_TIME, serviceInfo.getLastRefTime())
+                + computeStringSize(CHECKSUM, serviceInfo.getChecksum())
+                + CodedOutputStream.computeBoolSize(ALL_IPS, serviceInfo.isAllIPs())
+                + CodedOutputStream.computeBoolSize(REACH_PROTECTION_THRESHOLD, serviceInfo.isReachProtectionThreshold());
+        if (serviceInfo.isValid()) {
+            for (Instance each : serviceInfo.getHosts()) {
+                size += computeNestedSize(HOSTS, each, InstanceBinaryCodec.INSTANCE);
+            }
+        }
+        return size;
+    }
+    
+    @Override
+    protected ServiceInfo newInstance() {
+        return new ServiceInfo();
+    }
+    
+    @Override
+    protected boolean decodeField(ServiceInfo target, int fieldNumber, CodedInputStream input) throws IOException {
+        switch (fieldNumber) {
+            case NAME:
+                target.setName(input.readString());
+                return true;
+            case GROUP_NAME:
+                target.setGroupName(input.readString());
+                return true;
+            case CLUSTERS:
+                target.setClusters(input.readString());
+                return true;
+            case CACHE_MILLIS:
+                target.setCacheMillis(input.readInt64());
+                return true;
+            case HOSTS:
+                target.addHost(readNested(input, InstanceBinaryCodec.INSTANCE));
+                return true;
+            case LAST_REF_TIME:
+                target.setLastRefTime(input.readInt64());
+                return true;
+            case CHECKSUM:
+                target.setChecksum(input.readString());
+                return true;
+            case ALL_IPS:
+                target.setAllIPs(input.readBool());
+                return true;
+            case REACH_PROTECTION_THRESHOLD:
+                target.setReachProtectionThreshold(input.readBool());
+                return true;
+            default:
+                return false;
+        }
+    }
+}
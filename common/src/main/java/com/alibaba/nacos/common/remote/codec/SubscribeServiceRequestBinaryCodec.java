@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link SubscribeServiceRequest}.
+ *
+ * @author Nacos
+ */
+public class SubscribeServiceRequestBinaryCodec extends AbstractNamingRequestBinaryCodec<SubscribeServiceRequest> {
+    
+    private static final int SUBSCRIBE = FIRST_NAMING_FIELD_NUMBER;
+    
+    private static final int CLUSTERS = FIRST_NAMING_FIELD_NUMBER + 1;
+    
+    @Override
+    public Class<SubscribeServiceRequest> getRequestType() {
+        return SubscribeServiceRequest.class;
+    }
+    
+    @Override
+    protected void encodeNamingFields(SubscribeServiceRequest request, CodedOutputStream output) throws IOException {
+        output.writeBool(SUBSCRIBE, request.isSubscribe());
+        writeString(output, CLUSTERS, request.getClusters());
+    }
+    
+    @Override
+    protected int computeNamingFieldsSize(SubscribeServiceRequest request) {
+        return CodedOutputStream.computeBoolSize(SUBSCRIBE, request.isSubscribe())
+                + computeStringSize(CLUSTERS, request.getClusters());
+    }
+    
+    @Override
+    protected SubscribeServiceRequest newInstance() {
+        return new SubscribeServiceRequest();
+    }
+    
+    @Override
+    protected boolean decodeNamingField(SubscribeServiceRequest target, int fieldNumber, CodedInputStream input)
+            throws IOException {
+        switch (fieldNumber) {
+            case SUBSCRIBE:
+                target.setSubscribe(input.readBool());
+                return true;
+            case CLUSTERS:
+                target.setClusters(input.readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+}
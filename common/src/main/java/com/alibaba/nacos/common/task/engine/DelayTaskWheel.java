@@ -0,0 +1,151 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel of delay task keys.
+ *
+ * <p>Each key is put into the bucket of the tick when it should be processed, so advancing the wheel only visits the
+ * buckets of elapsed ticks instead of all tasks. Ticks beyond the wheel size share the bucket with nearer ticks, and
+ * stay in the bucket until their tick elapsed.
+ *
+ * <p>Only the earliest tick of each key is kept. Entries which are rescheduled or cancelled are dropped lazily when
+ * their bucket is visited.
+ *
+ * <p>The wheel is not thread safe, callers should hold the lock of engine.
+ *
+ * @author Nacos
+ */
+class DelayTaskWheel {
+    
+    private final long tickMillis;
+    
+    private final int mask;
+    
+    private final List<Entry>[] buckets;
+    
+    private final Map<Object, Long> scheduledTicks = new HashMap<>();
+    
+    private long processedTick;
+    
+    @SuppressWarnings("unchecked")
+    DelayTaskWheel(long tickMillis, int wheelSize, long startTimeMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick of delay task wheel should be positive: " + tickMillis);
+        }
+        int size = Integer.highestOneBit(Math.max(wheelSize - 1, 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.processedTick = startTimeMillis / tickMillis;
+    }
+    
+    /**
+     * Schedule key at the deadline. If the key has been scheduled at an earlier tick, nothing changed.
+     *
+     * @param key          task key
+     * @param deadlineTime time when the task should be processed, unit is millisecond
+     */
+    void schedule(Object key, long deadlineTime) {
+        long tick = Math.max(deadlineTime / tickMillis, processedTick + 1);
+        Long scheduledTick = scheduledTicks.get(key);
+        if (null != scheduledTick && scheduledTick <= tick) {
+            return;
+        }
+        scheduledTicks.put(key, tick);
+        buckets[(int) (tick & mask)].add(new Entry(key, tick));
+    }
+    
+    /**
+     * Cancel the schedule of key.
+     *
+     * @param key task key
+     */
+    void cancel(Object key) {
+        scheduledTicks.remove(key);
+    }
+    
+    /**
+     * Advance the wheel to the time, and collect the keys whose tick has elapsed.
+     *
+     * @param currentTimeMillis current time, unit is millisecond
+     * @return keys whose tick has elapsed, the keys are not scheduled any more
+     */
+    List<Object> advance(long currentTimeMillis) {
+        long currentTick = currentTimeMillis / tickMillis;
+        List<Object> result = new ArrayList<>();
+        if (currentTick <= processedTick) {
+            return result;
+        }
+        long ticks = Math.min(currentTick - processedTick, buckets.length);
+        for (long tick = currentTick - ticks + 1; tick <= currentTick; tick++) {
+            expireBucket(buckets[(int) (tick & mask)], currentTick, result);
+        }
+        processedTick = currentTick;
+        return result;
+    }
+    
+    private void expireBucket(List<Entry> bucket, long currentTick, List<Object> result) {
+        int retained = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Entry entry = bucket.get(i);
+            Long scheduledTick = scheduledTicks.get(entry.key);
+            if (null == scheduledTick || scheduledTick != entry.tick) {
+                // cancelled or rescheduled to an earlier tick.
+                continue;
+            }
+            if (entry.tick <= currentTick) {
+                scheduledTicks.remove(entry.key);
+                result.add(entry.key);
+                continue;
+            }
+            bucket.set(retained++, entry);
+        }
+        bucket.subList(retained, bucket.size()).clear();
+    }
+    
+    int size() {
+        return scheduledTicks.size();
+    }
+    
+    void clear() {
+        scheduledTicks.clear();
+        for (List<Entry> each : buckets) {
+            each.clear();
+        }
+    }
+    
+    private static class Entry {
+        
+        private final Object key;
+        
+        private final long tick;
+        
+        private Entry(Object key, long tick) {
+            this.key = key;
+            this.tick = tick;
+        }
+    }
+}
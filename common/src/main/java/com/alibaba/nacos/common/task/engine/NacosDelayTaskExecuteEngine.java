@@ -25,24 +25,38 @@ import org.slf4j.Logger;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Nacos delay task execute engine.
  *
+ * <p>Task keys are scheduled into a {@link DelayTaskWheel} by the deadline of task, so each processing only dispatches
+ * the tasks whose deadline has elapsed instead of checking all tasks. Tasks added with the same key are still merged
+ * by {@link AbstractDelayTask#merge(AbstractDelayTask)}.
+ *
  * @author xiweng.yy
  */
 public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractDelayTask> {
     
+    private static final int WHEEL_SIZE = 512;
+    
     private final ScheduledExecutorService processingExecutor;
     
     protected final ConcurrentHashMap<Object, AbstractDelayTask> tasks;
     
     protected final ReentrantLock lock = new ReentrantLock();
     
+    private final DelayTaskWheel wheel;
+    
+    private final AtomicLong dispatchedTaskCount = new AtomicLong();
+    
+    private volatile long lastDispatchLateness;
+    
     public NacosDelayTaskExecuteEngine(String name) {
         this(name, null);
     }
@@ -54,6 +68,7 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval) {
         super(logger);
         tasks = new ConcurrentHashMap<>(initCapacity);
+        wheel = new DelayTaskWheel(processInterval, WHEEL_SIZE, System.currentTimeMillis());
         processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
         processingExecutor
                 .scheduleWithFixedDelay(new ProcessRunnable(), processInterval, processInterval, TimeUnit.MILLISECONDS);
@@ -85,6 +100,7 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
         try {
             AbstractDelayTask task = tasks.get(key);
             if (null != task && task.shouldProcess()) {
+                wheel.cancel(key);
                 return tasks.remove(key);
             } else {
                 return null;
@@ -106,9 +122,34 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
         return keys;
     }
     
+    /**
+     * Get the count of tasks dispatched to processors since the engine started.
+     *
+     * @return dispatched task count
+     */
+    public long getDispatchedTaskCount() {
+        return dispatchedTaskCount.get();
+    }
+    
+    /**
+     * Get the max lateness of the tasks dispatched at last time, which is the time between the deadline of task and
+     * the dispatching.
+     *
+     * @return lateness, unit is millisecond
+     */
+    public long getLastDispatchLateness() {
+        return lastDispatchLateness;
+    }
+    
     @Override
     public void shutdown() throws NacosException {
-        tasks.clear();
+        lock.lock();
+        try {
+            tasks.clear();
+            wheel.clear();
+        } finally {
+            lock.unlock();
+        }
         processingExecutor.shutdown();
     }
     
@@ -121,6 +162,7 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
                 newTask.merge(existTask);
             }
             tasks.put(key, newTask);
+            wheel.schedule(key, getDeadline(newTask));
         } finally {
             lock.unlock();
         }
@@ -130,12 +172,23 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
      * process tasks in execute engine.
      */
     protected void processTasks() {
-        Collection<Object> keys = getAllTaskKeys();
+        long now = System.currentTimeMillis();
+        List<Object> keys;
+        lock.lock();
+        try {
+            keys = wheel.advance(now);
+        } finally {
+            lock.unlock();
+        }
+        long maxLateness = -1L;
         for (Object taskKey : keys) {
             AbstractDelayTask task = removeTask(taskKey);
             if (null == task) {
+                rescheduleTask(taskKey);
                 continue;
             }
+            maxLateness = Math.max(maxLateness, Math.max(0L, now - getDeadline(task)));
+            dispatchedTaskCount.incrementAndGet();
             NacosTaskProcessor processor = getProcessor(taskKey);
             try {
                 // ReAdd task if process failed
@@ -147,6 +200,30 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
                 retryFailedTask(taskKey, task);
             }
         }
+        if (maxLateness >= 0) {
+            lastDispatchLateness = maxLateness;
+        }
+    }
+    
+    /**
+     * The deadline of task might be delayed after scheduled, such as the task is merged or changed, schedule it again.
+     *
+     * @param key task key
+     */
+    private void rescheduleTask(Object key) {
+        lock.lock();
+        try {
+            AbstractDelayTask task = tasks.get(key);
+            if (null != task) {
+                wheel.schedule(key, getDeadline(task));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private long getDeadline(AbstractDelayTask task) {
+        return task.getLastProcessTime() + task.getTaskInterval();
     }
     
     private void retryFailedTask(Object key, AbstractDelayTask task) {
@@ -0,0 +1,149 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedEventPublisherTest {
+    
+    private static final int PARTITION_COUNT = 4;
+    
+    private static final int KEY_COUNT = 16;
+    
+    private static final int EVENT_COUNT_PER_KEY = 200;
+    
+    private PartitionedEventPublisher publisher;
+    
+    @BeforeEach
+    void setUp() {
+        publisher = new PartitionedEventPublisher(PARTITION_COUNT);
+        publisher.init(MockPartitionedEvent.class, 1024);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+    
+    @Test
+    void testInvalidPartitionCount() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedEventPublisher(0));
+    }
+    
+    @Test
+    void testPartitionOf() {
+        assertEquals(0, publisher.partitionOf(new MockPartitionedEvent(null, 0)));
+        assertEquals(0, publisher.partitionOf(new MockUnpartitionedEvent()));
+        for (int i = 0; i < KEY_COUNT; i++) {
+            int partition = publisher.partitionOf(new MockPartitionedEvent("key" + i, 0));
+            assertTrue(partition >= 0 && partition < PARTITION_COUNT);
+            assertEquals(partition, publisher.partitionOf(new MockPartitionedEvent("key" + i, 1)));
+        }
+    }
+    
+    @Test
+    void testPublishKeepOrderOfSameKey() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(KEY_COUNT * EVENT_COUNT_PER_KEY);
+        Map<Object, List<Integer>> received = new ConcurrentHashMap<>();
+        publisher.addSubscriber(new Subscriber<MockPartitionedEvent>() {
+            @Override
+            public void onEvent(MockPartitionedEvent event) {
+                received.computeIfAbsent(event.partitionKey(), key -> new CopyOnWriteArrayList<>()).add(event.order);
+                latch.countDown();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return MockPartitionedEvent.class;
+            }
+        });
+        for (int order = 0; order < EVENT_COUNT_PER_KEY; order++) {
+            for (int i = 0; i < KEY_COUNT; i++) {
+                publisher.publish(new MockPartitionedEvent("key" + i, order));
+            }
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(KEY_COUNT, received.size());
+        for (List<Integer> each : received.values()) {
+            assertEquals(EVENT_COUNT_PER_KEY, each.size());
+            for (int order = 0; order < EVENT_COUNT_PER_KEY; order++) {
+                assertEquals(order, each.get(order));
+            }
+        }
+        assertEquals(0, publisher.currentEventSize());
+        assertEquals(PARTITION_COUNT, publisher.currentPartitionEventSizes().length);
+    }
+    
+    @Test
+    void testRemoveSubscriber() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Subscriber<MockPartitionedEvent> subscriber = new Subscriber<MockPartitionedEvent>() {
+            @Override
+            public void onEvent(MockPartitionedEvent event) {
+                latch.countDown();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return MockPartitionedEvent.class;
+            }
+        };
+        publisher.addSubscriber(subscriber);
+        publisher.removeSubscriber(subscriber);
+        publisher.publish(new MockPartitionedEvent("key", 0));
+        assertFalse(latch.await(200, TimeUnit.MILLISECONDS));
+    }
+    
+    private static class MockPartitionedEvent extends Event implements PartitionedEvent {
+        
+        private static final long serialVersionUID = -7150451958542412839L;
+        
+        private final Object key;
+        
+        private final int order;
+        
+        private MockPartitionedEvent(Object key, int order) {
+            this.key = key;
+            this.order = order;
+        }
+        
+        @Override
+        public Object partitionKey() {
+            return key;
+        }
+    }
+    
+    private static class MockUnpartitionedEvent extends Event {
+        
+        private static final long serialVersionUID = 1427451427376337064L;
+    }
+}
@@ -21,17 +21,25 @@ package com.alibaba.nacos.common.remote.client.grpc;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.request.SharedRequestBody;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodecs;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.ByteString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -114,6 +122,54 @@ class GrpcUtilsTest {
         
     }
     
+    @Test
+    void testConvertRequestWithSharedBody() {
+        SharedRequestBody sharedBody = new SharedRequestBody();
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        for (boolean binary : new boolean[] {false, true}) {
+            for (String requestId : new String[] {"1", "2"}) {
+                NotifySubscriberRequest pushRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo,
+                        1L);
+                pushRequest.setSharedBody(sharedBody);
+                pushRequest.setRequestId(requestId);
+                pushRequest.putHeader("h1", "v1");
+                Payload payload = GrpcUtils.convert(pushRequest, binary);
+                assertEquals(NotifySubscriberRequest.class.getSimpleName(), payload.getMetadata().getType());
+                assertEquals(binary, BinaryPayloadCodecs.BINARY_FORMAT.equals(payload.getBody().getTypeUrl()));
+                NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(payload);
+                assertEquals(requestId, actual.getRequestId());
+                assertEquals("v1", actual.getHeader("h1"));
+                assertEquals(1L, actual.getRevision());
+                assertEquals(serviceInfo.getKey(), actual.getServiceInfo().getKey());
+            }
+        }
+        ByteString jsonBody = sharedBody.getOrEncode("json", () -> {
+            throw new IllegalStateException("shared body should be encoded only once");
+        });
+        assertFalse(jsonBody.toStringUtf8().contains("requestId"));
+        assertFalse(jsonBody.toStringUtf8().contains("sharedBody"));
+    }
+    
+    @Test
+    void testConvertRequestWithBinary() {
+        Payload convert = GrpcUtils.convert(request, true);
+        assertEquals("", convert.getBody().getTypeUrl());
+        SubscribeServiceRequest subscribeRequest = new SubscribeServiceRequest("namespace", "group", "service",
+                "cluster", true);
+        subscribeRequest.setRequestId("1");
+        subscribeRequest.putHeader("h1", "v1");
+        convert = GrpcUtils.convert(subscribeRequest, true);
+        assertEquals(BinaryPayloadCodecs.BINARY_FORMAT, convert.getBody().getTypeUrl());
+        SubscribeServiceRequest actual = (SubscribeServiceRequest) GrpcUtils.parse(convert);
+        assertEquals("1", actual.getRequestId());
+        assertEquals("v1", actual.getHeader("h1"));
+        assertEquals("namespace", actual.getNamespace());
+        assertEquals("group", actual.getGroupName());
+        assertEquals("service", actual.getServiceName());
+        assertEquals("cluster", actual.getClusters());
+        assertTrue(actual.isSubscribe());
+    }
+    
     @Test
     void testParseNullType() {
         assertThrows(RemoteException.class, () -> {
@@ -0,0 +1,152 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryPayloadCodecsTest {
+    
+    @Test
+    void testInstanceRequest() {
+        Instance instance = buildInstance();
+        InstanceRequest request = new InstanceRequest("namespace", "service", "group", "registerInstance", instance);
+        InstanceRequest actual = roundTrip(request);
+        assertEquals("registerInstance", actual.getType());
+        assertEquals("namespace", actual.getNamespace());
+        assertEquals("service", actual.getServiceName());
+        assertEquals("group", actual.getGroupName());
+        assertEquals(instance, actual.getInstance());
+        assertEquals(JacksonUtils.toJson(request), JacksonUtils.toJson(actual));
+    }
+    
+    @Test
+    void testNotifySubscriberRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S@@c1");
+        serviceInfo.setHosts(Collections.singletonList(buildInstance()));
+        serviceInfo.setLastRefTime(100L);
+        serviceInfo.setReachProtectionThreshold(true);
+        NotifySubscriberRequest request = NotifySubscriberRequest
+                .buildNotifySubscriberDeltaRequest(serviceInfo, Collections.singletonList(buildInstance()), 1L, 2L);
+        NotifySubscriberRequest actual = roundTrip(request);
+        assertTrue(actual.isDelta());
+        assertEquals(1L, actual.getBaseRevision());
+        assertEquals(2L, actual.getRevision());
+        assertEquals(1, actual.getRemovedHosts().size());
+        assertEquals(1, actual.getServiceInfo().getHosts().size());
+        assertTrue(actual.getServiceInfo().isReachProtectionThreshold());
+        assertEquals(JacksonUtils.toJson(request), JacksonUtils.toJson(actual));
+        
+        NotifySubscriberRequest full = roundTrip(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        assertFalse(full.isDelta());
+        assertNull(full.getRemovedHosts());
+    }
+    
+    @Test
+    void testNotifySubscriberRequestWithNullHosts() {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S@@c1");
+        serviceInfo.setHosts(null);
+        serviceInfo.setLastRefTime(100L);
+        NotifySubscriberRequest actual = roundTrip(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        assertEquals("S", actual.getServiceInfo().getName());
+        assertEquals("G", actual.getServiceInfo().getGroupName());
+        assertEquals(100L, actual.getServiceInfo().getLastRefTime());
+        assertTrue(actual.getServiceInfo().getHosts().isEmpty());
+    }
+    
+    @Test
+    void testConfigRequests() {
+        ConfigBatchListenRequest listenRequest = new ConfigBatchListenRequest();
+        listenRequest.setListen(false);
+        listenRequest.addConfigListenContext("group", "dataId", "tenant", "md5");
+        listenRequest.addConfigListenContext("group", "dataId2", null, "md5");
+        ConfigBatchListenRequest actualListen = roundTrip(listenRequest);
+        assertFalse(actualListen.isListen());
+        assertEquals(2, actualListen.getConfigListenContexts().size());
+        assertNull(actualListen.getConfigListenContexts().get(1).getTenant());
+        assertEquals(JacksonUtils.toJson(listenRequest), JacksonUtils.toJson(actualListen));
+        
+        ConfigQueryRequest queryRequest = ConfigQueryRequest.build("dataId", "group", "tenant");
+        queryRequest.setTag("tag");
+        ConfigQueryRequest actualQuery = roundTrip(queryRequest);
+        assertEquals(JacksonUtils.toJson(queryRequest), JacksonUtils.toJson(actualQuery));
+        
+        ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build("dataId", "group", "tenant");
+        ConfigChangeNotifyRequest actualNotify = roundTrip(notifyRequest);
+        assertEquals(JacksonUtils.toJson(notifyRequest), JacksonUtils.toJson(actualNotify));
+    }
+    
+    @Test
+    void testWithRequestId() {
+        ConfigQueryRequest request = ConfigQueryRequest.build("dataId", "group", "tenant");
+        ByteString body = BinaryPayloadCodecs.encode(request);
+        ConfigQueryRequest actual = (ConfigQueryRequest) BinaryPayloadCodecs
+                .decode(ConfigQueryRequest.class, BinaryPayloadCodecs.withRequestId(body, "10"));
+        assertEquals("10", actual.getRequestId());
+        assertEquals("dataId", actual.getDataId());
+    }
+    
+    @Test
+    void testUnsupportedType() {
+        assertFalse(BinaryPayloadCodecs.isSupported(ServiceQueryRequest.class));
+        assertThrows(RemoteException.class, () -> BinaryPayloadCodecs.encode(new ServiceQueryRequest()));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T extends Request> T roundTrip(T request) {
+        request.setRequestId("1");
+        assertTrue(BinaryPayloadCodecs.isSupported(request.getClass()));
+        T result = (T) BinaryPayloadCodecs.decode(request.getClass(), BinaryPayloadCodecs.encode(request));
+        assertEquals("1", result.getRequestId());
+        return result;
+    }
+    
+    private Instance buildInstance() {
+        Instance instance = new Instance();
+        instance.setInstanceId("1.1.1.1#8848#c1#G@@S");
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setWeight(2.5D);
+        instance.setHealthy(false);
+        instance.setEnabled(true);
+        instance.setEphemeral(false);
+        instance.setClusterName("c1");
+        instance.setServiceName("G@@S");
+        instance.addMetadata("k1", "v1");
+        instance.addMetadata("k2", "");
+        return instance;
+    }
+}
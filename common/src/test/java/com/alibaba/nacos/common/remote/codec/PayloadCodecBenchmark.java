@@ -0,0 +1,148 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of json and binary payload body for the hottest requests.
+ *
+ * <p>Run with {@code main} method from IDE or test classpath, it is not executed by unit tests.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadCodecBenchmark {
+    
+    @Param({"10", "1000"})
+    private int instanceCount;
+    
+    private NotifySubscriberRequest notifyRequest;
+    
+    private ConfigBatchListenRequest listenRequest;
+    
+    private Payload jsonNotifyPayload;
+    
+    private Payload binaryNotifyPayload;
+    
+    private Payload jsonListenPayload;
+    
+    private Payload binaryListenPayload;
+    
+    @Setup
+    public void setUp() {
+        PayloadRegistry.init();
+        List<Instance> hosts = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("10.0." + (i / 256) + "." + (i % 256));
+            instance.setPort(8080);
+            instance.setClusterName("DEFAULT");
+            instance.setServiceName("DEFAULT_GROUP@@benchmark");
+            instance.addMetadata("version", "1.0.0");
+            instance.addMetadata("zone", "zone-" + (i % 3));
+            hosts.add(instance);
+        }
+        ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@benchmark");
+        serviceInfo.setHosts(hosts);
+        notifyRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        notifyRequest.setRequestId("1");
+        listenRequest = new ConfigBatchListenRequest();
+        listenRequest.setRequestId("1");
+        for (int i = 0; i < instanceCount; i++) {
+            listenRequest.addConfigListenContext("DEFAULT_GROUP", "dataId-" + i, "public",
+                    "d41d8cd98f00b204e9800998ecf8427e");
+        }
+        jsonNotifyPayload = GrpcUtils.convert(notifyRequest, false);
+        binaryNotifyPayload = GrpcUtils.convert(notifyRequest, true);
+        jsonListenPayload = GrpcUtils.convert(listenRequest, false);
+        binaryListenPayload = GrpcUtils.convert(listenRequest, true);
+    }
+    
+    @Benchmark
+    public Payload encodeNotifyJson() {
+        return GrpcUtils.convert(notifyRequest, false);
+    }
+    
+    @Benchmark
+    public Payload encodeNotifyBinary() {
+        return GrpcUtils.convert(notifyRequest, true);
+    }
+    
+    @Benchmark
+    public Object decodeNotifyJson() {
+        return GrpcUtils.parse(jsonNotifyPayload);
+    }
+    
+    @Benchmark
+    public Object decodeNotifyBinary() {
+        return GrpcUtils.parse(binaryNotifyPayload);
+    }
+    
+    @Benchmark
+    public Payload encodeListenJson() {
+        return GrpcUtils.convert(listenRequest, false);
+    }
+    
+    @Benchmark
+    public Payload encodeListenBinary() {
+        return GrpcUtils.convert(listenRequest, true);
+    }
+    
+    @Benchmark
+    public Object decodeListenJson() {
+        return GrpcUtils.parse(jsonListenPayload);
+    }
+    
+    @Benchmark
+    public Object decodeListenBinary() {
+        return GrpcUtils.parse(binaryListenPayload);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PayloadCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
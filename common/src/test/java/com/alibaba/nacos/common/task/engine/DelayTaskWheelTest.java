@@ -0,0 +1,90 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DelayTaskWheelTest {
+    
+    private static final long TICK = 100L;
+    
+    private DelayTaskWheel wheel;
+    
+    @BeforeEach
+    void setUp() {
+        wheel = new DelayTaskWheel(TICK, 8, 0L);
+    }
+    
+    @Test
+    void testAdvanceOnlyDueKeys() {
+        wheel.schedule("a", 100L);
+        wheel.schedule("b", 350L);
+        wheel.schedule("c", 10000L);
+        assertEquals(3, wheel.size());
+        assertTrue(wheel.advance(50L).isEmpty());
+        assertEquals(Collections.singletonList("a"), wheel.advance(199L));
+        assertEquals(Collections.singletonList("b"), wheel.advance(300L));
+        // c shares bucket with nearer ticks, but should not expire before its tick.
+        assertTrue(wheel.advance(1000L).isEmpty());
+        assertEquals(1, wheel.size());
+        assertEquals(Collections.singletonList("c"), wheel.advance(10000L));
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void testScheduleOverdueKeyAtNextTick() {
+        wheel.advance(1000L);
+        wheel.schedule("a", 0L);
+        assertTrue(wheel.advance(1099L).isEmpty());
+        assertEquals(Collections.singletonList("a"), wheel.advance(1100L));
+    }
+    
+    @Test
+    void testKeepEarliestTick() {
+        wheel.schedule("a", 500L);
+        wheel.schedule("a", 200L);
+        wheel.schedule("a", 700L);
+        assertEquals(1, wheel.size());
+        assertEquals(Collections.singletonList("a"), wheel.advance(200L));
+        assertTrue(wheel.advance(800L).isEmpty());
+    }
+    
+    @Test
+    void testCancel() {
+        wheel.schedule("a", 200L);
+        wheel.cancel("a");
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.advance(300L).isEmpty());
+    }
+    
+    @Test
+    void testAdvanceMoreThanOneRound() {
+        wheel.schedule("a", 200L);
+        wheel.schedule("b", 1500L);
+        wheel.schedule("c", 5000L);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), new HashSet<>(wheel.advance(3000L)));
+        assertEquals(Collections.singletonList("c"), wheel.advance(5000L));
+    }
+}
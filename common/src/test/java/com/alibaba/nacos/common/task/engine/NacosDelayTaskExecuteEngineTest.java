@@ -146,4 +146,41 @@ class NacosDelayTaskExecuteEngineTest {
         });
         assertEquals(1, nacosDelayTaskExecuteEngine.size());
     }
+    
+    @Test
+    void testOnlyDispatchDueTask() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenReturn(true);
+        AbstractDelayTask delayedTask = new AbstractDelayTask() {
+            @Override
+            public void merge(AbstractDelayTask task) {
+            }
+        };
+        delayedTask.setTaskInterval(400L);
+        delayedTask.setLastProcessTime(System.currentTimeMillis());
+        when(taskProcessor.process(delayedTask)).thenReturn(true);
+        nacosDelayTaskExecuteEngine.addTask("test", abstractTask);
+        nacosDelayTaskExecuteEngine.addTask("delayed", delayedTask);
+        TimeUnit.MILLISECONDS.sleep(250);
+        verify(taskProcessor).process(abstractTask);
+        verify(taskProcessor, never()).process(delayedTask);
+        assertEquals(1, nacosDelayTaskExecuteEngine.getDispatchedTaskCount());
+        assertEquals(1, nacosDelayTaskExecuteEngine.size());
+        TimeUnit.MILLISECONDS.sleep(400);
+        verify(taskProcessor).process(delayedTask);
+        assertEquals(2, nacosDelayTaskExecuteEngine.getDispatchedTaskCount());
+        assertTrue(nacosDelayTaskExecuteEngine.getLastDispatchLateness() >= 0);
+        assertTrue(nacosDelayTaskExecuteEngine.isEmpty());
+    }
+    
+    @Test
+    void testDispatchTaskDelayedAfterAdd() throws InterruptedException {
+        nacosDelayTaskExecuteEngine.addTask("test", abstractTask);
+        abstractTask.setTaskInterval(300L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(taskProcessor, never()).process(abstractTask);
+        when(taskProcessor.process(abstractTask)).thenReturn(true);
+        TimeUnit.MILLISECONDS.sleep(300);
+        verify(taskProcessor).process(abstractTask);
+    }
 }
@@ -63,5 +63,15 @@ public class PropertiesConstant {
     
     public static final String DUMP_CHANGE_WORKER_INTERVAL = "dumpChangeWorkerInterval";
     
+    public static final String DUMP_CHANGE_LOG_ON = "dumpChangeLogOn";
+    
+    public static final String CLUSTER_SYNC_INLINE_CONTENT_ON = "clusterSyncInlineContentOn";
+    
+    public static final String CLUSTER_SYNC_INLINE_MAX_CONTENT = "clusterSyncInlineMaxContent";
+    
+    public static final String CLUSTER_SYNC_BATCH_SIZE = "clusterSyncBatchSize";
+    
+    public static final String CLUSTER_SYNC_BATCH_DELAY_MS = "clusterSyncBatchDelayMs";
+    
     
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
+
+import java.io.Serializable;
+
+/**
+ * Config content carried inline with a config change, so the change can be dumped without reading it from database.
+ *
+ * @author Nacos
+ */
+public class ConfigInlineContent implements Serializable {
+    
+    private static final long serialVersionUID = 4185625476542961375L;
+    
+    private final String content;
+    
+    private final String md5;
+    
+    private final String type;
+    
+    private final String encryptedDataKey;
+    
+    private final String betaIps;
+    
+    public ConfigInlineContent(String content, String md5, String type, String encryptedDataKey, String betaIps) {
+        this.content = content;
+        this.md5 = md5;
+        this.type = type;
+        // same as persisted, encryptedDataKey is saved as empty if not set.
+        this.encryptedDataKey = null == encryptedDataKey ? StringUtils.EMPTY : encryptedDataKey;
+        this.betaIps = betaIps;
+    }
+    
+    public ConfigInlineContent(String content, String type, String encryptedDataKey, String betaIps) {
+        this(content, null, type, encryptedDataKey, betaIps);
+    }
+    
+    /**
+     * Build a copy with md5 of content, which is used to verify the content after transferred.
+     *
+     * @return inline content with md5
+     */
+    public ConfigInlineContent withMd5() {
+        return new ConfigInlineContent(content, MD5Utils.md5Hex(content, Constants.PERSIST_ENCODE), type,
+                encryptedDataKey, betaIps);
+    }
+    
+    /**
+     * Whether the content can be dumped directly. The content should be intact, content without md5 is built locally
+     * and always intact. And the type should be published, otherwise it is decided when persisting.
+     *
+     * @return {@code true} if content can be dumped without reading database
+     */
+    public boolean isDumpable() {
+        if (null == content || StringUtils.isBlank(type)) {
+            return false;
+        }
+        return null == md5 || md5.equals(MD5Utils.md5Hex(content, Constants.PERSIST_ENCODE));
+    }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    public String getBetaIps() {
+        return betaIps;
+    }
+}
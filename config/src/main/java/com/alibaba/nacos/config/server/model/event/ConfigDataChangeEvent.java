@@ -18,6 +18,7 @@ package com.alibaba.nacos.config.server.model.event;
 
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 
 /**
  * ConfigDataChangeEvent.
@@ -40,6 +41,11 @@ public class ConfigDataChangeEvent extends Event {
     
     public final long lastModifiedTs;
     
+    /**
+     * Published content of the change, null if the change should be read from database.
+     */
+    private ConfigInlineContent inlineContent;
+    
     public ConfigDataChangeEvent(String dataId, String group, long gmtModified) {
         this(false, dataId, group, gmtModified);
     }
@@ -88,4 +94,11 @@ public class ConfigDataChangeEvent extends Event {
         this.lastModifiedTs = gmtModified;
     }
     
+    public ConfigInlineContent getInlineContent() {
+        return inlineContent;
+    }
+    
+    public void setInlineContent(ConfigInlineContent inlineContent) {
+        this.inlineContent = inlineContent;
+    }
 }
@@ -16,17 +16,20 @@
 
 package com.alibaba.nacos.config.server.monitor;
 
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
 import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
 import com.alibaba.nacos.core.monitor.topn.StringTopNCounter;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Metrics Monitor.
@@ -60,6 +63,16 @@ public class MetricsMonitor {
     
     private static AtomicInteger dumpTask = new AtomicInteger();
     
+    /**
+     * config count dumped by the running or last dump all task.
+     */
+    private static AtomicInteger dumpAllCount = new AtomicInteger();
+    
+    /**
+     * percentage of config id range dumped by the running or last dump all task.
+     */
+    private static AtomicInteger dumpAllProgress = new AtomicInteger();
+    
     /**
      * config fuzzy search count.
      */
@@ -113,6 +126,16 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "dumpTask"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpTask);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllCount"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllCount);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllProgress"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllProgress);
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "fuzzySearch"));
@@ -158,6 +181,14 @@ public class MetricsMonitor {
         return dumpTask;
     }
     
+    public static AtomicInteger getDumpAllCountMonitor() {
+        return dumpAllCount;
+    }
+    
+    public static AtomicInteger getDumpAllProgressMonitor() {
+        return dumpAllProgress;
+    }
+    
     public static AtomicInteger getFuzzySearchMonitor() {
         return fuzzySearch;
     }
@@ -213,6 +244,32 @@ public class MetricsMonitor {
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "unhealth");
     }
     
+    /**
+     * Register gauges of config content cache, including hit ratio, hit, miss and eviction count, size in bytes.
+     *
+     * @param contentCache config content cache
+     */
+    public static void registerConfigContentCache(ConfigContentCache contentCache) {
+        CompositeMeterRegistry registry = NacosMeterRegistryCenter.getMeterRegistry(METER_REGISTRY);
+        if (null == registry) {
+            return;
+        }
+        registerContentCacheGauge(registry, "contentCacheHitRatio", contentCache, ConfigContentCache::hitRatio);
+        registerContentCacheGauge(registry, "contentCacheHit", contentCache, ConfigContentCache::getHitCount);
+        registerContentCacheGauge(registry, "contentCacheMiss", contentCache, ConfigContentCache::getMissCount);
+        registerContentCacheGauge(registry, "contentCacheEviction", contentCache,
+                ConfigContentCache::getEvictionCount);
+        registerContentCacheGauge(registry, "contentCacheSize", contentCache, ConfigContentCache::weight);
+    }
+    
+    private static void registerContentCacheGauge(CompositeMeterRegistry registry, String name,
+            ConfigContentCache contentCache, ToDoubleFunction<ConfigContentCache> valueFunction) {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "config"));
+        tags.add(new ImmutableTag("name", name));
+        registry.gauge("nacos_monitor", tags, contentCache, valueFunction);
+    }
+    
     public static void incrementConfigChangeCount(String tenant, String group, String dataId) {
         configChangeCount.increment(tenant + "@" + group + "@" + dataId);
     }
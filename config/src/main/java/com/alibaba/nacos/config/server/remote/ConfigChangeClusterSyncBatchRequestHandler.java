@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2020 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.ConfigClusterSyncBatchRequestParamExtractor;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler to handle batch of config changes from other servers.
+ *
+ * @author Nacos
+ */
+@Component
+public class ConfigChangeClusterSyncBatchRequestHandler
+        extends RequestHandler<ConfigChangeClusterSyncBatchRequest, ConfigChangeClusterSyncResponse> {
+    
+    private final DumpService dumpService;
+    
+    public ConfigChangeClusterSyncBatchRequestHandler(DumpService dumpService) {
+        this.dumpService = dumpService;
+    }
+    
+    @TpsControl(pointName = "ClusterConfigChangeNotify")
+    @Override
+    @ExtractorManager.Extractor(rpcExtractor = ConfigClusterSyncBatchRequestParamExtractor.class)
+    public ConfigChangeClusterSyncResponse handle(ConfigChangeClusterSyncBatchRequest request, RequestMeta meta)
+            throws NacosException {
+        for (ConfigChangeClusterSyncRequest each : request.getSyncRequests()) {
+            dumpService.dump(ConfigChangeClusterSyncRequestHandler.toDumpRequest(each, meta.getClientIp()));
+        }
+        return new ConfigChangeClusterSyncResponse();
+    }
+}
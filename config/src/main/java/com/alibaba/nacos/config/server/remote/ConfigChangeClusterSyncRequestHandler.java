@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSy
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 import com.alibaba.nacos.config.server.service.dump.DumpRequest;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.core.paramcheck.ExtractorManager;
@@ -49,15 +50,23 @@ public class ConfigChangeClusterSyncRequestHandler
     @ExtractorManager.Extractor(rpcExtractor = ConfigRequestParamExtractor.class)
     public ConfigChangeClusterSyncResponse handle(ConfigChangeClusterSyncRequest configChangeSyncRequest,
             RequestMeta meta) throws NacosException {
+        dumpService.dump(toDumpRequest(configChangeSyncRequest, meta.getClientIp()));
+        return new ConfigChangeClusterSyncResponse();
+    }
     
+    static DumpRequest toDumpRequest(ConfigChangeClusterSyncRequest configChangeSyncRequest, String sourceIp) {
         DumpRequest dumpRequest = DumpRequest.create(configChangeSyncRequest.getDataId(),
                 configChangeSyncRequest.getGroup(), configChangeSyncRequest.getTenant(),
-                configChangeSyncRequest.getLastModified(), meta.getClientIp());
+                configChangeSyncRequest.getLastModified(), sourceIp);
         dumpRequest.setBeta(configChangeSyncRequest.isBeta());
         dumpRequest.setBatch(configChangeSyncRequest.isBatch());
         dumpRequest.setTag(configChangeSyncRequest.getTag());
-        dumpService.dump(dumpRequest);
-        return new ConfigChangeClusterSyncResponse();
+        if (null != configChangeSyncRequest.getContent() && null != configChangeSyncRequest.getMd5()) {
+            dumpRequest.setInlineContent(new ConfigInlineContent(configChangeSyncRequest.getContent(),
+                    configChangeSyncRequest.getMd5(), configChangeSyncRequest.getType(),
+                    configChangeSyncRequest.getEncryptedDataKey(), configChangeSyncRequest.getBetaIps()));
+        }
+        return dumpRequest;
     }
     
 }
@@ -19,10 +19,8 @@ package com.alibaba.nacos.config.server.remote;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,6 +28,10 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>The context is updated without global lock. Each group key is updated atomically by {@link ConcurrentHashMap}
+ * compute methods, so listeners are never added into a connection set which is being removed. Listeners of a
+ * disconnected connection which are added concurrently with clearing are rolled back by {@link #addListen}.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
@@ -39,12 +41,13 @@ public class ConfigChangeListenContext {
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> connectionIdContext =
+            new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -52,11 +55,21 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId) {
-        // 1.add groupKeyContext
-        groupKeyContext.computeIfAbsent(groupKey, k -> new HashSet<>()).add(connectionId);
-        // 2.add connectionIdContext
-        connectionIdContext.computeIfAbsent(connectionId, k -> new HashMap<>(16)).put(groupKey, md5);
+    public void addListen(String groupKey, String md5, String connectionId) {
+        // 1.add connectionIdContext
+        ConcurrentHashMap<String, String> listenKeys = connectionIdContext
+                .computeIfAbsent(connectionId, k -> new ConcurrentHashMap<>(16));
+        listenKeys.put(groupKey, md5);
+        // 2.add groupKeyContext
+        groupKeyContext.compute(groupKey, (key, connectionIds) -> {
+            Set<String> result = null == connectionIds ? ConcurrentHashMap.newKeySet() : connectionIds;
+            result.add(connectionId);
+            return result;
+        });
+        // 3.the connection is cleared concurrently, and the group key might be missed by clearing.
+        if (isListenCleared(groupKey, connectionId, listenKeys)) {
+            removeConnectionId(groupKey, connectionId);
+        }
     }
     
     /**
@@ -65,52 +78,45 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
+    public void removeListen(String groupKey, String connectionId) {
         
         //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
-        }
+        removeConnectionId(groupKey, connectionId);
         
         //2.remove connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
+        Map<String, String> groupKeys = connectionIdContext.get(connectionId);
         if (groupKeys != null) {
             groupKeys.remove(groupKey);
         }
     }
     
-    /**
-     * get listeners of the group key.
-     *
-     * @param groupKey groupKey.
-     * @return the copy of listeners, may be return null.
-     */
-    public synchronized Set<String> getListeners(String groupKey) {
-        
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
+    private boolean isListenCleared(String groupKey, String connectionId, Map<String, String> listenKeys) {
+        Map<String, String> current = connectionIdContext.get(connectionId);
+        if (current == listenKeys) {
+            return false;
         }
-        return null;
+        return null == current || !current.containsKey(groupKey);
+    }
+    
+    private void removeConnectionId(String groupKey, String connectionId) {
+        groupKeyContext.computeIfPresent(groupKey, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
     }
     
     /**
-     * copy collections.
+     * get listeners of the group key.
      *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
+     * @param groupKey groupKey.
+     * @return the unmodifiable view of listeners which is weakly consistent when iterating, may be return null.
      */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
+    public Set<String> getListeners(String groupKey) {
+        Set<String> connectionIds = groupKeyContext.get(groupKey);
+        if (CollectionUtils.isNotEmpty(connectionIds)) {
+            return Collections.unmodifiableSet(connectionIds);
         }
+        return null;
     }
     
     /**
@@ -118,28 +124,14 @@ public class ConfigChangeListenContext {
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
-        
+    public void clearContextForConnectionId(final String connectionId) {
+        Map<String, String> listenKeys = connectionIdContext.remove(connectionId);
         if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
             return;
         }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-                if (connectionIds.isEmpty()) {
-                    groupKeyContext.remove(groupKey.getKey());
-                }
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
-            }
-
+        for (String groupKey : listenKeys.keySet()) {
+            removeConnectionId(groupKey, connectionId);
         }
-        connectionIdContext.remove(connectionId);
     }
     
     /**
@@ -148,9 +140,9 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, String> stringStringHashMap = connectionIdContext.get(connectionId);
-        return stringStringHashMap == null ? null : new HashMap<>(stringStringHashMap);
+    public Map<String, String> getListenKeys(String connectionId) {
+        Map<String, String> listenKeys = connectionIdContext.get(connectionId);
+        return listenKeys == null ? null : new HashMap<>(listenKeys);
     }
     
     /**
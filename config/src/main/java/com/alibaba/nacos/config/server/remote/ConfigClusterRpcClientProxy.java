@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
@@ -52,4 +53,17 @@ public class ConfigClusterRpcClientProxy {
         clusterRpcClientProxy.asyncRequest(member, request, callBack);
         
     }
+    
+    /**
+     * sync batch of config change request.
+     *
+     * @param member   member of server.
+     * @param request  batch request of config change sync.
+     * @param callBack callBack of config change sync.
+     * @throws NacosException exception.
+     */
+    public void syncConfigChangeBatch(Member member, ConfigChangeClusterSyncBatchRequest request,
+            RequestCallBack callBack) throws NacosException {
+        clusterRpcClientProxy.asyncRequest(member, request, callBack);
+    }
 }
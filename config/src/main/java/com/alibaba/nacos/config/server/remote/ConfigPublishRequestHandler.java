@@ -25,6 +25,7 @@ import com.alibaba.nacos.auth.annotation.Secured;
 import com.alibaba.nacos.common.utils.MapUtil;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 import com.alibaba.nacos.config.server.model.ConfigOperateResult;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.service.AggrWhitelist;
@@ -127,8 +128,10 @@ public class ConfigPublishRequestHandler extends RequestHandler<ConfigPublishReq
                         configOperateResult = configInfoPersistService.insertOrUpdate(srcIp, srcUser, configInfo,
                                 configAdvanceInfo);
                     }
-                    ConfigChangePublisher.notifyConfigChange(new ConfigDataChangeEvent(false, dataId, group, tenant,
-                            configOperateResult.getLastModified()));
+                    ConfigDataChangeEvent event = new ConfigDataChangeEvent(false, dataId, group, tenant,
+                            configOperateResult.getLastModified());
+                    event.setInlineContent(new ConfigInlineContent(content, type, encryptedDataKey, null));
+                    ConfigChangePublisher.notifyConfigChange(event);
                 } else {
                     if (StringUtils.isNotBlank(request.getCasMd5())) {
                         configOperateResult = configInfoTagPersistService.insertOrUpdateTagCas(configInfo, tag, srcIp,
@@ -142,9 +145,10 @@ public class ConfigPublishRequestHandler extends RequestHandler<ConfigPublishReq
                                 srcUser);
                     }
                     persistEvent = ConfigTraceService.PERSISTENCE_EVENT_TAG + "-" + tag;
-                    ConfigChangePublisher.notifyConfigChange(
-                            new ConfigDataChangeEvent(false, dataId, group, tenant, tag,
-                                    configOperateResult.getLastModified()));
+                    ConfigDataChangeEvent event = new ConfigDataChangeEvent(false, dataId, group, tenant, tag,
+                            configOperateResult.getLastModified());
+                    event.setInlineContent(new ConfigInlineContent(content, type, encryptedDataKey, null));
+                    ConfigChangePublisher.notifyConfigChange(event);
                 }
             } else {
                 // beta publish
@@ -161,8 +165,10 @@ public class ConfigPublishRequestHandler extends RequestHandler<ConfigPublishReq
                 }
                 persistEvent = ConfigTraceService.PERSISTENCE_EVENT_BETA;
                 
-                ConfigChangePublisher.notifyConfigChange(
-                        new ConfigDataChangeEvent(true, dataId, group, tenant, configOperateResult.getLastModified()));
+                ConfigDataChangeEvent event = new ConfigDataChangeEvent(true, dataId, group, tenant,
+                        configOperateResult.getLastModified());
+                event.setInlineContent(new ConfigInlineContent(content, type, encryptedDataKey, betaIps));
+                ConfigChangePublisher.notifyConfigChange(event);
             }
             ConfigTraceService.logPersistenceEvent(dataId, group, tenant, requestIpApp,
                     configOperateResult.getLastModified(), srcIp, persistEvent, ConfigTraceService.PERSISTENCE_TYPE_PUB,
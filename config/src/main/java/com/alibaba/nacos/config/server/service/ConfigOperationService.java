@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.model.v2.ErrorCode;
 import com.alibaba.nacos.common.utils.MapUtil;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 import com.alibaba.nacos.config.server.model.ConfigOperateResult;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
@@ -114,9 +115,10 @@ public class ConfigOperationService {
                     configOperateResult = configInfoPersistService.insertOrUpdate(configRequestInfo.getSrcIp(),
                             configForm.getSrcUser(), configInfo, configAdvanceInfo);
                 }
-                ConfigChangePublisher.notifyConfigChange(
-                        new ConfigDataChangeEvent(false, configForm.getDataId(), configForm.getGroup(),
-                                configForm.getNamespaceId(), configOperateResult.getLastModified()));
+                ConfigDataChangeEvent event = new ConfigDataChangeEvent(false, configForm.getDataId(),
+                        configForm.getGroup(), configForm.getNamespaceId(), configOperateResult.getLastModified());
+                event.setInlineContent(buildInlineContent(configInfo, null));
+                ConfigChangePublisher.notifyConfigChange(event);
             } else {
                 if (StringUtils.isNotBlank(configRequestInfo.getCasMd5())) {
                     configOperateResult = configInfoTagPersistService.insertOrUpdateTagCas(configInfo,
@@ -134,10 +136,11 @@ public class ConfigOperationService {
                             configRequestInfo.getSrcIp(), configForm.getSrcUser());
                 }
                 persistEvent = ConfigTraceService.PERSISTENCE_EVENT_TAG + "-" + configForm.getTag();
-                ConfigChangePublisher.notifyConfigChange(
-                        new ConfigDataChangeEvent(false, configForm.getDataId(), configForm.getGroup(),
-                                configForm.getNamespaceId(), configForm.getTag(),
-                                configOperateResult.getLastModified()));
+                ConfigDataChangeEvent event = new ConfigDataChangeEvent(false, configForm.getDataId(),
+                        configForm.getGroup(), configForm.getNamespaceId(), configForm.getTag(),
+                        configOperateResult.getLastModified());
+                event.setInlineContent(buildInlineContent(configInfo, null));
+                ConfigChangePublisher.notifyConfigChange(event);
             }
         } else {
             // beta publish
@@ -156,9 +159,10 @@ public class ConfigOperationService {
                         configRequestInfo.getBetaIps(), configRequestInfo.getSrcIp(), configForm.getSrcUser());
             }
             persistEvent = ConfigTraceService.PERSISTENCE_EVENT_BETA;
-            ConfigChangePublisher.notifyConfigChange(
-                    new ConfigDataChangeEvent(true, configForm.getDataId(), configForm.getGroup(),
-                            configForm.getNamespaceId(), configOperateResult.getLastModified()));
+            ConfigDataChangeEvent event = new ConfigDataChangeEvent(true, configForm.getDataId(),
+                    configForm.getGroup(), configForm.getNamespaceId(), configOperateResult.getLastModified());
+            event.setInlineContent(buildInlineContent(configInfo, configRequestInfo.getBetaIps()));
+            ConfigChangePublisher.notifyConfigChange(event);
         }
         ConfigTraceService.logPersistenceEvent(configForm.getDataId(), configForm.getGroup(),
                 configForm.getNamespaceId(), configRequestInfo.getRequestIpApp(), configOperateResult.getLastModified(),
@@ -166,6 +170,11 @@ public class ConfigOperationService {
         return true;
     }
     
+    private ConfigInlineContent buildInlineContent(ConfigInfo configInfo, String betaIps) {
+        return new ConfigInlineContent(configInfo.getContent(), configInfo.getType(),
+                configInfo.getEncryptedDataKey(), betaIps);
+    }
+    
     /**
      * Synchronously delete all pre-aggregation data under a dataId.
      */
@@ -41,13 +41,11 @@ import javax.servlet.http.HttpServletResponse;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -75,8 +73,9 @@ public class LongPollingService {
         SampleResult sampleResult = new SampleResult();
         Map<String, String> lisentersGroupkeyStatus = new HashMap<>(50);
         
-        for (ClientLongPolling clientLongPolling : allSubs) {
-            if (clientLongPolling.clientMd5Map.containsKey(groupKey)) {
+        Set<ClientLongPolling> subs = groupKeySubs.get(groupKey);
+        if (null != subs) {
+            for (ClientLongPolling clientLongPolling : subs) {
                 lisentersGroupkeyStatus.put(clientLongPolling.ip, clientLongPolling.clientMd5Map.get(groupKey));
             }
         }
@@ -229,7 +228,8 @@ public class LongPollingService {
     
     @SuppressWarnings("PMD.ThreadPoolCreationRule")
     public LongPollingService() {
-        allSubs = new ConcurrentLinkedQueue<>();
+        allSubs = ConcurrentHashMap.newKeySet();
+        groupKeySubs = new ConcurrentHashMap<>();
         
         ConfigExecutor.scheduleLongPolling(new StatTask(), 0L, 10L, TimeUnit.SECONDS);
         
@@ -263,30 +263,80 @@ public class LongPollingService {
     /**
      * ClientLongPolling subscibers.
      */
-    final Queue<ClientLongPolling> allSubs;
+    final Set<ClientLongPolling> allSubs;
+    
+    /**
+     * groupKey -> ClientLongPolling subscribers listening the groupKey.
+     */
+    final Map<String, Set<ClientLongPolling>> groupKeySubs;
+    
+    private void addSubscriber(ClientLongPolling clientSub) {
+        allSubs.add(clientSub);
+        for (String groupKey : clientSub.clientMd5Map.keySet()) {
+            groupKeySubs.compute(groupKey, (key, subs) -> {
+                if (null == subs) {
+                    subs = ConcurrentHashMap.newKeySet();
+                }
+                subs.add(clientSub);
+                return subs;
+            });
+        }
+        // The subscriber might be removed by data change or timeout while indexing, clean the relations indexed after
+        // the removal.
+        if (!allSubs.contains(clientSub)) {
+            removeGroupKeySubs(clientSub);
+        }
+    }
+    
+    /**
+     * Remove subscriber and its relations of groupKeys.
+     *
+     * @param clientSub subscriber
+     * @return {@code true} if removed by this call, only the caller which removed the subscriber should response it
+     */
+    private boolean removeSubscriber(ClientLongPolling clientSub) {
+        if (!allSubs.remove(clientSub)) {
+            return false;
+        }
+        removeGroupKeySubs(clientSub);
+        return true;
+    }
+    
+    private void removeGroupKeySubs(ClientLongPolling clientSub) {
+        for (String groupKey : clientSub.clientMd5Map.keySet()) {
+            groupKeySubs.computeIfPresent(groupKey, (key, subs) -> {
+                subs.remove(clientSub);
+                return subs.isEmpty() ? null : subs;
+            });
+        }
+    }
     
     class DataChangeTask implements Runnable {
         
         @Override
         public void run() {
             try {
-                for (Iterator<ClientLongPolling> iter = allSubs.iterator(); iter.hasNext(); ) {
-                    ClientLongPolling clientSub = iter.next();
-                    if (clientSub.clientMd5Map.containsKey(groupKey)) {
-                        
-                        // If published tag is not in the tag list, then it skipped.
-                        if (StringUtils.isNotBlank(tag) && !tag.equals(clientSub.tag)) {
-                            continue;
-                        }
-                        
-                        getRetainIps().put(clientSub.ip, System.currentTimeMillis());
-                        iter.remove(); // Delete subscribers' relationships.
-                        LogUtil.CLIENT_LOG.info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime),
-                                "in-advance",
-                                RequestUtil.getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
-                                "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
-                        clientSub.sendResponse(Collections.singletonList(groupKey));
+                Set<ClientLongPolling> subs = groupKeySubs.get(groupKey);
+                if (null == subs) {
+                    return;
+                }
+                for (ClientLongPolling clientSub : subs) {
+                    
+                    // If published tag is not in the tag list, then it skipped.
+                    if (StringUtils.isNotBlank(tag) && !tag.equals(clientSub.tag)) {
+                        continue;
+                    }
+                    
+                    // Delete subscribers' relationships, skip if it has been responded by timeout or other change.
+                    if (!removeSubscriber(clientSub)) {
+                        continue;
                     }
+                    getRetainIps().put(clientSub.ip, System.currentTimeMillis());
+                    LogUtil.CLIENT_LOG.info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime),
+                            "in-advance",
+                            RequestUtil.getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
+                            "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
+                    clientSub.sendResponse(Collections.singletonList(groupKey));
                 }
                 
             } catch (Throwable t) {
@@ -334,7 +384,7 @@ public class LongPollingService {
                     getRetainIps().put(ClientLongPolling.this.ip, System.currentTimeMillis());
                     
                     // Delete subscriber's relations.
-                    boolean removeFlag = allSubs.remove(ClientLongPolling.this);
+                    boolean removeFlag = removeSubscriber(ClientLongPolling.this);
                     
                     if (removeFlag) {
                         
@@ -352,7 +402,7 @@ public class LongPollingService {
                 
             }, timeoutTime, TimeUnit.MILLISECONDS);
             
-            allSubs.add(this);
+            addSubscriber(this);
         }
         
         void sendResponse(List<String> changedGroups) {
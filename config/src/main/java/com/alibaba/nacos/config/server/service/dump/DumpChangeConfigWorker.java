@@ -29,7 +29,10 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 
 import java.sql.Timestamp;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -55,6 +58,28 @@ public class DumpChangeConfigWorker implements Runnable {
     
     int pageSize = 100;
     
+    /**
+     * Missing nids younger than the timeout are waited, in case of the transaction not committed yet.
+     */
+    private static final long CHANGE_LOG_GAP_TIMEOUT = 60 * 1000L;
+    
+    /**
+     * Larger nid gaps are caused by auto increment jumping, not by uncommitted transactions.
+     */
+    private static final long MAX_TRACKED_GAP = 1000L;
+    
+    /**
+     * Nid of change log checked, negative if change log is not tailed yet.
+     */
+    long changeLogCursor = -1L;
+    
+    private long changeLogMaxSeenId = -1L;
+    
+    /**
+     * missing nid -> time first found missing.
+     */
+    private final TreeMap<Long, Long> pendingGaps = new TreeMap<>();
+    
     public void setPageSize(int pageSize) {
         this.pageSize = pageSize;
     }
@@ -71,80 +96,17 @@ public class DumpChangeConfigWorker implements Runnable {
                 return;
             }
             Timestamp currentTime = new Timestamp(System.currentTimeMillis());
-            LogUtil.DEFAULT_LOG.info("DumpChange start ,from time {},current time {}", startTime, currentTime);
-            
-            LogUtil.DEFAULT_LOG.info("Start to check delete configs from  time {}", startTime);
-            
-            long startDeletedConfigTime = System.currentTimeMillis();
-            LogUtil.DEFAULT_LOG.info("Check delete configs from  time {}", startTime);
-            
-            long deleteCursorId = 0L;
-            
-            while (true) {
-                List<ConfigInfoStateWrapper> configDeleted = historyConfigInfoPersistService.findDeletedConfig(startTime,
-                        deleteCursorId, pageSize);
-                for (ConfigInfoStateWrapper configInfo : configDeleted) {
-                    if (configInfoPersistService.findConfigInfoState(configInfo.getDataId(), configInfo.getGroup(),
-                            configInfo.getTenant()) == null) {
-                        ConfigCacheService.remove(configInfo.getDataId(), configInfo.getGroup(),
-                                configInfo.getTenant());
-                        LogUtil.DEFAULT_LOG.info("[dump-delete-ok] {}",
-                                new Object[] {GroupKey2.getKey(configInfo.getDataId(), configInfo.getGroup())});
-                    }
-                }
-                if (configDeleted.size() < pageSize) {
-                    break;
-                }
-                deleteCursorId = configDeleted.get(configDeleted.size() - 1).getId();
-                
-            }
-            LogUtil.DEFAULT_LOG.info("Check delete configs finished,cost:{}",
-                    System.currentTimeMillis() - startDeletedConfigTime);
-            
-            LogUtil.DEFAULT_LOG.info("Check changeConfig start");
-            long startChangeConfigTime = System.currentTimeMillis();
-            
-            long changeCursorId = 0L;
-            while (true) {
-                LogUtil.DEFAULT_LOG.info("Check changed configs from  time {},lastMaxId={}", startTime, changeCursorId);
-                List<ConfigInfoStateWrapper> changeConfigs = configInfoPersistService.findChangeConfig(startTime,
-                        changeCursorId, pageSize);
-                for (ConfigInfoStateWrapper cf : changeConfigs) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    //check md5 & localtimestamp update local disk cache.
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DEFAULT_LOG.info("[dump-change] find change config  {}, {}, md5={}",
-                                new Object[] {groupKey, cf.getLastModified(), cf.getMd5()});
-                        ConfigInfoWrapper configInfoWrapper = configInfoPersistService.findConfigInfo(cf.getDataId(),
-                                cf.getGroup(), cf.getTenant());
-                        LogUtil.DUMP_LOG.info("[dump-change] find change config  {}, {}, md5={}",
-                                new Object[] {groupKey, cf.getLastModified(), cf.getMd5()});
-                        ConfigCacheService.dump(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(),
-                                configInfoWrapper.getTenant(), configInfoWrapper.getContent(),
-                                configInfoWrapper.getLastModified(), configInfoWrapper.getType(),
-                                configInfoWrapper.getEncryptedDataKey());
-                        final String content = configInfoWrapper.getContent();
-                        final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE_GBK);
-                        final String md5Utf8 = MD5Utils.md5Hex(content, Constants.ENCODE_UTF8);
-                        
-                        LogUtil.DEFAULT_LOG.info("[dump-change-ok] {}, {}, length={}, md5={},md5UTF8={}",
-                                new Object[] {groupKey, configInfoWrapper.getLastModified(), content.length(), md5,
-                                        md5Utf8});
-                    }
-                }
-                if (changeConfigs.size() < pageSize) {
-                    break;
-                }
-                changeCursorId = changeConfigs.get(changeConfigs.size() - 1).getId();
+            if (PropertyUtil.isDumpChangeLogOn() && changeLogCursor >= 0) {
+                dumpChangeLog();
+            } else {
+                // max nid is read before scanning, so that changes during scanning will be tailed from change log.
+                long changeLogMaxId =
+                        PropertyUtil.isDumpChangeLogOn() ? historyConfigInfoPersistService.findChangeLogMaxId() : -1L;
+                dumpChangeByTime(currentTime);
+                changeLogCursor = changeLogMaxId;
+                changeLogMaxSeenId = changeLogMaxId;
+                pendingGaps.clear();
             }
-            
-            long endChangeConfigTime = System.currentTimeMillis();
-            LogUtil.DEFAULT_LOG.info(
-                    "Check changed configs finished,cost:{}, next task running will from start time  {}",
-                    endChangeConfigTime - startChangeConfigTime, currentTime);
             startTime = currentTime;
         } catch (Throwable e) {
             LogUtil.DEFAULT_LOG.error("Check changed configs error", e);
@@ -156,4 +118,144 @@ public class DumpChangeConfigWorker implements Runnable {
             
         }
     }
+    
+    private void dumpChangeByTime(Timestamp currentTime) {
+        LogUtil.DEFAULT_LOG.info("DumpChange start ,from time {},current time {}", startTime, currentTime);
+        
+        LogUtil.DEFAULT_LOG.info("Start to check delete configs from  time {}", startTime);
+        
+        long startDeletedConfigTime = System.currentTimeMillis();
+        LogUtil.DEFAULT_LOG.info("Check delete configs from  time {}", startTime);
+        
+        long deleteCursorId = 0L;
+        
+        while (true) {
+            List<ConfigInfoStateWrapper> configDeleted = historyConfigInfoPersistService.findDeletedConfig(startTime,
+                    deleteCursorId, pageSize);
+            for (ConfigInfoStateWrapper configInfo : configDeleted) {
+                if (configInfoPersistService.findConfigInfoState(configInfo.getDataId(), configInfo.getGroup(),
+                        configInfo.getTenant()) == null) {
+                    ConfigCacheService.remove(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant());
+                    LogUtil.DEFAULT_LOG.info("[dump-delete-ok] {}",
+                            new Object[] {GroupKey2.getKey(configInfo.getDataId(), configInfo.getGroup())});
+                }
+            }
+            if (configDeleted.size() < pageSize) {
+                break;
+            }
+            deleteCursorId = configDeleted.get(configDeleted.size() - 1).getId();
+            
+        }
+        LogUtil.DEFAULT_LOG.info("Check delete configs finished,cost:{}",
+                System.currentTimeMillis() - startDeletedConfigTime);
+        
+        LogUtil.DEFAULT_LOG.info("Check changeConfig start");
+        long startChangeConfigTime = System.currentTimeMillis();
+        
+        long changeCursorId = 0L;
+        while (true) {
+            LogUtil.DEFAULT_LOG.info("Check changed configs from  time {},lastMaxId={}", startTime, changeCursorId);
+            List<ConfigInfoStateWrapper> changeConfigs = configInfoPersistService.findChangeConfig(startTime,
+                    changeCursorId, pageSize);
+            for (ConfigInfoStateWrapper cf : changeConfigs) {
+                dumpIfChanged(cf);
+            }
+            if (changeConfigs.size() < pageSize) {
+                break;
+            }
+            changeCursorId = changeConfigs.get(changeConfigs.size() - 1).getId();
+        }
+        
+        long endChangeConfigTime = System.currentTimeMillis();
+        LogUtil.DEFAULT_LOG.info("Check changed configs finished,cost:{}, next task running will from start time  {}",
+                endChangeConfigTime - startChangeConfigTime, currentTime);
+    }
+    
+    /**
+     * Tail the change log in his_config_info by nid.
+     *
+     * <p>Every insert, update and delete of config_info appends a change log with an increasing nid in the same
+     * transaction, so only the configs changed after the cursor are checked. Nid is allocated before the transaction
+     * committed, a smaller nid might be visible later than a bigger one, so the cursor stays before the missing nids
+     * until they are visible or timeout.
+     */
+    private void dumpChangeLog() {
+        long startChangeLogTime = System.currentTimeMillis();
+        LogUtil.DEFAULT_LOG.info("Check change log start, lastMaxId={}", changeLogCursor);
+        Set<String> checkedGroupKeys = new HashSet<>();
+        long lastMaxId = changeLogCursor;
+        while (true) {
+            List<ConfigInfoStateWrapper> changeLogs = historyConfigInfoPersistService.findChangeLog(lastMaxId,
+                    pageSize);
+            for (ConfigInfoStateWrapper changeLog : changeLogs) {
+                trackGap(lastMaxId, changeLog.getId(), startChangeLogTime);
+                lastMaxId = changeLog.getId();
+                String groupKey = GroupKey2.getKey(changeLog.getDataId(), changeLog.getGroup(), changeLog.getTenant());
+                if (checkedGroupKeys.add(groupKey)) {
+                    dumpChangeLogConfig(changeLog.getDataId(), changeLog.getGroup(), changeLog.getTenant());
+                }
+            }
+            if (changeLogs.size() < pageSize) {
+                break;
+            }
+        }
+        pendingGaps.values().removeIf(firstSeen -> startChangeLogTime - firstSeen > CHANGE_LOG_GAP_TIMEOUT);
+        changeLogCursor = pendingGaps.isEmpty() ? changeLogMaxSeenId : pendingGaps.firstKey() - 1;
+        LogUtil.DEFAULT_LOG.info("Check change log finished, cost:{}, checked={}, nextLastMaxId={}, pendingGaps={}",
+                System.currentTimeMillis() - startChangeLogTime, checkedGroupKeys.size(), changeLogCursor,
+                pendingGaps.size());
+    }
+    
+    private void trackGap(long lastId, long id, long now) {
+        pendingGaps.remove(id);
+        long gapStart = Math.max(lastId, changeLogMaxSeenId) + 1;
+        if (id - gapStart <= MAX_TRACKED_GAP) {
+            for (long missingId = gapStart; missingId < id; missingId++) {
+                pendingGaps.put(missingId, now);
+            }
+        }
+        changeLogMaxSeenId = Math.max(changeLogMaxSeenId, id);
+    }
+    
+    private void dumpChangeLogConfig(String dataId, String group, String tenant) {
+        ConfigInfoStateWrapper state = configInfoPersistService.findConfigInfoState(dataId, group, tenant);
+        if (state == null) {
+            String groupKey = GroupKey2.getKey(dataId, group, tenant);
+            if (ConfigCacheService.getContentCache(groupKey) != null) {
+                ConfigCacheService.remove(dataId, group, tenant);
+                LogUtil.DEFAULT_LOG.info("[dump-delete-ok] {}", groupKey);
+            }
+            return;
+        }
+        dumpIfChanged(state);
+    }
+    
+    private void dumpIfChanged(ConfigInfoStateWrapper cf) {
+        final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+        //check md5 & localtimestamp update local disk cache.
+        boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+        String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+        boolean md5Update = !localContentMd5.equals(cf.getMd5());
+        if (newLastModified || md5Update) {
+            LogUtil.DEFAULT_LOG.info("[dump-change] find change config  {}, {}, md5={}",
+                    new Object[] {groupKey, cf.getLastModified(), cf.getMd5()});
+            ConfigInfoWrapper configInfoWrapper = configInfoPersistService.findConfigInfo(cf.getDataId(),
+                    cf.getGroup(), cf.getTenant());
+            if (configInfoWrapper == null) {
+                return;
+            }
+            LogUtil.DUMP_LOG.info("[dump-change] find change config  {}, {}, md5={}",
+                    new Object[] {groupKey, cf.getLastModified(), cf.getMd5()});
+            ConfigCacheService.dump(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(),
+                    configInfoWrapper.getTenant(), configInfoWrapper.getContent(),
+                    configInfoWrapper.getLastModified(), configInfoWrapper.getType(),
+                    configInfoWrapper.getEncryptedDataKey());
+            final String content = configInfoWrapper.getContent();
+            final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE_GBK);
+            final String md5Utf8 = MD5Utils.md5Hex(content, Constants.ENCODE_UTF8);
+            
+            LogUtil.DEFAULT_LOG.info("[dump-change-ok] {}, {}, length={}, md5={},md5UTF8={}",
+                    new Object[] {groupKey, configInfoWrapper.getLastModified(), content.length(), md5, md5Utf8});
+        }
+    }
 }
@@ -17,6 +17,8 @@
 
 package com.alibaba.nacos.config.server.service.dump;
 
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
+
 /**
  * dump request.
  * @author shiyiyue
@@ -39,6 +41,8 @@ public class DumpRequest {
     
     private String sourceIp;
     
+    private ConfigInlineContent inlineContent;
+    
     public String getDataId() {
         return dataId;
     }
@@ -103,6 +107,14 @@ public class DumpRequest {
         this.sourceIp = sourceIp;
     }
     
+    public ConfigInlineContent getInlineContent() {
+        return inlineContent;
+    }
+    
+    public void setInlineContent(ConfigInlineContent inlineContent) {
+        this.inlineContent = inlineContent;
+    }
+    
     /**
      * create dump request.
      * @param dataId dataId.
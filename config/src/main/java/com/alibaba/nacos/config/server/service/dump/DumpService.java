@@ -24,6 +24,7 @@ import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.manager.TaskManager;
 import com.alibaba.nacos.config.server.model.ConfigInfoChanged;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpAllBetaProcessor;
@@ -183,6 +184,9 @@ public abstract class DumpService {
             dumpRequest.setBeta(evt.isBeta);
             dumpRequest.setBatch(evt.isBatch);
             dumpRequest.setTag(evt.tag);
+            if (PropertyUtil.isClusterSyncInlineContentOn()) {
+                dumpRequest.setInlineContent(evt.getInlineContent());
+            }
             DumpService.this.dump(dumpRequest);
         }
     }
@@ -371,16 +375,16 @@ public abstract class DumpService {
     public void dump(DumpRequest dumpRequest) {
         if (dumpRequest.isBeta()) {
             dumpBeta(dumpRequest.getDataId(), dumpRequest.getGroup(), dumpRequest.getTenant(),
-                    dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp());
+                    dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp(), dumpRequest.getInlineContent());
         } else if (dumpRequest.isBatch()) {
             dumpBatch(dumpRequest.getDataId(), dumpRequest.getGroup(), dumpRequest.getTenant(),
                     dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp());
         } else if (StringUtils.isNotBlank(dumpRequest.getTag())) {
             dumpTag(dumpRequest.getDataId(), dumpRequest.getGroup(), dumpRequest.getTenant(), dumpRequest.getTag(),
-                    dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp());
+                    dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp(), dumpRequest.getInlineContent());
         } else {
             dumpFormal(dumpRequest.getDataId(), dumpRequest.getGroup(), dumpRequest.getTenant(),
-                    dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp());
+                    dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp(), dumpRequest.getInlineContent());
         }
     }
     
@@ -392,11 +396,15 @@ public abstract class DumpService {
      * @param tenant       tenant.
      * @param lastModified lastModified.
      * @param handleIp     handleIp.
+     * @param inlineContent content carried by change, null if read from database.
      */
-    private void dumpFormal(String dataId, String group, String tenant, long lastModified, String handleIp) {
+    private void dumpFormal(String dataId, String group, String tenant, long lastModified, String handleIp,
+            ConfigInlineContent inlineContent) {
         String groupKey = GroupKey2.getKey(dataId, group, tenant);
         String taskKey = groupKey;
-        dumpTaskMgr.addTask(taskKey, new DumpTask(groupKey, false, false, false, null, lastModified, handleIp));
+        DumpTask dumpTask = new DumpTask(groupKey, false, false, false, null, lastModified, handleIp);
+        dumpTask.setInlineContent(inlineContent);
+        dumpTaskMgr.addTask(taskKey, dumpTask);
         DUMP_LOG.info("[dump] add formal task. groupKey={}", groupKey);
         
     }
@@ -409,11 +417,15 @@ public abstract class DumpService {
      * @param tenant       tenant.
      * @param lastModified lastModified.
      * @param handleIp     handleIp.
+     * @param inlineContent content carried by change, null if read from database.
      */
-    private void dumpBeta(String dataId, String group, String tenant, long lastModified, String handleIp) {
+    private void dumpBeta(String dataId, String group, String tenant, long lastModified, String handleIp,
+            ConfigInlineContent inlineContent) {
         String groupKey = GroupKey2.getKey(dataId, group, tenant);
         String taskKey = groupKey + "+beta";
-        dumpTaskMgr.addTask(taskKey, new DumpTask(groupKey, true, false, false, null, lastModified, handleIp));
+        DumpTask dumpTask = new DumpTask(groupKey, true, false, false, null, lastModified, handleIp);
+        dumpTask.setInlineContent(inlineContent);
+        dumpTaskMgr.addTask(taskKey, dumpTask);
         DUMP_LOG.info("[dump] add beta task. groupKey={}", groupKey);
         
     }
@@ -443,11 +455,15 @@ public abstract class DumpService {
      * @param tag          tag.
      * @param lastModified lastModified.
      * @param handleIp     handleIp.
+     * @param inlineContent content carried by change, null if read from database.
      */
-    private void dumpTag(String dataId, String group, String tenant, String tag, long lastModified, String handleIp) {
+    private void dumpTag(String dataId, String group, String tenant, String tag, long lastModified, String handleIp,
+            ConfigInlineContent inlineContent) {
         String groupKey = GroupKey2.getKey(dataId, group, tenant);
         String taskKey = groupKey + "+tag+" + tag;
-        dumpTaskMgr.addTask(taskKey, new DumpTask(groupKey, false, false, true, tag, lastModified, handleIp));
+        DumpTask dumpTask = new DumpTask(groupKey, false, false, true, tag, lastModified, handleIp);
+        dumpTask.setInlineContent(inlineContent);
+        dumpTaskMgr.addTask(taskKey, dumpTask);
         DUMP_LOG.info("[dump] add tag task. groupKey={},tag={}", groupKey, tag);
         
     }
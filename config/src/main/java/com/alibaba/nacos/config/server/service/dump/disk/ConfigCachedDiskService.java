@@ -0,0 +1,162 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+
+import java.io.IOException;
+
+/**
+ * config disk service with hot contents cached in memory.
+ *
+ * <p>Contents read from the delegated disk service are cached in a {@link ConfigContentCache} bounded by bytes. Saving
+ * or removing content invalidates the cached one, both are called by {@code ConfigCacheService} under the write lock of
+ * the group key, and reading is under the read lock, so a content loaded from disk is never cached after it changed.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigCachedDiskService implements ConfigDiskService {
+    
+    private static final String BASE_PREFIX = "base+";
+    
+    private static final String BETA_PREFIX = "beta+";
+    
+    private static final String TAG_PREFIX = "tag+";
+    
+    private final ConfigDiskService delegate;
+    
+    private final ConfigContentCache contentCache;
+    
+    public ConfigCachedDiskService(ConfigDiskService delegate, long maxCacheBytes) {
+        this.delegate = delegate;
+        this.contentCache = new ConfigContentCache(maxCacheBytes);
+        MetricsMonitor.registerConfigContentCache(contentCache);
+    }
+    
+    private static String baseKey(String dataId, String group, String tenant) {
+        return BASE_PREFIX + GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    private static String betaKey(String dataId, String group, String tenant) {
+        return BETA_PREFIX + GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    private static String tagKey(String dataId, String group, String tenant, String tag) {
+        // group key escapes '+', so the tag appended is not ambiguous.
+        return TAG_PREFIX + GroupKey2.getKey(dataId, group, tenant) + "+" + tag;
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        contentCache.invalidate(baseKey(dataId, group, tenant));
+        delegate.saveToDisk(dataId, group, tenant, content);
+    }
+    
+    @Override
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        contentCache.invalidate(betaKey(dataId, group, tenant));
+        delegate.saveBetaToDisk(dataId, group, tenant, content);
+    }
+    
+    @Override
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        contentCache.invalidate(tagKey(dataId, group, tenant, tag));
+        delegate.saveTagToDisk(dataId, group, tenant, tag, content);
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        contentCache.invalidate(baseKey(dataId, group, tenant));
+        delegate.removeConfigInfo(dataId, group, tenant);
+    }
+    
+    @Override
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        contentCache.invalidate(betaKey(dataId, group, tenant));
+        delegate.removeConfigInfo4Beta(dataId, group, tenant);
+    }
+    
+    @Override
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        contentCache.invalidate(tagKey(dataId, group, tenant, tag));
+        delegate.removeConfigInfo4Tag(dataId, group, tenant, tag);
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        String key = baseKey(dataId, group, tenant);
+        String content = contentCache.get(key);
+        if (null == content) {
+            content = delegate.getContent(dataId, group, tenant);
+            if (null != content) {
+                contentCache.put(key, content);
+            }
+        }
+        return content;
+    }
+    
+    @Override
+    public String getBetaContent(String dataId, String group, String tenant) throws IOException {
+        String key = betaKey(dataId, group, tenant);
+        String content = contentCache.get(key);
+        if (null == content) {
+            content = delegate.getBetaContent(dataId, group, tenant);
+            if (null != content) {
+                contentCache.put(key, content);
+            }
+        }
+        return content;
+    }
+    
+    @Override
+    public String getTagContent(String dataId, String group, String tenant, String tag) throws IOException {
+        String key = tagKey(dataId, group, tenant, tag);
+        String content = contentCache.get(key);
+        if (null == content) {
+            content = delegate.getTagContent(dataId, group, tenant, tag);
+            if (null != content) {
+                contentCache.put(key, content);
+            }
+        }
+        return content;
+    }
+    
+    @Override
+    public void clearAll() {
+        contentCache.invalidateIf(key -> key.startsWith(BASE_PREFIX));
+        delegate.clearAll();
+    }
+    
+    @Override
+    public void clearAllBeta() {
+        contentCache.invalidateIf(key -> key.startsWith(BETA_PREFIX));
+        delegate.clearAllBeta();
+    }
+    
+    @Override
+    public void clearAllTag() {
+        contentCache.invalidateIf(key -> key.startsWith(TAG_PREFIX));
+        delegate.clearAllTag();
+    }
+    
+    ConfigContentCache getContentCache() {
+        return contentCache;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Bounded in-memory cache of config contents, weighted by bytes of content.
+ *
+ * <p>The cache uses W-TinyLFU policy: new entries go into a small LRU admission window, entries evicted from the
+ * window compete with the LRU victim of the main region and only the one more frequently requested, estimated by a
+ * count-min sketch, stays. The main region is segmented into probation and protected part, so the hot contents are not
+ * flushed out by scans of contents requested once.
+ *
+ * <p>Reading is lock free. Recording an access to the policy only tries the policy lock, the access is dropped when
+ * lock is held by others, which is harmless for the frequently requested contents the cache keeps.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCache {
+    
+    private static final int WINDOW_PERCENT = 1;
+    
+    private static final int PROTECTED_PERCENT = 80;
+    
+    private static final int ESTIMATED_CONTENT_SIZE = 1024;
+    
+    private final Map<String, Node> data = new ConcurrentHashMap<>();
+    
+    private final ReentrantLock policyLock = new ReentrantLock();
+    
+    private final LinkedHashMap<String, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final LinkedHashMap<String, Node> probation = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final LinkedHashMap<String, Node> protect = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final FrequencySketch sketch;
+    
+    private final long maxWeight;
+    
+    private final long windowMaxWeight;
+    
+    private final long protectedMaxWeight;
+    
+    private long windowWeight;
+    
+    private long probationWeight;
+    
+    private long protectedWeight;
+    
+    private final AtomicLong weight = new AtomicLong();
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    private final AtomicLong evictionCount = new AtomicLong();
+    
+    public ConfigContentCache(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("max weight of content cache should be positive, but is " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        this.windowMaxWeight = Math.max(1L, maxWeight * WINDOW_PERCENT / 100);
+        this.protectedMaxWeight = (maxWeight - windowMaxWeight) * PROTECTED_PERCENT / 100;
+        this.sketch = new FrequencySketch((int) Math.min(Integer.MAX_VALUE, maxWeight / ESTIMATED_CONTENT_SIZE));
+    }
+    
+    /**
+     * Get cached content.
+     *
+     * @param key cache key
+     * @return cached content, null if not cached
+     */
+    public String get(String key) {
+        Node node = data.get(key);
+        if (null == node) {
+            missCount.incrementAndGet();
+            if (policyLock.tryLock()) {
+                try {
+                    sketch.increment(key);
+                } finally {
+                    policyLock.unlock();
+                }
+            }
+            return null;
+        }
+        hitCount.incrementAndGet();
+        if (policyLock.tryLock()) {
+            try {
+                sketch.increment(key);
+                onAccess(node);
+            } finally {
+                policyLock.unlock();
+            }
+        }
+        return node.value;
+    }
+    
+    /**
+     * Put content into cache. The content might be evicted immediately if it is not requested frequently enough.
+     *
+     * @param key   cache key
+     * @param value content
+     */
+    public void put(String key, String value) {
+        Node node = new Node(key, value);
+        policyLock.lock();
+        try {
+            Node old = data.remove(key);
+            if (null != old) {
+                unlink(old);
+            }
+            if (node.weight > maxWeight) {
+                return;
+            }
+            data.put(key, node);
+            window.put(key, node);
+            node.region = Region.WINDOW;
+            windowWeight += node.weight;
+            weight.addAndGet(node.weight);
+            evict();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+    
+    /**
+     * Invalidate cached content.
+     *
+     * @param key cache key
+     */
+    public void invalidate(String key) {
+        policyLock.lock();
+        try {
+            Node node = data.remove(key);
+            if (null != node) {
+                unlink(node);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+    
+    /**
+     * Invalidate all cached contents whose key matches the filter.
+     *
+     * @param filter key filter
+     */
+    public void invalidateIf(Predicate<String> filter) {
+        policyLock.lock();
+        try {
+            Iterator<Node> iterator = data.values().iterator();
+            while (iterator.hasNext()) {
+                Node node = iterator.next();
+                if (filter.test(node.key)) {
+                    iterator.remove();
+                    unlink(node);
+                }
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+    
+    private void onAccess(Node node) {
+        switch (node.region) {
+            case WINDOW:
+                window.get(node.key);
+                break;
+            case PROBATION:
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+                protect.put(node.key, node);
+                node.region = Region.PROTECTED;
+                protectedWeight += node.weight;
+                demoteProtected();
+                break;
+            case PROTECTED:
+                protect.get(node.key);
+                break;
+            default:
+                // node has been removed by others.
+                break;
+        }
+    }
+    
+    private void demoteProtected() {
+        while (protectedWeight > protectedMaxWeight) {
+            Node demoted = eldest(protect);
+            protect.remove(demoted.key);
+            protectedWeight -= demoted.weight;
+            probation.put(demoted.key, demoted);
+            demoted.region = Region.PROBATION;
+            probationWeight += demoted.weight;
+        }
+    }
+    
+    private void evict() {
+        while (windowWeight > windowMaxWeight) {
+            Node candidate = eldest(window);
+            window.remove(candidate.key);
+            windowWeight -= candidate.weight;
+            probation.put(candidate.key, candidate);
+            candidate.region = Region.PROBATION;
+            probationWeight += candidate.weight;
+            admit(candidate);
+        }
+    }
+    
+    /**
+     * Keep the main region in capacity after the candidate moved into probation, by evicting either the candidate or
+     * the LRU victims of main region, whichever is less frequently requested.
+     */
+    private void admit(Node candidate) {
+        while (windowWeight + probationWeight + protectedWeight > maxWeight) {
+            Node victim = eldest(probation);
+            if (victim == candidate) {
+                // candidate is the only one in probation.
+                victim = eldest(protect);
+            }
+            if (null == victim || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                evictNode(candidate);
+                return;
+            }
+            evictNode(victim);
+        }
+    }
+    
+    private void evictNode(Node node) {
+        data.remove(node.key, node);
+        unlink(node);
+        evictionCount.incrementAndGet();
+    }
+    
+    private void unlink(Node node) {
+        switch (node.region) {
+            case WINDOW:
+                window.remove(node.key);
+                windowWeight -= node.weight;
+                break;
+            case PROBATION:
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+                break;
+            case PROTECTED:
+                protect.remove(node.key);
+                protectedWeight -= node.weight;
+                break;
+            default:
+                return;
+        }
+        node.region = Region.REMOVED;
+        weight.addAndGet(-node.weight);
+    }
+    
+    private static Node eldest(LinkedHashMap<String, Node> region) {
+        Iterator<Node> iterator = region.values().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+    
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+    
+    /**
+     * Get total bytes of cached contents.
+     *
+     * @return weight of cache
+     */
+    public long weight() {
+        return weight.get();
+    }
+    
+    public int size() {
+        return data.size();
+    }
+    
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+    
+    /**
+     * Get the ratio of requests hitting the cache.
+     *
+     * @return hit ratio, 0 if there is no request yet
+     */
+    public double hitRatio() {
+        long hit = hitCount.get();
+        long total = hit + missCount.get();
+        return total == 0 ? 0D : (double) hit / total;
+    }
+    
+    private enum Region {
+        
+        /**
+         * Admission window.
+         */
+        WINDOW,
+        
+        /**
+         * Main region, for entries requested once since admitted.
+         */
+        PROBATION,
+        
+        /**
+         * Main region, for entries requested more than once since admitted.
+         */
+        PROTECTED,
+        
+        /**
+         * Evicted or invalidated.
+         */
+        REMOVED
+    }
+    
+    private static class Node {
+        
+        private final String key;
+        
+        private final String value;
+        
+        private final long weight;
+        
+        private Region region = Region.REMOVED;
+        
+        Node(String key, String value) {
+            this.key = key;
+            this.value = value;
+            // chars of java string are 2 bytes.
+            this.weight = 2L * (key.length() + value.length());
+        }
+    }
+    
+    /**
+     * Count-min sketch with 4 bits counters estimating the request frequency of keys, the counters are halved
+     * periodically so that the estimation follows the recent requests.
+     */
+    static class FrequencySketch {
+        
+        private static final int DEPTH = 4;
+        
+        private static final int MAX_COUNT = 15;
+        
+        private static final int[] SEEDS = {0x97cb3127, 0xb0f5d3e5, 0x2a4c6b1d, 0x8f1bbcdc};
+        
+        private final byte[] table;
+        
+        private final int mask;
+        
+        private final int sampleSize;
+        
+        private int additions;
+        
+        FrequencySketch(int expectedSize) {
+            int width = Integer.highestOneBit(Math.max(64, Math.min(expectedSize, 1 << 24)) - 1) << 1;
+            this.table = new byte[width * DEPTH];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+        
+        int frequency(String key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, table[indexOf(hash, i)]);
+            }
+            return frequency;
+        }
+        
+        void increment(String key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = indexOf(hash, i);
+                if (table[index] < MAX_COUNT) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+        
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (byte) (table[i] >>> 1);
+            }
+            additions >>>= 1;
+        }
+        
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * SEEDS[row];
+            h ^= h >>> 16;
+            return row * (mask + 1) + (h & mask);
+        }
+        
+        private static int spread(int hash) {
+            int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 15);
+        }
+    }
+}
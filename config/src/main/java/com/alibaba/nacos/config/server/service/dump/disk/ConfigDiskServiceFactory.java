@@ -29,6 +29,13 @@ public class ConfigDiskServiceFactory {
     
     private static final String TYPE_ROCKSDB = "rocksdb";
     
+    private static final String TYPE_MMAP = "mmap";
+    
+    /**
+     * max size in MB of the in memory content cache in front of disk service, cache is disabled if not positive.
+     */
+    private static final String CONTENT_CACHE_SIZE_PROPERTY = "config_disk_content_cache_mb";
+    
     /**
      * get disk service.
      *
@@ -41,9 +48,16 @@ public class ConfigDiskServiceFactory {
                     String type = System.getProperty("config_disk_type", TYPE_RAW_DISK);
                     if (type.equalsIgnoreCase(TYPE_ROCKSDB)) {
                         configDiskService = new ConfigRocksDbDiskService();
+                    } else if (type.equalsIgnoreCase(TYPE_MMAP)) {
+                        configDiskService = new ConfigMmapDiskService();
                     } else {
                         configDiskService = new ConfigRawDiskService();
                     }
+                    long contentCacheSize = Long.getLong(CONTENT_CACHE_SIZE_PROPERTY, 0L);
+                    if (contentCacheSize > 0) {
+                        configDiskService = new ConfigCachedDiskService(configDiskService,
+                                contentCacheSize * 1024 * 1024);
+                    }
                 }
                 return configDiskService;
             }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * config memory mapped disk service.
+ *
+ * <p>Contents are stored in memory mapped segment files, so reading content only copies bytes from page cache without
+ * opening file or any other system call.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigMmapDiskService implements ConfigDiskService {
+    
+    private static final String MMAP_DATA = File.separator + "mmapdata" + File.separator;
+    
+    private static final String BASE_DIR = MMAP_DATA + "config-data";
+    
+    private static final String BETA_DIR = MMAP_DATA + "beta-data";
+    
+    private static final String TAG_DIR = MMAP_DATA + "tag-data";
+    
+    private static final String SEGMENT_SIZE_PROPERTY = "config_disk_mmap_segment_mb";
+    
+    private static final int DEFAULT_SEGMENT_SIZE_MB = 64;
+    
+    /**
+     * A mapped buffer is indexed by int, so the segment should be smaller than 2 GB.
+     */
+    private static final int MAX_SEGMENT_SIZE_MB = 1024;
+    
+    private final MappedContentStore baseStore;
+    
+    private final MappedContentStore betaStore;
+    
+    private final MappedContentStore tagStore;
+    
+    public ConfigMmapDiskService() {
+        int segmentSize = getSegmentSize(Integer.getInteger(SEGMENT_SIZE_PROPERTY, DEFAULT_SEGMENT_SIZE_MB));
+        baseStore = new MappedContentStore(new File(EnvUtil.getNacosHome() + BASE_DIR), segmentSize);
+        betaStore = new MappedContentStore(new File(EnvUtil.getNacosHome() + BETA_DIR), segmentSize);
+        tagStore = new MappedContentStore(new File(EnvUtil.getNacosHome() + TAG_DIR), segmentSize);
+        // contents are dumped again when server starts, remove the segments of last running.
+        baseStore.clear();
+        betaStore.clear();
+        tagStore.clear();
+    }
+    
+    static int getSegmentSize(int segmentSizeMb) {
+        long result = segmentSizeMb;
+        if (result <= 0) {
+            LogUtil.DEFAULT_LOG.warn("Invalid {}={}, use default {}.", SEGMENT_SIZE_PROPERTY, segmentSizeMb,
+                    DEFAULT_SEGMENT_SIZE_MB);
+            result = DEFAULT_SEGMENT_SIZE_MB;
+        } else if (result > MAX_SEGMENT_SIZE_MB) {
+            LogUtil.DEFAULT_LOG.warn("Too large {}={}, use max {}.", SEGMENT_SIZE_PROPERTY, segmentSizeMb,
+                    MAX_SEGMENT_SIZE_MB);
+            result = MAX_SEGMENT_SIZE_MB;
+        }
+        return (int) (result * 1024L * 1024L);
+    }
+    
+    private String getKey(String dataId, String group, String tenant, String tag) {
+        String[] keys = new String[] {dataId, group, tenant, tag};
+        StringBuilder stringBuilder = new StringBuilder();
+        for (String key : keys) {
+            if (StringUtils.isNotBlank(key)) {
+                urlEncode(key, stringBuilder);
+            }
+            stringBuilder.append('+');
+        }
+        return stringBuilder.toString();
+    }
+    
+    /**
+     * + -> %2B % -> %25.
+     */
+    private static void urlEncode(String str, StringBuilder sb) {
+        for (int idx = 0; idx < str.length(); ++idx) {
+            char c = str.charAt(idx);
+            if ('+' == c) {
+                sb.append("%2B");
+            } else if ('%' == c) {
+                sb.append("%25");
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+    
+    private String getContentInner(MappedContentStore store, String dataId, String group, String tenant, String tag) {
+        byte[] bytes = store.get(getKey(dataId, group, tenant, tag));
+        return null == bytes ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private void removeContentInner(MappedContentStore store, String dataId, String group, String tenant, String tag) {
+        store.remove(getKey(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        baseStore.put(getKey(dataId, group, tenant, null), content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        betaStore.put(getKey(dataId, group, tenant, null), content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        tagStore.put(getKey(dataId, group, tenant, tag), content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        removeContentInner(baseStore, dataId, group, tenant, null);
+    }
+    
+    @Override
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        removeContentInner(betaStore, dataId, group, tenant, null);
+    }
+    
+    @Override
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        removeContentInner(tagStore, dataId, group, tenant, tag);
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) {
+        return getContentInner(baseStore, dataId, group, tenant, null);
+    }
+    
+    @Override
+    public String getBetaContent(String dataId, String group, String tenant) {
+        return getContentInner(betaStore, dataId, group, tenant, null);
+    }
+    
+    @Override
+    public String getTagContent(String dataId, String group, String tenant, String tag) {
+        return getContentInner(tagStore, dataId, group, tenant, tag);
+    }
+    
+    @Override
+    public void clearAll() {
+        baseStore.clear();
+        LogUtil.DEFAULT_LOG.info("clear all config-info success.");
+    }
+    
+    @Override
+    public void clearAllBeta() {
+        betaStore.clear();
+        LogUtil.DEFAULT_LOG.info("clear all config-info-beta success.");
+    }
+    
+    @Override
+    public void clearAllTag() {
+        tagStore.clear();
+        LogUtil.DEFAULT_LOG.info("clear all config-info-tag success.");
+    }
+}
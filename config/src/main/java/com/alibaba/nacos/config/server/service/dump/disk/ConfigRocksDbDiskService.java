@@ -28,8 +28,8 @@ import org.rocksdb.RocksDBException;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 
@@ -53,7 +53,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private static final long DEFAULT_WRITE_BUFFER_MB = 32;
     
-    Map<String, RocksDB> rocksDbMap = new HashMap<>();
+    Map<String, RocksDB> rocksDbMap = new ConcurrentHashMap<>();
     
     private void createDirIfNotExist(String dir) {
         File roskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
@@ -187,18 +187,18 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     }
     
     RocksDB initAndGetDB(String dir) throws RocksDBException {
-        if (rocksDbMap.containsKey(dir)) {
-            return rocksDbMap.get(dir);
-        } else {
-            synchronized (this) {
-                if (rocksDbMap.containsKey(dir)) {
-                    return rocksDbMap.get(dir);
-                }
+        RocksDB rocksDb = rocksDbMap.get(dir);
+        if (rocksDb != null) {
+            return rocksDb;
+        }
+        synchronized (this) {
+            rocksDb = rocksDbMap.get(dir);
+            if (rocksDb == null) {
                 createDirIfEmpty(EnvUtil.getNacosHome() + dir);
-                rocksDbMap.put(dir, RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir));
-                return rocksDbMap.get(dir);
+                rocksDb = RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir);
+                rocksDbMap.put(dir, rocksDb);
             }
-            
+            return rocksDb;
         }
     }
     
@@ -314,8 +314,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void clearAll() {
         try {
-            if (rocksDbMap.containsKey(BASE_DIR)) {
-                rocksDbMap.get(BASE_DIR).close();
+            RocksDB rocksDb = rocksDbMap.remove(BASE_DIR);
+            if (rocksDb != null) {
+                rocksDb.close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + BASE_DIR, new Options());
             }
             deleteDirIfExist(BASE_DIR);
@@ -330,8 +331,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void clearAllBeta() {
         try {
-            if (rocksDbMap.containsKey(BETA_DIR)) {
-                rocksDbMap.get(BETA_DIR).close();
+            RocksDB rocksDb = rocksDbMap.remove(BETA_DIR);
+            if (rocksDb != null) {
+                rocksDb.close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + BETA_DIR, new Options());
             }
             deleteDirIfExist(BETA_DIR);
@@ -347,8 +349,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void clearAllTag() {
         
         try {
-            if (rocksDbMap.containsKey(TAG_DIR)) {
-                rocksDbMap.get(TAG_DIR).close();
+            RocksDB rocksDb = rocksDbMap.remove(TAG_DIR);
+            if (rocksDb != null) {
+                rocksDb.close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + TAG_DIR, new Options());
             }
             deleteDirIfExist(TAG_DIR);
@@ -0,0 +1,431 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Content store backed by memory mapped segment files.
+ *
+ * <p>Contents are appended to the current segment, and located by an in memory index. Reading content does not need any
+ * lock or system call. The space of replaced or removed contents is reclaimed by compaction, which copies the living
+ * contents into new segments when the dead contents are more than the living contents.
+ *
+ * <p>Compaction runs in the compact executor instead of the writer, and only holds the store lock to move one content
+ * at a time, so writers are not blocked by a full copy. Each segment counts its readers, the compacted segment is
+ * unmapped and deleted once the last reader released it, instead of waiting for GC to free the space.
+ *
+ * <p>The store does not recover from the segment files after restart, all contents are dumped again when server starts.
+ *
+ * @author Nacos
+ */
+class MappedContentStore {
+    
+    private static final String SEGMENT_PREFIX = "segment-";
+    
+    private final File dir;
+    
+    private final int segmentSize;
+    
+    private final Executor compactExecutor;
+    
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    
+    private final List<Segment> segments = new ArrayList<>();
+    
+    private final AtomicInteger segmentSequence = new AtomicInteger();
+    
+    private Segment current;
+    
+    private long liveBytes;
+    
+    private long deadBytes;
+    
+    private boolean compacting;
+    
+    /**
+     * Increased by clear, so that the compaction started before clear does not put segments back.
+     */
+    private long generation;
+    
+    MappedContentStore(File dir, int segmentSize) {
+        this(dir, segmentSize, ConfigExecutor::executeDiskCompact);
+    }
+    
+    MappedContentStore(File dir, int segmentSize, Executor compactExecutor) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.compactExecutor = compactExecutor;
+    }
+    
+    /**
+     * Get the content of key.
+     *
+     * @param key key of content
+     * @return copy of content, null if not exist
+     */
+    byte[] get(String key) {
+        while (true) {
+            Location location = index.get(key);
+            if (null == location) {
+                return null;
+            }
+            if (location.segment.retain()) {
+                try {
+                    return location.read();
+                } finally {
+                    location.segment.release();
+                }
+            }
+            // The segment has been compacted, the content is moved to another segment.
+        }
+    }
+    
+    /**
+     * Put the content of key.
+     *
+     * @param key     key of content
+     * @param content content bytes
+     * @throws IOException if create segment failed
+     */
+    void put(String key, byte[] content) throws IOException {
+        boolean compact;
+        synchronized (this) {
+            Location location = append(content);
+            Location old = index.put(key, location);
+            location.segment.liveBytes += content.length;
+            liveBytes += content.length;
+            if (null != old) {
+                markDead(old);
+            }
+            compact = needCompact();
+        }
+        if (compact) {
+            compactExecutor.execute(this::compact);
+        }
+    }
+    
+    /**
+     * Remove the content of key.
+     *
+     * @param key key of content
+     */
+    void remove(String key) {
+        synchronized (this) {
+            Location old = index.remove(key);
+            if (null == old) {
+                return;
+            }
+            markDead(old);
+            if (!needCompact()) {
+                return;
+            }
+        }
+        compactExecutor.execute(this::compact);
+    }
+    
+    /**
+     * Remove all contents and delete all segment files.
+     */
+    synchronized void clear() {
+        index.clear();
+        for (Segment each : segments) {
+            each.retire();
+        }
+        segments.clear();
+        current = null;
+        generation++;
+        liveBytes = 0;
+        deadBytes = 0;
+        File[] files = dir.listFiles((parent, name) -> name.startsWith(SEGMENT_PREFIX));
+        if (null != files) {
+            for (File each : files) {
+                deleteFile(each);
+            }
+        }
+    }
+    
+    int size() {
+        return index.size();
+    }
+    
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+    
+    private Location append(byte[] content) throws IOException {
+        if (null == current || current.remaining() < content.length) {
+            current = createSegment(Math.max(segmentSize, content.length));
+            segments.add(current);
+        }
+        return current.append(content);
+    }
+    
+    private void markDead(Location location) {
+        location.segment.liveBytes -= location.length;
+        liveBytes -= location.length;
+        deadBytes += location.length;
+    }
+    
+    private boolean needCompact() {
+        if (compacting || deadBytes <= liveBytes || deadBytes < segmentSize) {
+            return false;
+        }
+        compacting = true;
+        return true;
+    }
+    
+    /**
+     * Move the living contents of all segments existed when compaction starts into new segments, then release the old
+     * segments. Writers append to new segments during compaction, and the content replaced by writer is not moved.
+     */
+    private void compact() {
+        final Set<Segment> sources = Collections.newSetFromMap(new IdentityHashMap<>());
+        final long startGeneration;
+        synchronized (this) {
+            sources.addAll(segments);
+            current = null;
+            startGeneration = generation;
+        }
+        Segment target = null;
+        boolean finished = false;
+        try {
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location old = entry.getValue();
+                if (!sources.contains(old.segment) || !old.segment.retain()) {
+                    continue;
+                }
+                try {
+                    if (null == target || target.remaining() < old.length) {
+                        releaseTarget(target);
+                        target = createSegment(Math.max(segmentSize, old.length));
+                        target.retain();
+                        if (!addSegment(target, startGeneration)) {
+                            return;
+                        }
+                    }
+                    moveContent(entry.getKey(), old, target.append(old.read()), startGeneration);
+                } finally {
+                    old.segment.release();
+                }
+            }
+            finished = true;
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("Compact mapped content store {} failed.", dir, e);
+        } finally {
+            releaseTarget(target);
+            finishCompact(sources, finished, startGeneration);
+        }
+    }
+    
+    private synchronized boolean addSegment(Segment segment, long startGeneration) {
+        if (startGeneration != generation) {
+            segment.retire();
+            return false;
+        }
+        segments.add(segment);
+        return true;
+    }
+    
+    private synchronized void moveContent(String key, Location old, Location moved, long startGeneration) {
+        if (startGeneration != generation) {
+            return;
+        }
+        // the old content is dead either moved or replaced by writer, so is the moved content if replaced.
+        deadBytes += old.length;
+        if (index.replace(key, old, moved)) {
+            old.segment.liveBytes -= old.length;
+            moved.segment.liveBytes += old.length;
+        }
+    }
+    
+    private synchronized void finishCompact(Set<Segment> sources, boolean finished, long startGeneration) {
+        compacting = false;
+        if (!finished || startGeneration != generation) {
+            return;
+        }
+        int before = segments.size();
+        for (Segment each : sources) {
+            if (segments.remove(each)) {
+                deadBytes -= each.position - each.liveBytes;
+                liveBytes -= each.liveBytes;
+            }
+            each.retire();
+        }
+        LogUtil.DEFAULT_LOG.info("Compact mapped content store {} finished, segments {} -> {}, live bytes {}.", dir,
+                before, segments.size(), liveBytes);
+    }
+    
+    private void releaseTarget(Segment target) {
+        if (null != target) {
+            target.release();
+        }
+    }
+    
+    private Segment createSegment(int size) throws IOException {
+        if (!dir.exists() && !dir.mkdirs() && !dir.exists()) {
+            throw new IOException("Create directory " + dir + " failed.");
+        }
+        File file = new File(dir, SEGMENT_PREFIX + segmentSequence.getAndIncrement());
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+            raf.setLength(size);
+            return new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+    
+    private static void deleteFile(File file) {
+        if (!file.delete() && file.exists()) {
+            // Mapped file can't be deleted on some os, such as windows.
+            file.deleteOnExit();
+        }
+    }
+    
+    /**
+     * Unmap the buffer immediately, otherwise the mapped memory and the space of deleted file are held until GC.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                // java 8
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (Throwable e) {
+            LogUtil.DEFAULT_LOG.warn("Unmap mapped content segment failed, it will be released by GC.", e);
+        }
+    }
+    
+    /**
+     * Segment file mapped into memory.
+     *
+     * <p>The store holds one reference of segment until it is retired by compaction or clear, and each reader holds
+     * one reference while reading. The segment is unmapped and deleted when no reference is held.
+     */
+    private static class Segment {
+        
+        private final File file;
+        
+        private final MappedByteBuffer buffer;
+        
+        private final AtomicInteger references = new AtomicInteger(1);
+        
+        private final AtomicBoolean retired = new AtomicBoolean(false);
+        
+        private int position;
+        
+        /**
+         * Bytes of contents in this segment which are still in index, guarded by store.
+         */
+        private long liveBytes;
+        
+        private Segment(File file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+        
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+        
+        private Location append(byte[] content) {
+            ByteBuffer target = buffer.duplicate();
+            target.position(position);
+            target.put(content);
+            Location result = new Location(this, position, content.length);
+            position += content.length;
+            return result;
+        }
+        
+        private boolean retain() {
+            while (true) {
+                int current = references.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+        
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                unmap(buffer);
+                deleteFile(file);
+            }
+        }
+        
+        private void retire() {
+            if (retired.compareAndSet(false, true)) {
+                release();
+            }
+        }
+    }
+    
+    private static class Location {
+        
+        private final Segment segment;
+        
+        private final int offset;
+        
+        private final int length;
+        
+        private Location(Segment segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+        
+        private byte[] read() {
+            ByteBuffer source = segment.buffer.duplicate();
+            source.position(offset);
+            byte[] result = new byte[length];
+            source.get(result);
+            return result;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.service.AggrWhitelist;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
@@ -31,10 +32,14 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
@@ -42,6 +47,10 @@ import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 /**
  * Dump all processor.
  *
+ * <p>Config info is read by keyset pagination, the query of next fragment is executed while the current fragment is
+ * dumped, and md5 computing and disk writing are executed in a bounded executor, so that the memory is bounded by the
+ * page size.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
@@ -58,11 +67,11 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             return false;
         }
         DumpAllTask dumpAllTask = (DumpAllTask) task;
+        final boolean isStartUp = dumpAllTask.isStartUp();
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
         ThreadPoolExecutor executorService = null;
-        if (dumpAllTask.isStartUp()) {
+        if (isStartUp) {
             executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
                     Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
                     new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
@@ -71,95 +80,140 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
                     r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
         }
+        // page query of next fragment is executed while dumping current fragment, at most two pages are in memory.
+        ThreadPoolExecutor pageReader = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                r -> new Thread(r, "dump all page reader"));
         
         DEFAULT_LOG.info("start dump all config-info...");
-        
-        while (lastMaxId < currentMaxId) {
-            
+        final long startTime = System.currentTimeMillis();
+        final AtomicInteger dumpCount = MetricsMonitor.getDumpAllCountMonitor();
+        final AtomicInteger dumpProgress = MetricsMonitor.getDumpAllProgressMonitor();
+        dumpCount.set(0);
+        dumpProgress.set(0);
+        try {
+            long lastMaxId = 0;
             long start = System.currentTimeMillis();
-            
-            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
-            long dbTimeStamp = System.currentTimeMillis();
-            if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
-                break;
-            }
-            
-            for (ConfigInfoWrapper cf : page.getPageItems()) {
-                lastMaxId = Math.max(cf.getId(), lastMaxId);
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
+            Future<Page<ConfigInfoWrapper>> nextPage = submitPageQuery(pageReader, lastMaxId, isStartUp);
+            while (nextPage != null) {
+                Page<ConfigInfoWrapper> page = nextPage.get();
+                final long dbTimeStamp = System.currentTimeMillis();
+                if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                    break;
                 }
-                
-                if (cf == null) {
-                    continue;
-                }
-                if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
-                    AggrWhitelist.load(cf.getContent());
-                }
-                
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
+                for (ConfigInfoWrapper cf : page.getPageItems()) {
+                    lastMaxId = Math.max(cf.getId(), lastMaxId);
                 }
+                nextPage = lastMaxId < currentMaxId ? submitPageQuery(pageReader, lastMaxId, isStartUp) : null;
                 
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
+                for (ConfigInfoWrapper cf : page.getPageItems()) {
+                    dumpConfig(cf, isStartUp, executorService, dumpCount);
                 }
                 
-                final String content = cf.getContent();
-                final String dataId = cf.getDataId();
-                final String group = cf.getGroup();
-                final String tenant = cf.getTenant();
-                final long lastModified = cf.getLastModified();
-                final String type = cf.getType();
-                final String encryptedDataKey = cf.getEncryptedDataKey();
-                
-                executorService.execute(() -> {
-                    final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-                    boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
-                            lastModified, type, encryptedDataKey);
-                    if (result) {
-                        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
-                                GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
-                    } else {
-                        LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
-                    }
-                    
-                });
-                
+                long diskStamp = System.currentTimeMillis();
+                dumpProgress.set((int) (Math.min(lastMaxId, currentMaxId) * 100 / Math.max(currentMaxId, 1)));
+                DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId,
+                        currentMaxId, (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+                start = diskStamp;
             }
-            
-            long diskStamp = System.currentTimeMillis();
-            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
-                    (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DEFAULT_LOG.error("[all-dump] interrupted when query config-info", e);
+        } catch (ExecutionException e) {
+            DEFAULT_LOG.error("[all-dump] query config-info error", e.getCause());
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                    : new RuntimeException(e.getCause());
+        } finally {
+            pageReader.shutdownNow();
+            awaitDumpFinished(executorService);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            DEFAULT_LOG.warn("[all-dump] dump all config-info is interrupted, count={}, progress={}%", dumpCount.get(),
+                    dumpProgress.get());
+            return false;
+        }
+        dumpProgress.set(100);
+        long costTime = Math.max(System.currentTimeMillis() - startTime, 1L);
+        DEFAULT_LOG.info("success to  dump all config-info, count={}, cost={}ms, tps={}", dumpCount.get(), costTime,
+                dumpCount.get() * 1000L / costTime);
+        return true;
+    }
+    
+    private Future<Page<ConfigInfoWrapper>> submitPageQuery(ExecutorService pageReader, long lastMaxId,
+            boolean isStartUp) {
+        return pageReader.submit(() -> configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
+                PropertyUtil.getAllDumpPageSize(), isStartUp));
+    }
+    
+    private void dumpConfig(ConfigInfoWrapper cf, boolean isStartUp, ThreadPoolExecutor executorService,
+            AtomicInteger dumpCount) {
+        //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
+        if (!isStartUp) {
+            final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+            //check md5 & update local disk cache.
+            String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+            boolean md5Update = !localContentMd5.equals(cf.getMd5());
+            if (!newLastModified && !md5Update) {
+                return;
+            }
+            LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey, cf.getLastModified(),
+                    cf.getMd5());
+            cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
+        }
+        
+        if (cf == null) {
+            return;
+        }
+        if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
+            AggrWhitelist.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
         }
         
-        //wait all task are finished and then shutdown executor.
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(cf.getContent());
+        }
+        
+        final String content = cf.getContent();
+        final String dataId = cf.getDataId();
+        final String group = cf.getGroup();
+        final String tenant = cf.getTenant();
+        final long lastModified = cf.getLastModified();
+        final String type = cf.getType();
+        final String encryptedDataKey = cf.getEncryptedDataKey();
+        
+        executorService.execute(() -> {
+            final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
+            boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8, lastModified,
+                    type, encryptedDataKey);
+            if (result) {
+                dumpCount.incrementAndGet();
+                LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}", GroupKey2.getKey(dataId, group),
+                        lastModified, content.length(), md5Utf8);
+            } else {
+                LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
+            }
+        });
+    }
+    
+    /**
+     * Wait all submitted dump tasks finished and then shutdown executor.
+     *
+     * @param executorService dump executor
+     */
+    private void awaitDumpFinished(ThreadPoolExecutor executorService) {
+        executorService.shutdown();
         try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
+            while (!executorService.awaitTermination(1L, TimeUnit.SECONDS)) {
+                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished",
+                        executorService.getQueue().size() + executorService.getActiveCount());
             }
-            executorService.shutdown();
-            
-        } catch (Exception e) {
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
         }
-        DEFAULT_LOG.info("success to  dump all config-info。");
-        return true;
     }
     
     final ConfigInfoPersistService configInfoPersistService;
@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.ConfigInfoBetaWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoTagWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
 import com.alibaba.nacos.config.server.service.dump.DumpConfigHandler;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
@@ -76,6 +77,20 @@ public class DumpProcessor implements NacosTaskProcessor {
         }
         LogUtil.DUMP_LOG.info("[dump] process {} task. groupKey={}", type, dumpTask.getGroupKey());
         
+        ConfigInlineContent inlineContent = dumpTask.getInlineContent();
+        if (null != inlineContent && inlineContent.isDumpable()) {
+            // content carried by the change, no need to read database.
+            LogUtil.DUMP_LOG.info("[dump] dump {} task with inline content. groupKey={}", type,
+                    dumpTask.getGroupKey());
+            build.remove(false);
+            build.betaIps(isBeta ? inlineContent.getBetaIps() : null);
+            build.content(inlineContent.getContent());
+            build.type(inlineContent.getType());
+            build.encryptedDataKey(inlineContent.getEncryptedDataKey());
+            build.lastModifiedTs(lastModifiedOut);
+            return DumpConfigHandler.configDump(build.build());
+        }
+        
         if (isBeta) {
             // if publish beta, then dump config, update beta cache
             ConfigInfoBetaWrapper cf = configInfoBetaPersistService.findConfigInfo4Beta(dataId, group, tenant);
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.service.dump.task;
 
 import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 
 /**
  * Dump data task.
@@ -42,8 +43,19 @@ public class DumpTask extends AbstractDelayTask {
         setTaskInterval(1000L);
     }
     
+    /**
+     * Merge the pending task of same key, which is replaced by this task.
+     *
+     * <p>Changes might arrive out of order, the inline content is only kept when it is not older than the pending
+     * task, otherwise the latest config is read from database.
+     *
+     * @param task pending task
+     */
     @Override
     public void merge(AbstractDelayTask task) {
+        if (null != inlineContent && task instanceof DumpTask && ((DumpTask) task).lastModified > lastModified) {
+            inlineContent = null;
+        }
     }
     
     final String groupKey;
@@ -58,6 +70,8 @@ public class DumpTask extends AbstractDelayTask {
     
     final boolean isBatch;
     
+    private ConfigInlineContent inlineContent;
+    
     public String getGroupKey() {
         return groupKey;
     }
@@ -81,5 +95,12 @@ public class DumpTask extends AbstractDelayTask {
     public boolean isBatch() {
         return isBatch;
     }
+    
+    public ConfigInlineContent getInlineContent() {
+        return inlineContent;
+    }
+    
+    public void setInlineContent(ConfigInlineContent inlineContent) {
+        this.inlineContent = inlineContent;
+    }
 }
-
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.remote.RequestCallBack;
@@ -24,12 +25,14 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.task.AbstractDelayTask;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -39,6 +42,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -68,6 +72,8 @@ public class AsyncNotifyService {
     
     private ServerMemberManager memberManager;
     
+    private final ConfigClusterSyncBatcher syncBatcher = new ConfigClusterSyncBatcher(this::executeBatchRpcTask);
+    
     static final List<NodeState> HEALTHY_CHECK_STATUS = new ArrayList<>();
     
     static {
@@ -112,11 +118,18 @@ public class AsyncNotifyService {
             
             // In fact, any type of queue here can be
             Queue<NotifySingleRpcTask> rpcQueue = new LinkedList<>();
+            ConfigInlineContent inlineContent = ipList.isEmpty() ? null : getSyncInlineContent(evt);
             
             for (Member member : ipList) {
                 // grpc report data change only
-                rpcQueue.add(
-                        new NotifySingleRpcTask(dataId, group, tenant, tag, dumpTs, evt.isBeta, evt.isBatch, member));
+                NotifySingleRpcTask task = new NotifySingleRpcTask(dataId, group, tenant, tag, dumpTs, evt.isBeta,
+                        evt.isBatch, member);
+                task.setInlineContent(inlineContent);
+                if (supportBatchSync(member)) {
+                    syncBatcher.add(task);
+                } else {
+                    rpcQueue.add(task);
+                }
             }
             if (!rpcQueue.isEmpty()) {
                 ConfigExecutor.executeAsyncNotify(new AsyncRpcTask(rpcQueue));
@@ -124,35 +137,114 @@ public class AsyncNotifyService {
         }
     }
     
+    /**
+     * Get the content to carry in cluster sync request, null if members should read the change from database.
+     *
+     * @param evt config data change event
+     * @return inline content with md5
+     */
+    static ConfigInlineContent getSyncInlineContent(ConfigDataChangeEvent evt) {
+        ConfigInlineContent inlineContent = evt.getInlineContent();
+        if (!PropertyUtil.isClusterSyncInlineContentOn() || null == inlineContent
+                || null == inlineContent.getContent()) {
+            return null;
+        }
+        int size = inlineContent.getContent().getBytes(StandardCharsets.UTF_8).length;
+        if (size > PropertyUtil.getClusterSyncInlineMaxContent()) {
+            return null;
+        }
+        return inlineContent.withMd5();
+    }
+    
     private boolean isUnHealthy(String targetIp) {
         return !memberManager.stateCheck(targetIp, HEALTHY_CHECK_STATUS);
     }
     
+    /**
+     * Whether to send changes to member in batch, only members reported the ability can handle the batch request.
+     */
+    private boolean supportBatchSync(Member member) {
+        return PropertyUtil.getClusterSyncBatchSize() > 1 && null != member.getAbilities()
+                && null != member.getAbilities().getConfigAbility() && member.getAbilities().getConfigAbility()
+                .isSupportClusterSyncBatch();
+    }
+    
+    private static ConfigChangeClusterSyncRequest buildSyncRequest(NotifySingleRpcTask task) {
+        ConfigChangeClusterSyncRequest syncRequest = new ConfigChangeClusterSyncRequest();
+        syncRequest.setDataId(task.getDataId());
+        syncRequest.setGroup(task.getGroup());
+        syncRequest.setBeta(task.isBeta());
+        syncRequest.setLastModified(task.getLastModified());
+        syncRequest.setTag(task.getTag());
+        syncRequest.setBatch(task.isBatch());
+        syncRequest.setTenant(task.getTenant());
+        ConfigInlineContent inlineContent = task.getInlineContent();
+        if (null != inlineContent) {
+            syncRequest.setContent(inlineContent.getContent());
+            syncRequest.setMd5(inlineContent.getMd5());
+            syncRequest.setType(inlineContent.getType());
+            syncRequest.setEncryptedDataKey(inlineContent.getEncryptedDataKey());
+            syncRequest.setBetaIps(inlineContent.getBetaIps());
+        }
+        return syncRequest;
+    }
+    
+    private void delayUnhealthyTask(NotifySingleRpcTask task) {
+        // target ip is unhealthy, then put it in the notification list
+        ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
+                task.getLastModified(), InetUtils.getSelfIP(), getNotifyEvent(task),
+                ConfigTraceService.NOTIFY_TYPE_UNHEALTH, 0, task.member.getAddress());
+        // get delay time and set fail count to the task
+        asyncTaskExecute(task);
+    }
+    
+    /**
+     * Send the batch of changes to one member in one request. Failed changes are retried one by one.
+     *
+     * @param tasks notify tasks to the same member
+     */
+    void executeBatchRpcTask(List<NotifySingleRpcTask> tasks) {
+        if (1 == tasks.size()) {
+            executeAsyncRpcTask(new LinkedList<>(tasks));
+            return;
+        }
+        Member member = tasks.get(0).member;
+        if (!memberManager.hasMember(member.getAddress())) {
+            return;
+        }
+        if (isUnHealthy(member.getAddress())) {
+            for (NotifySingleRpcTask each : tasks) {
+                delayUnhealthyTask(each);
+            }
+            return;
+        }
+        List<ConfigChangeClusterSyncRequest> syncRequests = new ArrayList<>(tasks.size());
+        for (NotifySingleRpcTask each : tasks) {
+            syncRequests.add(buildSyncRequest(each));
+        }
+        try {
+            configClusterRpcClientProxy.syncConfigChangeBatch(member,
+                    new ConfigChangeClusterSyncBatchRequest(syncRequests), new AsyncBatchRpcNotifyCallBack(this, tasks));
+        } catch (Exception e) {
+            MetricsMonitor.getConfigNotifyException().increment();
+            for (NotifySingleRpcTask each : tasks) {
+                asyncTaskExecute(each);
+            }
+        }
+    }
+    
     void executeAsyncRpcTask(Queue<NotifySingleRpcTask> queue) {
         while (!queue.isEmpty()) {
             NotifySingleRpcTask task = queue.poll();
             
-            ConfigChangeClusterSyncRequest syncRequest = new ConfigChangeClusterSyncRequest();
-            syncRequest.setDataId(task.getDataId());
-            syncRequest.setGroup(task.getGroup());
-            syncRequest.setBeta(task.isBeta());
-            syncRequest.setLastModified(task.getLastModified());
-            syncRequest.setTag(task.getTag());
-            syncRequest.setBatch(task.isBatch());
-            syncRequest.setTenant(task.getTenant());
+            ConfigChangeClusterSyncRequest syncRequest = buildSyncRequest(task);
             Member member = task.member;
             
-            String event = getNotifyEvent(task);
             if (memberManager.hasMember(member.getAddress())) {
                 // start the health check and there are ips that are not monitored, put them directly in the notification queue, otherwise notify
                 boolean unHealthNeedDelay = isUnHealthy(member.getAddress());
                 if (unHealthNeedDelay) {
-                    // target ip is unhealthy, then put it in the notification list
-                    ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
-                            task.getLastModified(), InetUtils.getSelfIP(), event,
-                            ConfigTraceService.NOTIFY_TYPE_UNHEALTH, 0, member.getAddress());
-                    // get delay time and set fail count to the task
-                    asyncTaskExecute(task);
+                    delayUnhealthyTask(task);
                 } else {
                     
                     // grpc report data change only
@@ -206,6 +298,8 @@ public class AsyncNotifyService {
         
         private boolean isBatch;
         
+        private ConfigInlineContent inlineContent;
+        
         public NotifySingleRpcTask(String dataId, String group, String tenant, String tag, long lastModified,
                 boolean isBeta, boolean isBatch, Member member) {
             this(dataId, group, tenant, lastModified);
@@ -247,6 +341,14 @@ public class AsyncNotifyService {
             isBatch = batch;
         }
         
+        public ConfigInlineContent getInlineContent() {
+            return inlineContent;
+        }
+        
+        public void setInlineContent(ConfigInlineContent inlineContent) {
+            this.inlineContent = inlineContent;
+        }
+        
         public String getDataId() {
             return dataId;
         }
@@ -277,6 +379,10 @@ public class AsyncNotifyService {
             return tenant;
         }
         
+        public Member getMember() {
+            return member;
+        }
+        
     }
     
     private void asyncTaskExecute(NotifySingleRpcTask task) {
@@ -366,6 +472,45 @@ public class AsyncNotifyService {
         }
     }
     
+    /**
+     * Callback of batch request, which notifies the callback of each change in batch.
+     */
+    public static class AsyncBatchRpcNotifyCallBack implements RequestCallBack<ConfigChangeClusterSyncResponse> {
+        
+        private final List<AsyncRpcNotifyCallBack> callBacks;
+        
+        public AsyncBatchRpcNotifyCallBack(AsyncNotifyService asyncNotifyService, List<NotifySingleRpcTask> tasks) {
+            this.callBacks = new ArrayList<>(tasks.size());
+            for (NotifySingleRpcTask each : tasks) {
+                callBacks.add(new AsyncRpcNotifyCallBack(asyncNotifyService, each));
+            }
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return ConfigExecutor.getConfigSubServiceExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return 3000L;
+        }
+        
+        @Override
+        public void onResponse(ConfigChangeClusterSyncResponse response) {
+            for (AsyncRpcNotifyCallBack each : callBacks) {
+                each.onResponse(response);
+            }
+        }
+        
+        @Override
+        public void onException(Throwable ex) {
+            for (AsyncRpcNotifyCallBack each : callBacks) {
+                each.onException(ex);
+            }
+        }
+    }
+    
     /**
      * get delayTime and also set failCount to task; The failure time index increases, so as not to retry invalid tasks
      * in the offline scene, which affects the normal synchronization.
@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2018 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.notify;
+
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Config cluster sync batcher.
+ *
+ * <p>Config changes to the same member are pended, and sent as one batch when the count reaches the cluster sync batch
+ * size, or when the cluster sync batch delay passed since the first change pended. Changes are not coalesced, so that
+ * each change keeps its own notify trace and retry.
+ *
+ * @author Nacos
+ */
+public class ConfigClusterSyncBatcher {
+    
+    private final Map<String, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+    
+    private final Consumer<List<AsyncNotifyService.NotifySingleRpcTask>> batchSender;
+    
+    public ConfigClusterSyncBatcher(Consumer<List<AsyncNotifyService.NotifySingleRpcTask>> batchSender) {
+        this.batchSender = batchSender;
+    }
+    
+    /**
+     * Add notify task to the pending batch of its target member.
+     *
+     * @param task notify task
+     */
+    public void add(AsyncNotifyService.NotifySingleRpcTask task) {
+        final String address = task.getMember().getAddress();
+        PendingBatch pendingBatch = pendingBatches.computeIfAbsent(address, key -> new PendingBatch());
+        List<AsyncNotifyService.NotifySingleRpcTask> fullBatch = null;
+        boolean scheduleFlush;
+        synchronized (pendingBatch) {
+            scheduleFlush = pendingBatch.tasks.isEmpty();
+            pendingBatch.tasks.add(task);
+            if (pendingBatch.tasks.size() >= PropertyUtil.getClusterSyncBatchSize()) {
+                fullBatch = pendingBatch.drain();
+                scheduleFlush = false;
+            }
+        }
+        if (null != fullBatch) {
+            batchSender.accept(fullBatch);
+        } else if (scheduleFlush) {
+            ConfigExecutor.scheduleAsyncNotify(() -> flush(address), PropertyUtil.getClusterSyncBatchDelayMs(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Send the pending batch of member if it is not empty.
+     *
+     * @param address address of member
+     */
+    public void flush(String address) {
+        PendingBatch pendingBatch = pendingBatches.get(address);
+        if (null == pendingBatch) {
+            return;
+        }
+        List<AsyncNotifyService.NotifySingleRpcTask> batch;
+        synchronized (pendingBatch) {
+            if (pendingBatch.tasks.isEmpty()) {
+                return;
+            }
+            batch = pendingBatch.drain();
+        }
+        batchSender.accept(batch);
+    }
+    
+    private static class PendingBatch {
+        
+        private List<AsyncNotifyService.NotifySingleRpcTask> tasks = new ArrayList<>();
+        
+        private List<AsyncNotifyService.NotifySingleRpcTask> drain() {
+            List<AsyncNotifyService.NotifySingleRpcTask> result = tasks;
+            tasks = new ArrayList<>();
+            return result;
+        }
+    }
+}
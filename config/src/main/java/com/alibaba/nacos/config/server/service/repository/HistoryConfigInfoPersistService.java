@@ -76,6 +76,23 @@ public interface HistoryConfigInfoPersistService {
      */
     List<ConfigInfoStateWrapper> findDeletedConfig(final Timestamp startTime, final long startId, int size);
     
+    /**
+     * Query config change log after the nid, the id of returned {@link ConfigInfoStateWrapper} is the nid of change
+     * log.
+     *
+     * @param lastMaxId last max nid
+     * @param pageSize  page size
+     * @return {@link ConfigInfoStateWrapper} list ordered by nid
+     */
+    List<ConfigInfoStateWrapper> findChangeLog(final long lastMaxId, final int pageSize);
+    
+    /**
+     * Get the max nid of config change log.
+     *
+     * @return max nid, 0 if there is no change log
+     */
+    long findChangeLogMaxId();
+    
     /**
      * List configuration history change record.
      *
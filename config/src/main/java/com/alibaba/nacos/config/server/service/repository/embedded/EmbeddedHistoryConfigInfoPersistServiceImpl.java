@@ -48,6 +48,7 @@ import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.HISTORY_DETAIL_ROW_MAPPER;
@@ -134,6 +135,27 @@ public class EmbeddedHistoryConfigInfoPersistServiceImpl implements HistoryConfi
                 CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER);
     }
     
+    @Override
+    public List<ConfigInfoStateWrapper> findChangeLog(final long lastMaxId, final int pageSize) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, lastMaxId);
+        context.putWhereParameter(FieldConstant.PAGE_SIZE, pageSize);
+        
+        MapperResult mapperResult = historyConfigInfoMapper.findChangeLog(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER);
+    }
+    
+    @Override
+    public long findChangeLogMaxId() {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperResult mapperResult = historyConfigInfoMapper.findChangeLogMaxId(new MapperContext());
+        return Optional.ofNullable(databaseOperate.queryOne(mapperResult.getSql(), Long.class)).orElse(0L);
+    }
+    
     @Override
     public Page<ConfigHistoryInfo> findConfigHistory(String dataId, String group, String tenant, int pageNo,
             int pageSize) {
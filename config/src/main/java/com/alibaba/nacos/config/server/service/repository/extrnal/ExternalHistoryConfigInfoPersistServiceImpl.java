@@ -139,6 +139,38 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         }
     }
     
+    @Override
+    public List<ConfigInfoStateWrapper> findChangeLog(final long lastMaxId, final int pageSize) {
+        try {
+            HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                    dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+            MapperContext context = new MapperContext();
+            context.putWhereParameter(FieldConstant.LAST_MAX_ID, lastMaxId);
+            context.putWhereParameter(FieldConstant.PAGE_SIZE, pageSize);
+            
+            MapperResult mapperResult = historyConfigInfoMapper.findChangeLog(context);
+            return jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                    CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER);
+        } catch (DataAccessException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
+    @Override
+    public long findChangeLogMaxId() {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperResult mapperResult = historyConfigInfoMapper.findChangeLogMaxId(new MapperContext());
+        try {
+            Long maxId = jt.queryForObject(mapperResult.getSql(), Long.class);
+            return maxId == null ? 0L : maxId;
+        } catch (DataAccessException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
     @Override
     public Page<ConfigHistoryInfo> findConfigHistory(String dataId, String group, String tenant, int pageNo,
             int pageSize) {
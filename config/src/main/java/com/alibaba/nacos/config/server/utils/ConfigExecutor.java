@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.utils.ThreadUtils;
 import com.alibaba.nacos.config.server.Config;
 import com.alibaba.nacos.core.utils.ClassUtils;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -61,6 +62,9 @@ public final class ConfigExecutor {
             ClassUtils.getCanonicalName(Config.class), ThreadUtils.getSuitableThreadCount(),
             new NameThreadFactory("com.alibaba.nacos.config.server.remote.ConfigChangeNotifier"));
     
+    private static final ExecutorService DISK_COMPACT_EXECUTOR = ExecutorFactory.Managed.newSingleExecutorService(
+            ClassUtils.getCanonicalName(Config.class), new NameThreadFactory("com.alibaba.nacos.config.DiskCompact"));
+    
     public static void scheduleConfigTask(Runnable command, long initialDelay, long delay, TimeUnit unit) {
         TIMER_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
@@ -116,4 +120,8 @@ public final class ConfigExecutor {
     public static void executeLongPolling(Runnable runnable) {
         LONG_POLLING_EXECUTOR.execute(runnable);
     }
+    
+    public static void executeDiskCompact(Runnable runnable) {
+        DISK_COMPACT_EXECUTOR.execute(runnable);
+    }
 }
@@ -106,6 +106,33 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * Whether to capture config changes by tailing his_config_info by nid, instead of scanning config_info by
+     * gmt_modified.
+     */
+    private static boolean dumpChangeLogOn = false;
+    
+    /**
+     * Whether to carry the published content in config change, so that cluster members dump it without reading
+     * database.
+     */
+    private static boolean clusterSyncInlineContentOn = false;
+    
+    /**
+     * Max bytes of content carried in cluster sync request, larger content is read from database by members.
+     */
+    private static int clusterSyncInlineMaxContent = 100 * 1024;
+    
+    /**
+     * Max count of config changes sent to one member in a batch cluster sync request, 1 or less disables batching.
+     */
+    private static int clusterSyncBatchSize = 100;
+    
+    /**
+     * Max milliseconds a config change waits for other changes to the same member before the batch is sent.
+     */
+    private static long clusterSyncBatchDelayMs = 10;
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -122,6 +149,46 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.dumpChangeWorkerInterval = dumpChangeWorkerInterval;
     }
     
+    public static boolean isDumpChangeLogOn() {
+        return dumpChangeLogOn;
+    }
+    
+    public static void setDumpChangeLogOn(boolean dumpChangeLogOn) {
+        PropertyUtil.dumpChangeLogOn = dumpChangeLogOn;
+    }
+    
+    public static boolean isClusterSyncInlineContentOn() {
+        return clusterSyncInlineContentOn;
+    }
+    
+    public static void setClusterSyncInlineContentOn(boolean clusterSyncInlineContentOn) {
+        PropertyUtil.clusterSyncInlineContentOn = clusterSyncInlineContentOn;
+    }
+    
+    public static int getClusterSyncInlineMaxContent() {
+        return clusterSyncInlineMaxContent;
+    }
+    
+    public static void setClusterSyncInlineMaxContent(int clusterSyncInlineMaxContent) {
+        PropertyUtil.clusterSyncInlineMaxContent = clusterSyncInlineMaxContent;
+    }
+    
+    public static int getClusterSyncBatchSize() {
+        return clusterSyncBatchSize;
+    }
+    
+    public static void setClusterSyncBatchSize(int clusterSyncBatchSize) {
+        PropertyUtil.clusterSyncBatchSize = clusterSyncBatchSize;
+    }
+    
+    public static long getClusterSyncBatchDelayMs() {
+        return clusterSyncBatchDelayMs;
+    }
+    
+    public static void setClusterSyncBatchDelayMs(long clusterSyncBatchDelayMs) {
+        PropertyUtil.clusterSyncBatchDelayMs = clusterSyncBatchDelayMs;
+    }
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -278,6 +345,14 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeOn(getBoolean(PropertiesConstant.DUMP_CHANGE_ON, dumpChangeOn));
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
+            setDumpChangeLogOn(getBoolean(PropertiesConstant.DUMP_CHANGE_LOG_ON, dumpChangeLogOn));
+            setClusterSyncInlineContentOn(
+                    getBoolean(PropertiesConstant.CLUSTER_SYNC_INLINE_CONTENT_ON, clusterSyncInlineContentOn));
+            setClusterSyncInlineMaxContent(
+                    getInt(PropertiesConstant.CLUSTER_SYNC_INLINE_MAX_CONTENT, clusterSyncInlineMaxContent));
+            setClusterSyncBatchSize(getInt(PropertiesConstant.CLUSTER_SYNC_BATCH_SIZE, clusterSyncBatchSize));
+            setClusterSyncBatchDelayMs(
+                    getLong(PropertiesConstant.CLUSTER_SYNC_BATCH_DELAY_MS, clusterSyncBatchDelayMs));
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
             throw e;
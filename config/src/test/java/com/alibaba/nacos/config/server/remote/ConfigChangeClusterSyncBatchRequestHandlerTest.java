@@ -0,0 +1,80 @@
+/*
+ * Copyright 1999-2018 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.config.server.service.dump.DumpRequest;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigChangeClusterSyncBatchRequestHandlerTest {
+    
+    private ConfigChangeClusterSyncBatchRequestHandler batchRequestHandler;
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @BeforeEach
+    void setUp() {
+        batchRequestHandler = new ConfigChangeClusterSyncBatchRequestHandler(dumpService);
+    }
+    
+    @Test
+    void testHandle() throws NacosException {
+        ConfigChangeClusterSyncRequest withContent = new ConfigChangeClusterSyncRequest();
+        withContent.setDataId("dataId1");
+        withContent.setLastModified(1L);
+        withContent.setContent("content");
+        withContent.setMd5("md5");
+        ConfigChangeClusterSyncRequest withoutContent = new ConfigChangeClusterSyncRequest();
+        withoutContent.setDataId("dataId2");
+        withoutContent.setTag("tag");
+        withoutContent.setLastModified(2L);
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        ConfigChangeClusterSyncResponse response = batchRequestHandler.handle(
+                new ConfigChangeClusterSyncBatchRequest(Arrays.asList(withContent, withoutContent)), meta);
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        ArgumentCaptor<DumpRequest> captor = ArgumentCaptor.forClass(DumpRequest.class);
+        Mockito.verify(dumpService, Mockito.times(2)).dump(captor.capture());
+        List<DumpRequest> dumpRequests = captor.getAllValues();
+        assertEquals("dataId1", dumpRequests.get(0).getDataId());
+        assertEquals("content", dumpRequests.get(0).getInlineContent().getContent());
+        assertEquals("dataId2", dumpRequests.get(1).getDataId());
+        assertEquals("tag", dumpRequests.get(1).getTag());
+        assertEquals("1.1.1.1", dumpRequests.get(1).getSourceIp());
+        assertNull(dumpRequests.get(1).getInlineContent());
+    }
+}
@@ -21,16 +21,21 @@ import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterS
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
+import com.alibaba.nacos.config.server.service.dump.DumpRequest;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeClusterSyncRequestHandlerTest {
@@ -58,5 +63,31 @@ class ConfigChangeClusterSyncRequestHandlerTest {
         ConfigChangeClusterSyncResponse configChangeClusterSyncResponse = configChangeClusterSyncRequestHandler.handle(
                 configChangeSyncRequest, meta);
         assertEquals(configChangeClusterSyncResponse.getResultCode(), ResponseCode.SUCCESS.getCode());
+        ArgumentCaptor<DumpRequest> captor = ArgumentCaptor.forClass(DumpRequest.class);
+        Mockito.verify(dumpService).dump(captor.capture());
+        assertNull(captor.getValue().getInlineContent());
+    }
+    
+    @Test
+    void testHandleWithInlineContent() throws NacosException {
+        ConfigChangeClusterSyncRequest configChangeSyncRequest = new ConfigChangeClusterSyncRequest();
+        configChangeSyncRequest.setRequestId("");
+        configChangeSyncRequest.setDataId("dataId");
+        configChangeSyncRequest.setLastModified(1L);
+        configChangeSyncRequest.setBeta(true);
+        configChangeSyncRequest.setContent("content");
+        configChangeSyncRequest.setMd5("md5");
+        configChangeSyncRequest.setType("yaml");
+        configChangeSyncRequest.setBetaIps("1.1.1.2");
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        configChangeClusterSyncRequestHandler.handle(configChangeSyncRequest, meta);
+        ArgumentCaptor<DumpRequest> captor = ArgumentCaptor.forClass(DumpRequest.class);
+        Mockito.verify(dumpService).dump(captor.capture());
+        ConfigInlineContent inlineContent = captor.getValue().getInlineContent();
+        assertEquals("content", inlineContent.getContent());
+        assertEquals("md5", inlineContent.getMd5());
+        assertEquals("yaml", inlineContent.getType());
+        assertEquals("1.1.1.2", inlineContent.getBetaIps());
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of listen context under concurrent listen, unlisten and config change notify.
+ *
+ * <p>Run with {@code main} method from IDE or test classpath, it is not executed by unit tests.
+ *
+ * @author Nacos
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigChangeListenContextBenchmark {
+    
+    private static final int CONNECTION_COUNT = 1000;
+    
+    @Param({"100", "10000"})
+    private int groupKeyCount;
+    
+    private ConfigChangeListenContext context;
+    
+    @Setup
+    public void setUp() {
+        context = new ConfigChangeListenContext();
+        for (int i = 0; i < CONNECTION_COUNT; i++) {
+            for (int j = 0; j < 10; j++) {
+                context.addListen(groupKey(i * 10 + j), "md5", connectionId(i));
+            }
+        }
+    }
+    
+    /**
+     * Listen and then unlisten a random group key by a random connection.
+     */
+    @Benchmark
+    @Group("listenAndNotify")
+    @GroupThreads(4)
+    public void listenAndUnlisten() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String groupKey = groupKey(random.nextInt(groupKeyCount));
+        String connectionId = connectionId(random.nextInt(CONNECTION_COUNT));
+        context.addListen(groupKey, "md5", connectionId);
+        context.removeListen(groupKey, connectionId);
+    }
+    
+    /**
+     * Iterate listeners of a random group key as config change notifier does.
+     *
+     * @param blackhole blackhole to consume listeners
+     */
+    @Benchmark
+    @Group("listenAndNotify")
+    @GroupThreads(4)
+    public void notifyListeners(Blackhole blackhole) {
+        Set<String> listeners = context.getListeners(groupKey(ThreadLocalRandom.current().nextInt(groupKeyCount)));
+        if (null != listeners) {
+            for (String each : listeners) {
+                blackhole.consume(each);
+            }
+        }
+    }
+    
+    private String groupKey(int index) {
+        return "dataId" + (index % groupKeyCount) + "+group";
+    }
+    
+    private String connectionId(int index) {
+        return "connection" + index;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ConfigChangeListenContextBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
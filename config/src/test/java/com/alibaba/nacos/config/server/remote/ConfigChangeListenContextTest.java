@@ -23,10 +23,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -84,4 +89,48 @@ class ConfigChangeListenContextTest {
         assertEquals("md5", listenKeyMd5);
     }
     
-}
\ No newline at end of file
+    @Test
+    void testGetListenersIsLiveView() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        Set<String> listeners = configChangeListenContext.getListeners("groupKey");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2");
+        assertEquals(2, listeners.size());
+    }
+    
+    @Test
+    void testConcurrentAddAndClear() throws InterruptedException {
+        int connectionCount = 16;
+        int groupKeyCount = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(connectionCount * 2);
+        CountDownLatch latch = new CountDownLatch(connectionCount * 2);
+        for (int i = 0; i < connectionCount; i++) {
+            final String connectionId = "connection" + i;
+            executor.execute(() -> {
+                for (int j = 0; j < groupKeyCount; j++) {
+                    configChangeListenContext.addListen("groupKey" + j, "md5", connectionId);
+                }
+                latch.countDown();
+            });
+            executor.execute(() -> {
+                for (int j = 0; j < groupKeyCount; j++) {
+                    configChangeListenContext.clearContextForConnectionId(connectionId);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        for (int j = 0; j < groupKeyCount; j++) {
+            Set<String> listeners = configChangeListenContext.getListeners("groupKey" + j);
+            if (null == listeners) {
+                continue;
+            }
+            for (String each : listeners) {
+                Map<String, String> listenKeys = configChangeListenContext.getListenKeys(each);
+                assertNotNull(listenKeys);
+                assertTrue(listenKeys.containsKey("groupKey" + j));
+            }
+        }
+    }
+    
+}
@@ -48,6 +48,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -251,9 +252,54 @@ class LongPollingServiceTest {
         //expect print not equals group
         Mockito.verify(printWriter, times(1)).println(eq(responseString));
         Mockito.verify(asyncContext, times(1)).complete();
+        assertTrue(longPollingService.allSubs.isEmpty());
+        assertTrue(longPollingService.groupKeySubs.isEmpty());
         
     }
     
+    @Test
+    void testDataChangeOnlyNotifyListeningClient() throws Exception {
+        configExecutorMocked.close();
+        
+        //mock connection no limit
+        ConnectionCheckResponse connectionCheckResponse = new ConnectionCheckResponse();
+        connectionCheckResponse.setSuccess(true);
+        Mockito.when(connectionControlManager.check(any())).thenReturn(connectionCheckResponse);
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.isUptodate(anyString(), anyString(), anyString(), eq(null)))
+                .thenReturn(true);
+        
+        String groupKeyChanged = GroupKey.getKeyTenant("dataIdChanged1", "group", "tenant");
+        String groupKeyOther = GroupKey.getKeyTenant("dataIdOther1", "group", "tenant");
+        final AsyncContext changedContext = mockLongPolling(groupKeyChanged, "192.168.0.1");
+        final AsyncContext otherContext = mockLongPolling(groupKeyOther, "192.168.0.2");
+        Thread.sleep(100L);
+        assertEquals(2, longPollingService.getSubscriberCount());
+        
+        longPollingService.new DataChangeTask(groupKeyChanged, false, null).run();
+        
+        Mockito.verify(changedContext, times(1)).complete();
+        Mockito.verify(otherContext, times(0)).complete();
+        assertEquals(1, longPollingService.getSubscriberCount());
+        assertFalse(longPollingService.groupKeySubs.containsKey(groupKeyChanged));
+        assertEquals(1, longPollingService.groupKeySubs.get(groupKeyOther).size());
+    }
+    
+    private AsyncContext mockLongPolling(String groupKey, String clientIp) throws IOException {
+        Map<String, String> clientMd5Map = new HashMap<>();
+        clientMd5Map.put(groupKey, "mockMd5");
+        HttpServletRequest httpServletRequest = Mockito.mock(HttpServletRequest.class);
+        HttpServletResponse httpServletResponse = Mockito.mock(HttpServletResponse.class);
+        Mockito.when(httpServletResponse.getWriter()).thenReturn(Mockito.mock(PrintWriter.class));
+        Mockito.when(httpServletRequest.getHeader(eq(LongPollingService.LONG_POLLING_HEADER))).thenReturn("30000");
+        Mockito.when(httpServletRequest.getHeader(eq("X-Forwarded-For"))).thenReturn(clientIp);
+        AsyncContext asyncContext = Mockito.mock(AsyncContext.class);
+        Mockito.when(httpServletRequest.startAsync()).thenReturn(asyncContext);
+        Mockito.when(asyncContext.getRequest()).thenReturn(httpServletRequest);
+        Mockito.when(asyncContext.getResponse()).thenReturn(httpServletResponse);
+        longPollingService.addLongPollingClient(httpServletRequest, httpServletResponse, clientMd5Map, 1);
+        return asyncContext;
+    }
+    
     @Test
     void testLongPollingTimeout() throws Exception {
         configExecutorMocked.close();
@@ -289,6 +335,8 @@ class LongPollingServiceTest {
         Thread.sleep(1200L);
         //expect print not equals group
         Mockito.verify(asyncContext, times(1)).complete();
+        assertTrue(longPollingService.allSubs.isEmpty());
+        assertTrue(longPollingService.groupKeySubs.isEmpty());
         
     }
 }
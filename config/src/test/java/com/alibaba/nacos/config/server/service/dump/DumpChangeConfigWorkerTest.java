@@ -307,6 +307,48 @@ class DumpChangeConfigWorkerTest {
         
     }
     
+    @Test
+    void testDumpChangeLog() {
+        PropertyUtil.setDumpChangeOn(true);
+        PropertyUtil.setDumpChangeLogOn(true);
+        try {
+            dumpChangeConfigWorker.setPageSize(3);
+            Timestamp startTime = dumpChangeConfigWorker.startTime;
+            String dataIdPrefix = "dataIdChangeLog";
+            preSetCache(dataIdPrefix, 11, startTime.getTime() - 1);
+            preSetCache(dataIdPrefix, 13, startTime.getTime() - 1);
+            
+            // first run scan changes by time, and start tailing change log from current max nid.
+            Mockito.when(historyConfigInfoPersistService.findChangeLogMaxId()).thenReturn(10L);
+            dumpChangeConfigWorker.run();
+            Mockito.verify(configInfoPersistService, times(1)).findChangeConfig(eq(startTime), eq(0L), eq(3));
+            assertEquals(10L, dumpChangeConfigWorker.changeLogCursor);
+            
+            // nid 11 changed, nid 12 is not visible yet, nid 13 deleted.
+            List<ConfigInfoStateWrapper> changeLogs = new ArrayList<>();
+            changeLogs.add(createConfigInfoStateWrapper(dataIdPrefix, 11, startTime.getTime() + 1));
+            changeLogs.add(createConfigInfoStateWrapper(dataIdPrefix, 13, startTime.getTime() + 1));
+            Mockito.when(historyConfigInfoPersistService.findChangeLog(eq(10L), eq(3))).thenReturn(changeLogs);
+            Mockito.when(configInfoPersistService.findConfigInfoState(eq(dataIdPrefix + 11), eq("group" + 11),
+                    eq("tenant" + 11))).thenReturn(createConfigInfoStateWrapper(dataIdPrefix, 11, startTime.getTime() + 1));
+            ConfigInfoWrapper configInfoWrapper = createConfigInfoWrapper(dataIdPrefix, 11, startTime.getTime() + 1);
+            configInfoWrapper.setContent("content" + System.currentTimeMillis());
+            Mockito.when(configInfoPersistService.findConfigInfo(eq(dataIdPrefix + 11), eq("group" + 11),
+                    eq("tenant" + 11))).thenReturn(configInfoWrapper);
+            dumpChangeConfigWorker.run();
+            
+            Mockito.verify(configInfoPersistService, times(1)).findChangeConfig(any(), anyLong(), anyInt());
+            assertEquals(MD5Utils.md5Hex(configInfoWrapper.getContent(), "UTF-8"),
+                    ConfigCacheService.getContentCache(GroupKey.getKeyTenant(dataIdPrefix + 11, "group" + 11, "tenant" + 11))
+                            .getConfigCache().getMd5Utf8());
+            assertNull(ConfigCacheService.getContentCache(GroupKey.getKeyTenant(dataIdPrefix + 13, "group" + 13, "tenant" + 13)));
+            // cursor stays before the missing nid 12.
+            assertEquals(11L, dumpChangeConfigWorker.changeLogCursor);
+        } finally {
+            PropertyUtil.setDumpChangeLogOn(false);
+        }
+    }
+    
     private void preSetCache(String dataIdPrefix, long id, long timeStamp) {
         ConfigCacheService.dumpWithMd5(dataIdPrefix + id, "group" + id, "tenant" + id, "content" + id,
                 MD5Utils.md5Hex("content" + id, "UTF-8"), timeStamp, "json", "encrykey" + id);
@@ -21,6 +21,7 @@ import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigInfoBetaWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoTagWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
@@ -255,4 +256,61 @@ class DumpProcessorTest {
         assertNull(contentFromDiskAfterRemove);
         
     }
+    
+    @Test
+    void testDumpWithInlineContent() throws IOException {
+        String dataId = "testDataIdInline";
+        String group = "testGroup";
+        String tenant = "testTenant";
+        String content = "testContentInline你好" + System.currentTimeMillis();
+        long lastModified = System.currentTimeMillis();
+        DumpTask dumpTask = new DumpTask(GroupKey2.getKey(dataId, group, tenant), false, false, false, null, lastModified,
+                "127.0.0.1");
+        dumpTask.setInlineContent(new ConfigInlineContent(content, "text", null, null).withMd5());
+        assertTrue(dumpProcessor.process(dumpTask));
+        
+        Mockito.verify(configInfoPersistService, Mockito.never()).findConfigInfo(eq(dataId), eq(group), eq(tenant));
+        CacheItem contentCache = ConfigCacheService.getContentCache(GroupKey2.getKey(dataId, group, tenant));
+        assertEquals(MD5Utils.md5Hex(content, "UTF-8"), contentCache.getConfigCache().getMd5Utf8());
+        assertEquals(lastModified, contentCache.getConfigCache().getLastModifiedTs());
+        assertEquals(content, ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant));
+    }
+    
+    @Test
+    void testDumpWithBrokenInlineContent() throws IOException {
+        String dataId = "testDataIdBrokenInline";
+        String group = "testGroup";
+        String tenant = "testTenant";
+        String content = "testContentFromDb" + System.currentTimeMillis();
+        long time = System.currentTimeMillis();
+        ConfigInfoWrapper configInfoWrapper = new ConfigInfoWrapper();
+        configInfoWrapper.setDataId(dataId);
+        configInfoWrapper.setGroup(group);
+        configInfoWrapper.setTenant(tenant);
+        configInfoWrapper.setContent(content);
+        configInfoWrapper.setLastModified(time);
+        Mockito.when(configInfoPersistService.findConfigInfo(eq(dataId), eq(group), eq(tenant))).thenReturn(configInfoWrapper);
+        
+        DumpTask dumpTask = new DumpTask(GroupKey2.getKey(dataId, group, tenant), false, false, false, null, time,
+                "127.0.0.1");
+        dumpTask.setInlineContent(new ConfigInlineContent("brokenContent", "wrongMd5", "text", null, null));
+        assertTrue(dumpProcessor.process(dumpTask));
+        
+        // md5 mismatch, read from db.
+        assertEquals(content, ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant));
+    }
+    
+    @Test
+    void testMergeOutdatedInlineContent() {
+        String groupKey = GroupKey2.getKey("testDataIdMerge", "testGroup", "testTenant");
+        DumpTask newer = new DumpTask(groupKey, false, false, false, null, 2L, "127.0.0.1");
+        DumpTask older = new DumpTask(groupKey, false, false, false, null, 1L, "127.0.0.1");
+        older.setInlineContent(new ConfigInlineContent("content", "text", null, null));
+        older.merge(newer);
+        assertNull(older.getInlineContent());
+        
+        newer.setInlineContent(new ConfigInlineContent("content", "text", null, null));
+        newer.merge(older);
+        assertEquals("content", newer.getInlineContent().getContent());
+    }
 }
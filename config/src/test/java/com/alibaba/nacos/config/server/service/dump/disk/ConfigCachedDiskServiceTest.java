@@ -0,0 +1,100 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigCachedDiskServiceTest {
+    
+    @Mock
+    private ConfigDiskService delegate;
+    
+    private ConfigCachedDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        diskService = new ConfigCachedDiskService(delegate, 1024 * 1024);
+    }
+    
+    @Test
+    void testGetContentCached() throws IOException {
+        when(delegate.getContent("dataId", "group", "tenant")).thenReturn("content");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        verify(delegate, times(1)).getContent("dataId", "group", "tenant");
+        assertEquals(1, diskService.getContentCache().getHitCount());
+    }
+    
+    @Test
+    void testNotExistContentNotCached() throws IOException {
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        verify(delegate, times(2)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testSaveInvalidateCache() throws IOException {
+        when(delegate.getContent("dataId", "group", "tenant")).thenReturn("content", "newContent");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        diskService.saveToDisk("dataId", "group", "tenant", "newContent");
+        verify(delegate).saveToDisk("dataId", "group", "tenant", "newContent");
+        assertEquals("newContent", diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    void testRemoveInvalidateCache() throws IOException {
+        when(delegate.getBetaContent("dataId", "group", "tenant")).thenReturn("beta", (String) null);
+        when(delegate.getTagContent("dataId", "group", "tenant", "tag")).thenReturn("tag", (String) null);
+        assertEquals("beta", diskService.getBetaContent("dataId", "group", "tenant"));
+        assertEquals("tag", diskService.getTagContent("dataId", "group", "tenant", "tag"));
+        diskService.removeConfigInfo4Beta("dataId", "group", "tenant");
+        diskService.removeConfigInfo4Tag("dataId", "group", "tenant", "tag");
+        verify(delegate).removeConfigInfo4Beta("dataId", "group", "tenant");
+        verify(delegate).removeConfigInfo4Tag("dataId", "group", "tenant", "tag");
+        assertNull(diskService.getBetaContent("dataId", "group", "tenant"));
+        assertNull(diskService.getTagContent("dataId", "group", "tenant", "tag"));
+    }
+    
+    @Test
+    void testClearAllOnlyInvalidateKind() throws IOException {
+        when(delegate.getContent("dataId", "group", "tenant")).thenReturn("content");
+        when(delegate.getBetaContent("dataId", "group", "tenant")).thenReturn("beta");
+        diskService.getContent("dataId", "group", "tenant");
+        diskService.getBetaContent("dataId", "group", "tenant");
+        diskService.clearAllBeta();
+        verify(delegate).clearAllBeta();
+        assertEquals(1, diskService.getContentCache().size());
+        diskService.clearAll();
+        diskService.clearAllTag();
+        verify(delegate).clearAll();
+        verify(delegate).clearAllTag();
+        assertEquals(0, diskService.getContentCache().size());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigContentCacheTest {
+    
+    @Test
+    void testGetAndPut() {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        assertNull(cache.get("key"));
+        cache.put("key", "content");
+        assertEquals("content", cache.get("key"));
+        cache.put("key", "newContent");
+        assertEquals("newContent", cache.get("key"));
+        assertEquals(1, cache.size());
+        assertEquals(2L * ("key".length() + "newContent".length()), cache.weight());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2D / 3, cache.hitRatio(), 0.0001D);
+    }
+    
+    @Test
+    void testInvalidate() {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        cache.put("base+key1", "content1");
+        cache.put("base+key2", "content2");
+        cache.put("beta+key1", "content3");
+        cache.invalidate("base+key1");
+        assertNull(cache.get("base+key1"));
+        cache.invalidateIf(key -> key.startsWith("beta+"));
+        assertNull(cache.get("beta+key1"));
+        assertEquals("content2", cache.get("base+key2"));
+        assertEquals(1, cache.size());
+        assertEquals(2L * ("base+key2".length() + "content2".length()), cache.weight());
+        assertEquals(0, cache.getEvictionCount());
+    }
+    
+    @Test
+    void testBoundedByWeight() {
+        ConfigContentCache cache = new ConfigContentCache(10 * 1024);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("key" + i, buildContent(100));
+        }
+        assertTrue(cache.weight() <= cache.getMaxWeight());
+        assertTrue(cache.getEvictionCount() > 0);
+        assertEquals(1000 - cache.getEvictionCount(), cache.size());
+    }
+    
+    @Test
+    void testRejectTooLargeContent() {
+        ConfigContentCache cache = new ConfigContentCache(1024);
+        cache.put("key", buildContent(1024));
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.weight());
+    }
+    
+    @Test
+    void testFrequentContentSurviveScan() {
+        ConfigContentCache cache = new ConfigContentCache(10 * 1024);
+        for (int i = 0; i < 10; i++) {
+            cache.put("hot" + i, buildContent(100));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 10; i++) {
+                assertNotNull(cache.get("hot" + i));
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            String key = "cold" + i;
+            if (null == cache.get(key)) {
+                cache.put(key, buildContent(100));
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(cache.get("hot" + i));
+        }
+        assertTrue(cache.weight() <= cache.getMaxWeight());
+    }
+    
+    @Test
+    void testIllegalMaxWeight() {
+        assertThrows(IllegalArgumentException.class, () -> new ConfigContentCache(0));
+    }
+    
+    private String buildContent(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append('a');
+        }
+        return builder.toString();
+    }
+}
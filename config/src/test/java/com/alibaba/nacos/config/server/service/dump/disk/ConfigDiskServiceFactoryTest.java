@@ -53,6 +53,25 @@ class ConfigDiskServiceFactoryTest {
         assertTrue(instance instanceof ConfigRocksDbDiskService);
     }
     
+    @Test
+    void getMmapDiskInstance() {
+        System.setProperty("config_disk_type", "mmap");
+        ConfigDiskService instance = ConfigDiskServiceFactory.getInstance();
+        assertTrue(instance instanceof ConfigMmapDiskService);
+    }
+    
+    @Test
+    void getCachedDiskInstance() {
+        System.setProperty("config_disk_type", "rawdisk");
+        System.setProperty("config_disk_content_cache_mb", "1");
+        try {
+            ConfigDiskService instance = ConfigDiskServiceFactory.getInstance();
+            assertTrue(instance instanceof ConfigCachedDiskService);
+        } finally {
+            System.clearProperty("config_disk_content_cache_mb");
+        }
+    }
+    
     @Test
     void getDefaultRawDiskInstance() {
         System.setProperty("config_disk_type", "123");
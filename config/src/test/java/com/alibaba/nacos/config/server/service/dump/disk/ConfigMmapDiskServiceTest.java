@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigMmapDiskServiceTest {
+    
+    @TempDir
+    File tempDir;
+    
+    private String cachedNacosHome;
+    
+    private ConfigMmapDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        cachedNacosHome = EnvUtil.getNacosHome();
+        EnvUtil.setNacosHomePath(tempDir.getAbsolutePath());
+        diskService = new ConfigMmapDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        EnvUtil.setNacosHomePath(cachedNacosHome);
+    }
+    
+    @Test
+    void testContent() throws Exception {
+        diskService.saveToDisk("dataId", "group", "tenant", "内容+content%");
+        assertEquals("内容+content%", diskService.getContent("dataId", "group", "tenant"));
+        assertNull(diskService.getBetaContent("dataId", "group", "tenant"));
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    void testKeyNotConflict() throws Exception {
+        diskService.saveToDisk("data+Id", "group", "", "content1");
+        diskService.saveToDisk("data", "Id+group", "", "content2");
+        assertEquals("content1", diskService.getContent("data+Id", "group", ""));
+        assertEquals("content2", diskService.getContent("data", "Id+group", ""));
+        assertEquals("content1", diskService.getContent("data+Id", "group", null));
+    }
+    
+    @Test
+    void testBetaAndTagContent() throws Exception {
+        diskService.saveBetaToDisk("dataId", "group", "tenant", "beta");
+        diskService.saveTagToDisk("dataId", "group", "tenant", "tag", "tagContent");
+        assertEquals("beta", diskService.getBetaContent("dataId", "group", "tenant"));
+        assertEquals("tagContent", diskService.getTagContent("dataId", "group", "tenant", "tag"));
+        assertNull(diskService.getTagContent("dataId", "group", "tenant", "otherTag"));
+        diskService.removeConfigInfo4Beta("dataId", "group", "tenant");
+        diskService.removeConfigInfo4Tag("dataId", "group", "tenant", "tag");
+        assertNull(diskService.getBetaContent("dataId", "group", "tenant"));
+        assertNull(diskService.getTagContent("dataId", "group", "tenant", "tag"));
+    }
+    
+    @Test
+    void testClearAll() throws Exception {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveBetaToDisk("dataId", "group", "tenant", "beta");
+        diskService.saveTagToDisk("dataId", "group", "tenant", "tag", "tagContent");
+        diskService.clearAll();
+        diskService.clearAllBeta();
+        diskService.clearAllTag();
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertNull(diskService.getBetaContent("dataId", "group", "tenant"));
+        assertNull(diskService.getTagContent("dataId", "group", "tenant", "tag"));
+    }
+    
+    @Test
+    void testGetSegmentSize() {
+        assertEquals(64 * 1024 * 1024, ConfigMmapDiskService.getSegmentSize(64));
+        assertEquals(64 * 1024 * 1024, ConfigMmapDiskService.getSegmentSize(0));
+        assertEquals(64 * 1024 * 1024, ConfigMmapDiskService.getSegmentSize(-1));
+        assertEquals(1024 * 1024 * 1024, ConfigMmapDiskService.getSegmentSize(1024));
+        assertEquals(1024 * 1024 * 1024, ConfigMmapDiskService.getSegmentSize(2048));
+        assertEquals(1024 * 1024 * 1024, ConfigMmapDiskService.getSegmentSize(Integer.MAX_VALUE));
+    }
+}
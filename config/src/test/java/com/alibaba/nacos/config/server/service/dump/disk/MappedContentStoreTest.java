@@ -0,0 +1,146 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedContentStoreTest {
+    
+    private static final int SEGMENT_SIZE = 64;
+    
+    @TempDir
+    File tempDir;
+    
+    private final List<Runnable> compactTasks = new ArrayList<>();
+    
+    private MappedContentStore store;
+    
+    @BeforeEach
+    void setUp() {
+        store = new MappedContentStore(tempDir, SEGMENT_SIZE, Runnable::run);
+    }
+    
+    @Test
+    void testPutAndGet() throws Exception {
+        assertNull(store.get("key"));
+        store.put("key", bytes("content"));
+        assertEquals("content", string(store.get("key")));
+        store.put("key", bytes("new content"));
+        assertEquals("new content", string(store.get("key")));
+        assertEquals(1, store.size());
+    }
+    
+    @Test
+    void testGetCopy() throws Exception {
+        store.put("key", bytes("content"));
+        byte[] content = store.get("key");
+        content[0] = 'C';
+        assertEquals("content", string(store.get("key")));
+    }
+    
+    @Test
+    void testRollSegmentAndLargeContent() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            store.put("key" + i, bytes("content-of-key-" + i));
+        }
+        String large = new String(new char[SEGMENT_SIZE * 3]).replace('\0', 'a');
+        store.put("large", bytes(large));
+        for (int i = 0; i < 10; i++) {
+            assertEquals("content-of-key-" + i, string(store.get("key" + i)));
+        }
+        assertEquals(large, string(store.get("large")));
+    }
+    
+    @Test
+    void testRemove() throws Exception {
+        store.put("key", bytes("content"));
+        store.remove("key");
+        assertNull(store.get("key"));
+        store.remove("key");
+        assertEquals(0, store.size());
+    }
+    
+    @Test
+    void testCompact() throws Exception {
+        store.put("stable", bytes("stable content"));
+        for (int i = 0; i < 100; i++) {
+            store.put("key", bytes("content-" + i));
+        }
+        assertEquals("stable content", string(store.get("stable")));
+        assertEquals("content-99", string(store.get("key")));
+        assertTrue(store.segmentCount() <= 2);
+        assertEquals(store.segmentCount(), segmentFileCount());
+    }
+    
+    @Test
+    void testCompactOffWritePath() throws Exception {
+        store = new MappedContentStore(tempDir, SEGMENT_SIZE, compactTasks::add);
+        store.put("stable", bytes("stable content"));
+        for (int i = 0; i < 100; i++) {
+            store.put("key", bytes("content-" + i));
+        }
+        // compaction is submitted only once, writes go on while it is pending.
+        assertEquals(1, compactTasks.size());
+        assertEquals("content-99", string(store.get("key")));
+        int segmentCount = store.segmentCount();
+        assertTrue(segmentCount > 2);
+        compactTasks.remove(0).run();
+        assertEquals("stable content", string(store.get("stable")));
+        assertEquals("content-99", string(store.get("key")));
+        assertTrue(store.segmentCount() < segmentCount);
+        // old segments are released and deleted once compacted.
+        assertEquals(store.segmentCount(), segmentFileCount());
+        store.put("key", bytes("new content"));
+        assertEquals("new content", string(store.get("key")));
+    }
+    
+    @Test
+    void testClear() throws Exception {
+        store.put("key", bytes("content"));
+        store.clear();
+        assertNull(store.get("key"));
+        assertEquals(0, store.segmentCount());
+        File[] files = tempDir.listFiles();
+        assertEquals(0, null == files ? 0 : files.length);
+        store.put("key", bytes("content"));
+        assertEquals("content", string(store.get("key")));
+    }
+    
+    private byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private String string(byte[] content) {
+        return new String(content, StandardCharsets.UTF_8);
+    }
+    
+    private int segmentFileCount() {
+        File[] files = tempDir.listFiles();
+        return null == files ? 0 : files.length;
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service.dump.processor;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.dump.ExternalDumpService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
@@ -47,6 +48,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -178,6 +180,48 @@ class DumpAllProcessorTest {
         assertEquals(configInfoWrapper2.getContent(), contentFromDisk2);
     }
     
+    @Test
+    void testDumpAllOnStartUpWithMultiplePages() throws Exception {
+        ConfigInfoWrapper configInfoWrapper1 = createNewConfig(1);
+        ConfigInfoWrapper configInfoWrapper2 = createNewConfig(2);
+        ConfigInfoWrapper configInfoWrapper3 = createNewConfig(3);
+        Page<ConfigInfoWrapper> page1 = new Page<>();
+        page1.setPageItems(Arrays.asList(configInfoWrapper1, configInfoWrapper2));
+        Page<ConfigInfoWrapper> page2 = new Page<>();
+        page2.setPageItems(Arrays.asList(configInfoWrapper3));
+        
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(3L);
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, PropertyUtil.getAllDumpPageSize(), true))
+                .thenReturn(page1);
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(2, PropertyUtil.getAllDumpPageSize(), true))
+                .thenReturn(page2);
+        
+        assertTrue(dumpAllProcessor.process(new DumpAllTask(true)));
+        
+        for (ConfigInfoWrapper each : Arrays.asList(configInfoWrapper1, configInfoWrapper2, configInfoWrapper3)) {
+            CacheItem contentCache = ConfigCacheService.getContentCache(
+                    GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+            assertEquals(MD5Utils.md5Hex(each.getContent(), "UTF-8"), contentCache.getConfigCache().getMd5Utf8());
+        }
+        assertEquals(3, MetricsMonitor.getDumpAllCountMonitor().get());
+        assertEquals(100, MetricsMonitor.getDumpAllProgressMonitor().get());
+    }
+    
+    @Test
+    void testDumpAllInterrupted() throws Exception {
+        MetricsMonitor.getDumpAllProgressMonitor().set(0);
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenAnswer(invocation -> {
+            Thread.currentThread().interrupt();
+            return 3L;
+        });
+        
+        boolean process = dumpAllProcessor.process(new DumpAllTask(true));
+        
+        assertTrue(Thread.interrupted());
+        assertFalse(process);
+        assertEquals(0, MetricsMonitor.getDumpAllProgressMonitor().get());
+    }
+    
     /**
      * test dump all for all check task.
      */
@@ -16,14 +16,19 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.ability.ServerAbilities;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.ConfigInlineContent;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
 import com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.AsyncRpcNotifyCallBack;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -33,6 +38,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -40,12 +46,15 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.HEALTHY_CHECK_STATUS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -220,4 +229,106 @@ class AsyncNotifyServiceTest {
                 times(2));
         
     }
+    
+    @Test
+    void testGetSyncInlineContent() {
+        ConfigDataChangeEvent event = new ConfigDataChangeEvent(false, "dataId", "group", "tenant", 1L);
+        event.setInlineContent(new ConfigInlineContent("content", "text", null, null));
+        PropertyUtil.setClusterSyncInlineContentOn(false);
+        assertNull(AsyncNotifyService.getSyncInlineContent(event));
+        PropertyUtil.setClusterSyncInlineContentOn(true);
+        try {
+            ConfigInlineContent inlineContent = AsyncNotifyService.getSyncInlineContent(event);
+            assertEquals("content", inlineContent.getContent());
+            assertEquals(MD5Utils.md5Hex("content", "UTF-8"), inlineContent.getMd5());
+            // too large, members read from database.
+            PropertyUtil.setClusterSyncInlineMaxContent(3);
+            assertNull(AsyncNotifyService.getSyncInlineContent(event));
+        } finally {
+            PropertyUtil.setClusterSyncInlineContentOn(false);
+            PropertyUtil.setClusterSyncInlineMaxContent(100 * 1024);
+        }
+    }
+    
+    @Test
+    void testHandleConfigDataChangeEventInBatch() {
+        long timeStamp = System.currentTimeMillis();
+        Member batchMember = new Member();
+        batchMember.setIp("testip1" + timeStamp);
+        ServerAbilities abilities = new ServerAbilities();
+        abilities.getConfigAbility().setSupportClusterSyncBatch(true);
+        batchMember.setAbilities(abilities);
+        Member singleMember = new Member();
+        singleMember.setIp("testip2" + timeStamp);
+        Mockito.when(serverMemberManager.allMembersWithoutSelf()).thenReturn(Arrays.asList(batchMember, singleMember));
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        asyncNotifyService.handleConfigDataChangeEvent(
+                new ConfigDataChangeEvent("testDataId" + timeStamp, "testGroup", System.currentTimeMillis()));
+        
+        // member without ability is notified as before, the change to member with ability waits for batch flush.
+        configExecutorMocked.verify(() -> ConfigExecutor.executeAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class)),
+                times(1));
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)), times(1));
+    }
+    
+    @Test
+    void testExecuteBatchRpcTask() throws Exception {
+        long timeStamp = System.currentTimeMillis();
+        Member member = new Member();
+        member.setIp("testip1" + timeStamp);
+        List<AsyncNotifyService.NotifySingleRpcTask> tasks = Arrays.asList(
+                new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", null, null, 1L, false, false, member),
+                new AsyncNotifyService.NotifySingleRpcTask("dataId2", "group", null, null, 2L, false, false, member));
+        tasks.get(0).setInlineContent(new ConfigInlineContent("content", "text", null, null).withMd5());
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+        Mockito.when(serverMemberManager.hasMember(eq(member.getAddress()))).thenReturn(true);
+        Mockito.when(serverMemberManager.stateCheck(eq(member.getAddress()), eq(HEALTHY_CHECK_STATUS))).thenReturn(true);
+        
+        asyncNotifyService.executeBatchRpcTask(tasks);
+        
+        ArgumentCaptor<ConfigChangeClusterSyncBatchRequest> requestCaptor = ArgumentCaptor
+                .forClass(ConfigChangeClusterSyncBatchRequest.class);
+        ArgumentCaptor<RequestCallBack> callBackCaptor = ArgumentCaptor.forClass(RequestCallBack.class);
+        Mockito.verify(configClusterRpcClientProxy)
+                .syncConfigChangeBatch(eq(member), requestCaptor.capture(), callBackCaptor.capture());
+        Mockito.verify(configClusterRpcClientProxy, times(0))
+                .syncConfigChange(any(Member.class), any(ConfigChangeClusterSyncRequest.class), any(RequestCallBack.class));
+        List<ConfigChangeClusterSyncRequest> syncRequests = requestCaptor.getValue().getSyncRequests();
+        assertEquals(2, syncRequests.size());
+        assertEquals("dataId1", syncRequests.get(0).getDataId());
+        assertEquals("content", syncRequests.get(0).getContent());
+        assertEquals("dataId2", syncRequests.get(1).getDataId());
+        assertNull(syncRequests.get(1).getContent());
+        
+        // failed batch retries each change alone.
+        callBackCaptor.getValue().onException(new NacosException());
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class), anyLong(), any(TimeUnit.class)),
+                times(2));
+    }
+    
+    @Test
+    void testExecuteBatchRpcTaskToUnhealthyMember() throws Exception {
+        long timeStamp = System.currentTimeMillis();
+        Member member = new Member();
+        member.setIp("testip1" + timeStamp);
+        final List<AsyncNotifyService.NotifySingleRpcTask> tasks = Arrays.asList(
+                new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", null, null, 1L, false, false, member),
+                new AsyncNotifyService.NotifySingleRpcTask("dataId2", "group", null, null, 2L, false, false, member));
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+        Mockito.when(serverMemberManager.hasMember(eq(member.getAddress()))).thenReturn(true);
+        Mockito.when(serverMemberManager.stateCheck(eq(member.getAddress()), eq(HEALTHY_CHECK_STATUS))).thenReturn(false);
+        
+        asyncNotifyService.executeBatchRpcTask(tasks);
+        
+        Mockito.verify(configClusterRpcClientProxy, times(0))
+                .syncConfigChangeBatch(any(Member.class), any(ConfigChangeClusterSyncBatchRequest.class),
+                        any(RequestCallBack.class));
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class), anyLong(), any(TimeUnit.class)),
+                times(2));
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 1999-2018 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.notify;
+
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+
+class ConfigClusterSyncBatcherTest {
+    
+    private final List<List<AsyncNotifyService.NotifySingleRpcTask>> sentBatches = new ArrayList<>();
+    
+    private MockedStatic<ConfigExecutor> configExecutorMocked;
+    
+    private Member member;
+    
+    private ConfigClusterSyncBatcher batcher;
+    
+    @BeforeAll
+    static void setUpEnvironment() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+    }
+    
+    @BeforeEach
+    void setUp() {
+        member = Member.builder().ip("1.1.1.1").port(8848).build();
+        configExecutorMocked = Mockito.mockStatic(ConfigExecutor.class);
+        PropertyUtil.setClusterSyncBatchSize(3);
+        batcher = new ConfigClusterSyncBatcher(sentBatches::add);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        configExecutorMocked.close();
+        PropertyUtil.setClusterSyncBatchSize(100);
+    }
+    
+    @Test
+    void testSendWhenBatchFull() {
+        for (int i = 0; i < 3; i++) {
+            batcher.add(newTask("dataId" + i));
+        }
+        assertEquals(1, sentBatches.size());
+        assertEquals(3, sentBatches.get(0).size());
+        assertEquals("dataId0", sentBatches.get(0).get(0).getDataId());
+        assertEquals("dataId2", sentBatches.get(0).get(2).getDataId());
+        // flush scheduled by the first change does nothing after the batch sent.
+        batcher.flush(member.getAddress());
+        assertEquals(1, sentBatches.size());
+    }
+    
+    @Test
+    void testSendWhenDelayPassed() {
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        batcher.add(newTask("dataId0"));
+        batcher.add(newTask("dataId1"));
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(flushCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS)),
+                times(1));
+        assertTrue(sentBatches.isEmpty());
+        flushCaptor.getValue().run();
+        assertEquals(1, sentBatches.size());
+        assertEquals(2, sentBatches.get(0).size());
+        // next change schedules a new flush.
+        AsyncNotifyService.NotifySingleRpcTask task = newTask("dataId2");
+        batcher.add(task);
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)), times(2));
+        batcher.flush(member.getAddress());
+        assertSame(task, sentBatches.get(1).get(0));
+    }
+    
+    private AsyncNotifyService.NotifySingleRpcTask newTask(String dataId) {
+        return new AsyncNotifyService.NotifySingleRpcTask(dataId, "group", null, null, 1L, false, false, member);
+    }
+}
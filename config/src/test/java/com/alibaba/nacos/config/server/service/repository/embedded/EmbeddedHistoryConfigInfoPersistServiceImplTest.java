@@ -36,6 +36,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER;
@@ -163,6 +164,28 @@ class EmbeddedHistoryConfigInfoPersistServiceImplTest {
         assertEquals(mockObj2.getLastModified(), deletedConfig.get(1).getLastModified());
     }
     
+    @Test
+    void testFindChangeLog() {
+        ConfigInfoStateWrapper mockObj = new ConfigInfoStateWrapper();
+        mockObj.setId(23457);
+        mockObj.setDataId("data_id1");
+        mockObj.setGroup("group_id1");
+        mockObj.setTenant("tenant_id1");
+        int pageSize = 1233;
+        long lastMaxId = 23456;
+        Mockito.when(databaseOperate.queryMany(anyString(), eq(new Object[] {lastMaxId, pageSize}),
+                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(Collections.singletonList(mockObj));
+        List<ConfigInfoStateWrapper> changeLogs = embeddedHistoryConfigInfoPersistService.findChangeLog(lastMaxId,
+                pageSize);
+        assertEquals(1, changeLogs.size());
+        assertEquals(23457, changeLogs.get(0).getId());
+        
+        Mockito.when(databaseOperate.queryOne(anyString(), eq(Long.class))).thenReturn(23457L);
+        assertEquals(23457L, embeddedHistoryConfigInfoPersistService.findChangeLogMaxId());
+        Mockito.when(databaseOperate.queryOne(anyString(), eq(Long.class))).thenReturn(null);
+        assertEquals(0L, embeddedHistoryConfigInfoPersistService.findChangeLogMaxId());
+    }
+    
     @Test
     void testFindConfigHistory() {
         String dataId = "dataId34567";
@@ -40,6 +40,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER;
@@ -188,6 +189,29 @@ class ExternalHistoryConfigInfoPersistServiceImplTest {
         
     }
     
+    @Test
+    void testFindChangeLog() {
+        ConfigInfoStateWrapper mockObj = new ConfigInfoStateWrapper();
+        mockObj.setId(23457);
+        mockObj.setDataId("data_id1");
+        mockObj.setGroup("group_id1");
+        mockObj.setTenant("tenant_id1");
+        int pageSize = 1233;
+        long lastMaxId = 23456;
+        Mockito.when(jdbcTemplate.query(anyString(), eq(new Object[] {lastMaxId, pageSize}),
+                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(Collections.singletonList(mockObj));
+        List<ConfigInfoStateWrapper> changeLogs = externalHistoryConfigInfoPersistService.findChangeLog(lastMaxId,
+                pageSize);
+        assertEquals(1, changeLogs.size());
+        assertEquals(23457, changeLogs.get(0).getId());
+        assertEquals("data_id1", changeLogs.get(0).getDataId());
+        
+        Mockito.when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(23457L);
+        assertEquals(23457L, externalHistoryConfigInfoPersistService.findChangeLogMaxId());
+        Mockito.when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(null);
+        assertEquals(0L, externalHistoryConfigInfoPersistService.findChangeLogMaxId());
+    }
+    
     @Test
     void testFindConfigHistory() {
         String dataId = "dataId34567";
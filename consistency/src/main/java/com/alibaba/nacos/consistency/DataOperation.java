@@ -38,10 +38,18 @@ public enum DataOperation {
      * Data verify.
      */
     VERIFY,
+    /**
+     * Data verify by digest.
+     */
+    VERIFY_DIGEST,
     /**
      * Data Snapshot.
      */
     SNAPSHOT,
+    /**
+     * Data Snapshot slice, one page of one slice of snapshot.
+     */
+    SNAPSHOT_SLICE,
     /**
      * Data query.
      */
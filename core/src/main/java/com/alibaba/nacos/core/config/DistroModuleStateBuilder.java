@@ -40,18 +40,33 @@ public class DistroModuleStateBuilder implements ModuleStateBuilder {
         moduleState.newState(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS));
+        moduleState.newState(DistroConstants.DATA_SYNC_BATCH_SIZE_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, Integer.class,
+                        DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE));
+        moduleState.newState(DistroConstants.DATA_SYNC_BATCH_DELAY_MILLISECONDS_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_DELAY_MILLISECONDS, Long.class,
+                        DistroConstants.DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS));
         moduleState.newState(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS));
         moduleState.newState(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS));
+        moduleState.newState(DistroConstants.DATA_VERIFY_DIGEST_ENABLED_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_ENABLED, Boolean.class,
+                        DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED));
         moduleState.newState(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS));
         moduleState.newState(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS));
+        moduleState.newState(DistroConstants.DATA_LOAD_PAGE_SIZE_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_LOAD_PAGE_SIZE, Integer.class,
+                        DistroConstants.DEFAULT_DATA_LOAD_PAGE_SIZE));
+        moduleState.newState(DistroConstants.DATA_LOAD_SLICE_COUNT_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_LOAD_SLICE_COUNT, Integer.class,
+                        DistroConstants.DEFAULT_DATA_LOAD_SLICE_COUNT));
         return moduleState;
     }
     
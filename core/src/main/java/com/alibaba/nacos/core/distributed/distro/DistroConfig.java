@@ -36,14 +36,24 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long syncRetryDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS;
     
+    private int syncBatchSize = DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE;
+    
+    private long syncBatchDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS;
+    
     private long verifyIntervalMillis = DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS;
     
     private long verifyTimeoutMillis = DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS;
     
+    private boolean verifyDigestEnabled = DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED;
+    
     private long loadDataRetryDelayMillis = DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS;
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataPageSize = DistroConstants.DEFAULT_DATA_LOAD_PAGE_SIZE;
+    
+    private int loadDataSliceCount = DistroConstants.DEFAULT_DATA_LOAD_SLICE_COUNT;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -57,14 +67,24 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_SYNC_TIMEOUT_MILLISECONDS);
         syncRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS);
+        syncBatchSize = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE);
+        syncBatchDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_DELAY_MILLISECONDS, Long.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS);
         verifyIntervalMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS);
         verifyTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS);
+        verifyDigestEnabled = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED);
         loadDataRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataPageSize = EnvUtil.getProperty(DistroConstants.DATA_LOAD_PAGE_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_PAGE_SIZE);
+        loadDataSliceCount = EnvUtil.getProperty(DistroConstants.DATA_LOAD_SLICE_COUNT, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_SLICE_COUNT);
     }
     
     public static DistroConfig getInstance() {
@@ -95,6 +115,22 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.syncRetryDelayMillis = syncRetryDelayMillis;
     }
     
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+    
+    public void setSyncBatchSize(int syncBatchSize) {
+        this.syncBatchSize = syncBatchSize;
+    }
+    
+    public long getSyncBatchDelayMillis() {
+        return syncBatchDelayMillis;
+    }
+    
+    public void setSyncBatchDelayMillis(long syncBatchDelayMillis) {
+        this.syncBatchDelayMillis = syncBatchDelayMillis;
+    }
+    
     public long getVerifyIntervalMillis() {
         return verifyIntervalMillis;
     }
@@ -111,6 +147,14 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.verifyTimeoutMillis = verifyTimeoutMillis;
     }
     
+    public boolean isVerifyDigestEnabled() {
+        return verifyDigestEnabled;
+    }
+    
+    public void setVerifyDigestEnabled(boolean verifyDigestEnabled) {
+        this.verifyDigestEnabled = verifyDigestEnabled;
+    }
+    
     public long getLoadDataRetryDelayMillis() {
         return loadDataRetryDelayMillis;
     }
@@ -127,11 +171,30 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataPageSize() {
+        return loadDataPageSize;
+    }
+    
+    public void setLoadDataPageSize(int loadDataPageSize) {
+        this.loadDataPageSize = loadDataPageSize;
+    }
+    
+    public int getLoadDataSliceCount() {
+        return loadDataSliceCount;
+    }
+    
+    public void setLoadDataSliceCount(int loadDataSliceCount) {
+        this.loadDataSliceCount = loadDataSliceCount;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
-                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", syncBatchSize=" + syncBatchSize
+                + ", syncBatchDelayMillis=" + syncBatchDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
+                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", verifyDigestEnabled=" + verifyDigestEnabled
+                + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
+                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + ", loadDataPageSize=" + loadDataPageSize
+                + ", loadDataSliceCount=" + loadDataSliceCount + '}';
     }
 }
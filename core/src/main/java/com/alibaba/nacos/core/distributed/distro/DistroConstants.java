@@ -43,6 +43,18 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS = 3000L;
     
+    public static final String DATA_SYNC_BATCH_SIZE = "nacos.core.protocol.distro.data.sync.batchSize";
+    
+    public static final String DATA_SYNC_BATCH_SIZE_STATE = "data_sync_batchSize";
+    
+    public static final int DEFAULT_DATA_SYNC_BATCH_SIZE = 100;
+    
+    public static final String DATA_SYNC_BATCH_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.sync.batchDelayMs";
+    
+    public static final String DATA_SYNC_BATCH_DELAY_MILLISECONDS_STATE = "data_sync_batchDelayMs";
+    
+    public static final long DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS = 10L;
+    
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS = "nacos.core.protocol.distro.data.verify.intervalMs";
     
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS_STATE = "data_verify_intervalMs";
@@ -55,6 +67,12 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_DIGEST_ENABLED = "nacos.core.protocol.distro.data.verify.digest.enabled";
+    
+    public static final String DATA_VERIFY_DIGEST_ENABLED_STATE = "data_verify_digest_enabled";
+    
+    public static final boolean DEFAULT_DATA_VERIFY_DIGEST_ENABLED = false;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
@@ -67,4 +85,16 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_PAGE_SIZE = "nacos.core.protocol.distro.data.load.pageSize";
+    
+    public static final String DATA_LOAD_PAGE_SIZE_STATE = "data_load_pageSize";
+    
+    public static final int DEFAULT_DATA_LOAD_PAGE_SIZE = 1000;
+    
+    public static final String DATA_LOAD_SLICE_COUNT = "nacos.core.protocol.distro.data.load.sliceCount";
+    
+    public static final String DATA_LOAD_SLICE_COUNT_STATE = "data_load_sliceCount";
+    
+    public static final int DEFAULT_DATA_LOAD_SLICE_COUNT = 4;
+    
 }
@@ -26,6 +26,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadDataTask;
@@ -194,6 +195,23 @@ public class DistroProtocol {
         return dataProcessor.processVerifyData(distroData, sourceAddress);
     }
     
+    /**
+     * Receive verify digest, find processor to process.
+     *
+     * @param distroData    verify digest data
+     * @param sourceAddress source server address
+     * @return verify result, {@code null} if verify digest is not supported
+     */
+    public DistroData onVerifyDigest(DistroData distroData, String sourceAddress) {
+        String resourceType = distroData.getDistroKey().getResourceType();
+        DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
+        if (null == dataProcessor) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find verify digest process for received data {}", resourceType);
+            return null;
+        }
+        return dataProcessor.processVerifyDigest(distroData, sourceAddress);
+    }
+    
     /**
      * Query data of input distro key.
      *
@@ -224,4 +242,20 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one page of datum snapshot slice.
+     *
+     * @param type  datum type
+     * @param slice snapshot slice
+     * @return one page of datum snapshot slice
+     */
+    public DistroData onSnapshotSlice(String type, DistroSnapshotSlice slice) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return null;
+        }
+        return distroDataStorage.getDatumSnapshot(slice);
+    }
 }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
 
 /**
  * Distro data processor.
@@ -49,6 +50,17 @@ public interface DistroDataProcessor {
      */
     boolean processVerifyData(DistroData distroData, String sourceAddress);
     
+    /**
+     * Process received verify digest or verify datum of mismatched digest parts.
+     *
+     * @param distroData    verify digest data
+     * @param sourceAddress source server address
+     * @return verify result which is sent back to source server, {@code null} if digest is not supported
+     */
+    default DistroData processVerifyDigest(DistroData distroData, String sourceAddress) {
+        return null;
+    }
+    
     /**
      * Process snapshot data.
      *
@@ -56,4 +68,15 @@ public interface DistroDataProcessor {
      * @return true if process data successfully, otherwise false
      */
     boolean processSnapshot(DistroData distroData);
+    
+    /**
+     * Process one page of snapshot slice data, and move the cursor of slice to the end of the page.
+     *
+     * @param distroData one page of snapshot slice data
+     * @param slice      snapshot slice which the page belongs to
+     * @return true if process data successfully, otherwise false
+     */
+    default boolean processSnapshotSlice(DistroData distroData, DistroSnapshotSlice slice) {
+        return false;
+    }
 }
@@ -18,7 +18,9 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -57,10 +59,42 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one page of distro datum snapshot slice, which starts after the cursor of slice.
+     *
+     * @param slice snapshot slice
+     * @return one page of datum in slice
+     */
+    default DistroData getDatumSnapshot(DistroSnapshotSlice slice) {
+        return null;
+    }
+    
     /**
      * Get verify datum.
      *
      * @return verify datum
      */
     List<DistroData> getVerifyData();
+    
+    /**
+     * Get verify datum of the mismatched parts of verify digest.
+     *
+     * @param mismatchedDigest mismatched parts returned by target server after verifying the digest
+     * @return verify datum of mismatched parts
+     */
+    default List<DistroData> getVerifyData(DistroData mismatchedDigest) {
+        return Collections.emptyList();
+    }
+    
+    /**
+     * Get verify digest, which is a hierarchical digest of all verify datum.
+     *
+     * <p>Peers compare the digest and only ask for the verify datum of mismatched parts, so unchanged datum are not
+     * sent on every verify interval.
+     *
+     * @return verify digest, {@code null} if digest is not supported or no datum need to verify
+     */
+    default DistroData getVerifyDigest() {
+        return null;
+    }
 }
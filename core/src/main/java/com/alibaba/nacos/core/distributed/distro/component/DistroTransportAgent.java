@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
 
 /**
  * Distro transport agent.
@@ -73,6 +74,29 @@ public interface DistroTransportAgent {
      */
     void syncVerifyData(DistroData verifyData, String targetServer, DistroCallback callback);
     
+    /**
+     * Whether target server support verifying data by digest.
+     *
+     * @param targetServer target server
+     * @return true if support, otherwise false
+     */
+    default boolean supportVerifyDigest(String targetServer) {
+        return false;
+    }
+    
+    /**
+     * Sync verify digest or verify datum of mismatched digest parts.
+     *
+     * @param verifyDigest verify digest data
+     * @param targetServer target server
+     * @return verify result from target server, {@code null} if verify failed
+     * @throws UnsupportedOperationException if method supportVerifyDigest is false, should throw {@code
+     *                                       UnsupportedOperationException}
+     */
+    default DistroData syncVerifyDigest(DistroData verifyDigest, String targetServer) {
+        throw new UnsupportedOperationException();
+    }
+    
     /**
      * get Data from target server.
      *
@@ -89,4 +113,25 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one page of snapshot slice from target server, which starts after the cursor of slice.
+     *
+     * @param slice        snapshot slice to load
+     * @param targetServer target server.
+     * @return distro data of one page, or {@code null} if target server doesn't know snapshot slice
+     */
+    default DistroData getDatumSnapshot(DistroSnapshotSlice slice, String targetServer) {
+        throw new UnsupportedOperationException("get snapshot slice not supported");
+    }
+    
+    /**
+     * Whether target server has advertised that it supports to get snapshot by slice.
+     *
+     * @param targetServer target server
+     * @return {@code true} if snapshot slice supported, otherwise {@code false}
+     */
+    default boolean supportSnapshotSlice(String targetServer) {
+        return false;
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+import java.io.Serializable;
+
+/**
+ * Distro snapshot slice.
+ *
+ * <p>The snapshot is split into {@code sliceCount} slices, and each slice is loaded page by page. The cursor records
+ * the position of last loaded page, so that the loading of slice can be resumed from the cursor after failure.
+ *
+ * @author Nacos
+ */
+public class DistroSnapshotSlice implements Serializable {
+    
+    private static final long serialVersionUID = -3584279634506307651L;
+    
+    private int sliceIndex;
+    
+    private int sliceCount;
+    
+    private int pageSize;
+    
+    private String cursor;
+    
+    private boolean finished;
+    
+    public DistroSnapshotSlice() {
+    }
+    
+    public DistroSnapshotSlice(int sliceIndex, int sliceCount, int pageSize) {
+        this.sliceIndex = sliceIndex;
+        this.sliceCount = sliceCount;
+        this.pageSize = pageSize;
+    }
+    
+    public int getSliceIndex() {
+        return sliceIndex;
+    }
+    
+    public void setSliceIndex(int sliceIndex) {
+        this.sliceIndex = sliceIndex;
+    }
+    
+    public int getSliceCount() {
+        return sliceCount;
+    }
+    
+    public void setSliceCount(int sliceCount) {
+        this.sliceCount = sliceCount;
+    }
+    
+    public int getPageSize() {
+        return pageSize;
+    }
+    
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+    
+    public String getCursor() {
+        return cursor;
+    }
+    
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+    
+    public boolean isFinished() {
+        return finished;
+    }
+    
+    public void setFinished(boolean finished) {
+        this.finished = finished;
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroSnapshotSlice{" + "sliceIndex=" + sliceIndex + ", sliceCount=" + sliceCount + ", pageSize="
+                + pageSize + ", cursor='" + cursor + '\'' + ", finished=" + finished + '}';
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -24,16 +26,32 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Distro load data task.
  *
+ * <p>If the page size of loading data is positive, the snapshot is split into slices which are loaded page by page
+ * from members in parallel, and each page is applied once received. The progress of slices is kept, so that the next
+ * retry resumes from the cursor of each unfinished slice.
+ *
+ * <p>Abilities of members are usually unknown during startup, so slices are requested from every member, and the
+ * members which have advertised snapshot slice are tried first. A member which neither advertised nor served any
+ * page is excluded once it rejects or fails a slice request. If all members are excluded, the whole snapshot is
+ * loaded from one member.
+ *
  * @author xiweng.yy
  */
 public class DistroLoadDataTask implements Runnable {
@@ -48,6 +66,12 @@ public class DistroLoadDataTask implements Runnable {
     
     private final Map<String, Boolean> loadCompletedMap;
     
+    private final Map<String, DistroSnapshotSlice[]> loadingSlices;
+    
+    private final Set<String> sliceAcceptedTargets;
+    
+    private final Set<String> sliceRejectedTargets;
+    
     public DistroLoadDataTask(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
             DistroConfig distroConfig, DistroCallback loadCallback) {
         this.memberManager = memberManager;
@@ -55,6 +79,9 @@ public class DistroLoadDataTask implements Runnable {
         this.distroConfig = distroConfig;
         this.loadCallback = loadCallback;
         loadCompletedMap = new HashMap<>(1);
+        loadingSlices = new HashMap<>(1);
+        sliceAcceptedTargets = ConcurrentHashMap.newKeySet();
+        sliceRejectedTargets = ConcurrentHashMap.newKeySet();
     }
     
     @Override
@@ -97,6 +124,20 @@ public class DistroLoadDataTask implements Runnable {
                     resourceType, transportAgent, dataProcessor);
             return false;
         }
+        if (distroConfig.getLoadDataPageSize() > 0) {
+            List<String> sliceTargets = findSliceTargets(transportAgent);
+            if (!sliceTargets.isEmpty()) {
+                if (loadSnapshotSlicesFromRemote(resourceType, transportAgent, dataProcessor, sliceTargets)) {
+                    return true;
+                }
+                if (!findSliceTargets(transportAgent).isEmpty()) {
+                    return false;
+                }
+                Loggers.DISTRO.warn("[DISTRO-INIT] no member accepts snapshot slice, load whole snapshot {}",
+                        resourceType);
+                loadingSlices.remove(resourceType);
+            }
+        }
         for (Member each : memberManager.allMembersWithoutSelf()) {
             long startTime = System.currentTimeMillis();
             try {
@@ -120,6 +161,111 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    private List<String> findSliceTargets(DistroTransportAgent transportAgent) {
+        List<String> result = new ArrayList<>();
+        List<String> unknownTargets = new ArrayList<>();
+        for (Member each : memberManager.allMembersWithoutSelf()) {
+            String address = each.getAddress();
+            if (sliceAcceptedTargets.contains(address) || transportAgent.supportSnapshotSlice(address)) {
+                result.add(address);
+            } else if (!sliceRejectedTargets.contains(address)) {
+                unknownTargets.add(address);
+            }
+        }
+        result.addAll(unknownTargets);
+        return result;
+    }
+    
+    private boolean loadSnapshotSlicesFromRemote(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor, List<String> targets) {
+        DistroSnapshotSlice[] slices = loadingSlices.computeIfAbsent(resourceType, type -> createSlices());
+        long startTime = System.currentTimeMillis();
+        ExecutorService executor = ExecutorFactory.newFixedExecutorService(Math.min(slices.length, targets.size()),
+                new NameThreadFactory("com.alibaba.nacos.core.protocal.distro.load"));
+        boolean result = true;
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>(slices.length);
+            for (DistroSnapshotSlice each : slices) {
+                if (!each.isFinished()) {
+                    futures.add(executor.submit(
+                            () -> loadSnapshotSlice(resourceType, transportAgent, dataProcessor, each, targets)));
+                }
+            }
+            for (Future<Boolean> each : futures) {
+                result &= each.get();
+            }
+        } catch (Exception e) {
+            Loggers.DISTRO.error("[DISTRO-INIT] load snapshot slices {} failed.", resourceType, e);
+            result = false;
+        } finally {
+            executor.shutdownNow();
+        }
+        Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} by {} slices from {}, result: {}",
+                System.currentTimeMillis() - startTime, resourceType, slices.length, targets, result);
+        if (result) {
+            loadingSlices.remove(resourceType);
+            distroComponentHolder.findDataStorage(resourceType).finishInitial();
+        }
+        return result;
+    }
+    
+    private DistroSnapshotSlice[] createSlices() {
+        int sliceCount = Math.max(1, distroConfig.getLoadDataSliceCount());
+        DistroSnapshotSlice[] result = new DistroSnapshotSlice[sliceCount];
+        for (int i = 0; i < sliceCount; i++) {
+            result[i] = new DistroSnapshotSlice(i, sliceCount, distroConfig.getLoadDataPageSize());
+        }
+        return result;
+    }
+    
+    /**
+     * Load pages of one slice until the slice finished, the slice of different index starts from different target
+     * server, and switches to next target server from the current cursor if failed.
+     */
+    private boolean loadSnapshotSlice(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor, DistroSnapshotSlice slice, List<String> targets) {
+        for (int i = 0; i < targets.size() && !slice.isFinished(); i++) {
+            String target = targets.get((slice.getSliceIndex() + i) % targets.size());
+            if (sliceRejectedTargets.contains(target)) {
+                continue;
+            }
+            try {
+                while (!slice.isFinished()) {
+                    DistroData distroData = transportAgent.getDatumSnapshot(slice, target);
+                    if (null == distroData) {
+                        rejectSliceTarget(resourceType, transportAgent, target);
+                        break;
+                    }
+                    sliceAcceptedTargets.add(target);
+                    if (!dataProcessor.processSnapshotSlice(distroData, slice)) {
+                        Loggers.DISTRO.warn("[DISTRO-INIT] process snapshot {} slice {} from {} failed.",
+                                resourceType, slice, target);
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-INIT] load snapshot {} slice {} from {} failed.", resourceType, slice,
+                        target, e);
+                rejectSliceTarget(resourceType, transportAgent, target);
+            }
+        }
+        return slice.isFinished();
+    }
+    
+    /**
+     * Exclude the target server from loading slices if it has never advertised or served snapshot slice, the failure
+     * of a member which did is treated as temporary.
+     */
+    private void rejectSliceTarget(String resourceType, DistroTransportAgent transportAgent, String target) {
+        if (sliceAcceptedTargets.contains(target) || transportAgent.supportSnapshotSlice(target)) {
+            return;
+        }
+        if (sliceRejectedTargets.add(target)) {
+            Loggers.DISTRO.warn("[DISTRO-INIT] {} doesn't accept snapshot slice of {}, skip it for slices.", target,
+                    resourceType);
+        }
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2020 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.verify;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import com.alibaba.nacos.core.utils.Loggers;
+
+/**
+ * Execute distro verify task by digest.
+ *
+ * <p>The digest is sent first, then only verify datum of the parts mismatched in target server are sent.
+ *
+ * @author Nacos
+ */
+public class DistroVerifyDigestExecuteTask extends AbstractExecuteTask {
+    
+    private final DistroTransportAgent transportAgent;
+    
+    private final DistroDataStorage dataStorage;
+    
+    private final DistroData verifyDigest;
+    
+    private final String targetServer;
+    
+    private final String resourceType;
+    
+    public DistroVerifyDigestExecuteTask(DistroTransportAgent transportAgent, DistroDataStorage dataStorage,
+            DistroData verifyDigest, String targetServer, String resourceType) {
+        this.transportAgent = transportAgent;
+        this.dataStorage = dataStorage;
+        this.verifyDigest = verifyDigest;
+        this.targetServer = targetServer;
+        this.resourceType = resourceType;
+    }
+    
+    @Override
+    public void run() {
+        try {
+            DistroData mismatchedDigest = transportAgent.syncVerifyDigest(verifyDigest, targetServer);
+            if (null == mismatchedDigest) {
+                verifyFailed();
+                return;
+            }
+            for (DistroData each : dataStorage.getVerifyData(mismatchedDigest)) {
+                if (null == transportAgent.syncVerifyDigest(each, targetServer)) {
+                    verifyFailed();
+                }
+            }
+        } catch (Exception e) {
+            Loggers.DISTRO
+                    .error("[DISTRO-FAILED] verify digest for type {} to {} failed.", resourceType, targetServer, e);
+        }
+    }
+    
+    private void verifyFailed() {
+        DistroRecordsHolder.getInstance().getRecord(resourceType).verifyFail();
+        if (Loggers.DISTRO.isDebugEnabled()) {
+            Loggers.DISTRO.debug("[DISTRO-FAILED] verify digest for type {} to {} failed.", resourceType, targetServer);
+        }
+    }
+}
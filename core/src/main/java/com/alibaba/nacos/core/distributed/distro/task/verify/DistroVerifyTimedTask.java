@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.task.verify;
 
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
@@ -25,6 +26,7 @@ import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroExecuteTaskExecuteEngine;
 import com.alibaba.nacos.core.utils.Loggers;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -69,13 +71,28 @@ public class DistroVerifyTimedTask implements Runnable {
                     dataStorage.getClass().getSimpleName());
             return;
         }
-        List<DistroData> verifyData = dataStorage.getVerifyData();
-        if (null == verifyData || verifyData.isEmpty()) {
+        DistroTransportAgent agent = distroComponentHolder.findTransportAgent(type);
+        if (null == agent) {
             return;
         }
+        DistroData verifyDigest = DistroConfig.getInstance().isVerifyDigestEnabled() ? dataStorage.getVerifyDigest()
+                : null;
+        List<DistroData> verifyData = null;
         for (Member member : targetServer) {
-            DistroTransportAgent agent = distroComponentHolder.findTransportAgent(type);
-            if (null == agent) {
+            if (null != verifyDigest && agent.supportVerifyDigest(member.getAddress())) {
+                executeTaskExecuteEngine.addTask(member.getAddress() + type,
+                        new DistroVerifyDigestExecuteTask(agent, dataStorage, verifyDigest, member.getAddress(),
+                                type));
+                continue;
+            }
+            // Verify data are built only when some member doesn't support digest.
+            if (null == verifyData) {
+                verifyData = dataStorage.getVerifyData();
+                if (null == verifyData) {
+                    verifyData = Collections.emptyList();
+                }
+            }
+            if (verifyData.isEmpty()) {
                 continue;
             }
             executeTaskExecuteEngine.addTask(member.getAddress() + type,
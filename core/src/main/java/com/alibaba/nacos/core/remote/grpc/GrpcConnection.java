@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
@@ -39,6 +40,7 @@ import io.grpc.netty.shaded.io.netty.channel.Channel;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -74,7 +76,7 @@ public class GrpcConnection extends Connection {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 try {
-                    Payload payload = GrpcUtils.convert(request);
+                    Payload payload = GrpcUtils.convert(request, isBinaryPayloadSupported());
                     traceIfNecessary(payload);
                     streamObserver.onNext(payload);
                     return true;
@@ -141,6 +143,12 @@ public class GrpcConnection extends Connection {
         }
     }
     
+    private boolean isBinaryPayloadSupported() {
+        Map<String, Boolean> abilityTable = getAbilityTable();
+        return null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD.getName()));
+    }
+    
     private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack) throws NacosException {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
@@ -26,6 +26,8 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
+import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,10 +41,17 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,17 +105,121 @@ class DistroLoadDataTaskTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
     @Test
     void testRun() {
+        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask.run();
         Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils.getField(distroLoadDataTask, "loadCompletedMap");
         assertNotNull(loadCompletedMap);
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    void testRunWithSnapshotSlice() {
+        mockSnapshotSlice(new AtomicBoolean(false));
+        distroLoadDataTask.run();
+        verify(distroDataProcessor, times(4)).processSnapshotSlice(any(DistroData.class), any(DistroSnapshotSlice.class));
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
+    
+    @Test
+    void testRunWithSnapshotSliceResume() {
+        AtomicBoolean failed = new AtomicBoolean(true);
+        mockSnapshotSlice(failed);
+        when(distroConfig.getLoadDataRetryDelayMillis()).thenReturn(60000L);
+        distroLoadDataTask.run();
+        Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils.getField(distroLoadDataTask, "loadCompletedMap");
+        assertFalse(loadCompletedMap.get(type));
+        Map<String, DistroSnapshotSlice[]> loadingSlices = (Map<String, DistroSnapshotSlice[]>) ReflectionTestUtils
+                .getField(distroLoadDataTask, "loadingSlices");
+        DistroSnapshotSlice[] slices = loadingSlices.get(type);
+        assertTrue(slices[0].isFinished());
+        assertFalse(slices[1].isFinished());
+        assertEquals("1", slices[1].getCursor());
+        verify(distroDataProcessor, times(3)).processSnapshotSlice(any(DistroData.class), any(DistroSnapshotSlice.class));
+        // resume slice 1 from cursor
+        failed.set(false);
+        distroLoadDataTask.run();
+        verify(distroDataProcessor, times(4)).processSnapshotSlice(any(DistroData.class), any(DistroSnapshotSlice.class));
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
+    
+    @Test
+    void testRunWithSnapshotSliceBeforeAbilityReported() {
+        mockSnapshotSlice(new AtomicBoolean(false));
+        when(distroTransportAgent.supportSnapshotSlice(anyString())).thenReturn(false);
+        distroLoadDataTask.run();
+        verify(distroDataProcessor, times(4)).processSnapshotSlice(any(DistroData.class), any(DistroSnapshotSlice.class));
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
+    
+    @Test
+    void testRunWithSnapshotSliceRejected() {
+        when(distroConfig.getLoadDataPageSize()).thenReturn(10);
+        when(distroConfig.getLoadDataSliceCount()).thenReturn(2);
+        when(distroTransportAgent.supportSnapshotSlice(anyString())).thenReturn(false);
+        when(distroTransportAgent.getDatumSnapshot(any(DistroSnapshotSlice.class), anyString())).thenReturn(null);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
+        distroLoadDataTask.run();
+        verify(distroDataProcessor, never()).processSnapshotSlice(any(DistroData.class), any(DistroSnapshotSlice.class));
+        verify(distroTransportAgent).getDatumSnapshot("2.2.2.2:8848");
+        Set<String> rejectedTargets = (Set<String>) ReflectionTestUtils.getField(distroLoadDataTask,
+                "sliceRejectedTargets");
+        assertEquals(2, rejectedTargets.size());
+        Map<String, DistroSnapshotSlice[]> loadingSlices = (Map<String, DistroSnapshotSlice[]>) ReflectionTestUtils
+                .getField(distroLoadDataTask, "loadingSlices");
+        assertTrue(loadingSlices.isEmpty());
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
+    
+    @Test
+    void testRunWithSnapshotSliceTemporaryFailed() {
+        when(distroConfig.getLoadDataPageSize()).thenReturn(10);
+        when(distroConfig.getLoadDataSliceCount()).thenReturn(2);
+        when(distroConfig.getLoadDataRetryDelayMillis()).thenReturn(60000L);
+        when(distroTransportAgent.supportSnapshotSlice(anyString())).thenReturn(true);
+        when(distroTransportAgent.getDatumSnapshot(any(DistroSnapshotSlice.class), anyString()))
+                .thenThrow(new DistroException("test"));
+        distroLoadDataTask.run();
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils.getField(distroLoadDataTask, "loadCompletedMap");
+        assertFalse(loadCompletedMap.get(type));
+        verify(loadCallback, never()).onSuccess();
+    }
+    
+    private void mockSnapshotSlice(AtomicBoolean failed) {
+        when(distroConfig.getLoadDataPageSize()).thenReturn(10);
+        when(distroConfig.getLoadDataSliceCount()).thenReturn(2);
+        when(distroTransportAgent.supportSnapshotSlice(anyString())).thenReturn(true);
+        when(distroTransportAgent.getDatumSnapshot(any(DistroSnapshotSlice.class), anyString())).thenAnswer(invocation -> {
+            DistroSnapshotSlice slice = invocation.getArgument(0);
+            if (failed.get() && 1 == slice.getSliceIndex() && null != slice.getCursor()) {
+                throw new DistroException("test");
+            }
+            return distroData;
+        });
+        // each slice has two pages
+        when(distroDataProcessor.processSnapshotSlice(any(DistroData.class), any(DistroSnapshotSlice.class)))
+                .thenAnswer(invocation -> {
+                    DistroSnapshotSlice slice = invocation.getArgument(1);
+                    if (null == slice.getCursor()) {
+                        slice.setCursor(String.valueOf(slice.getSliceIndex()));
+                    } else {
+                        slice.setFinished(true);
+                    }
+                    return true;
+                });
+    }
 }
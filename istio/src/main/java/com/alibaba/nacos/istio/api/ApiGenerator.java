@@ -17,7 +17,9 @@
 package com.alibaba.nacos.istio.api;
 
 import com.alibaba.nacos.istio.common.ResourceSnapshot;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -34,4 +36,14 @@ public interface ApiGenerator<T> {
      * @return data
      */
     List<T> generate(ResourceSnapshot resourceSnapshot);
+
+    /**
+     * Generate named and versioned resources for delta xds based on resource snapshot.
+     *
+     * @param resourceSnapshot Resource snapshot
+     * @return delta xds resources
+     */
+    default List<Resource> generateDelta(ResourceSnapshot resourceSnapshot) {
+        return Collections.emptyList();
+    }
 }
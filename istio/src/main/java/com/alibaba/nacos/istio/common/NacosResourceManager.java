@@ -68,9 +68,15 @@ public class NacosResourceManager {
         resourceSnapshot.initResourceSnapshot(this);
     }
 
+    /**
+     * Create a new snapshot based on the current snapshot, only service entries of changed services are rebuilt.
+     *
+     * @return new snapshot
+     */
     public ResourceSnapshot createResourceSnapshot() {
+        ResourceSnapshot previous = getResourceSnapshot();
         ResourceSnapshot resourceSnapshot = new ResourceSnapshot();
-        resourceSnapshot.initResourceSnapshot(this);
+        resourceSnapshot.initResourceSnapshot(this, previous);
         setResourceSnapshot(resourceSnapshot);
         return resourceSnapshot;
     }
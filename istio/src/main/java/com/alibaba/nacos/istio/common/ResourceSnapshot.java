@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.istio.common;
 
+import com.alibaba.nacos.istio.misc.Loggers;
 import com.alibaba.nacos.istio.model.IstioService;
 import com.alibaba.nacos.istio.model.ServiceEntryWrapper;
 import com.alibaba.nacos.istio.util.IstioCrdUtil;
@@ -23,8 +24,10 @@ import com.alibaba.nacos.istio.util.IstioCrdUtil;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -35,6 +38,16 @@ public class ResourceSnapshot {
 
     private final List<ServiceEntryWrapper> serviceEntries;
 
+    /**
+     * Source services and built service entries by service name, used by the next snapshot to reuse service entries
+     * of unchanged services. Services without any host have no service entry.
+     */
+    private final Map<String, IstioService> services;
+
+    private final Map<String, ServiceEntryWrapper> serviceEntryMap;
+
+    private String domainSuffix;
+
     private boolean isCompleted;
 
     private String version;
@@ -42,14 +55,26 @@ public class ResourceSnapshot {
     public ResourceSnapshot() {
         isCompleted = false;
         serviceEntries = new ArrayList<>();
+        services = new HashMap<>(16);
+        serviceEntryMap = new HashMap<>(16);
     }
 
-    public synchronized void initResourceSnapshot(NacosResourceManager manager) {
+    public void initResourceSnapshot(NacosResourceManager manager) {
+        initResourceSnapshot(manager, null);
+    }
+
+    /**
+     * Init the snapshot, service entries of services not changed since the previous snapshot are reused.
+     *
+     * @param manager  resource manager
+     * @param previous previous snapshot, nullable
+     */
+    public synchronized void initResourceSnapshot(NacosResourceManager manager, ResourceSnapshot previous) {
         if (isCompleted) {
             return;
         }
 
-        initServiceEntry(manager);
+        initServiceEntry(manager, previous);
 
         generateVersion();
 
@@ -61,15 +86,30 @@ public class ResourceSnapshot {
         version = time + "/" + versionSuffix.getAndIncrement();
     }
 
-    private void initServiceEntry(NacosResourceManager manager) {
-       Map<String, IstioService> serviceInfoMap = manager.services();
-       for (String serviceName : serviceInfoMap.keySet()) {
-           ServiceEntryWrapper serviceEntryWrapper = IstioCrdUtil.buildServiceEntry(serviceName, manager.getIstioConfig().getDomainSuffix(), serviceInfoMap.get(serviceName));
-           if (serviceEntryWrapper != null) {
-               serviceEntries.add(serviceEntryWrapper);
-           }
-       }
-
+    private void initServiceEntry(NacosResourceManager manager, ResourceSnapshot previous) {
+        Map<String, IstioService> serviceInfoMap = manager.services();
+        domainSuffix = manager.getIstioConfig().getDomainSuffix();
+        boolean reusable = previous != null && previous != this && previous.isCompleted()
+                && Objects.equals(domainSuffix, previous.domainSuffix);
+        int rebuilt = 0;
+        for (Map.Entry<String, IstioService> entry : serviceInfoMap.entrySet()) {
+            String serviceName = entry.getKey();
+            IstioService istioService = entry.getValue();
+            ServiceEntryWrapper serviceEntryWrapper;
+            // The watcher replaces the IstioService only when the service changed.
+            if (reusable && previous.services.get(serviceName) == istioService) {
+                serviceEntryWrapper = previous.serviceEntryMap.get(serviceName);
+            } else {
+                serviceEntryWrapper = IstioCrdUtil.buildServiceEntry(serviceName, domainSuffix, istioService);
+                rebuilt++;
+            }
+            services.put(serviceName, istioService);
+            if (serviceEntryWrapper != null) {
+                serviceEntryMap.put(serviceName, serviceEntryWrapper);
+                serviceEntries.add(serviceEntryWrapper);
+            }
+        }
+        Loggers.MAIN.debug("Resource snapshot rebuilt {} of {} service entries.", rebuilt, serviceInfoMap.size());
     }
 
     public List<ServiceEntryWrapper> getServiceEntries() {
@@ -16,6 +16,11 @@
 
 package com.alibaba.nacos.istio.common;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * @author special.fy
  */
@@ -31,6 +36,18 @@ public class WatchedStatus {
 
     private String ackedNonce;
 
+    /**
+     * Versions of resources known by the client, only used by delta xds.
+     */
+    private final Map<String, String> resourceVersions = new HashMap<>(16);
+
+    /**
+     * Explicitly subscribed resource names, only used by delta xds.
+     */
+    private final Set<String> subscribedResources = new HashSet<>();
+
+    private boolean wildcard = true;
+
     public String getType() {
         return type;
     }
@@ -70,4 +87,24 @@ public class WatchedStatus {
     public void setAckedNonce(String ackedNonce) {
         this.ackedNonce = ackedNonce;
     }
+
+    public Map<String, String> getResourceVersions() {
+        return resourceVersions;
+    }
+
+    public Set<String> getSubscribedResources() {
+        return subscribedResources;
+    }
+
+    public boolean isWildcard() {
+        return wildcard;
+    }
+
+    public void setWildcard(boolean wildcard) {
+        this.wildcard = wildcard;
+    }
+
+    public boolean isSubscribed(String resourceName) {
+        return wildcard || subscribedResources.contains(resourceName);
+    }
 }
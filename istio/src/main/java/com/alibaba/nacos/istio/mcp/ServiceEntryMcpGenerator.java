@@ -19,16 +19,11 @@ package com.alibaba.nacos.istio.mcp;
 import com.alibaba.nacos.istio.api.ApiGenerator;
 import com.alibaba.nacos.istio.common.ResourceSnapshot;
 import com.alibaba.nacos.istio.model.ServiceEntryWrapper;
-import com.google.protobuf.Any;
-import istio.mcp.v1alpha1.MetadataOuterClass;
 import istio.mcp.v1alpha1.ResourceOuterClass.Resource;
-import istio.networking.v1alpha3.ServiceEntryOuterClass;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.alibaba.nacos.istio.api.ApiConstants.SERVICE_ENTRY_PROTO;
-
 /**
  * @author special.fy
  */
@@ -49,16 +44,10 @@ public class ServiceEntryMcpGenerator implements ApiGenerator<Resource> {
 
     @Override
     public List<Resource> generate(ResourceSnapshot resourceSnapshot) {
-        List<Resource> result = new ArrayList<>();
-
         List<ServiceEntryWrapper> serviceEntries = resourceSnapshot.getServiceEntries();
+        List<Resource> result = new ArrayList<>(serviceEntries.size());
         for (ServiceEntryWrapper serviceEntryWrapper : serviceEntries) {
-            MetadataOuterClass.Metadata metadata = serviceEntryWrapper.getMetadata();
-            ServiceEntryOuterClass.ServiceEntry serviceEntry = serviceEntryWrapper.getServiceEntry();
-
-            Any any = Any.newBuilder().setValue(serviceEntry.toByteString()).setTypeUrl(SERVICE_ENTRY_PROTO).build();
-
-            result.add(Resource.newBuilder().setBody(any).setMetadata(metadata).build());
+            result.add(serviceEntryWrapper.getResource());
         }
 
         return result;
@@ -16,9 +16,14 @@
 
 package com.alibaba.nacos.istio.model;
 
+import com.google.protobuf.Any;
 import istio.mcp.v1alpha1.MetadataOuterClass.Metadata;
+import istio.mcp.v1alpha1.ResourceOuterClass.Resource;
 import istio.networking.v1alpha3.ServiceEntryOuterClass.ServiceEntry;
 
+import static com.alibaba.nacos.istio.api.ApiConstants.MCP_RESOURCE_PROTO;
+import static com.alibaba.nacos.istio.api.ApiConstants.SERVICE_ENTRY_PROTO;
+
 /**
  * @author special.fy
  */
@@ -28,6 +33,13 @@ public class ServiceEntryWrapper {
 
     private ServiceEntry serviceEntry;
 
+    /**
+     * Encoded resources are cached, so that snapshots reusing this wrapper don't encode the service entry again.
+     */
+    private volatile Resource resource;
+
+    private volatile Any resourceAny;
+
     public ServiceEntryWrapper(Metadata metadata, ServiceEntry serviceEntry) {
         this.metadata = metadata;
         this.serviceEntry = serviceEntry;
@@ -40,4 +52,33 @@ public class ServiceEntryWrapper {
     public ServiceEntry getServiceEntry() {
         return serviceEntry;
     }
+
+    /**
+     * Get the mcp resource of the service entry.
+     *
+     * @return mcp resource
+     */
+    public Resource getResource() {
+        Resource result = resource;
+        if (result == null) {
+            Any body = Any.newBuilder().setValue(serviceEntry.toByteString()).setTypeUrl(SERVICE_ENTRY_PROTO).build();
+            result = Resource.newBuilder().setBody(body).setMetadata(metadata).build();
+            resource = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get the mcp resource of the service entry packed as {@link Any} for mcp over xds.
+     *
+     * @return packed mcp resource
+     */
+    public Any getResourceAny() {
+        Any result = resourceAny;
+        if (result == null) {
+            result = Any.newBuilder().setValue(getResource().toByteString()).setTypeUrl(MCP_RESOURCE_PROTO).build();
+            resourceAny = result;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 1999-2018 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.xds;
+
+import com.alibaba.nacos.istio.common.AbstractConnection;
+import com.alibaba.nacos.istio.common.WatchedStatus;
+import com.alibaba.nacos.istio.misc.Loggers;
+import com.alibaba.nacos.istio.util.NonceGenerator;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+import io.grpc.stub.StreamObserver;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Delta xds connection, only resources changed since the last push are sent to the client.
+ *
+ * @author Nacos
+ */
+public class DeltaXdsConnection extends AbstractConnection<DeltaDiscoveryResponse> {
+
+    public DeltaXdsConnection(StreamObserver<DeltaDiscoveryResponse> streamObserver) {
+        super(streamObserver);
+    }
+
+    /**
+     * Push resources which are changed or removed compared with the versions known by the client.
+     *
+     * @param resources     all resources of the type
+     * @param systemVersion version of the resource snapshot
+     * @param watchedStatus watched status
+     * @param force         push even if nothing changed, the first request of a type must be responded
+     */
+    public synchronized void pushDelta(List<Resource> resources, String systemVersion, WatchedStatus watchedStatus,
+            boolean force) {
+        Map<String, String> resourceVersions = watchedStatus.getResourceVersions();
+        DeltaDiscoveryResponse.Builder builder = DeltaDiscoveryResponse.newBuilder()
+                .setTypeUrl(watchedStatus.getType())
+                .setSystemVersionInfo(systemVersion);
+
+        Set<String> present = new HashSet<>(resources.size());
+        for (Resource resource : resources) {
+            String name = resource.getName();
+            if (!watchedStatus.isSubscribed(name)) {
+                continue;
+            }
+            present.add(name);
+            if (!resource.getVersion().equals(resourceVersions.get(name))) {
+                builder.addResources(resource);
+                resourceVersions.put(name, resource.getVersion());
+            }
+        }
+
+        Iterator<String> iterator = resourceVersions.keySet().iterator();
+        while (iterator.hasNext()) {
+            String name = iterator.next();
+            if (!present.contains(name)) {
+                builder.addRemovedResources(name);
+                iterator.remove();
+            }
+        }
+
+        if (!force && builder.getResourcesCount() == 0 && builder.getRemovedResourcesCount() == 0) {
+            return;
+        }
+
+        push(builder.setNonce(NonceGenerator.generateNonce()).build(), watchedStatus);
+    }
+
+    @Override
+    public synchronized void push(DeltaDiscoveryResponse response, WatchedStatus watchedStatus) {
+        if (Loggers.MAIN.isDebugEnabled()) {
+            Loggers.MAIN.debug("deltaDiscoveryResponse: {}", response.toString());
+        }
+
+        this.streamObserver.onNext(response);
+
+        // Update watched status
+        watchedStatus.setLatestVersion(response.getSystemVersionInfo());
+        watchedStatus.setLatestNonce(response.getNonce());
+
+        Loggers.MAIN.info("delta xds: push, type: {}, connection-id {}, version {}, nonce {}, resource size {}, "
+                        + "removed size {}.",
+                watchedStatus.getType(),
+                getConnectionId(),
+                response.getSystemVersionInfo(),
+                response.getNonce(),
+                response.getResourcesCount(),
+                response.getRemovedResourcesCount());
+    }
+}
@@ -23,8 +23,11 @@ import com.alibaba.nacos.istio.misc.Loggers;
 import com.alibaba.nacos.istio.util.NonceGenerator;
 import com.google.protobuf.Any;
 import io.envoyproxy.envoy.service.discovery.v3.AggregatedDiscoveryServiceGrpc;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
 import io.envoyproxy.envoy.service.discovery.v3.DiscoveryRequest;
 import io.envoyproxy.envoy.service.discovery.v3.DiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
 import io.grpc.stub.StreamObserver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -42,10 +45,14 @@ import static com.alibaba.nacos.istio.api.ApiConstants.SERVICE_ENTRY_PROTO_PACKA
 @Service
 public class NacosXdsService extends AggregatedDiscoveryServiceGrpc.AggregatedDiscoveryServiceImplBase {
 
+    private static final String WILDCARD = "*";
+
     private final Map<String, AbstractConnection<DiscoveryResponse>> connections = new ConcurrentHashMap<>(16);
 
+    private final Map<String, DeltaXdsConnection> deltaConnections = new ConcurrentHashMap<>(16);
+
     public boolean hasClientConnection() {
-        return connections.size() != 0;
+        return connections.size() != 0 || deltaConnections.size() != 0;
     }
 
     @Autowired
@@ -96,6 +103,48 @@ public class NacosXdsService extends AggregatedDiscoveryServiceGrpc.AggregatedDi
         };
     }
 
+    @Override
+    public StreamObserver<DeltaDiscoveryRequest> deltaAggregatedResources(StreamObserver<DeltaDiscoveryResponse> responseObserver) {
+        // TODO add authN
+
+        // Init snapshot of nacos service info.
+        resourceManager.initResourceSnapshot();
+        DeltaXdsConnection newConnection = new DeltaXdsConnection(responseObserver);
+
+        return new StreamObserver<DeltaDiscoveryRequest>() {
+            private boolean initRequest = true;
+
+            @Override
+            public void onNext(DeltaDiscoveryRequest deltaDiscoveryRequest) {
+                // init connection
+                if (initRequest) {
+                    newConnection.setConnectionId(deltaDiscoveryRequest.getNode().getId());
+                    deltaConnections.put(newConnection.getConnectionId(), newConnection);
+                    initRequest = false;
+                }
+
+                processDelta(deltaDiscoveryRequest, newConnection);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Loggers.MAIN.error("delta xds: {} stream error.", newConnection.getConnectionId(), throwable);
+                clear();
+            }
+
+            @Override
+            public void onCompleted() {
+                Loggers.MAIN.info("delta xds: {} stream close.", newConnection.getConnectionId());
+                responseObserver.onCompleted();
+                clear();
+            }
+
+            private void clear() {
+                deltaConnections.remove(newConnection.getConnectionId());
+            }
+        };
+    }
+
     public void process(DiscoveryRequest discoveryRequest, AbstractConnection<DiscoveryResponse> connection) {
         if (!shouldPush(discoveryRequest, connection)) {
             return;
@@ -161,26 +210,125 @@ public class NacosXdsService extends AggregatedDiscoveryServiceGrpc.AggregatedDi
         return false;
     }
 
+    /**
+     * Process delta request, the request may carry an ack of the last push and changes of subscribed resources.
+     *
+     * @param deltaDiscoveryRequest delta request
+     * @param connection            delta xds connection
+     */
+    public void processDelta(DeltaDiscoveryRequest deltaDiscoveryRequest, DeltaXdsConnection connection) {
+        String type = deltaDiscoveryRequest.getTypeUrl();
+        String connectionId = connection.getConnectionId();
+
+        // Suitable for bug of istio
+        // See https://github.com/istio/istio/pull/34633
+        if (type.equals(MESH_CONFIG_PROTO_PACKAGE)) {
+            Loggers.MAIN.info("delta xds: type {} should be ignored.", type);
+            return;
+        }
+
+        synchronized (connection) {
+            WatchedStatus watchedStatus = connection.getWatchedStatusByType(type);
+            boolean initRequest = watchedStatus == null;
+            if (initRequest) {
+                Loggers.MAIN.info("delta xds: init request, type {}, connection-id {}, initial resource size {}",
+                        type, connectionId, deltaDiscoveryRequest.getInitialResourceVersionsCount());
+                watchedStatus = new WatchedStatus();
+                watchedStatus.setType(type);
+                watchedStatus.setWildcard(deltaDiscoveryRequest.getResourceNamesSubscribeCount() == 0);
+                // Resources the client already has, e.g. after reconnecting.
+                watchedStatus.getResourceVersions().putAll(deltaDiscoveryRequest.getInitialResourceVersionsMap());
+                connection.addWatchedResource(type, watchedStatus);
+            } else if (!deltaDiscoveryRequest.getResponseNonce().isEmpty()) {
+                if (deltaDiscoveryRequest.getErrorDetail().getCode() != 0) {
+                    Loggers.MAIN.error("delta xds: NACK, connection-id: {}, code: {}, message: {}",
+                            connectionId,
+                            deltaDiscoveryRequest.getErrorDetail().getCode(),
+                            deltaDiscoveryRequest.getErrorDetail().getMessage());
+                } else if (watchedStatus.getLatestNonce().equals(deltaDiscoveryRequest.getResponseNonce())) {
+                    watchedStatus.setAckedVersion(watchedStatus.getLatestVersion());
+                    watchedStatus.setAckedNonce(deltaDiscoveryRequest.getResponseNonce());
+                    Loggers.MAIN.info("delta xds: ack, type {}, connection-id {}, nonce {}", type, connectionId,
+                            deltaDiscoveryRequest.getResponseNonce());
+                }
+            }
+
+            boolean subscriptionChanged = updateSubscription(deltaDiscoveryRequest, watchedStatus, initRequest);
+            if (!initRequest && !subscriptionChanged) {
+                return;
+            }
+
+            ResourceSnapshot resourceSnapshot = resourceManager.getResourceSnapshot();
+            connection.pushDelta(apiGeneratorFactory.getApiGenerator(type).generateDelta(resourceSnapshot),
+                    resourceSnapshot.getVersion(), watchedStatus, initRequest);
+        }
+    }
+
+    private boolean updateSubscription(DeltaDiscoveryRequest deltaDiscoveryRequest, WatchedStatus watchedStatus,
+            boolean initRequest) {
+        boolean changed = false;
+        for (String name : deltaDiscoveryRequest.getResourceNamesSubscribeList()) {
+            if (WILDCARD.equals(name)) {
+                watchedStatus.setWildcard(true);
+            } else {
+                watchedStatus.getSubscribedResources().add(name);
+                if (!initRequest) {
+                    // Explicit subscription asks for the resource even if the client has seen it.
+                    watchedStatus.getResourceVersions().remove(name);
+                }
+            }
+            changed = true;
+        }
+        for (String name : deltaDiscoveryRequest.getResourceNamesUnsubscribeList()) {
+            if (WILDCARD.equals(name)) {
+                watchedStatus.setWildcard(false);
+            } else {
+                watchedStatus.getSubscribedResources().remove(name);
+                // The client drops unsubscribed resources by itself, no removal should be sent.
+                watchedStatus.getResourceVersions().remove(name);
+            }
+            changed = true;
+        }
+        return changed;
+    }
+
     public void handleEvent(ResourceSnapshot resourceSnapshot, Event event) {
         switch (event.getType()) {
             case Service:
-                if (connections.size() == 0) {
+                if (connections.size() == 0 && deltaConnections.size() == 0) {
                     return;
                 }
 
                 Loggers.MAIN.info("xds: event {} trigger push.", event.getType());
 
-                // Service Entry via MCP
-                DiscoveryResponse serviceEntryResponse = buildDiscoveryResponse(SERVICE_ENTRY_PROTO_PACKAGE, resourceSnapshot);
-                // TODO CDS, EDS
-
-                for (AbstractConnection<DiscoveryResponse> connection : connections.values()) {
+                if (connections.size() != 0) {
                     // Service Entry via MCP
-                    WatchedStatus watchedStatus = connection.getWatchedStatusByType(SERVICE_ENTRY_PROTO_PACKAGE);
-                    if (watchedStatus != null) {
-                        connection.push(serviceEntryResponse, watchedStatus);
-                    }
+                    DiscoveryResponse serviceEntryResponse = buildDiscoveryResponse(SERVICE_ENTRY_PROTO_PACKAGE, resourceSnapshot);
                     // TODO CDS, EDS
+
+                    for (AbstractConnection<DiscoveryResponse> connection : connections.values()) {
+                        // Service Entry via MCP
+                        WatchedStatus watchedStatus = connection.getWatchedStatusByType(SERVICE_ENTRY_PROTO_PACKAGE);
+                        if (watchedStatus != null) {
+                            connection.push(serviceEntryResponse, watchedStatus);
+                        }
+                        // TODO CDS, EDS
+                    }
+                }
+
+                if (deltaConnections.size() != 0) {
+                    // Resources are built once, each connection only sends the ones changed for its client.
+                    List<Resource> serviceEntryResources = apiGeneratorFactory
+                            .getApiGenerator(SERVICE_ENTRY_PROTO_PACKAGE).generateDelta(resourceSnapshot);
+                    for (DeltaXdsConnection connection : deltaConnections.values()) {
+                        synchronized (connection) {
+                            WatchedStatus watchedStatus = connection.getWatchedStatusByType(SERVICE_ENTRY_PROTO_PACKAGE);
+                            if (watchedStatus != null) {
+                                connection.pushDelta(serviceEntryResources, resourceSnapshot.getVersion(),
+                                        watchedStatus, false);
+                            }
+                        }
+                    }
                 }
                 break;
             case Endpoint:
@@ -20,15 +20,11 @@ import com.alibaba.nacos.istio.api.ApiGenerator;
 import com.alibaba.nacos.istio.common.ResourceSnapshot;
 import com.alibaba.nacos.istio.model.ServiceEntryWrapper;
 import com.google.protobuf.Any;
-import istio.mcp.v1alpha1.MetadataOuterClass.Metadata;
-import istio.mcp.v1alpha1.ResourceOuterClass.Resource;
-import istio.networking.v1alpha3.ServiceEntryOuterClass.ServiceEntry;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.alibaba.nacos.istio.api.ApiConstants.*;
-
 /**
  * @author special.fy
  */
@@ -49,21 +45,24 @@ public final class ServiceEntryXdsGenerator implements ApiGenerator<Any> {
 
     @Override
     public List<Any> generate(ResourceSnapshot resourceSnapshot) {
-        List<Resource> resources = new ArrayList<>();
-
         List<ServiceEntryWrapper> serviceEntries = resourceSnapshot.getServiceEntries();
+        List<Any> result = new ArrayList<>(serviceEntries.size());
         for (ServiceEntryWrapper serviceEntryWrapper : serviceEntries) {
-            Metadata metadata = serviceEntryWrapper.getMetadata();
-            ServiceEntry serviceEntry = serviceEntryWrapper.getServiceEntry();
-
-            Any any = Any.newBuilder().setValue(serviceEntry.toByteString()).setTypeUrl(SERVICE_ENTRY_PROTO).build();
-
-            resources.add(Resource.newBuilder().setBody(any).setMetadata(metadata).build());
+            result.add(serviceEntryWrapper.getResourceAny());
         }
 
-        List<Any> result = new ArrayList<>();
-        for (Resource resource : resources) {
-            result.add(Any.newBuilder().setValue(resource.toByteString()).setTypeUrl(MCP_RESOURCE_PROTO).build());
+        return result;
+    }
+
+    @Override
+    public List<Resource> generateDelta(ResourceSnapshot resourceSnapshot) {
+        List<ServiceEntryWrapper> serviceEntries = resourceSnapshot.getServiceEntries();
+        List<Resource> result = new ArrayList<>(serviceEntries.size());
+        for (ServiceEntryWrapper serviceEntryWrapper : serviceEntries) {
+            result.add(Resource.newBuilder()
+                    .setName(serviceEntryWrapper.getMetadata().getName())
+                    .setVersion(serviceEntryWrapper.getMetadata().getVersion())
+                    .setResource(serviceEntryWrapper.getResourceAny()).build());
         }
 
         return result;
@@ -29,5 +29,8 @@ public class NamingAbilityInitializer implements ServerAbilityInitializer {
     @Override
     public void initialize(ServerAbilities abilities) {
         abilities.getNamingAbility().setSupportJraft(true);
+        abilities.getNamingAbility().setSupportDistroVerifyDigest(true);
+        abilities.getNamingAbility().setSupportDistroSnapshotSlice(true);
+        abilities.getNamingAbility().setSupportDistroBatchSync(true);
     }
 }
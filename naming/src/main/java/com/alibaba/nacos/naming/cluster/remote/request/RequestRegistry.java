@@ -34,6 +34,7 @@ public class RequestRegistry {
     private static Set<Class<? extends Payload>> registryPayload() {
         HashSet<Class<? extends Payload>> payloads = new HashSet<>();
         payloads.add(AbstractClusterRequest.class);
+        payloads.add(DistroBatchDataRequest.class);
         payloads.add(DistroDataRequest.class);
         return payloads;
     }
@@ -25,6 +25,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -45,10 +46,15 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Distro processor for v2.
@@ -59,15 +65,25 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     public static final String TYPE = "Nacos:Naming:v2:ClientData";
     
+    private static final long SNAPSHOT_SLICE_INDEX_EXPIRED_TIME = TimeUnit.MINUTES.toMillis(1);
+    
     private final ClientManager clientManager;
     
     private final DistroProtocol distroProtocol;
     
+    private final DistroClientDigestVerifier digestVerifier;
+    
+    /**
+     * sliceIndex/sliceCount -> sorted client ids of the slice, shared by the pages of one snapshot loading.
+     */
+    private final Map<String, SnapshotSliceIndex> snapshotSliceIndexes = new ConcurrentHashMap<>();
+    
     private volatile boolean isFinishInitial;
     
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
+        this.digestVerifier = new DistroClientDigestVerifier(clientManager);
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
@@ -234,6 +250,31 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return false;
     }
     
+    @Override
+    public DistroData processVerifyDigest(DistroData distroData, String sourceAddress) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        DistroKey distroKey = distroData.getDistroKey();
+        String sourceServer = null != distroKey.getTargetServer() ? distroKey.getTargetServer() : sourceAddress;
+        DistroClientVerifyResult result;
+        if (DistroClientDigestVerifier.BUCKET_KEY.equals(distroKey.getResourceKey())) {
+            DistroClientVerifyBucket bucket = serializer
+                    .deserialize(distroData.getContent(), DistroClientVerifyBucket.class);
+            result = digestVerifier.verifyBucket(sourceServer, bucket);
+        } else {
+            DistroClientVerifyDigest digest = serializer
+                    .deserialize(distroData.getContent(), DistroClientVerifyDigest.class);
+            result = digestVerifier.verifyDigest(sourceServer, digest);
+        }
+        if (!result.getFailedClients().isEmpty()) {
+            Loggers.DISTRO.info("clients {} are invalid, get new clients from {}", result.getFailedClients(),
+                    sourceServer);
+        }
+        DistroData resultData = new DistroData(new DistroKey(distroKey.getResourceKey(), TYPE),
+                serializer.serialize(result));
+        resultData.setType(DataOperation.VERIFY_DIGEST);
+        return resultData;
+    }
+    
     @Override
     public boolean processSnapshot(DistroData distroData) {
         ClientSyncDatumSnapshot snapshot = ApplicationUtils.getBean(Serializer.class)
@@ -244,6 +285,21 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return true;
     }
     
+    @Override
+    public boolean processSnapshotSlice(DistroData distroData, DistroSnapshotSlice slice) {
+        if (null == distroData || null == distroData.getContent()) {
+            return false;
+        }
+        DistroClientSnapshotPage page = ApplicationUtils.getBean(Serializer.class)
+                .deserialize(distroData.getContent(), DistroClientSnapshotPage.class);
+        for (ClientSyncData each : page.getClientSyncDataList()) {
+            handlerClientSyncData(each);
+        }
+        slice.setCursor(page.getNextCursor());
+        slice.setFinished(null == page.getNextCursor());
+        return true;
+    }
+    
     @Override
     public DistroData getDistroData(DistroKey distroKey) {
         Client client = clientManager.getClient(distroKey.getResourceKey());
@@ -270,6 +326,74 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
     }
     
+    /**
+     * Get one page of clients in the slice, ordered by client id and starting after the cursor.
+     *
+     * <p>The client ids of the slice are collected and sorted once when the first page is requested, and the following
+     * pages are located in the sorted ids by the cursor, so loading one slice costs one scan of client ids. The sorted ids
+     * are released after the last page or expired if the loading is aborted. Clients added after the first page are not
+     * in the snapshot, but they are synced to the loading server by distro sync task.
+     */
+    @Override
+    public DistroData getDatumSnapshot(DistroSnapshotSlice slice) {
+        if (slice.getSliceCount() <= 0 || slice.getPageSize() <= 0) {
+            return null;
+        }
+        long currentTime = System.currentTimeMillis();
+        snapshotSliceIndexes.values().removeIf(each -> each.isExpired(currentTime));
+        String indexKey = slice.getSliceIndex() + "/" + slice.getSliceCount();
+        String cursor = slice.getCursor();
+        SnapshotSliceIndex index = null == cursor ? null : snapshotSliceIndexes.get(indexKey);
+        if (null == index) {
+            index = buildSnapshotSliceIndex(slice.getSliceIndex(), slice.getSliceCount(), currentTime);
+            snapshotSliceIndexes.put(indexKey, index);
+        } else {
+            index.lastAccessTime = currentTime;
+        }
+        String[] clientIds = index.clientIds;
+        int from = 0;
+        if (null != cursor) {
+            int position = Arrays.binarySearch(clientIds, cursor);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        int to = Math.min(clientIds.length, from + slice.getPageSize());
+        DistroClientSnapshotPage page = new DistroClientSnapshotPage();
+        for (int i = from; i < to; i++) {
+            Client client = clientManager.getClient(clientIds[i]);
+            if (null != client && client.isEphemeral()) {
+                page.getClientSyncDataList().add(client.generateSyncData());
+            }
+        }
+        if (to < clientIds.length) {
+            page.setNextCursor(clientIds[to - 1]);
+        } else {
+            snapshotSliceIndexes.remove(indexKey, index);
+        }
+        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(page);
+        DistroData result = new DistroData(new DistroKey(DataOperation.SNAPSHOT_SLICE.name(), TYPE), data);
+        result.setType(DataOperation.SNAPSHOT_SLICE);
+        return result;
+    }
+    
+    private SnapshotSliceIndex buildSnapshotSliceIndex(int sliceIndex, int sliceCount, long currentTime) {
+        List<String> clientIds = new ArrayList<>();
+        for (String each : clientManager.allClientId()) {
+            if (sliceOf(each, sliceCount) == sliceIndex) {
+                clientIds.add(each);
+            }
+        }
+        String[] result = clientIds.toArray(new String[0]);
+        Arrays.sort(result);
+        return new SnapshotSliceIndex(result, currentTime);
+    }
+    
+    /**
+     * Slice of client id, {@link String#hashCode()} is cached by string and the same on every server.
+     */
+    static int sliceOf(String clientId, int sliceCount) {
+        return (clientId.hashCode() & Integer.MAX_VALUE) % sliceCount;
+    }
+    
     @Override
     public List<DistroData> getVerifyData() {
         List<DistroData> result = null;
@@ -293,4 +417,47 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         return result;
     }
+    
+    @Override
+    public List<DistroData> getVerifyData(DistroData mismatchedDigest) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        DistroClientVerifyResult mismatched = serializer
+                .deserialize(mismatchedDigest.getContent(), DistroClientVerifyResult.class);
+        List<DistroData> result = new LinkedList<>();
+        for (DistroClientVerifyBucket each : digestVerifier.buildBuckets(mismatched.getMismatchedBuckets())) {
+            DistroKey distroKey = new DistroKey(DistroClientDigestVerifier.BUCKET_KEY, TYPE);
+            DistroData data = new DistroData(distroKey, serializer.serialize(each));
+            data.setType(DataOperation.VERIFY_DIGEST);
+            result.add(data);
+        }
+        return result;
+    }
+    
+    @Override
+    public DistroData getVerifyDigest() {
+        DistroClientVerifyDigest digest = digestVerifier.buildDigest();
+        if (null == digest) {
+            return null;
+        }
+        DistroKey distroKey = new DistroKey(DistroClientDigestVerifier.DIGEST_KEY, TYPE);
+        DistroData data = new DistroData(distroKey, ApplicationUtils.getBean(Serializer.class).serialize(digest));
+        data.setType(DataOperation.VERIFY_DIGEST);
+        return data;
+    }
+    
+    private static class SnapshotSliceIndex {
+        
+        private final String[] clientIds;
+        
+        private volatile long lastAccessTime;
+        
+        private SnapshotSliceIndex(String[] clientIds, long lastAccessTime) {
+            this.clientIds = clientIds;
+            this.lastAccessTime = lastAccessTime;
+        }
+        
+        private boolean isExpired(long currentTime) {
+            return currentTime - lastAccessTime > SNAPSHOT_SLICE_INDEX_EXPIRED_TIME;
+        }
+    }
 }
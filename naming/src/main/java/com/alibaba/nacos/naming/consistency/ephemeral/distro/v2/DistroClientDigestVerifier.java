@@ -0,0 +1,260 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberChangeListener;
+import com.alibaba.nacos.core.cluster.MembersChangeEvent;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verify distro clients by digest.
+ *
+ * <p>Responsible clients are grouped into buckets by client id. The source server sends the hash of each bucket, the
+ * target server compares them with the buckets it verified last time and returns the mismatched ones. Only clients of
+ * mismatched buckets are sent afterwards, so unchanged clients are not sent on every verify interval.
+ *
+ * <p>Verifying also renews the synced clients, so the target server keeps the clients of each verified bucket and
+ * renews them when the bucket hash is unchanged. The verified buckets of a source server are dropped when it is no
+ * longer a member of cluster.
+ *
+ * @author Nacos
+ */
+public class DistroClientDigestVerifier extends MemberChangeListener {
+    
+    static final String DIGEST_KEY = "verifyDigest";
+    
+    static final String BUCKET_KEY = "verifyBucket";
+    
+    static final int BUCKET_COUNT = 1024;
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    
+    private final ClientManager clientManager;
+    
+    /**
+     * Verified buckets of each source server.
+     */
+    private final Map<String, VerifiedBucket[]> verifiedBuckets = new ConcurrentHashMap<>();
+    
+    public DistroClientDigestVerifier(ClientManager clientManager) {
+        this.clientManager = clientManager;
+        NotifyCenter.registerSubscriber(this);
+    }
+    
+    @Override
+    public void onEvent(MembersChangeEvent event) {
+        Set<String> memberAddresses = new HashSet<>();
+        for (Member each : event.getMembers()) {
+            memberAddresses.add(each.getAddress());
+        }
+        verifiedBuckets.keySet().retainAll(memberAddresses);
+    }
+    
+    /**
+     * Build digest of current responsible clients.
+     *
+     * @return digest, {@code null} if no responsible client
+     */
+    public DistroClientVerifyDigest buildDigest() {
+        long[] bucketHashes = new long[BUCKET_COUNT];
+        boolean empty = true;
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (!isResponsibleEphemeralClient(client)) {
+                continue;
+            }
+            long idHash = hashOf(client.getClientId());
+            bucketHashes[bucketOf(idHash)] += hashOf(idHash, client.getRevision());
+            empty = false;
+        }
+        return empty ? null : new DistroClientVerifyDigest(bucketHashes);
+    }
+    
+    /**
+     * Build clients of the mismatched buckets.
+     *
+     * @param mismatchedBuckets mismatched bucket indexes
+     * @return clients of each mismatched bucket
+     */
+    public List<DistroClientVerifyBucket> buildBuckets(List<Integer> mismatchedBuckets) {
+        if (mismatchedBuckets.isEmpty()) {
+            return new ArrayList<>();
+        }
+        BitSet mismatched = new BitSet(BUCKET_COUNT);
+        for (Integer each : mismatchedBuckets) {
+            mismatched.set(each);
+        }
+        DistroClientVerifyBucket[] buckets = new DistroClientVerifyBucket[BUCKET_COUNT];
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (!isResponsibleEphemeralClient(client)) {
+                continue;
+            }
+            long idHash = hashOf(client.getClientId());
+            int bucket = bucketOf(idHash);
+            if (!mismatched.get(bucket)) {
+                continue;
+            }
+            if (null == buckets[bucket]) {
+                buckets[bucket] = new DistroClientVerifyBucket(bucket, 0L, new ArrayList<>());
+            }
+            long revision = client.getRevision();
+            buckets[bucket].setHash(buckets[bucket].getHash() + hashOf(idHash, revision));
+            buckets[bucket].getClients().add(new DistroClientVerifyInfo(client.getClientId(), revision));
+        }
+        List<DistroClientVerifyBucket> result = new ArrayList<>(mismatchedBuckets.size());
+        for (DistroClientVerifyBucket each : buckets) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Verify digest from source server, clients of matched buckets are renewed.
+     *
+     * @param sourceServer source server address
+     * @param digest       digest from source server
+     * @return result with mismatched buckets
+     */
+    public DistroClientVerifyResult verifyDigest(String sourceServer, DistroClientVerifyDigest digest) {
+        DistroClientVerifyResult result = new DistroClientVerifyResult();
+        long[] bucketHashes = digest.getBucketHashes();
+        if (null == bucketHashes || bucketHashes.length != BUCKET_COUNT) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                result.getMismatchedBuckets().add(i);
+            }
+            return result;
+        }
+        VerifiedBucket[] verified = verifiedBuckets.computeIfAbsent(sourceServer,
+                key -> new VerifiedBucket[BUCKET_COUNT]);
+        synchronized (verified) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                VerifiedBucket each = verified[i];
+                if (null != each && each.hash == bucketHashes[i] && each.renew(clientManager)) {
+                    continue;
+                }
+                verified[i] = null;
+                // Zero hash means no client in the bucket.
+                if (0L != bucketHashes[i]) {
+                    result.getMismatchedBuckets().add(i);
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Verify clients of one mismatched bucket from source server.
+     *
+     * @param sourceServer source server address
+     * @param bucket       clients of the bucket
+     * @return result with clients failed to verify
+     */
+    public DistroClientVerifyResult verifyBucket(String sourceServer, DistroClientVerifyBucket bucket) {
+        DistroClientVerifyResult result = new DistroClientVerifyResult();
+        List<DistroClientVerifyInfo> clients = bucket.getClients();
+        String[] clientIds = new String[clients.size()];
+        long[] revisions = new long[clients.size()];
+        for (int i = 0; i < clients.size(); i++) {
+            DistroClientVerifyInfo each = clients.get(i);
+            if (!clientManager.verifyClient(each)) {
+                result.getFailedClients().add(each.getClientId());
+            }
+            clientIds[i] = each.getClientId();
+            revisions[i] = each.getRevision();
+        }
+        if (result.getFailedClients().isEmpty() && bucket.getBucket() >= 0 && bucket.getBucket() < BUCKET_COUNT) {
+            VerifiedBucket[] verified = verifiedBuckets.computeIfAbsent(sourceServer,
+                    key -> new VerifiedBucket[BUCKET_COUNT]);
+            synchronized (verified) {
+                verified[bucket.getBucket()] = new VerifiedBucket(bucket.getHash(), clientIds, revisions);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isResponsibleEphemeralClient(Client client) {
+        return null != client && client.isEphemeral() && clientManager.isResponsibleClient(client);
+    }
+    
+    static int bucketOf(long idHash) {
+        return (int) ((idHash >>> 1) % BUCKET_COUNT);
+    }
+    
+    /**
+     * FNV-1a hash of client id, the same on every server.
+     */
+    static long hashOf(String clientId) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < clientId.length(); i++) {
+            hash ^= clientId.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+    
+    /**
+     * Mix client id hash and revision, bucket hash is the sum of them so that it doesn't depend on client order.
+     */
+    static long hashOf(long idHash, long revision) {
+        long hash = idHash ^ (revision * GOLDEN_GAMMA);
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+    
+    private static class VerifiedBucket {
+        
+        private final long hash;
+        
+        private final String[] clientIds;
+        
+        private final long[] revisions;
+        
+        private VerifiedBucket(long hash, String[] clientIds, long[] revisions) {
+            this.hash = hash;
+            this.clientIds = clientIds;
+            this.revisions = revisions;
+        }
+        
+        private boolean renew(ClientManager clientManager) {
+            for (int i = 0; i < clientIds.length; i++) {
+                if (!clientManager.verifyClient(new DistroClientVerifyInfo(clientIds[i], revisions[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncData;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of distro client snapshot slice.
+ *
+ * @author Nacos
+ */
+public class DistroClientSnapshotPage implements Serializable {
+    
+    private static final long serialVersionUID = 2467043851617960243L;
+    
+    private List<ClientSyncData> clientSyncDataList = new ArrayList<>();
+    
+    /**
+     * Client id of the last client in this page, {@code null} if this page is the last page of slice.
+     */
+    private String nextCursor;
+    
+    public List<ClientSyncData> getClientSyncDataList() {
+        return clientSyncDataList;
+    }
+    
+    public void setClientSyncDataList(List<ClientSyncData> clientSyncDataList) {
+        this.clientSyncDataList = clientSyncDataList;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
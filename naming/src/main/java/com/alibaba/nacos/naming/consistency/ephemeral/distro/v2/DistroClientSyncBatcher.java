@@ -0,0 +1,187 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Distro client sync batcher.
+ *
+ * <p>Sync data to the same target server are pended and coalesced by resource key, the latest data replaces the older
+ * one. The pending data are sent as one batch when the count reaches the sync batch size, or when the sync batch delay
+ * passed since the first data pended.
+ *
+ * @author Nacos
+ */
+public class DistroClientSyncBatcher {
+    
+    private final Map<String, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+    
+    private final BiConsumer<String, Batch> batchSender;
+    
+    public DistroClientSyncBatcher(BiConsumer<String, Batch> batchSender) {
+        this.batchSender = batchSender;
+    }
+    
+    /**
+     * Add sync data to the pending batch of target server.
+     *
+     * @param data         sync data
+     * @param targetServer target server
+     * @param callback     callback of sync data
+     */
+    public void add(DistroData data, String targetServer, DistroCallback callback) {
+        PendingBatch pendingBatch = pendingBatches.computeIfAbsent(targetServer, key -> new PendingBatch());
+        Batch fullBatch = null;
+        boolean scheduleFlush;
+        synchronized (pendingBatch) {
+            scheduleFlush = pendingBatch.isEmpty();
+            pendingBatch.add(data, callback);
+            if (pendingBatch.size() >= DistroConfig.getInstance().getSyncBatchSize()) {
+                fullBatch = pendingBatch.drain();
+                scheduleFlush = false;
+            }
+        }
+        if (null != fullBatch) {
+            batchSender.accept(targetServer, fullBatch);
+        } else if (scheduleFlush) {
+            GlobalExecutor.scheduleDistroSyncBatch(() -> flush(targetServer),
+                    DistroConfig.getInstance().getSyncBatchDelayMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Send the pending batch of target server if it is not empty.
+     *
+     * @param targetServer target server
+     */
+    public void flush(String targetServer) {
+        PendingBatch pendingBatch = pendingBatches.get(targetServer);
+        if (null == pendingBatch) {
+            return;
+        }
+        Batch batch;
+        synchronized (pendingBatch) {
+            if (pendingBatch.isEmpty()) {
+                return;
+            }
+            batch = pendingBatch.drain();
+        }
+        batchSender.accept(targetServer, batch);
+    }
+    
+    private static class PendingBatch {
+        
+        private Map<String, PendingData> pendingData = new LinkedHashMap<>();
+        
+        private int coalescedSize;
+        
+        private void add(DistroData data, DistroCallback callback) {
+            coalescedSize++;
+            PendingData previous = pendingData.get(data.getDistroKey().getResourceKey());
+            if (null == previous) {
+                pendingData.put(data.getDistroKey().getResourceKey(), new PendingData(data, callback));
+            } else {
+                previous.data = data;
+                previous.callbacks.add(callback);
+            }
+        }
+        
+        private boolean isEmpty() {
+            return pendingData.isEmpty();
+        }
+        
+        private int size() {
+            return pendingData.size();
+        }
+        
+        private Batch drain() {
+            Batch result = new Batch(pendingData.values(), coalescedSize);
+            pendingData = new LinkedHashMap<>();
+            coalescedSize = 0;
+            return result;
+        }
+    }
+    
+    private static class PendingData {
+        
+        private final List<DistroCallback> callbacks = new LinkedList<>();
+        
+        private DistroData data;
+        
+        private PendingData(DistroData data, DistroCallback callback) {
+            this.data = data;
+            this.callbacks.add(callback);
+        }
+    }
+    
+    /**
+     * One batch of sync data to a target server, which notifies callbacks of all coalesced sync data.
+     */
+    public static class Batch implements DistroCallback {
+        
+        private final List<DistroData> dataList;
+        
+        private final List<DistroCallback> callbacks;
+        
+        private final int coalescedSize;
+        
+        private Batch(Iterable<PendingData> pendingData, int coalescedSize) {
+            this.dataList = new ArrayList<>();
+            this.callbacks = new ArrayList<>(coalescedSize);
+            this.coalescedSize = coalescedSize;
+            for (PendingData each : pendingData) {
+                dataList.add(each.data);
+                callbacks.addAll(each.callbacks);
+            }
+        }
+        
+        public List<DistroData> getDataList() {
+            return dataList;
+        }
+        
+        public int getCoalescedSize() {
+            return coalescedSize;
+        }
+        
+        @Override
+        public void onSuccess() {
+            for (DistroCallback each : callbacks) {
+                each.onSuccess();
+            }
+        }
+        
+        @Override
+        public void onFailed(Throwable throwable) {
+            for (DistroCallback each : callbacks) {
+                each.onFailed(throwable);
+            }
+        }
+    }
+}
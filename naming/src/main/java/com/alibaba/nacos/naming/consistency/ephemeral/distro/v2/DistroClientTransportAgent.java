@@ -31,13 +31,18 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroBatchDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.monitor.NamingTpsMonitor;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
 
 import java.util.concurrent.Executor;
 
@@ -52,6 +57,8 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
     
     private final ServerMemberManager memberManager;
     
+    private final DistroClientSyncBatcher syncBatcher = new DistroClientSyncBatcher(this::syncBatchData);
+    
     public DistroClientTransportAgent(ClusterRpcClientProxy clusterRpcClientProxy,
             ServerMemberManager serverMemberManager) {
         this.clusterRpcClientProxy = clusterRpcClientProxy;
@@ -91,6 +98,14 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             callback.onSuccess();
             return;
         }
+        if (supportBatchSync(targetServer)) {
+            syncBatcher.add(data, targetServer, callback);
+            return;
+        }
+        doSyncData(data, targetServer, callback);
+    }
+    
+    private void doSyncData(DistroData data, String targetServer, DistroCallback callback) {
         DistroDataRequest request = new DistroDataRequest(data, data.getType());
         Member member = memberManager.find(targetServer);
         if (checkTargetServerStatusUnhealthy(member)) {
@@ -107,6 +122,40 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    private boolean supportBatchSync(String targetServer) {
+        if (DistroConfig.getInstance().getSyncBatchSize() <= 1) {
+            return false;
+        }
+        Member member = memberManager.find(targetServer);
+        return null != member && null != member.getAbilities() && null != member.getAbilities().getNamingAbility()
+                && member.getAbilities().getNamingAbility().isSupportDistroBatchSync();
+    }
+    
+    private void syncBatchData(String targetServer, DistroClientSyncBatcher.Batch batch) {
+        MetricsMonitor.recordDistroSyncBatch(batch.getDataList().size(), batch.getCoalescedSize());
+        if (1 == batch.getDataList().size()) {
+            doSyncData(batch.getDataList().get(0), targetServer, batch);
+            return;
+        }
+        if (isNoExistTarget(targetServer)) {
+            batch.onSuccess();
+            return;
+        }
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro batch sync caused by target server {} unhealthy, size: {}",
+                    targetServer, batch.getDataList().size());
+            batch.onFailed(null);
+            return;
+        }
+        try {
+            DistroBatchDataRequest request = new DistroBatchDataRequest(batch.getDataList());
+            clusterRpcClientProxy.asyncRequest(member, request, new DistroRpcCallbackWrapper(batch, member));
+        } catch (NacosException nacosException) {
+            batch.onFailed(nacosException);
+        }
+    }
+    
     @Override
     public boolean syncVerifyData(DistroData verifyData, String targetServer) {
         if (isNoExistTarget(targetServer)) {
@@ -155,6 +204,51 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportVerifyDigest(String targetServer) {
+        Member member = memberManager.find(targetServer);
+        return null != member && null != member.getAbilities() && null != member.getAbilities().getNamingAbility()
+                && member.getAbilities().getNamingAbility().isSupportDistroVerifyDigest();
+    }
+    
+    @Override
+    public DistroData syncVerifyDigest(DistroData verifyDigest, String targetServer) {
+        if (isNoExistTarget(targetServer)) {
+            return null;
+        }
+        // replace target server as self server so that target server can record verified data of self server.
+        verifyDigest.getDistroKey().setTargetServer(memberManager.getSelf().getAddress());
+        DistroDataRequest request = new DistroDataRequest(verifyDigest, DataOperation.VERIFY_DIGEST);
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO
+                    .warn("[DISTRO] Cancel distro verify caused by target server {} unhealthy, key: {}", targetServer,
+                            verifyDigest.getDistroKey());
+            return null;
+        }
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getVerifyTimeoutMillis());
+            if (!checkResponse(response)) {
+                NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+                return null;
+            }
+            NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+            DistroData result = ((DistroDataResponse) response).getDistroData();
+            DistroClientVerifyResult verifyResult = ApplicationUtils.getBean(Serializer.class)
+                    .deserialize(result.getContent(), DistroClientVerifyResult.class);
+            for (String each : verifyResult.getFailedClients()) {
+                Loggers.DISTRO.info("Target {} verify client {} failed, sync new client", targetServer, each);
+                NotifyCenter.publishEvent(new ClientEvent.ClientVerifyFailedEvent(each, targetServer));
+            }
+            return result;
+        } catch (NacosException e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] Verify distro digest failed! key: {} ", verifyDigest.getDistroKey(),
+                    e);
+        }
+        return null;
+    }
+    
     @Override
     public DistroData getData(DistroKey key, String targetServer) {
         Member member = memberManager.find(targetServer);
@@ -206,6 +300,40 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public DistroData getDatumSnapshot(DistroSnapshotSlice slice, String targetServer) {
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            throw new DistroException(
+                    String.format("[DISTRO] Cancel get snapshot slice caused by target server %s unhealthy",
+                            targetServer));
+        }
+        DistroData sliceData = new DistroData(
+                new DistroKey(DataOperation.SNAPSHOT_SLICE.name(), DistroClientDataProcessor.TYPE),
+                ApplicationUtils.getBean(Serializer.class).serialize(slice));
+        DistroDataRequest request = new DistroDataRequest(sliceData, DataOperation.SNAPSHOT_SLICE);
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
+            if (checkResponse(response)) {
+                return ((DistroDataResponse) response).getDistroData();
+            } else {
+                throw new DistroException(
+                        String.format("[DISTRO-FAILED] Get snapshot slice request to %s failed, code: %d, message: %s",
+                                targetServer, response.getErrorCode(), response.getMessage()));
+            }
+        } catch (NacosException e) {
+            throw new DistroException("[DISTRO-FAILED] Get distro snapshot slice failed! ", e);
+        }
+    }
+    
+    @Override
+    public boolean supportSnapshotSlice(String targetServer) {
+        Member member = memberManager.find(targetServer);
+        return null != member && null != member.getAbilities() && null != member.getAbilities().getNamingAbility()
+                && member.getAbilities().getNamingAbility().isSupportDistroSnapshotSlice();
+    }
+    
     private boolean isNoExistTarget(String target) {
         return !memberManager.hasMember(target);
     }
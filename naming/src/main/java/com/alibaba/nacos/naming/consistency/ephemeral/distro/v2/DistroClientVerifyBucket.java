@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Clients of one mismatched bucket of {@link DistroClientVerifyDigest}.
+ *
+ * @author Nacos
+ */
+public class DistroClientVerifyBucket implements Serializable {
+    
+    private static final long serialVersionUID = 6217316546398404427L;
+    
+    private int bucket;
+    
+    private long hash;
+    
+    private List<DistroClientVerifyInfo> clients;
+    
+    public DistroClientVerifyBucket() {
+    }
+    
+    public DistroClientVerifyBucket(int bucket, long hash, List<DistroClientVerifyInfo> clients) {
+        this.bucket = bucket;
+        this.hash = hash;
+        this.clients = clients;
+    }
+    
+    public int getBucket() {
+        return bucket;
+    }
+    
+    public void setBucket(int bucket) {
+        this.bucket = bucket;
+    }
+    
+    public long getHash() {
+        return hash;
+    }
+    
+    public void setHash(long hash) {
+        this.hash = hash;
+    }
+    
+    public List<DistroClientVerifyInfo> getClients() {
+        return clients;
+    }
+    
+    public void setClients(List<DistroClientVerifyInfo> clients) {
+        this.clients = clients;
+    }
+}
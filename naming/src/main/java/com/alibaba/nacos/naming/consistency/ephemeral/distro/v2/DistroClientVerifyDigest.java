@@ -0,0 +1,46 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+
+/**
+ * Digest for verifying clients, clients are grouped into buckets by client id and each bucket has one hash.
+ *
+ * @author Nacos
+ */
+public class DistroClientVerifyDigest implements Serializable {
+    
+    private static final long serialVersionUID = -3360254236404937652L;
+    
+    private long[] bucketHashes;
+    
+    public DistroClientVerifyDigest() {
+    }
+    
+    public DistroClientVerifyDigest(long[] bucketHashes) {
+        this.bucketHashes = bucketHashes;
+    }
+    
+    public long[] getBucketHashes() {
+        return bucketHashes;
+    }
+    
+    public void setBucketHashes(long[] bucketHashes) {
+        this.bucketHashes = bucketHashes;
+    }
+}
@@ -43,4 +43,18 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push delta of service to the rpc client which supports delta push.
+     */
+    public static final String PUSH_DELTA_ENABLED = "nacos.naming.push.delta.enabled";
+    
+    public static final boolean DEFAULT_PUSH_DELTA_ENABLED = false;
+    
+    /**
+     * Max history revisions of each service kept to generate delta push.
+     */
+    public static final String PUSH_DELTA_HISTORY_SIZE = "nacos.naming.push.delta.historySize";
+    
+    public static final int DEFAULT_PUSH_DELTA_HISTORY_SIZE = 8;
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client.manager.impl;
+
+import com.alibaba.nacos.naming.core.v2.client.Client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hashed timing wheel of client expiration.
+ *
+ * <p>Each client is put into the slot of the earliest time it might expire, so the expired client cleaner only polls
+ * clients in the due slots instead of scanning all clients. Heartbeat and renew only postpone the expiration of client,
+ * so the wheel needn't be updated by them: the cleaner checks the polled client, and schedules it again by the new
+ * deadline if it is not expired yet.
+ *
+ * <p>A deadline beyond one round of the wheel stays in its slot until the round of deadline is reached.
+ *
+ * @author Nacos
+ */
+class ClientExpirationWheel<C extends Client> {
+    
+    private static final int WHEEL_SIZE = 64;
+    
+    private final long tickMillis;
+    
+    private final List<Slot<C>> slots;
+    
+    private volatile long processedTick;
+    
+    ClientExpirationWheel(long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots.add(new Slot<>());
+        }
+        this.processedTick = System.currentTimeMillis() / tickMillis - 1;
+    }
+    
+    /**
+     * Schedule the client to be polled at the deadline, a passed deadline will be polled at next tick.
+     *
+     * @param client   client
+     * @param deadline earliest time the client might expire
+     */
+    void schedule(C client, long deadline) {
+        long tick = Math.max(deadline / tickMillis, processedTick + 1);
+        slotOf(tick).add(new Entry<>(client, deadline));
+    }
+    
+    /**
+     * Poll the clients whose deadline passed, the polled clients are removed from the wheel.
+     *
+     * @param currentTime current time
+     * @return clients whose deadline passed
+     */
+    List<C> pollDue(long currentTime) {
+        long currentTick = currentTime / tickMillis;
+        List<C> result = new ArrayList<>();
+        long fromTick = Math.max(processedTick + 1, currentTick - WHEEL_SIZE + 1);
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            Slot<C> slot = slotOf(tick);
+            for (Entry<C> each : slot.drain()) {
+                if (each.deadline / tickMillis <= currentTick) {
+                    result.add(each.client);
+                } else {
+                    slot.add(each);
+                }
+            }
+        }
+        processedTick = Math.max(processedTick, currentTick);
+        return result;
+    }
+    
+    private Slot<C> slotOf(long tick) {
+        return slots.get((int) (tick % WHEEL_SIZE));
+    }
+    
+    private static class Slot<C> {
+        
+        private List<Entry<C>> entries = new ArrayList<>();
+        
+        private synchronized void add(Entry<C> entry) {
+            entries.add(entry);
+        }
+        
+        private synchronized List<Entry<C>> drain() {
+            List<Entry<C>> result = entries;
+            entries = new ArrayList<>();
+            return result;
+        }
+    }
+    
+    private static class Entry<C> {
+        
+        private final C client;
+        
+        private final long deadline;
+        
+        private Entry(C client, long deadline) {
+            this.client = client;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -31,6 +31,7 @@ import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.misc.ClientConfig;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import org.springframework.stereotype.Component;
@@ -50,6 +51,9 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     
     private final ConcurrentMap<String, ConnectionBasedClient> clients = new ConcurrentHashMap<>();
     
+    private final ClientExpirationWheel<ConnectionBasedClient> expirationWheel = new ClientExpirationWheel<>(
+            Constants.DEFAULT_HEART_BEAT_INTERVAL);
+    
     public ConnectionBasedClientManager() {
         GlobalExecutor
                 .scheduleExpiredClientCleaner(new ExpiredClientCleaner(this), 0, Constants.DEFAULT_HEART_BEAT_INTERVAL,
@@ -78,7 +82,9 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     public boolean clientConnected(final Client client) {
         clients.computeIfAbsent(client.getClientId(), s -> {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
-            return (ConnectionBasedClient) client;
+            ConnectionBasedClient connectionBasedClient = (ConnectionBasedClient) client;
+            scheduleExpiration(connectionBasedClient);
+            return connectionBasedClient;
         });
         return true;
     }
@@ -145,6 +151,16 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
         return false;
     }
     
+    /**
+     * Native client is removed by connection disconnected and never expires, only synced client needs to be scheduled.
+     */
+    private void scheduleExpiration(ConnectionBasedClient client) {
+        if (!client.isNative()) {
+            expirationWheel.schedule(client,
+                    client.getLastRenewTime() + ClientConfig.getInstance().getClientExpiredTime() + 1);
+        }
+    }
+    
     private static class ExpiredClientCleaner implements Runnable {
         
         private final ConnectionBasedClientManager clientManager;
@@ -156,10 +172,15 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
         @Override
         public void run() {
             long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
-                ConnectionBasedClient client = (ConnectionBasedClient) clientManager.getClient(each);
-                if (null != client && client.isExpire(currentTime)) {
-                    clientManager.clientDisconnected(each);
+            for (ConnectionBasedClient each : clientManager.expirationWheel.pollDue(currentTime)) {
+                // client is removed or replaced by new one
+                if (each != clientManager.clients.get(each.getClientId())) {
+                    continue;
+                }
+                if (each.isExpire(currentTime)) {
+                    clientManager.clientDisconnected(each.getClientId());
+                } else {
+                    clientManager.scheduleExpiration(each);
                 }
             }
         }
@@ -54,6 +54,9 @@ public class EphemeralIpPortClientManager implements ClientManager {
     
     private final ConcurrentMap<String, IpPortBasedClient> clients = new ConcurrentHashMap<>();
     
+    private final ClientExpirationWheel<IpPortBasedClient> expirationWheel = new ClientExpirationWheel<>(
+            Constants.DEFAULT_HEART_BEAT_INTERVAL);
+    
     private final DistroMapper distroMapper;
     
     private final ClientFactory<IpPortBasedClient> clientFactory;
@@ -76,6 +79,7 @@ public class EphemeralIpPortClientManager implements ClientManager {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
             IpPortBasedClient ipPortBasedClient = (IpPortBasedClient) client;
             ipPortBasedClient.init();
+            scheduleExpiration(ipPortBasedClient);
             return ipPortBasedClient;
         });
         return true;
@@ -141,6 +145,19 @@ public class EphemeralIpPortClientManager implements ClientManager {
         return false;
     }
     
+    /**
+     * Ephemeral client expires at least {@link Constants#DEFAULT_IP_DELETE_TIMEOUT} or client expired time after last
+     * updated. The deadline of client which is not updated for a while but still kept is passed, so it will be checked
+     * at next tick again.
+     */
+    private void scheduleExpiration(IpPortBasedClient client) {
+        if (client.isEphemeral()) {
+            long expiredTime = Math.min(Constants.DEFAULT_IP_DELETE_TIMEOUT,
+                    ClientConfig.getInstance().getClientExpiredTime());
+            expirationWheel.schedule(client, client.getLastUpdatedTime() + expiredTime + 1);
+        }
+    }
+    
     private static class ExpiredClientCleaner implements Runnable {
         
         private final EphemeralIpPortClientManager clientManager;
@@ -155,10 +172,15 @@ public class EphemeralIpPortClientManager implements ClientManager {
         @Override
         public void run() {
             long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
-                IpPortBasedClient client = (IpPortBasedClient) clientManager.getClient(each);
-                if (null != client && isExpireClient(currentTime, client)) {
-                    clientManager.clientDisconnected(each);
+            for (IpPortBasedClient each : clientManager.expirationWheel.pollDue(currentTime)) {
+                // client is removed or replaced by new one
+                if (each != clientManager.clients.get(each.getClientId())) {
+                    continue;
+                }
+                if (isExpireClient(currentTime, each)) {
+                    clientManager.clientDisconnected(each.getClientId());
+                } else {
+                    clientManager.scheduleExpiration(each);
                 }
             }
         }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.core.v2.event.client;
 
 import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.PartitionedEvent;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 
 /**
@@ -24,7 +25,7 @@ import com.alibaba.nacos.naming.core.v2.client.Client;
  *
  * @author xiweng.yy
  */
-public class ClientEvent extends Event {
+public class ClientEvent extends Event implements PartitionedEvent {
     
     private static final long serialVersionUID = -8211818115593181708L;
     
@@ -38,6 +39,11 @@ public class ClientEvent extends Event {
         return client;
     }
     
+    @Override
+    public Object partitionKey() {
+        return null == client ? null : client.getClientId();
+    }
+    
     /**
      * Client changed event. Happened when {@code Client} add or remove service.
      */
@@ -95,5 +101,10 @@ public class ClientEvent extends Event {
         public String getTargetServer() {
             return targetServer;
         }
+        
+        @Override
+        public Object partitionKey() {
+            return clientId;
+        }
     }
 }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.core.v2.event.client;
 
 import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.PartitionedEvent;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
@@ -25,7 +26,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
  *
  * @author xiweng.yy
  */
-public class ClientOperationEvent extends Event {
+public class ClientOperationEvent extends Event implements PartitionedEvent {
     
     private static final long serialVersionUID = -4582413232902517619L;
     
@@ -46,6 +47,11 @@ public class ClientOperationEvent extends Event {
         return service;
     }
     
+    @Override
+    public Object partitionKey() {
+        return clientId;
+    }
+    
     /**
      * Client register service event.
      */
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.core.v2.event.metadata;
 
 import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.PartitionedEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 /**
@@ -24,7 +25,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
  *
  * @author xiweng.yy
  */
-public class MetadataEvent extends Event {
+public class MetadataEvent extends Event implements PartitionedEvent {
     
     private static final long serialVersionUID = -5842659852664110805L;
     
@@ -54,6 +55,11 @@ public class MetadataEvent extends Event {
         return expired;
     }
     
+    @Override
+    public Object partitionKey() {
+        return service;
+    }
+    
     public static class ServiceMetadataEvent extends MetadataEvent {
         
         private static final long serialVersionUID = -2888112042649967804L;
@@ -19,7 +19,11 @@ package com.alibaba.nacos.naming.core.v2.event.publisher;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.EventPublisherFactory;
+import com.alibaba.nacos.common.notify.PartitionedEventPublisher;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -30,16 +34,35 @@ import java.util.concurrent.ConcurrentHashMap;
  * Some naming event is in order, so these event need publish by sync(with same thread and same queue).
  * </p>
  *
+ * <p>
+ * If {@value #PARTITION_COUNT_PROPERTY} is larger than 1, naming events are published by {@link
+ * PartitionedEventPublisher}, events of the same client or service are still in order, but events of different clients
+ * or services are handled in parallel.
+ * </p>
+ *
+ * <p>
+ * The order is only kept between events of the same publisher, which is shared by the subclasses of one event class,
+ * such as {@code ClientEvent}. Events of different publishers, such as {@code ClientEvent.ClientDisconnectEvent} keyed
+ * by client and {@code MetadataEvent} keyed by service, are never ordered with each other, so a subscriber of both
+ * should not depend on their handling order.
+ * </p>
+ *
  * @author xiweng.yy
  */
 public class NamingEventPublisherFactory implements EventPublisherFactory {
     
-    private static final NamingEventPublisherFactory INSTANCE = new NamingEventPublisherFactory();
+    public static final String PARTITION_COUNT_PROPERTY = "nacos.naming.event.publisher.partitions";
     
-    private final Map<Class<? extends Event>, NamingEventPublisher> publisher;
+    private static final NamingEventPublisherFactory INSTANCE = new NamingEventPublisherFactory(
+            Integer.getInteger(PARTITION_COUNT_PROPERTY, 1));
     
-    private NamingEventPublisherFactory() {
+    private final Map<Class<? extends Event>, ShardedEventPublisher> publisher;
+    
+    private final int partitionCount;
+    
+    NamingEventPublisherFactory(int partitionCount) {
         publisher = new ConcurrentHashMap<>();
+        this.partitionCount = partitionCount;
     }
     
     public static NamingEventPublisherFactory getInstance() {
@@ -52,16 +75,34 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
         Class<? extends Event> cachedEventType =
                 eventType.isMemberClass() ? (Class<? extends Event>) eventType.getEnclosingClass() : eventType;
         return publisher.computeIfAbsent(cachedEventType, eventClass -> {
-            NamingEventPublisher result = new NamingEventPublisher();
+            ShardedEventPublisher result =
+                    partitionCount > 1 ? new PartitionedEventPublisher(partitionCount) : new NamingEventPublisher();
             result.init(eventClass, maxQueueSize);
             return result;
         });
     }
     
+    /**
+     * Get all partitioned publishers created by this factory.
+     *
+     * @return partitioned publishers, empty if partition is disabled
+     */
+    public Collection<PartitionedEventPublisher> getPartitionedPublishers() {
+        Collection<PartitionedEventPublisher> result = new ArrayList<>();
+        for (ShardedEventPublisher each : publisher.values()) {
+            if (each instanceof PartitionedEventPublisher) {
+                result.add((PartitionedEventPublisher) each);
+            }
+        }
+        return result;
+    }
+    
     public String getAllPublisherStatues() {
         StringBuilder result = new StringBuilder("Naming event publisher statues:\n");
-        for (NamingEventPublisher each : publisher.values()) {
-            result.append('\t').append(each.getStatus()).append('\n');
+        for (ShardedEventPublisher each : publisher.values()) {
+            String status = each instanceof PartitionedEventPublisher ? ((PartitionedEventPublisher) each).getStatus()
+                    : ((NamingEventPublisher) each).getStatus();
+            result.append('\t').append(status).append('\n');
         }
         return result.toString();
     }
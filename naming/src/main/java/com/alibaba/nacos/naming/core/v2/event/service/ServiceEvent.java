@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.core.v2.event.service;
 
 import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.PartitionedEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 /**
@@ -24,7 +25,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
  *
  * @author xiweng.yy
  */
-public class ServiceEvent extends Event {
+public class ServiceEvent extends Event implements PartitionedEvent {
     
     private static final long serialVersionUID = -9173247502346692418L;
     
@@ -38,6 +39,11 @@ public class ServiceEvent extends Event {
         return service;
     }
     
+    @Override
+    public Object partitionKey() {
+        return service;
+    }
+    
     /**
      * Service data changed event.
      */
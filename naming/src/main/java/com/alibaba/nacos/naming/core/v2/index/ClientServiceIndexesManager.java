@@ -36,6 +36,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Client and service index manager.
@@ -49,6 +51,8 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     
     private final ConcurrentMap<Service, Set<String>> subscriberIndexes = new ConcurrentHashMap<>();
     
+    private final List<PublisherIndexListener> publisherIndexListeners = new CopyOnWriteArrayList<>();
+    
     public ClientServiceIndexesManager() {
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
@@ -65,6 +69,15 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
         return subscriberIndexes.keySet();
     }
     
+    /**
+     * Add listener of publisher indexes.
+     *
+     * @param listener listener notified when client register or deregister service
+     */
+    public void addPublisherIndexListener(PublisherIndexListener listener) {
+        publisherIndexListeners.add(listener);
+    }
+    
     /**
      * Clear the service index without instances.
      *
@@ -127,12 +140,26 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
         }
     }
     
+    /**
+     * Index updates of the same service might be handled by different threads, so adding and removing the empty set are
+     * both done in {@code compute} of the service to avoid adding client id into a set already removed from indexes.
+     */
     private void addPublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>()).add(clientId);
+        publisherIndexes.compute(service, (s, ids) -> {
+            Set<String> result = null == ids ? new ConcurrentHashSet<>() : ids;
+            result.add(clientId);
+            return result;
+        });
+        for (PublisherIndexListener each : publisherIndexListeners) {
+            each.onPublisherRegistered(service, clientId);
+        }
         NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
     }
     
     private void removePublisherIndexes(Service service, String clientId) {
+        for (PublisherIndexListener each : publisherIndexListeners) {
+            each.onPublisherDeregistered(service, clientId);
+        }
         publisherIndexes.computeIfPresent(service, (s, ids) -> {
             ids.remove(clientId);
             NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
@@ -141,21 +168,48 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     }
     
     private void addSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>());
+        AtomicBoolean added = new AtomicBoolean(false);
+        subscriberIndexes.compute(service, (s, ids) -> {
+            Set<String> result = null == ids ? new ConcurrentHashSet<>() : ids;
+            added.set(result.add(clientId));
+            return result;
+        });
         // Fix #5404, Only first time add need notify event.
-        if (clientIds.add(clientId)) {
+        if (added.get()) {
             NotifyCenter.publishEvent(new ServiceEvent.ServiceSubscribedEvent(service, clientId));
         }
     }
     
     private void removeSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.get(service);
-        if (clientIds == null) {
-            return;
-        }
-        clientIds.remove(clientId);
-        if (clientIds.isEmpty()) {
-            subscriberIndexes.remove(service);
-        }
+        subscriberIndexes.computeIfPresent(service, (s, ids) -> {
+            ids.remove(clientId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+    
+    /**
+     * Listener of publisher indexes.
+     *
+     * <p>Listeners are notified in the thread handling the register and deregister events, before the {@link
+     * ServiceEvent.ServiceChangedEvent} is published, so that the service data generated for the changed event always
+     * see the change.
+     */
+    public interface PublisherIndexListener {
+        
+        /**
+         * Client registered or re-registered instances of service.
+         *
+         * @param service  service
+         * @param clientId client id
+         */
+        void onPublisherRegistered(Service service, String clientId);
+        
+        /**
+         * Client deregistered instances of service or disconnected.
+         *
+         * @param service  service
+         * @param clientId client id
+         */
+        void onPublisherDeregistered(Service service, String clientId);
     }
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Versioned instance index of one service.
+ *
+ * <p>The index caches the api {@link Instance}s parsed from each client's {@link InstancePublishInfo}, so that a
+ * refresh of the service data only re-parses clients whose published info, health status or instance metadata changed.
+ * Clients are added to or removed from the index by the register and deregister events, so a refresh only looks up the
+ * clients changed since last refresh instead of all registered clients. The merged instances and clusters are rebuilt
+ * only when the content of the index changed, and the revision is increased at the same time.
+ *
+ * <p>The index is not thread safe, callers should synchronize on the index object when refreshing it.
+ *
+ * @author Nacos
+ */
+public class ServiceInstanceIndex {
+    
+    private final Map<String, ClientInstances> clientInstances = new HashMap<>();
+    
+    private Set<String> changedClients = new HashSet<>();
+    
+    private boolean loaded;
+    
+    private List<Instance> instances = Collections.emptyList();
+    
+    private Set<String> clusters = Collections.emptySet();
+    
+    private volatile long revision;
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public int size() {
+        return clientInstances.size();
+    }
+    
+    ClientInstances get(String clientId) {
+        return clientInstances.get(clientId);
+    }
+    
+    void put(String clientId, ClientInstances instances) {
+        clientInstances.put(clientId, instances);
+    }
+    
+    /**
+     * Remove the client deregistered from the service.
+     *
+     * @param clientId client id
+     * @return {@code true} if the client was in index
+     */
+    boolean remove(String clientId) {
+        changedClients.remove(clientId);
+        return null != clientInstances.remove(clientId);
+    }
+    
+    /**
+     * Mark the client registered or re-registered to the service, it will be looked up by next refresh.
+     *
+     * @param clientId client id
+     */
+    void markChanged(String clientId) {
+        changedClients.add(clientId);
+    }
+    
+    /**
+     * Whether all registered clients have been loaded. The events before the index created are not recorded, so all
+     * registered clients should be loaded by the first refresh.
+     *
+     * @return {@code true} if loaded
+     */
+    boolean isLoaded() {
+        return loaded;
+    }
+    
+    /**
+     * Mark all registered clients changed for the first refresh.
+     *
+     * @param registeredClientIds registered client ids of the service
+     */
+    void load(Collection<String> registeredClientIds) {
+        changedClients.addAll(registeredClientIds);
+        loaded = true;
+    }
+    
+    /**
+     * Take the clients changed since last refresh.
+     *
+     * @return changed client ids
+     */
+    Set<String> drainChangedClients() {
+        Set<String> result = changedClients;
+        changedClients = new HashSet<>();
+        return result;
+    }
+    
+    Map<String, ClientInstances> getClientInstances() {
+        return clientInstances;
+    }
+    
+    /**
+     * Rebuild the merged instances and clusters from all clients, and increase the revision.
+     */
+    void rebuild() {
+        List<Instance> newInstances = new ArrayList<>();
+        Set<String> newClusters = new HashSet<>();
+        Set<String> instanceKeys = new HashSet<>();
+        for (ClientInstances each : clientInstances.values()) {
+            for (ParsedInstance parsedInstance : each.getInstances()) {
+                if (instanceKeys.add(parsedInstance.getKey())) {
+                    newInstances.add(parsedInstance.getInstance());
+                    newClusters.add(parsedInstance.getInstance().getClusterName());
+                }
+            }
+        }
+        instances = newInstances;
+        clusters = newClusters;
+        revision++;
+    }
+    
+    /**
+     * Get merged instances of all clients, the list should not be modified.
+     *
+     * @return merged instances
+     */
+    List<Instance> getInstances() {
+        return instances;
+    }
+    
+    /**
+     * Get clusters of all instances, the set is replaced instead of modified when rebuilding.
+     *
+     * @return clusters
+     */
+    Set<String> getClusters() {
+        return clusters;
+    }
+    
+    /**
+     * Parsed instances published by one client, with the source data used to parse them.
+     */
+    static class ClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final List<InstancePublishInfo> sources;
+        
+        private final boolean[] healthy;
+        
+        private final InstanceMetadata[] metadata;
+        
+        private final ParsedInstance[] instances;
+        
+        ClientInstances(InstancePublishInfo publishInfo, List<InstancePublishInfo> sources,
+                InstanceMetadata[] metadata, ParsedInstance[] instances) {
+            this.publishInfo = publishInfo;
+            this.sources = sources;
+            this.metadata = metadata;
+            this.instances = instances;
+            this.healthy = new boolean[sources.size()];
+            for (int i = 0; i < healthy.length; i++) {
+                healthy[i] = sources.get(i).isHealthy();
+            }
+        }
+        
+        /**
+         * Whether the parsed instances are still the same as the current health status and metadata.
+         *
+         * <p>Published info is replaced when client re-register instances, which is found by the register event. But
+         * the health status might be changed in place by health checkers and the instance metadata is changed without
+         * register event, so they are compared at each refresh.
+         *
+         * @param currentMetadata current instance metadata of each source published info
+         * @return {@code true} if the parsed instances can be reused
+         */
+        boolean isUpToDate(InstanceMetadata[] currentMetadata) {
+            if (metadata.length != currentMetadata.length) {
+                return false;
+            }
+            for (int i = 0; i < healthy.length; i++) {
+                if (healthy[i] != sources.get(i).isHealthy() || metadata[i] != currentMetadata[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        InstancePublishInfo getPublishInfo() {
+            return publishInfo;
+        }
+        
+        List<InstancePublishInfo> getSources() {
+            return sources;
+        }
+        
+        ParsedInstance[] getInstances() {
+            return instances;
+        }
+    }
+    
+    /**
+     * Parsed api instance with its identity key cached.
+     *
+     * <p>{@link Instance#hashCode()} builds the whole string of instance, so the key is computed only once when parsing.
+     */
+    static class ParsedInstance {
+        
+        private final Instance instance;
+        
+        private final String key;
+        
+        ParsedInstance(Instance instance) {
+            this.instance = instance;
+            this.key = instance.toString();
+        }
+        
+        Instance getInstance() {
+            return instance;
+        }
+        
+        String getKey() {
+            return key;
+        }
+    }
+}
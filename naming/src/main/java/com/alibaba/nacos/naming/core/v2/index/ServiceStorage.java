@@ -32,9 +32,10 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,7 +47,7 @@ import java.util.concurrent.ConcurrentMap;
  * @author xiweng.yy
  */
 @Component
-public class ServiceStorage {
+public class ServiceStorage implements ClientServiceIndexesManager.PublisherIndexListener {
     
     private final ClientServiceIndexesManager serviceIndexesManager;
     
@@ -60,6 +61,8 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceInstanceIndex> serviceInstanceIndexes;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +71,8 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceInstanceIndexes = new ConcurrentHashMap<>();
+        serviceIndexesManager.addPublisherIndexListener(this);
     }
     
     public Set<String> getClusters(Service service) {
@@ -78,6 +83,26 @@ public class ServiceStorage {
         return serviceDataIndexes.containsKey(service) ? serviceDataIndexes.get(service) : getPushData(service);
     }
     
+    /**
+     * Get the revision of instances of service, which is increased when any instance of service changed.
+     *
+     * @param service service
+     * @return revision of instances, {@code 0} if the service has not been indexed
+     */
+    public long getRevision(Service service) {
+        ServiceInstanceIndex index = serviceInstanceIndexes.get(service);
+        return null == index ? 0L : index.getRevision();
+    }
+    
+    /**
+     * Generate the newest service data to push.
+     *
+     * <p>Only clients registered or deregistered since last refresh are looked up, and only instances of changed clients
+     * are re-parsed, unchanged instances are reused from the instance index.
+     *
+     * @param service service
+     * @return newest service info
+     */
     public ServiceInfo getPushData(Service service) {
         ServiceInfo result = emptyServiceInfo(service);
         if (!ServiceManager.getInstance().containSingleton(service)) {
@@ -89,9 +114,35 @@ public class ServiceStorage {
         return result;
     }
     
+    @Override
+    public void onPublisherRegistered(Service service, String clientId) {
+        markClientChanged(service, clientId);
+    }
+    
+    @Override
+    public void onPublisherDeregistered(Service service, String clientId) {
+        // the client might register again before next refresh, so look it up instead of removing directly.
+        markClientChanged(service, clientId);
+    }
+    
+    private void markClientChanged(Service service, String clientId) {
+        ServiceInstanceIndex index = serviceInstanceIndexes.get(service);
+        if (null != index) {
+            synchronized (index) {
+                index.markChanged(clientId);
+            }
+        }
+    }
+    
+    /**
+     * Remove all cached data and indexes of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceInstanceIndexes.remove(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -104,44 +155,103 @@ public class ServiceStorage {
     }
     
     private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
-        Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
-            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
-                }
+        ServiceInstanceIndex index = serviceInstanceIndexes.computeIfAbsent(service, key -> new ServiceInstanceIndex());
+        List<Instance> result;
+        Set<String> clusters;
+        synchronized (index) {
+            if (!index.isLoaded()) {
+                index.load(serviceIndexesManager.getAllClientsRegisteredService(service));
+            }
+            boolean changed = refreshChangedClients(service, index);
+            changed |= refreshCachedClients(service, index);
+            if (changed) {
+                index.rebuild();
             }
+            result = new ArrayList<>(index.getInstances());
+            clusters = index.getClusters();
         }
         // cache clusters of this service
         serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+        return result;
     }
     
     /**
-     * Parse batch instance.
-     * @param service service
-     * @param batchInstancePublishInfo batchInstancePublishInfo
-     * @return batch instance list
+     * Look up the published info of clients registered or deregistered since last refresh.
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
-        List<Instance> resultInstanceList = new ArrayList<>();
-        List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
-        for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+    private boolean refreshChangedClients(Service service, ServiceInstanceIndex index) {
+        boolean changed = false;
+        for (String each : index.drainChangedClients()) {
+            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
+            if (!instancePublishInfo.isPresent()) {
+                changed |= index.remove(each);
+                continue;
+            }
+            ServiceInstanceIndex.ClientInstances clientInstances = index.get(each);
+            if (null == clientInstances || !isUpToDate(service, clientInstances, instancePublishInfo.get())) {
+                index.put(each, parseClientInstances(service, instancePublishInfo.get()));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+    
+    /**
+     * Check the health status and metadata of cached clients, which might be changed without register event.
+     */
+    private boolean refreshCachedClients(Service service, ServiceInstanceIndex index) {
+        boolean changed = false;
+        for (Map.Entry<String, ServiceInstanceIndex.ClientInstances> entry : index.getClientInstances().entrySet()) {
+            ServiceInstanceIndex.ClientInstances clientInstances = entry.getValue();
+            if (!clientInstances.isUpToDate(getInstanceMetadata(service, clientInstances.getSources()))) {
+                entry.setValue(parseClientInstances(service, clientInstances.getPublishInfo()));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+    
+    /**
+     * Parse all instances published by one client, and record the source data to check whether it changed later.
+     *
+     * @param service     service
+     * @param publishInfo published info of client, might be {@link BatchInstancePublishInfo}
+     * @return parsed client instances
+     */
+    private ServiceInstanceIndex.ClientInstances parseClientInstances(Service service, InstancePublishInfo publishInfo) {
+        List<InstancePublishInfo> sources = toSources(publishInfo);
+        // record metadata before parsing, so that metadata changed during parsing will be found by next refresh.
+        InstanceMetadata[] metadata = getInstanceMetadata(service, sources);
+        ServiceInstanceIndex.ParsedInstance[] instances = new ServiceInstanceIndex.ParsedInstance[sources.size()];
+        for (int i = 0; i < sources.size(); i++) {
+            instances[i] = new ServiceInstanceIndex.ParsedInstance(parseInstance(service, sources.get(i)));
+        }
+        return new ServiceInstanceIndex.ClientInstances(publishInfo, sources, metadata, instances);
+    }
+    
+    private boolean isUpToDate(Service service, ServiceInstanceIndex.ClientInstances clientInstances,
+            InstancePublishInfo publishInfo) {
+        return clientInstances.getPublishInfo() == publishInfo && clientInstances
+                .isUpToDate(getInstanceMetadata(service, clientInstances.getSources()));
+    }
+    
+    /**
+     * If it is a BatchInstancePublishInfo type, all instances in it should be parsed.
+     */
+    private List<InstancePublishInfo> toSources(InstancePublishInfo publishInfo) {
+        if (publishInfo instanceof BatchInstancePublishInfo) {
+            List<InstancePublishInfo> instancePublishInfos = ((BatchInstancePublishInfo) publishInfo)
+                    .getInstancePublishInfos();
+            return null == instancePublishInfos ? Collections.emptyList() : instancePublishInfos;
+        }
+        return Collections.singletonList(publishInfo);
+    }
+    
+    private InstanceMetadata[] getInstanceMetadata(Service service, List<InstancePublishInfo> sources) {
+        InstanceMetadata[] result = new InstanceMetadata[sources.size()];
+        for (int i = 0; i < sources.size(); i++) {
+            result[i] = metadataManager.getInstanceMetadata(service, sources.get(i).getMetadataId()).orElse(null);
         }
-        return resultInstanceList;
+        return result;
     }
     
     private Optional<InstancePublishInfo> getInstanceInfo(String clientId, Service service) {
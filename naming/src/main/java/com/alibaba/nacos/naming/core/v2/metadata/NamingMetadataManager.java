@@ -38,6 +38,11 @@ import java.util.concurrent.ConcurrentMap;
 /**
  * Nacos naming metadata manager.
  *
+ * <p>{@link ClientEvent.ClientDisconnectEvent} and {@link MetadataEvent} are dispatched by different publishers, so a
+ * disconnect which expires the metadata might be handled after a later register which un-expires it. The expired
+ * state of each metadata is only changed by the event with larger {@link Event#sequence()} than the last applied one,
+ * so that the result doesn't depend on the handling order.
+ *
  * @author xiweng.yy
  */
 @Component
@@ -45,6 +50,8 @@ public class NamingMetadataManager extends SmartSubscriber {
     
     private final Set<ExpiredMetadataInfo> expiredMetadataInfos;
     
+    private final ConcurrentMap<ExpiredMetadataInfo, Long> metadataEventSequences;
+    
     private ConcurrentMap<Service, ServiceMetadata> serviceMetadataMap;
     
     private ConcurrentMap<Service, ConcurrentMap<String, InstanceMetadata>> instanceMetadataMap;
@@ -55,6 +62,7 @@ public class NamingMetadataManager extends SmartSubscriber {
         serviceMetadataMap = new ConcurrentHashMap<>(1 << 10);
         instanceMetadataMap = new ConcurrentHashMap<>(1 << 10);
         expiredMetadataInfos = new ConcurrentHashSet<>();
+        metadataEventSequences = new ConcurrentHashMap<>(1 << 10);
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
@@ -137,7 +145,9 @@ public class NamingMetadataManager extends SmartSubscriber {
      */
     public void removeServiceMetadata(Service service) {
         serviceMetadataMap.remove(service);
-        expiredMetadataInfos.remove(ExpiredMetadataInfo.newExpiredServiceMetadata(service));
+        ExpiredMetadataInfo expiredMetadataInfo = ExpiredMetadataInfo.newExpiredServiceMetadata(service);
+        expiredMetadataInfos.remove(expiredMetadataInfo);
+        metadataEventSequences.remove(expiredMetadataInfo);
     }
     
     /**
@@ -154,7 +164,9 @@ public class NamingMetadataManager extends SmartSubscriber {
                 serviceMetadataMap.remove(service);
             }
         }
-        expiredMetadataInfos.remove(ExpiredMetadataInfo.newExpiredInstanceMetadata(service, metadataId));
+        ExpiredMetadataInfo expiredMetadataInfo = ExpiredMetadataInfo.newExpiredInstanceMetadata(service, metadataId);
+        expiredMetadataInfos.remove(expiredMetadataInfo);
+        metadataEventSequences.remove(expiredMetadataInfo);
     }
     
     /**
@@ -195,6 +207,8 @@ public class NamingMetadataManager extends SmartSubscriber {
         ConcurrentMap<Service, ServiceMetadata> oldSnapshot = serviceMetadataMap;
         serviceMetadataMap = snapshot;
         oldSnapshot.clear();
+        metadataEventSequences.keySet()
+                .removeIf(each -> null == each.getMetadataId() && !containServiceMetadata(each.getService()));
     }
     
     /**
@@ -206,6 +220,8 @@ public class NamingMetadataManager extends SmartSubscriber {
         ConcurrentMap<Service, ConcurrentMap<String, InstanceMetadata>> oldSnapshot = instanceMetadataMap;
         instanceMetadataMap = snapshot;
         oldSnapshot.clear();
+        metadataEventSequences.keySet().removeIf(each -> null != each.getMetadataId() && !containInstanceMetadata(
+                each.getService(), each.getMetadataId()));
     }
     
     public Set<ExpiredMetadataInfo> getExpiredMetadataInfos() {
@@ -236,7 +252,8 @@ public class NamingMetadataManager extends SmartSubscriber {
         for (Service each : event.getClient().getAllPublishedService()) {
             String metadataId = event.getClient().getInstancePublishInfo(each).getMetadataId();
             if (containInstanceMetadata(each, metadataId)) {
-                updateExpiredInfo(true, ExpiredMetadataInfo.newExpiredInstanceMetadata(each, metadataId));
+                updateExpiredInfo(event.sequence(), true,
+                        ExpiredMetadataInfo.newExpiredInstanceMetadata(each, metadataId));
             }
         }
     }
@@ -244,7 +261,8 @@ public class NamingMetadataManager extends SmartSubscriber {
     private void handleServiceMetadataEvent(MetadataEvent.ServiceMetadataEvent event) {
         Service service = event.getService();
         if (containServiceMetadata(service)) {
-            updateExpiredInfo(event.isExpired(), ExpiredMetadataInfo.newExpiredServiceMetadata(service));
+            updateExpiredInfo(event.sequence(), event.isExpired(),
+                    ExpiredMetadataInfo.newExpiredServiceMetadata(service));
         }
     }
     
@@ -252,16 +270,22 @@ public class NamingMetadataManager extends SmartSubscriber {
         Service service = event.getService();
         String metadataId = event.getMetadataId();
         if (containInstanceMetadata(service, metadataId)) {
-            updateExpiredInfo(event.isExpired(),
+            updateExpiredInfo(event.sequence(), event.isExpired(),
                     ExpiredMetadataInfo.newExpiredInstanceMetadata(event.getService(), event.getMetadataId()));
         }
     }
     
-    private void updateExpiredInfo(boolean expired, ExpiredMetadataInfo expiredMetadataInfo) {
-        if (expired) {
-            expiredMetadataInfos.add(expiredMetadataInfo);
-        } else {
-            expiredMetadataInfos.remove(expiredMetadataInfo);
-        }
+    private void updateExpiredInfo(long sequence, boolean expired, ExpiredMetadataInfo expiredMetadataInfo) {
+        metadataEventSequences.compute(expiredMetadataInfo, (key, lastSequence) -> {
+            if (null != lastSequence && lastSequence > sequence) {
+                return lastSequence;
+            }
+            if (expired) {
+                expiredMetadataInfos.add(expiredMetadataInfo);
+            } else {
+                expiredMetadataInfos.remove(expiredMetadataInfo);
+            }
+            return sequence;
+        });
     }
 }
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.healthcheck;
 
+import com.alibaba.nacos.naming.healthcheck.HealthCheckScheduler.ScheduledCheck;
 import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
 import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
@@ -30,12 +31,19 @@ import java.util.concurrent.TimeUnit;
 /**
  * Health check reactor.
  *
+ * <p>Health check tasks and client beat check tasks are scheduled by {@link HealthCheckScheduler} instead of a timer
+ * for each task.
+ *
  * @author nacos
  */
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
-    private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
+    private static final HealthCheckScheduler SCHEDULER = new HealthCheckScheduler();
+    
+    private static final long BEAT_CHECK_INTERVAL = 5000L;
+    
+    private static Map<String, ScheduledCheck> futureMap = new ConcurrentHashMap<>();
     
     /**
      * Schedule health check task for v2.
@@ -45,7 +53,7 @@ public class HealthCheckReactor {
     public static void scheduleCheck(HealthCheckTaskV2 task) {
         task.setStartTime(System.currentTimeMillis());
         Runnable wrapperTask = new HealthCheckTaskInterceptWrapper(task);
-        GlobalExecutor.scheduleNamingHealth(wrapperTask, task.getCheckRtNormalized(), TimeUnit.MILLISECONDS);
+        SCHEDULER.schedule(task.getTaskId(), wrapperTask, task.getCheckRtNormalized());
     }
     
     /**
@@ -58,7 +66,7 @@ public class HealthCheckReactor {
                 task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
                         : task;
         futureMap.computeIfAbsent(task.taskKey(),
-                k -> GlobalExecutor.scheduleNamingHealth(wrapperTask, 5000, 5000, TimeUnit.MILLISECONDS));
+                k -> SCHEDULER.schedule(k, wrapperTask, BEAT_CHECK_INTERVAL, BEAT_CHECK_INTERVAL));
     }
     
     /**
@@ -67,12 +75,12 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
-        ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
-        if (scheduledFuture == null) {
+        ScheduledCheck scheduledCheck = futureMap.get(task.taskKey());
+        if (scheduledCheck == null) {
             return;
         }
         try {
-            scheduledFuture.cancel(true);
+            scheduledCheck.cancel();
             futureMap.remove(task.taskKey());
         } catch (Exception e) {
             Loggers.EVT_LOG.error("[CANCEL-CHECK] cancel failed!", e);
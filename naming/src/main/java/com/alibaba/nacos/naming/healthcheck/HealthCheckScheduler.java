@@ -0,0 +1,234 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sharded scheduler of health check tasks.
+ *
+ * <p>Instead of scheduling a timer for each task, tasks are hashed into shards by task key and grouped into time
+ * buckets of one tick in the shard. Each shard is driven by one timer on naming health executor, which executes all
+ * tasks of the due buckets in bulk every tick, so the worker threads are bounded by the naming health executor.
+ *
+ * <p>Tasks are never executed before the due time, but might be delayed at most one tick.
+ *
+ * @author Nacos
+ */
+class HealthCheckScheduler {
+    
+    private static final long DEFAULT_TICK_MILLIS = 500L;
+    
+    private final long tickMillis;
+    
+    private final List<Shard> shards;
+    
+    HealthCheckScheduler() {
+        this(GlobalExecutor.NAMING_HEALTH_THREAD_COUNT, DEFAULT_TICK_MILLIS);
+        for (Shard each : shards) {
+            GlobalExecutor.scheduleNamingHealth(each, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    HealthCheckScheduler(int shardCount, long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(i));
+        }
+    }
+    
+    /**
+     * Schedule task to be executed once after delay.
+     *
+     * @param taskKey key of task to choose shard
+     * @param task    task
+     * @param delay   delay in milliseconds
+     * @return scheduled check which can be cancelled
+     */
+    ScheduledCheck schedule(String taskKey, Runnable task, long delay) {
+        return schedule(taskKey, task, delay, -1);
+    }
+    
+    /**
+     * Schedule task to be executed periodically with a fixed delay after each execution.
+     *
+     * @param taskKey      key of task to choose shard
+     * @param task         task
+     * @param initialDelay delay of first execution in milliseconds
+     * @param delay        delay between end of one execution and start of next in milliseconds
+     * @return scheduled check which can be cancelled
+     */
+    ScheduledCheck schedule(String taskKey, Runnable task, long initialDelay, long delay) {
+        ScheduledCheck result = new ScheduledCheck(shardOf(taskKey), task, delay);
+        result.shard.add(result, System.currentTimeMillis() + initialDelay);
+        return result;
+    }
+    
+    /**
+     * Execute due checks of all shards, used when the shard timers are not started.
+     *
+     * @param currentTime current time
+     */
+    void executeDueChecks(long currentTime) {
+        for (Shard each : shards) {
+            each.executeDueChecks(currentTime);
+        }
+    }
+    
+    int size() {
+        int result = 0;
+        for (Shard each : shards) {
+            result += each.size();
+        }
+        return result;
+    }
+    
+    private Shard shardOf(String taskKey) {
+        return shards.get((Objects.hashCode(taskKey) & Integer.MAX_VALUE) % shards.size());
+    }
+    
+    /**
+     * Handle of a scheduled task.
+     */
+    static class ScheduledCheck {
+        
+        private final Shard shard;
+        
+        private final Runnable task;
+        
+        private final long delay;
+        
+        private volatile boolean cancelled;
+        
+        private ScheduledCheck(Shard shard, Runnable task, long delay) {
+            this.shard = shard;
+            this.task = task;
+            this.delay = delay;
+        }
+        
+        /**
+         * Cancel the task, the task in execution is not interrupted but won't be executed again.
+         */
+        void cancel() {
+            cancelled = true;
+        }
+        
+        boolean isCancelled() {
+            return cancelled;
+        }
+        
+        private boolean isPeriodic() {
+            return delay >= 0;
+        }
+    }
+    
+    private class Shard implements Runnable {
+        
+        private final TreeMap<Long, List<ScheduledCheck>> buckets = new TreeMap<>();
+        
+        private final AtomicLong lag;
+        
+        private final AtomicLong executedCount;
+        
+        private int size;
+        
+        private Shard(int index) {
+            this.lag = MetricsMonitor.getHealthCheckShardLag(index);
+            this.executedCount = MetricsMonitor.getHealthCheckShardExecutedCount(index);
+        }
+        
+        private synchronized void add(ScheduledCheck check, long dueTime) {
+            // round up so that the task is never executed before due time
+            long bucket = (dueTime + tickMillis - 1) / tickMillis;
+            buckets.computeIfAbsent(bucket, key -> new ArrayList<>()).add(check);
+            size++;
+        }
+        
+        private synchronized int size() {
+            return size;
+        }
+        
+        @Override
+        public void run() {
+            try {
+                executeDueChecks(System.currentTimeMillis());
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[HEALTH-CHECK] execute health check shard failed", e);
+            }
+        }
+        
+        private void executeDueChecks(long currentTime) {
+            List<List<ScheduledCheck>> dueBuckets = new ArrayList<>();
+            long firstDueBucket = pollDueBuckets(currentTime, dueBuckets);
+            if (dueBuckets.isEmpty()) {
+                lag.set(0);
+                return;
+            }
+            lag.set(currentTime - firstDueBucket * tickMillis);
+            int executed = 0;
+            for (List<ScheduledCheck> bucket : dueBuckets) {
+                for (ScheduledCheck each : bucket) {
+                    if (each.isCancelled()) {
+                        continue;
+                    }
+                    execute(each);
+                    executed++;
+                    if (each.isPeriodic() && !each.isCancelled()) {
+                        add(each, System.currentTimeMillis() + each.delay);
+                    }
+                }
+            }
+            executedCount.addAndGet(executed);
+        }
+        
+        private synchronized long pollDueBuckets(long currentTime, List<List<ScheduledCheck>> dueBuckets) {
+            long result = -1;
+            Iterator<Map.Entry<Long, List<ScheduledCheck>>> iterator = buckets.headMap(currentTime / tickMillis, true)
+                    .entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, List<ScheduledCheck>> entry = iterator.next();
+                if (result < 0) {
+                    result = entry.getKey();
+                }
+                dueBuckets.add(entry.getValue());
+                size -= entry.getValue().size();
+                iterator.remove();
+            }
+            return result;
+        }
+        
+        private void execute(ScheduledCheck check) {
+            try {
+                check.task.run();
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[HEALTH-CHECK] execute health check task failed", e);
+            }
+        }
+    }
+}
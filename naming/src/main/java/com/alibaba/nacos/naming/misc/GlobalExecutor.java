@@ -59,10 +59,12 @@ public class GlobalExecutor {
             .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), 2,
                     new NameThreadFactory("com.alibaba.nacos.naming.tcp.check.worker"));
     
+    public static final int NAMING_HEALTH_THREAD_COUNT = Integer
+            .max(Integer.getInteger("com.alibaba.nacos.naming.health.thread.num", DEFAULT_THREAD_COUNT), 1);
+    
     private static final ScheduledExecutorService NAMING_HEALTH_EXECUTOR = ExecutorFactory.Managed
-            .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
-                    Integer.max(Integer.getInteger("com.alibaba.nacos.naming.health.thread.num", DEFAULT_THREAD_COUNT),
-                            1), new NameThreadFactory("com.alibaba.nacos.naming.health"));
+            .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class), NAMING_HEALTH_THREAD_COUNT,
+                    new NameThreadFactory("com.alibaba.nacos.naming.health"));
     
     private static final ScheduledExecutorService RETRANSMITTER_EXECUTOR = ExecutorFactory.Managed
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
@@ -80,6 +82,10 @@ public class GlobalExecutor {
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     new NameThreadFactory("com.alibaba.nacos.naming.remote-connection-manager"));
     
+    private static final ScheduledExecutorService DISTRO_SYNC_BATCH_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
+                    new NameThreadFactory("com.alibaba.nacos.naming.distro.sync.batch"));
+    
     private static final ExecutorService PUSH_CALLBACK_EXECUTOR = ExecutorFactory.Managed
             .newSingleExecutorService("Push", new NameThreadFactory("com.alibaba.nacos.naming.push.callback"));
     
@@ -141,6 +147,10 @@ public class GlobalExecutor {
         EXPIRED_CLIENT_CLEANER_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
     }
     
+    public static void scheduleDistroSyncBatch(Runnable runnable, long delay, TimeUnit unit) {
+        DISTRO_SYNC_BATCH_EXECUTOR.schedule(runnable, delay, unit);
+    }
+    
     public static ExecutorService getCallbackExecutor() {
         return PUSH_CALLBACK_EXECUTOR;
     }
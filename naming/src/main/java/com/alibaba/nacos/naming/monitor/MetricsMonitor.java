@@ -77,6 +77,14 @@ public class MetricsMonitor {
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicLong pushPendingTaskLateness = new AtomicLong();
+    
+    private final AtomicLong distroSyncBatchCount = new AtomicLong();
+    
+    private final AtomicLong distroSyncBatchDataCount = new AtomicLong();
+    
+    private final AtomicLong distroSyncSavedRequestCount = new AtomicLong();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -87,6 +95,21 @@ public class MetricsMonitor {
      */
     private final ConcurrentHashMap<String, AtomicInteger> namingPublisher = new ConcurrentHashMap<>();
     
+    /**
+     * publisher#partition -> naming event queue size of partition.
+     */
+    private final ConcurrentHashMap<String, AtomicInteger> eventPartitionQueueSize = new ConcurrentHashMap<>();
+    
+    /**
+     * shard -> lag of the latest executed bucket in health check scheduler.
+     */
+    private final ConcurrentHashMap<Integer, AtomicLong> healthCheckShardLag = new ConcurrentHashMap<>();
+    
+    /**
+     * shard -> executed check count in health check scheduler.
+     */
+    private final ConcurrentHashMap<Integer, AtomicLong> healthCheckShardExecutedCount = new ConcurrentHashMap<>();
+    
     /**
      * topn service change count.
      */
@@ -198,6 +221,34 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    public static AtomicLong getPushPendingTaskLateness() {
+        return INSTANCE.pushPendingTaskLateness;
+    }
+    
+    public static AtomicLong getDistroSyncBatchCount() {
+        return INSTANCE.distroSyncBatchCount;
+    }
+    
+    public static AtomicLong getDistroSyncBatchDataCount() {
+        return INSTANCE.distroSyncBatchDataCount;
+    }
+    
+    public static AtomicLong getDistroSyncSavedRequestCount() {
+        return INSTANCE.distroSyncSavedRequestCount;
+    }
+    
+    /**
+     * Record one batch request of distro sync.
+     *
+     * @param batchSize     count of distro data sent by the batch request
+     * @param coalescedSize count of sync data coalesced into the batch, which is not less than batch size
+     */
+    public static void recordDistroSyncBatch(int batchSize, int coalescedSize) {
+        getDistroSyncBatchCount().incrementAndGet();
+        getDistroSyncBatchDataCount().addAndGet(batchSize);
+        getDistroSyncSavedRequestCount().addAndGet(coalescedSize - 1);
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -210,6 +261,59 @@ public class MetricsMonitor {
         return INSTANCE.namingPublisher.get(version);
     }
     
+    /**
+     * Get the queue size gauge of one partition of naming event publisher.
+     *
+     * @param publisherName name of publisher
+     * @param partition     index of partition
+     * @return queue size gauge
+     */
+    public static AtomicInteger getEventPartitionQueueSize(String publisherName, int partition) {
+        return INSTANCE.eventPartitionQueueSize.computeIfAbsent(publisherName + "#" + partition, key -> {
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new ImmutableTag("module", "naming"));
+            tags.add(new ImmutableTag("name", "eventPartitionQueueSize"));
+            tags.add(new ImmutableTag("publisher", publisherName));
+            tags.add(new ImmutableTag("partition", String.valueOf(partition)));
+            AtomicInteger result = new AtomicInteger();
+            NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, result);
+            return result;
+        });
+    }
+    
+    /**
+     * Get the lag gauge of one shard of health check scheduler, which is the delay in milliseconds between the due time
+     * of latest executed bucket and the time it is executed.
+     *
+     * @param shard index of shard
+     * @return lag gauge
+     */
+    public static AtomicLong getHealthCheckShardLag(int shard) {
+        return INSTANCE.healthCheckShardLag.computeIfAbsent(shard,
+                key -> registerShardGauge("healthCheckShardLag", shard));
+    }
+    
+    /**
+     * Get the executed check count gauge of one shard of health check scheduler.
+     *
+     * @param shard index of shard
+     * @return executed check count gauge
+     */
+    public static AtomicLong getHealthCheckShardExecutedCount(int shard) {
+        return INSTANCE.healthCheckShardExecutedCount.computeIfAbsent(shard,
+                key -> registerShardGauge("healthCheckShardExecutedCount", shard));
+    }
+    
+    private static AtomicLong registerShardGauge(String name, int shard) {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "naming"));
+        tags.add(new ImmutableTag("name", name));
+        tags.add(new ImmutableTag("shard", String.valueOf(shard)));
+        AtomicLong result = new AtomicLong();
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, result);
+        return result;
+    }
+    
     public static ServiceTopNCounter getServiceChangeCount() {
         return INSTANCE.serviceChangeCount;
     }
@@ -45,6 +45,7 @@ public class PushPendingTaskCountMetricsCollector {
     public PushPendingTaskCountMetricsCollector(NamingSubscriberServiceV2Impl namingSubscriberServiceV2) {
         executorService.scheduleWithFixedDelay(() -> {
             MetricsMonitor.getPushPendingTaskCount().set(namingSubscriberServiceV2.getPushPendingTaskCount());
+            MetricsMonitor.getPushPendingTaskLateness().set(namingSubscriberServiceV2.getPushPendingTaskLateness());
         }, DELAY_SECONDS, DELAY_SECONDS, TimeUnit.SECONDS);
     }
 }
@@ -18,6 +18,8 @@ package com.alibaba.nacos.naming.monitor.collector;
 
 import com.alibaba.nacos.common.executor.ExecutorFactory;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.PartitionedEventPublisher;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import org.springframework.stereotype.Service;
@@ -47,6 +49,13 @@ public class ServiceEventQueueSizeMetricsCollector {
                     (int) NotifyCenter.getPublisher(ServiceEvent.ServiceSubscribedEvent.class).currentEventSize());
             MetricsMonitor.getServiceChangedEventQueueSize().set(
                     (int) NotifyCenter.getPublisher(ServiceEvent.ServiceChangedEvent.class).currentEventSize());
+            for (PartitionedEventPublisher each : NamingEventPublisherFactory.getInstance()
+                    .getPartitionedPublishers()) {
+                int[] sizes = each.currentPartitionEventSizes();
+                for (int i = 0; i < sizes.length; i++) {
+                    MetricsMonitor.getEventPartitionQueueSize(each.getPublisherName(), i).set(sizes[i]);
+                }
+            }
         }, DELAY_SECONDS, DELAY_SECONDS, TimeUnit.SECONDS);
     }
 }
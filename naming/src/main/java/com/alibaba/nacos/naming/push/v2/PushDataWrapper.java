@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,6 +31,8 @@ import java.util.Optional;
  */
 public class PushDataWrapper {
     
+    private final Service service;
+    
     private final ServiceMetadata serviceMetadata;
     
     private final ServiceInfo originalData;
@@ -37,11 +40,25 @@ public class PushDataWrapper {
     private final Map<String, Object> processedDatum;
     
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(null, serviceMetadata, originalData);
+    }
+    
+    public PushDataWrapper(Service service, ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this.service = service;
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
         processedDatum = new HashMap<>(1);
     }
     
+    /**
+     * Get the service of push data.
+     *
+     * @return service, might be {@code null} if the wrapper is not built by push task
+     */
+    public Service getService() {
+        return service;
+    }
+    
     public ServiceInfo getOriginalData() {
         return originalData;
     }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.delta;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+import java.util.List;
+
+/**
+ * Delta of instances between two push revisions of one service.
+ *
+ * @author Nacos
+ */
+public class PushDelta {
+    
+    private final long baseRevision;
+    
+    private final long revision;
+    
+    private final List<Instance> upsertedHosts;
+    
+    private final List<Instance> removedHosts;
+    
+    public PushDelta(long baseRevision, long revision, List<Instance> upsertedHosts, List<Instance> removedHosts) {
+        this.baseRevision = baseRevision;
+        this.revision = revision;
+        this.upsertedHosts = upsertedHosts;
+        this.removedHosts = removedHosts;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    /**
+     * Get added and modified instances.
+     *
+     * @return added and modified instances
+     */
+    public List<Instance> getUpsertedHosts() {
+        return upsertedHosts;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+}
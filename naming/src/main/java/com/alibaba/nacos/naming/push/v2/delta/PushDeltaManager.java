@@ -0,0 +1,161 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.delta;
+
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Delta push manager.
+ *
+ * <p>Records the recent pushed host lists of each service by revision, and the revision acknowledged by each
+ * subscriber client, so that only the changed instances are pushed to clients which support delta push.
+ *
+ * @author Nacos
+ */
+@Component
+public class PushDeltaManager extends SmartSubscriber {
+    
+    private final ConnectionManager connectionManager;
+    
+    private final ConcurrentMap<Service, ServicePushHistory> pushHistories = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<String, ConcurrentMap<Service, Long>> ackedRevisions = new ConcurrentHashMap<>();
+    
+    public PushDeltaManager(ConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
+    }
+    
+    /**
+     * Whether delta push is enabled and supported by the client.
+     *
+     * @param clientId client id, which is the connection id for rpc client
+     * @return {@code true} if delta can be pushed to the client
+     */
+    public boolean isDeltaSupported(String clientId) {
+        if (!PushConfig.getInstance().isPushDeltaEnabled()) {
+            return false;
+        }
+        Connection connection = connectionManager.getConnection(clientId);
+        if (null == connection || null == connection.getAbilityTable()) {
+            return false;
+        }
+        return Boolean.TRUE
+                .equals(connection.getAbilityTable().get(AbilityKey.SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH.getName()));
+    }
+    
+    /**
+     * Record the original push data of service.
+     *
+     * @param service      service
+     * @param originalData original push data generated by service storage
+     * @return revision of push data
+     */
+    public long recordPushData(Service service, ServiceInfo originalData) {
+        return pushHistories.computeIfAbsent(service, key -> new ServicePushHistory())
+                .record(originalData.getHosts(), PushConfig.getInstance().getPushDeltaHistorySize());
+    }
+    
+    /**
+     * Get delta from the revision acknowledged by client to target revision.
+     *
+     * @param service  service
+     * @param clientId client id
+     * @param revision target revision
+     * @return delta if client acknowledged a revision in history, otherwise empty
+     */
+    public Optional<PushDelta> getDelta(Service service, String clientId, long revision) {
+        Map<Service, Long> revisions = ackedRevisions.get(clientId);
+        Long ackedRevision = null == revisions ? null : revisions.get(service);
+        ServicePushHistory history = pushHistories.get(service);
+        if (null == ackedRevision || null == history) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(history.getDelta(ackedRevision, revision));
+    }
+    
+    /**
+     * Client acknowledged the service data of revision.
+     *
+     * @param clientId client id
+     * @param service  service
+     * @param revision revision
+     */
+    public void ackRevision(String clientId, Service service, long revision) {
+        if (null == connectionManager.getConnection(clientId)) {
+            return;
+        }
+        ackedRevisions.computeIfAbsent(clientId, key -> new ConcurrentHashMap<>(4)).put(service, revision);
+    }
+    
+    /**
+     * Revision of service data cached by client is unknown, the next push to client should be full push.
+     *
+     * @param clientId client id
+     * @param service  service
+     */
+    public void resetRevision(String clientId, Service service) {
+        Map<Service, Long> revisions = ackedRevisions.get(clientId);
+        if (null != revisions) {
+            revisions.remove(service);
+        }
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ClientEvent.ClientDisconnectEvent.class);
+        result.add(ClientOperationEvent.ClientUnsubscribeServiceEvent.class);
+        result.add(MetadataEvent.ServiceMetadataEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ClientEvent.ClientDisconnectEvent) {
+            ackedRevisions.remove(((ClientEvent.ClientDisconnectEvent) event).getClient().getClientId());
+        } else if (event instanceof ClientOperationEvent.ClientUnsubscribeServiceEvent) {
+            ClientOperationEvent operationEvent = (ClientOperationEvent) event;
+            resetRevision(operationEvent.getClientId(), operationEvent.getService());
+        } else if (event instanceof MetadataEvent.ServiceMetadataEvent) {
+            MetadataEvent.ServiceMetadataEvent metadataEvent = (MetadataEvent.ServiceMetadataEvent) event;
+            if (metadataEvent.isExpired()) {
+                pushHistories.remove(metadataEvent.getService());
+            }
+        }
+    }
+}
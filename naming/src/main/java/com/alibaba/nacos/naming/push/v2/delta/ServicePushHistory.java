@@ -0,0 +1,156 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.delta;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recent pushed host lists of one service, indexed by push revision.
+ *
+ * @author Nacos
+ */
+public class ServicePushHistory {
+    
+    private final LinkedList<Snapshot> snapshots = new LinkedList<>();
+    
+    private final Map<Long, PushDelta> latestDeltas = new HashMap<>(4);
+    
+    /**
+     * Revision starts from current time, so that the revision of a re-created history will not conflict with revisions
+     * acknowledged by clients for the removed history.
+     */
+    private long revision = System.currentTimeMillis();
+    
+    /**
+     * Record the host list to push and get its revision.
+     *
+     * <p>The instances of pushed host list are cached and reused by {@link com.alibaba.nacos.naming.core.v2.index.ServiceStorage}
+     * if they are not changed, so the same host list can be found by comparing references.
+     *
+     * @param hosts       host list to push
+     * @param historySize max history revisions to keep
+     * @return revision of host list
+     */
+    public synchronized long record(List<Instance> hosts, int historySize) {
+        Snapshot latest = snapshots.peekLast();
+        if (null != latest && isSameHosts(latest.hosts, hosts)) {
+            return latest.revision;
+        }
+        snapshots.addLast(new Snapshot(++revision, hosts));
+        while (snapshots.size() > Math.max(1, historySize)) {
+            snapshots.removeFirst();
+        }
+        latestDeltas.clear();
+        return revision;
+    }
+    
+    /**
+     * Get delta from base revision to target revision.
+     *
+     * @param baseRevision   base revision
+     * @param targetRevision target revision
+     * @return delta, {@code null} if any revision is not in history or the delta can't be generated
+     */
+    public synchronized PushDelta getDelta(long baseRevision, long targetRevision) {
+        Snapshot latest = snapshots.peekLast();
+        boolean isLatest = null != latest && latest.revision == targetRevision;
+        if (isLatest && latestDeltas.containsKey(baseRevision)) {
+            return latestDeltas.get(baseRevision);
+        }
+        Snapshot base = null;
+        Snapshot target = null;
+        for (Snapshot each : snapshots) {
+            if (each.revision == baseRevision) {
+                base = each;
+            }
+            if (each.revision == targetRevision) {
+                target = each;
+            }
+        }
+        PushDelta result = null == base || null == target ? null : diff(base, target);
+        if (isLatest) {
+            latestDeltas.put(baseRevision, result);
+        }
+        return result;
+    }
+    
+    private PushDelta diff(Snapshot base, Snapshot target) {
+        Map<String, Instance> baseHosts = toKeyMap(base.hosts);
+        Map<String, Instance> targetHosts = toKeyMap(target.hosts);
+        if (null == baseHosts || null == targetHosts) {
+            // instances with duplicated key can't be applied by client, use full push.
+            return null;
+        }
+        List<Instance> upserted = new LinkedList<>();
+        for (Map.Entry<String, Instance> entry : targetHosts.entrySet()) {
+            Instance baseInstance = baseHosts.remove(entry.getKey());
+            Instance targetInstance = entry.getValue();
+            if (!isSameInstance(baseInstance, targetInstance)) {
+                upserted.add(targetInstance);
+            }
+        }
+        return new PushDelta(base.revision, target.revision, upserted, new ArrayList<>(baseHosts.values()));
+    }
+    
+    private boolean isSameInstance(Instance baseInstance, Instance targetInstance) {
+        return baseInstance == targetInstance || (null != baseInstance && baseInstance.equals(targetInstance));
+    }
+    
+    private Map<String, Instance> toKeyMap(List<Instance> hosts) {
+        Map<String, Instance> result = new HashMap<>(hosts.size() * 4 / 3 + 1);
+        for (Instance each : hosts) {
+            if (null != result.put(NamingUtils.getInstanceKey(each), each)) {
+                return null;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isSameHosts(List<Instance> latestHosts, List<Instance> hosts) {
+        if (latestHosts.size() != hosts.size()) {
+            return false;
+        }
+        Iterator<Instance> latestIterator = latestHosts.iterator();
+        Iterator<Instance> iterator = hosts.iterator();
+        while (latestIterator.hasNext()) {
+            if (latestIterator.next() != iterator.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static class Snapshot {
+        
+        private final long revision;
+        
+        private final List<Instance> hosts;
+        
+        private Snapshot(long revision, List<Instance> hosts) {
+            this.revision = revision;
+            this.hosts = hosts;
+        }
+    }
+}
@@ -16,34 +16,67 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.delta.PushDelta;
+import com.alibaba.nacos.naming.push.v2.delta.PushDeltaManager;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * Push execute service for rpc.
  *
+ * <p>If the client supports delta push, only the changed instances since the revision acknowledged by client are
+ * pushed. Full service info is pushed when client has no acknowledged revision, the selector of service might depend on
+ * the whole host list or the protect threshold is reached.
+ *
+ * <p>Full pushes of the same push data share one encoded payload for subscribers with the same selected service info.
+ *
  * @author xiweng.yy
  */
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    private static final String PUSH_REVISION_KEY = "pushRevision";
+    
+    private static final String SHARED_PAYLOADS_KEY = "sharedPayloads";
+    
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final PushDeltaManager pushDeltaManager;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, PushDeltaManager pushDeltaManager) {
         this.pushService = pushService;
+        this.pushDeltaManager = pushDeltaManager;
     }
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
+        if (null != data.getService()) {
+            // push without ack, the revision cached by client is unknown.
+            pushDeltaManager.resetRevision(clientId, data.getService());
+        }
+        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
         pushService.pushWithoutAck(clientId,
-                NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
+                shareBody(data, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo)));
     }
     
     @Override
@@ -51,8 +84,22 @@ public class PushExecutorRpcImpl implements PushExecutor {
             NamingPushCallback callBack) {
         ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
         callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        Service service = data.getService();
+        if (null == service || !pushDeltaManager.isDeltaSupported(clientId)) {
+            pushService.pushWithCallback(clientId,
+                    shareBody(data, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo)), callBack,
+                    GlobalExecutor.getCallbackExecutor());
+            return;
+        }
+        long revision = getPushRevision(service, data);
+        NotifySubscriberRequest request = buildDeltaRequest(clientId, subscriber, data, actualServiceInfo, revision)
+                .orElseGet(() -> shareBody(data,
+                        NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo, revision)));
+        // The client cached service info is not the same as original data when protect threshold reached.
+        boolean ackable = !actualServiceInfo.isReachProtectionThreshold();
+        pushService.pushWithCallback(clientId, request,
+                new RevisionPushCallback(clientId, service, revision, ackable, callBack),
+                GlobalExecutor.getCallbackExecutor());
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
@@ -60,4 +107,130 @@ public class PushExecutorRpcImpl implements PushExecutor {
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
     }
+    
+    private NotifySubscriberRequest shareBody(PushDataWrapper data, NotifySubscriberRequest request) {
+        Optional<SharedPushPayloads> payloads = data.getProcessedPushData(SHARED_PAYLOADS_KEY);
+        SharedPushPayloads sharedPayloads = payloads.orElseGet(() -> {
+            SharedPushPayloads result = new SharedPushPayloads(isSelectedByInstance(data.getServiceMetadata()));
+            data.addProcessedPushData(SHARED_PAYLOADS_KEY, result);
+            return result;
+        });
+        request.setSharedBody(sharedPayloads.getSharedBody(request));
+        return request;
+    }
+    
+    private long getPushRevision(Service service, PushDataWrapper data) {
+        Optional<Long> revision = data.getProcessedPushData(PUSH_REVISION_KEY);
+        if (revision.isPresent()) {
+            return revision.get();
+        }
+        long result = pushDeltaManager.recordPushData(service, data.getOriginalData());
+        data.addProcessedPushData(PUSH_REVISION_KEY, result);
+        return result;
+    }
+    
+    private Optional<NotifySubscriberRequest> buildDeltaRequest(String clientId, Subscriber subscriber,
+            PushDataWrapper data, ServiceInfo actualServiceInfo, long revision) {
+        if (actualServiceInfo.isReachProtectionThreshold() || !isSelectedByInstance(data.getServiceMetadata())) {
+            return Optional.empty();
+        }
+        Optional<PushDelta> delta = pushDeltaManager.getDelta(data.getService(), clientId, revision);
+        if (!delta.isPresent()) {
+            return Optional.empty();
+        }
+        Set<String> clusters = StringUtils.isBlank(subscriber.getCluster()) ? Collections.emptySet()
+                : new HashSet<>(Arrays.asList(subscriber.getCluster().split(",")));
+        List<Instance> upsertedHosts = new LinkedList<>();
+        List<Instance> removedHosts = new LinkedList<>();
+        for (Instance each : delta.get().getUpsertedHosts()) {
+            if (!clusters.isEmpty() && !clusters.contains(each.getClusterName())) {
+                continue;
+            }
+            // only enabled instances are pushed, see getServiceInfo.
+            if (each.isEnabled()) {
+                upsertedHosts.add(each);
+            } else {
+                removedHosts.add(each);
+            }
+        }
+        for (Instance each : delta.get().getRemovedHosts()) {
+            if (clusters.isEmpty() || clusters.contains(each.getClusterName())) {
+                removedHosts.add(each);
+            }
+        }
+        if (upsertedHosts.size() + removedHosts.size() >= actualServiceInfo.getHosts().size()) {
+            // delta is not smaller than full service info.
+            return Optional.empty();
+        }
+        ServiceInfo deltaServiceInfo = new ServiceInfo();
+        deltaServiceInfo.setName(actualServiceInfo.getName());
+        deltaServiceInfo.setGroupName(actualServiceInfo.getGroupName());
+        deltaServiceInfo.setClusters(actualServiceInfo.getClusters());
+        deltaServiceInfo.setCacheMillis(actualServiceInfo.getCacheMillis());
+        deltaServiceInfo.setLastRefTime(actualServiceInfo.getLastRefTime());
+        deltaServiceInfo.setHosts(upsertedHosts);
+        return Optional.of(NotifySubscriberRequest
+                .buildNotifySubscriberDeltaRequest(deltaServiceInfo, removedHosts, delta.get().getBaseRevision(),
+                        revision));
+    }
+    
+    /**
+     * Whether the selector of service selects instances one by one, which means delta can be selected as well.
+     */
+    private boolean isSelectedByInstance(ServiceMetadata serviceMetadata) {
+        return null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector;
+    }
+    
+    /**
+     * Push callback to record the revision acknowledged by client.
+     */
+    private class RevisionPushCallback implements NamingPushCallback {
+        
+        private final String clientId;
+        
+        private final Service service;
+        
+        private final long revision;
+        
+        private final boolean ackable;
+        
+        private final NamingPushCallback delegate;
+        
+        private RevisionPushCallback(String clientId, Service service, long revision, boolean ackable,
+                NamingPushCallback delegate) {
+            this.clientId = clientId;
+            this.service = service;
+            this.revision = revision;
+            this.ackable = ackable;
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public void setActualServiceInfo(ServiceInfo serviceInfo) {
+            delegate.setActualServiceInfo(serviceInfo);
+        }
+        
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+        
+        @Override
+        public void onSuccess() {
+            if (ackable) {
+                pushDeltaManager.ackRevision(clientId, service, revision);
+            } else {
+                pushDeltaManager.resetRevision(clientId, service);
+            }
+            delegate.onSuccess();
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            // includes delta revision mismatch of client, the retry push will be full push.
+            pushDeltaManager.resetRevision(clientId, service);
+            delegate.onFail(e);
+        }
+    }
 }
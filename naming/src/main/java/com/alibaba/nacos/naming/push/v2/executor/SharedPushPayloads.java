@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.SharedRequestBody;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Encoded full push payloads of one push data.
+ *
+ * <p>The payload is encoded only once for each payload format and shared by all subscribers whose selected service info is the same. When the
+ * selector of service selects instances one by one, the selected result only depends on the clusters of subscriber.
+ * Otherwise the selector might change the host list for each subscriber, so the selected hosts are compared too.
+ *
+ * <p>Not thread safe, the push data is pushed to subscribers one by one in push task.
+ *
+ * @author Nacos
+ */
+class SharedPushPayloads {
+    
+    private final boolean selectedByInstance;
+    
+    private final List<SharedPayload> payloads = new LinkedList<>();
+    
+    SharedPushPayloads(boolean selectedByInstance) {
+        this.selectedByInstance = selectedByInstance;
+    }
+    
+    /**
+     * Get the shared body for request, create a new one if no pushed request with same service info.
+     *
+     * @param request full notify subscriber request
+     * @return shared body which is encoded lazily when sending request
+     */
+    SharedRequestBody getSharedBody(NotifySubscriberRequest request) {
+        for (SharedPayload each : payloads) {
+            if (each.isSame(request)) {
+                return each.body;
+            }
+        }
+        SharedPayload result = new SharedPayload(request);
+        payloads.add(result);
+        return result.body;
+    }
+    
+    int size() {
+        return payloads.size();
+    }
+    
+    private class SharedPayload {
+        
+        private final long revision;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final SharedRequestBody body;
+        
+        private SharedPayload(NotifySubscriberRequest request) {
+            this.revision = request.getRevision();
+            this.serviceInfo = request.getServiceInfo();
+            this.body = new SharedRequestBody();
+        }
+        
+        private boolean isSame(NotifySubscriberRequest request) {
+            ServiceInfo other = request.getServiceInfo();
+            if (revision != request.getRevision() || !StringUtils.equals(serviceInfo.getClusters(), other.getClusters())
+                    || serviceInfo.isReachProtectionThreshold() != other.isReachProtectionThreshold()) {
+                return false;
+            }
+            return selectedByInstance || isSameHosts(serviceInfo.getHosts(), other.getHosts());
+        }
+        
+        private boolean isSameHosts(List<Instance> hosts, List<Instance> otherHosts) {
+            if (hosts.size() != otherHosts.size()) {
+                return false;
+            }
+            Iterator<Instance> iterator = otherHosts.iterator();
+            for (Instance each : hosts) {
+                // selectors don't modify instances, compare by identity to avoid building string of instance.
+                if (each != iterator.next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
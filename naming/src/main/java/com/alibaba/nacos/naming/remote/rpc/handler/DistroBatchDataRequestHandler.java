@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroBatchDataRequest;
+import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.misc.Loggers;
+import org.springframework.stereotype.Component;
+
+/**
+ * Distro batch data request handler.
+ *
+ * <p>Each data of batch is received as single distro sync data. The batch fails if any data fails, and the sender
+ * retries all data of the batch, which is idempotent for client sync data.
+ *
+ * @author Nacos
+ */
+@Component
+public class DistroBatchDataRequestHandler extends RequestHandler<DistroBatchDataRequest, DistroDataResponse> {
+    
+    private final DistroProtocol distroProtocol;
+    
+    public DistroBatchDataRequestHandler(DistroProtocol distroProtocol) {
+        this.distroProtocol = distroProtocol;
+    }
+    
+    @Override
+    public DistroDataResponse handle(DistroBatchDataRequest request, RequestMeta meta) throws NacosException {
+        DistroDataResponse result = new DistroDataResponse();
+        int failed = 0;
+        for (DistroData each : request.getDistroDataList()) {
+            try {
+                if (!distroProtocol.onReceive(each)) {
+                    failed++;
+                }
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-FAILED] distro handle batch data {} with exception", each.getDistroKey(),
+                        e);
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            result.setErrorInfo(ResponseCode.FAIL.getCode(),
+                    String.format("[DISTRO-FAILED] distro batch data handle failed, %d of %d failed", failed,
+                            request.getDistroDataList().size()));
+        }
+        return result;
+    }
+}
@@ -22,11 +22,14 @@ import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
 import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.springframework.stereotype.Component;
 
 /**
@@ -49,8 +52,12 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
             switch (request.getDataOperation()) {
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
+                case VERIFY_DIGEST:
+                    return handleVerifyDigest(request.getDistroData(), meta);
                 case SNAPSHOT:
                     return handleSnapshot();
+                case SNAPSHOT_SLICE:
+                    return handleSnapshotSlice(request.getDistroData());
                 case ADD:
                 case CHANGE:
                 case DELETE:
@@ -77,6 +84,17 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
+    private DistroDataResponse handleVerifyDigest(DistroData distroData, RequestMeta meta) {
+        DistroDataResponse result = new DistroDataResponse();
+        DistroData verifyResult = distroProtocol.onVerifyDigest(distroData, meta.getClientIp());
+        if (null == verifyResult) {
+            result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro data verify digest failed");
+        } else {
+            result.setDistroData(verifyResult);
+        }
+        return result;
+    }
+    
     private DistroDataResponse handleSnapshot() {
         DistroDataResponse result = new DistroDataResponse();
         DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
@@ -84,6 +102,19 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
+    private DistroDataResponse handleSnapshotSlice(DistroData distroData) {
+        DistroDataResponse result = new DistroDataResponse();
+        DistroSnapshotSlice slice = ApplicationUtils.getBean(Serializer.class)
+                .deserialize(distroData.getContent(), DistroSnapshotSlice.class);
+        DistroData sliceData = distroProtocol.onSnapshotSlice(DistroClientDataProcessor.TYPE, slice);
+        if (null == sliceData) {
+            result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro snapshot slice not found");
+        } else {
+            result.setDistroData(sliceData);
+        }
+        return result;
+    }
+    
     private DistroDataResponse handleSyncData(DistroData distroData) {
         DistroDataResponse result = new DistroDataResponse();
         if (!distroProtocol.onReceive(distroData)) {
@@ -0,0 +1,44 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.remote.request;
+
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistroBatchDataRequestTest {
+    
+    @Test
+    void testConstructor() {
+        assertTrue(new DistroBatchDataRequest().getDistroDataList().isEmpty());
+        List<DistroData> dataList = Collections.singletonList(new DistroData());
+        assertEquals(dataList, new DistroBatchDataRequest(dataList).getDistroDataList());
+    }
+    
+    @Test
+    void testGetterAndSetter() {
+        List<DistroData> dataList = Collections.singletonList(new DistroData());
+        DistroBatchDataRequest req = new DistroBatchDataRequest();
+        req.setDistroDataList(dataList);
+        assertEquals(dataList, req.getDistroDataList());
+    }
+}
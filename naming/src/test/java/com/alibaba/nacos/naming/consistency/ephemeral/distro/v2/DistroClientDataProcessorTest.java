@@ -21,6 +21,7 @@ import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSlice;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -48,9 +49,13 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -362,6 +367,25 @@ class DistroClientDataProcessorTest {
         assertEquals(1, client.getAllPublishedService().size());
     }
     
+    @Test
+    void testProcessSnapshotSlice() {
+        DistroClientSnapshotPage page = new DistroClientSnapshotPage();
+        page.getClientSyncDataList().add(clientSyncData);
+        page.setNextCursor(CLIENT_ID);
+        when(serializer.deserialize(any(), eq(DistroClientSnapshotPage.class))).thenReturn(page);
+        distroData.setContent(new byte[0]);
+        DistroSnapshotSlice slice = new DistroSnapshotSlice(0, 1, 1);
+        assertTrue(distroClientDataProcessor.processSnapshotSlice(distroData, slice));
+        verify(clientManager).syncClientConnected(CLIENT_ID, clientSyncData.getAttributes());
+        assertEquals(1L, client.getRevision());
+        assertEquals(CLIENT_ID, slice.getCursor());
+        assertFalse(slice.isFinished());
+        page.setNextCursor(null);
+        assertTrue(distroClientDataProcessor.processSnapshotSlice(distroData, slice));
+        assertTrue(slice.isFinished());
+        assertFalse(distroClientDataProcessor.processSnapshotSlice(null, slice));
+    }
+    
     @Test
     void testGetDistroData() {
         DistroData actual = distroClientDataProcessor.getDistroData(distroKey);
@@ -376,6 +400,39 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetDatumSnapshotSlice() {
+        List<String> clientIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String clientId = i + "_1.1.1.1_3306";
+            clientIds.add(clientId);
+            when(clientManager.getClient(clientId)).thenReturn(new ConnectionBasedClient(clientId, true, 0L));
+        }
+        when(clientManager.allClientId()).thenReturn(clientIds);
+        AtomicReference<DistroClientSnapshotPage> page = new AtomicReference<>();
+        when(serializer.serialize(any(DistroClientSnapshotPage.class))).thenAnswer(invocation -> {
+            page.set(invocation.getArgument(0));
+            return new byte[0];
+        });
+        Set<String> loadedClientIds = new HashSet<>();
+        for (int i = 0; i < 2; i++) {
+            DistroSnapshotSlice slice = new DistroSnapshotSlice(i, 2, 3);
+            do {
+                DistroData actual = distroClientDataProcessor.getDatumSnapshot(slice);
+                assertEquals(DataOperation.SNAPSHOT_SLICE, actual.getType());
+                assertTrue(page.get().getClientSyncDataList().size() <= 3);
+                for (ClientSyncData each : page.get().getClientSyncDataList()) {
+                    assertEquals(i, DistroClientDataProcessor.sliceOf(each.getClientId(), 2));
+                    assertTrue(loadedClientIds.add(each.getClientId()));
+                }
+                slice.setCursor(page.get().getNextCursor());
+            } while (null != slice.getCursor());
+        }
+        assertEquals(new HashSet<>(clientIds), loadedClientIds);
+        // client ids are scanned once for each slice instead of each page
+        verify(clientManager, Mockito.times(2)).allClientId();
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
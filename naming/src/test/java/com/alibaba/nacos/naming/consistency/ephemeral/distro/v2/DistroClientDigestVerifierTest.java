@@ -0,0 +1,182 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MembersChangeEvent;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DistroClientDigestVerifierTest {
+    
+    private static final String SOURCE_SERVER = "1.1.1.1:8848";
+    
+    private static final int CLIENT_COUNT = 100;
+    
+    private final Map<String, Client> clients = new HashMap<>();
+    
+    @Mock
+    private ClientManager sourceClientManager;
+    
+    @Mock
+    private ClientManager targetClientManager;
+    
+    private DistroClientDigestVerifier source;
+    
+    private DistroClientDigestVerifier target;
+    
+    @BeforeAll
+    static void setUpBeforeClass() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+    }
+    
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            String clientId = i + "_1.1.1.1_8848";
+            clients.put(clientId, new ConnectionBasedClient(clientId, true, 1L));
+        }
+        when(sourceClientManager.allClientId()).thenReturn(clients.keySet());
+        when(sourceClientManager.getClient(anyString())).thenAnswer(invocation -> clients.get(invocation.getArgument(0)));
+        when(sourceClientManager.isResponsibleClient(any())).thenReturn(true);
+        when(targetClientManager.verifyClient(any())).thenReturn(true);
+        source = new DistroClientDigestVerifier(sourceClientManager);
+        target = new DistroClientDigestVerifier(targetClientManager);
+    }
+    
+    @Test
+    void testBuildDigestWithoutClient() {
+        clients.clear();
+        assertNull(source.buildDigest());
+    }
+    
+    @Test
+    void testVerifyOnlyMismatchedBuckets() {
+        DistroClientVerifyDigest digest = source.buildDigest();
+        assertNotNull(digest);
+        // nothing verified yet, all non-empty buckets mismatched
+        List<Integer> mismatched = target.verifyDigest(SOURCE_SERVER, digest).getMismatchedBuckets();
+        assertEquals(nonEmptyBuckets(), mismatched.size());
+        int verifiedClients = 0;
+        for (DistroClientVerifyBucket each : source.buildBuckets(mismatched)) {
+            assertTrue(target.verifyBucket(SOURCE_SERVER, each).getFailedClients().isEmpty());
+            verifiedClients += each.getClients().size();
+        }
+        assertEquals(CLIENT_COUNT, verifiedClients);
+        
+        // unchanged buckets are matched, and the clients are renewed by target
+        clearInvocations(targetClientManager);
+        assertTrue(target.verifyDigest(SOURCE_SERVER, source.buildDigest()).getMismatchedBuckets().isEmpty());
+        verify(targetClientManager, times(CLIENT_COUNT)).verifyClient(any());
+        
+        // only the bucket of changed client is mismatched
+        ConnectionBasedClient changed = (ConnectionBasedClient) clients.get("0_1.1.1.1_8848");
+        changed.recalculateRevision();
+        mismatched = target.verifyDigest(SOURCE_SERVER, source.buildDigest()).getMismatchedBuckets();
+        assertEquals(1, mismatched.size());
+        List<DistroClientVerifyBucket> buckets = source.buildBuckets(mismatched);
+        assertEquals(1, buckets.size());
+        assertTrue(buckets.get(0).getClients().stream()
+                .anyMatch(each -> each.getClientId().equals(changed.getClientId())));
+    }
+    
+    @Test
+    void testVerifyBucketFailed() {
+        when(targetClientManager.verifyClient(any())).thenAnswer(
+                invocation -> !"0_1.1.1.1_8848".equals(((DistroClientVerifyInfo) invocation.getArgument(0)).getClientId()));
+        DistroClientVerifyDigest digest = source.buildDigest();
+        List<Integer> mismatched = target.verifyDigest(SOURCE_SERVER, digest).getMismatchedBuckets();
+        List<String> failedClients = new ArrayList<>();
+        for (DistroClientVerifyBucket each : source.buildBuckets(mismatched)) {
+            failedClients.addAll(target.verifyBucket(SOURCE_SERVER, each).getFailedClients());
+        }
+        assertEquals(1, failedClients.size());
+        assertEquals("0_1.1.1.1_8848", failedClients.get(0));
+        // bucket with failed client is not recorded, it will be verified again
+        assertEquals(1, target.verifyDigest(SOURCE_SERVER, digest).getMismatchedBuckets().size());
+    }
+    
+    @Test
+    void testVerifyDigestFromDifferentSource() {
+        DistroClientVerifyDigest digest = source.buildDigest();
+        for (DistroClientVerifyBucket each : source.buildBuckets(
+                target.verifyDigest(SOURCE_SERVER, digest).getMismatchedBuckets())) {
+            target.verifyBucket(SOURCE_SERVER, each);
+        }
+        assertTrue(target.verifyDigest(SOURCE_SERVER, digest).getMismatchedBuckets().isEmpty());
+        assertEquals(nonEmptyBuckets(), target.verifyDigest("2.2.2.2:8848", digest).getMismatchedBuckets().size());
+    }
+    
+    @Test
+    void testDropVerifiedBucketsOfLeftMember() {
+        DistroClientVerifyDigest digest = source.buildDigest();
+        for (DistroClientVerifyBucket each : source.buildBuckets(
+                target.verifyDigest(SOURCE_SERVER, digest).getMismatchedBuckets())) {
+            target.verifyBucket(SOURCE_SERVER, each);
+        }
+        Member sourceMember = Member.builder().ip("1.1.1.1").port(8848).build();
+        Member otherMember = Member.builder().ip("2.2.2.2").port(8848).build();
+        target.onEvent(MembersChangeEvent.builder().members(Arrays.asList(sourceMember, otherMember)).build());
+        assertTrue(target.verifyDigest(SOURCE_SERVER, digest).getMismatchedBuckets().isEmpty());
+        target.onEvent(MembersChangeEvent.builder().members(Collections.singletonList(otherMember)).build());
+        assertEquals(nonEmptyBuckets(), target.verifyDigest(SOURCE_SERVER, digest).getMismatchedBuckets().size());
+    }
+    
+    private int nonEmptyBuckets() {
+        boolean[] buckets = new boolean[DistroClientDigestVerifier.BUCKET_COUNT];
+        int result = 0;
+        for (String each : clients.keySet()) {
+            int bucket = DistroClientDigestVerifier.bucketOf(DistroClientDigestVerifier.hashOf(each));
+            if (!buckets[bucket]) {
+                buckets[bucket] = true;
+                result++;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DistroClientSyncBatcherTest {
+    
+    private static final String TARGET_SERVER = "1.1.1.1:8848";
+    
+    private final List<DistroClientSyncBatcher.Batch> sentBatches = new CopyOnWriteArrayList<>();
+    
+    @Mock
+    private DistroCallback callback;
+    
+    private DistroClientSyncBatcher batcher;
+    
+    private int originalBatchSize;
+    
+    private long originalBatchDelay;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        originalBatchSize = DistroConfig.getInstance().getSyncBatchSize();
+        originalBatchDelay = DistroConfig.getInstance().getSyncBatchDelayMillis();
+        DistroConfig.getInstance().setSyncBatchSize(3);
+        DistroConfig.getInstance().setSyncBatchDelayMillis(10L);
+        batcher = new DistroClientSyncBatcher((targetServer, batch) -> sentBatches.add(batch));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        DistroConfig.getInstance().setSyncBatchSize(originalBatchSize);
+        DistroConfig.getInstance().setSyncBatchDelayMillis(originalBatchDelay);
+    }
+    
+    @Test
+    void testSendWhenBatchFull() {
+        DistroData data1 = newData("1");
+        DistroData data2 = newData("2");
+        final DistroData newData1 = newData("1");
+        final DistroData data3 = newData("3");
+        batcher.add(data1, TARGET_SERVER, callback);
+        batcher.add(data2, TARGET_SERVER, callback);
+        // coalesced with data1
+        batcher.add(newData1, TARGET_SERVER, callback);
+        assertTrue(sentBatches.isEmpty());
+        batcher.add(data3, TARGET_SERVER, callback);
+        assertEquals(1, sentBatches.size());
+        DistroClientSyncBatcher.Batch batch = sentBatches.get(0);
+        assertEquals(3, batch.getDataList().size());
+        assertEquals(newData1, batch.getDataList().get(0));
+        assertEquals(data2, batch.getDataList().get(1));
+        assertEquals(data3, batch.getDataList().get(2));
+        assertEquals(4, batch.getCoalescedSize());
+        batch.onSuccess();
+        verify(callback, times(4)).onSuccess();
+        verify(callback, never()).onFailed(null);
+    }
+    
+    @Test
+    void testSendAfterBatchDelay() throws InterruptedException {
+        batcher.add(newData("1"), TARGET_SERVER, callback);
+        batcher.add(newData("2"), "2.2.2.2:8848", callback);
+        for (int i = 0; i < 100 && sentBatches.size() < 2; i++) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertEquals(2, sentBatches.size());
+        assertEquals(1, sentBatches.get(0).getDataList().size());
+        assertEquals(1, sentBatches.get(1).getDataList().size());
+        sentBatches.get(0).onFailed(null);
+        verify(callback).onFailed(null);
+    }
+    
+    @Test
+    void testFlush() {
+        batcher.flush(TARGET_SERVER);
+        assertTrue(sentBatches.isEmpty());
+        DistroConfig.getInstance().setSyncBatchDelayMillis(TimeUnit.MINUTES.toMillis(1));
+        batcher.add(newData("1"), TARGET_SERVER, callback);
+        batcher.flush(TARGET_SERVER);
+        assertEquals(1, sentBatches.size());
+        batcher.flush(TARGET_SERVER);
+        assertEquals(1, sentBatches.size());
+    }
+    
+    private DistroData newData(String resourceKey) {
+        return new DistroData(new DistroKey(resourceKey, DistroClientDataProcessor.TYPE), new byte[0]);
+    }
+}
@@ -24,11 +24,16 @@ import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroBatchDataRequest;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.cluster.transport.JacksonSerializer;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -43,14 +48,18 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -233,6 +242,30 @@ class DistroClientTransportAgentTest {
         verify(distroCallback).onSuccess();
     }
     
+    @Test
+    void testSyncDataWithBatch() throws NacosException {
+        int originalBatchSize = DistroConfig.getInstance().getSyncBatchSize();
+        DistroConfig.getInstance().setSyncBatchSize(2);
+        try {
+            when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+            member.setState(NodeState.UP);
+            member.getAbilities().getNamingAbility().setSupportDistroBatchSync(true);
+            when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+            transportAgent.syncData(new DistroData(new DistroKey("1", "type"), new byte[0]), member.getAddress(),
+                    distroCallback);
+            transportAgent.syncData(new DistroData(new DistroKey("1", "type"), new byte[0]), member.getAddress(),
+                    distroCallback);
+            verify(distroCallback, never()).onSuccess();
+            transportAgent.syncData(new DistroData(new DistroKey("2", "type"), new byte[0]), member.getAddress(),
+                    distroCallback);
+            verify(clusterRpcClientProxy).asyncRequest(eq(member), any(DistroBatchDataRequest.class), any());
+            verify(clusterRpcClientProxy, never()).asyncRequest(eq(member), any(DistroDataRequest.class), any());
+            verify(distroCallback, times(3)).onSuccess();
+        } finally {
+            DistroConfig.getInstance().setSyncBatchSize(originalBatchSize);
+        }
+    }
+    
     @Test
     void testSyncVerifyDataForMemberNonExist() throws NacosException {
         DistroData verifyData = new DistroData();
@@ -495,4 +528,42 @@ class DistroClientTransportAgentTest {
         when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
         transportAgent.getDatumSnapshot(member.getAddress());
     }
+    
+    @Test
+    void testSupportVerifyDigest() {
+        assertFalse(transportAgent.supportVerifyDigest(member.getAddress()));
+        member.getAbilities().getNamingAbility().setSupportDistroVerifyDigest(true);
+        assertTrue(transportAgent.supportVerifyDigest(member.getAddress()));
+        assertFalse(transportAgent.supportVerifyDigest("2.2.2.2:8848"));
+    }
+    
+    @Test
+    void testSyncVerifyDigestFailure() throws NacosException {
+        DistroData verifyData = new DistroData();
+        verifyData.setDistroKey(new DistroKey());
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        response.setErrorInfo(ResponseCode.FAIL.getCode(), "TEST");
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), anyLong())).thenReturn(response);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        assertNull(transportAgent.syncVerifyDigest(verifyData, member.getAddress()));
+    }
+    
+    @Test
+    void testSyncVerifyDigestSuccess() throws NacosException {
+        Serializer serializer = new JacksonSerializer();
+        when(context.getBean(Serializer.class)).thenReturn(serializer);
+        DistroClientVerifyResult verifyResult = new DistroClientVerifyResult();
+        verifyResult.getMismatchedBuckets().add(1);
+        DistroData resultData = new DistroData(new DistroKey(), serializer.serialize(verifyResult));
+        ((DistroDataResponse) response).setDistroData(resultData);
+        DistroData verifyData = new DistroData();
+        verifyData.setDistroKey(new DistroKey());
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), anyLong())).thenReturn(response);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        assertEquals(resultData, transportAgent.syncVerifyDigest(verifyData, member.getAddress()));
+        assertEquals(member.getAddress(), verifyData.getDistroKey().getTargetServer());
+    }
 }
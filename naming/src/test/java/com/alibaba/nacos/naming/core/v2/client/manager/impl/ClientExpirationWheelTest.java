@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client.manager.impl;
+
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class ClientExpirationWheelTest {
+    
+    private static final long TICK = 5000L;
+    
+    @Mock
+    private Client client;
+    
+    @Mock
+    private Client otherClient;
+    
+    private ClientExpirationWheel<Client> wheel;
+    
+    private long now;
+    
+    @BeforeEach
+    void setUp() {
+        wheel = new ClientExpirationWheel<>(TICK);
+        now = System.currentTimeMillis();
+    }
+    
+    @Test
+    void testPollDue() {
+        wheel.schedule(client, now + TICK);
+        wheel.schedule(otherClient, now + 3 * TICK);
+        assertTrue(wheel.pollDue(now).isEmpty());
+        List<Client> actual = wheel.pollDue(now + TICK);
+        assertEquals(1, actual.size());
+        assertEquals(client, actual.get(0));
+        assertTrue(wheel.pollDue(now + 2 * TICK).isEmpty());
+        actual = wheel.pollDue(now + 3 * TICK);
+        assertEquals(1, actual.size());
+        assertEquals(otherClient, actual.get(0));
+        assertTrue(wheel.pollDue(now + 4 * TICK).isEmpty());
+    }
+    
+    @Test
+    void testPollPassedDeadlineAtNextTick() {
+        wheel.pollDue(now);
+        wheel.schedule(client, now - TICK);
+        assertTrue(wheel.pollDue(now).isEmpty());
+        assertEquals(1, wheel.pollDue(now + TICK).size());
+    }
+    
+    @Test
+    void testPollDeadlineBeyondOneRound() {
+        long deadline = now + 100 * TICK;
+        wheel.schedule(client, deadline);
+        for (long time = now; time < deadline - TICK; time += TICK) {
+            assertTrue(wheel.pollDue(time).isEmpty());
+        }
+        assertEquals(1, wheel.pollDue(deadline).size());
+    }
+    
+    @Test
+    void testPollAfterLongPause() {
+        wheel.schedule(client, now + TICK);
+        wheel.schedule(otherClient, now + 200 * TICK);
+        List<Client> actual = wheel.pollDue(now + 300 * TICK);
+        assertEquals(2, actual.size());
+        assertTrue(wheel.pollDue(now + 301 * TICK).isEmpty());
+    }
+}
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.core.v2.event.publisher;
 
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.PartitionedEventPublisher;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,4 +62,18 @@ class NamingEventPublisherFactoryTest {
                 "Naming event publisher statues:\n" + "\tPublisher TestEvent                     : shutdown=false, queue=      0/8      \n";
         assertThat(NamingEventPublisherFactory.getInstance().getAllPublisherStatues(), is(expectedStatus));
     }
+    
+    @Test
+    void testApplyWithPartitions() throws Exception {
+        NamingEventPublisherFactory factory = new NamingEventPublisherFactory(2);
+        EventPublisher publisher = factory.apply(TestEvent.TestEvent1.class, Byte.SIZE);
+        try {
+            assertThat(publisher instanceof PartitionedEventPublisher, is(true));
+            assertThat(factory.apply(TestEvent.TestEvent2.class, Byte.SIZE) == publisher, is(true));
+            assertThat(factory.getPartitionedPublishers().size(), is(1));
+            assertThat(((PartitionedEventPublisher) publisher).getPartitionCount(), is(2));
+        } finally {
+            publisher.shutdown();
+        }
+    }
 }
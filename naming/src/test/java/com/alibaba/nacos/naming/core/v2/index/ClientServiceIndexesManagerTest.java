@@ -36,6 +36,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -165,6 +170,18 @@ class ClientServiceIndexesManagerTest {
         assertEquals(1, allClientsSubscribeService.size());
     }
     
+    @Test
+    void testPublisherIndexListener() {
+        ClientServiceIndexesManager.PublisherIndexListener listener = Mockito
+                .mock(ClientServiceIndexesManager.PublisherIndexListener.class);
+        clientServiceIndexesManager.addPublisherIndexListener(listener);
+        Service newService = Service.newService("namespace", "group", "listener");
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(newService, NACOS));
+        Mockito.verify(listener).onPublisherRegistered(newService, NACOS);
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(newService, NACOS));
+        Mockito.verify(listener).onPublisherDeregistered(newService, NACOS);
+    }
+    
     @Test
     void testAddSubscriberIndexes() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         String clientId = "clientId";
@@ -195,4 +212,50 @@ class ClientServiceIndexesManagerTest {
         assertEquals(1, allClientsSubscribeService.size());
     }
     
-}
\ No newline at end of file
+    @Test
+    void testConcurrentAddAndRemoveIndexes() throws Exception {
+        final Service newService = Service.newService("namespace", "group", "concurrent");
+        final Method addPublisherIndexes = ClientServiceIndexesManager.class.getDeclaredMethod("addPublisherIndexes",
+                Service.class, String.class);
+        final Method removePublisherIndexes = ClientServiceIndexesManager.class.getDeclaredMethod("removePublisherIndexes",
+                Service.class, String.class);
+        final Method addSubscriberIndexes = ClientServiceIndexesManager.class.getDeclaredMethod("addSubscriberIndexes",
+                Service.class, String.class);
+        final Method removeSubscriberIndexes = ClientServiceIndexesManager.class.getDeclaredMethod("removeSubscriberIndexes",
+                Service.class, String.class);
+        addPublisherIndexes.setAccessible(true);
+        removePublisherIndexes.setAccessible(true);
+        addSubscriberIndexes.setAccessible(true);
+        removeSubscriberIndexes.setAccessible(true);
+        final int count = 2000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> churn = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < count; i++) {
+                    addPublisherIndexes.invoke(clientServiceIndexesManager, newService, "churn");
+                    removePublisherIndexes.invoke(clientServiceIndexesManager, newService, "churn");
+                    addSubscriberIndexes.invoke(clientServiceIndexesManager, newService, "churn");
+                    removeSubscriberIndexes.invoke(clientServiceIndexesManager, newService, "churn");
+                }
+                return null;
+            });
+            Future<?> add = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < count; i++) {
+                    addPublisherIndexes.invoke(clientServiceIndexesManager, newService, "client" + i);
+                    addSubscriberIndexes.invoke(clientServiceIndexesManager, newService, "client" + i);
+                }
+                return null;
+            });
+            start.countDown();
+            churn.get(30, TimeUnit.SECONDS);
+            add.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(count, clientServiceIndexesManager.getAllClientsRegisteredService(newService).size());
+        assertEquals(count, clientServiceIndexesManager.getAllClientsSubscribeService(newService).size());
+    }
+}
@@ -18,11 +18,14 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +46,8 @@ import java.util.concurrent.ConcurrentMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -88,6 +93,11 @@ class ServiceStorageTest {
         infoConcurrentMap.put(SERVICE, serviceInfo);
     }
     
+    @AfterEach
+    void tearDown() {
+        ServiceManager.getInstance().removeSingleton(SERVICE);
+    }
+    
     @Test
     void testGetClusters() {
         Set<String> clusters = serviceStorage.getClusters(SERVICE);
@@ -141,6 +151,76 @@ class ServiceStorageTest {
         assertNotNull(list);
     }
     
+    @Test
+    void testGetPushDataReuseUnchangedInstances() {
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        mockRegisteredClient(NACOS, publishInfo);
+        List<Instance> first = serviceStorage.getPushData(SERVICE).getHosts();
+        final long revision = serviceStorage.getRevision(SERVICE);
+        List<Instance> second = serviceStorage.getPushData(SERVICE).getHosts();
+        
+        assertEquals(1, first.size());
+        assertSame(first.get(0), second.get(0));
+        assertEquals(revision, serviceStorage.getRevision(SERVICE));
+        // registered clients are only looked up by the first refresh.
+        Mockito.verify(clientServiceIndexesManager).getAllClientsRegisteredService(SERVICE);
+        Mockito.verify(clientManagerDelegate).getClient(NACOS);
+    }
+    
+    @Test
+    void testGetPushDataReparseChangedInstances() {
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        publishInfo.setHealthy(true);
+        mockRegisteredClient(NACOS, publishInfo);
+        List<Instance> first = serviceStorage.getPushData(SERVICE).getHosts();
+        final long revision = serviceStorage.getRevision(SERVICE);
+        publishInfo.setHealthy(false);
+        List<Instance> second = serviceStorage.getPushData(SERVICE).getHosts();
+        
+        assertTrue(first.get(0).isHealthy());
+        assertFalse(second.get(0).isHealthy());
+        assertEquals(revision + 1, serviceStorage.getRevision(SERVICE));
+    }
+    
+    @Test
+    void testGetPushDataWithRegisteredClient() {
+        mockRegisteredClient(NACOS, new InstancePublishInfo("1.1.1.1", 8848));
+        serviceStorage.getPushData(SERVICE);
+        final long revision = serviceStorage.getRevision(SERVICE);
+        Client client = Mockito.mock(Client.class);
+        Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(new InstancePublishInfo("2.2.2.2", 8848));
+        Mockito.when(clientManagerDelegate.getClient("other")).thenReturn(client);
+        serviceStorage.onPublisherRegistered(SERVICE, "other");
+        List<Instance> instances = serviceStorage.getPushData(SERVICE).getHosts();
+        
+        assertEquals(2, instances.size());
+        assertEquals(revision + 1, serviceStorage.getRevision(SERVICE));
+        Mockito.verify(clientManagerDelegate).getClient(NACOS);
+    }
+    
+    @Test
+    void testGetPushDataRemoveDeregisteredClient() {
+        mockRegisteredClient(NACOS, new InstancePublishInfo("1.1.1.1", 8848));
+        serviceStorage.getPushData(SERVICE);
+        final long revision = serviceStorage.getRevision(SERVICE);
+        Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(null);
+        serviceStorage.onPublisherDeregistered(SERVICE, NACOS);
+        List<Instance> instances = serviceStorage.getPushData(SERVICE).getHosts();
+        
+        assertTrue(instances.isEmpty());
+        assertEquals(revision + 1, serviceStorage.getRevision(SERVICE));
+        assertTrue(serviceStorage.getClusters(SERVICE).isEmpty());
+    }
+    
+    private void mockRegisteredClient(String clientId, InstancePublishInfo publishInfo) {
+        ServiceManager.getInstance().getSingleton(SERVICE);
+        Client client = Mockito.mock(Client.class);
+        Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(publishInfo);
+        Mockito.when(clientManagerDelegate.getClient(clientId)).thenReturn(client);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                .thenReturn(Collections.singletonList(clientId));
+    }
+    
     @Test
     void testGetInstanceInfo() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
@@ -20,6 +20,7 @@ import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -233,4 +235,25 @@ class NamingMetadataManagerTest {
         namingMetadataManager.onEvent(clientDisconnectEvent);
         Mockito.verify(clientDisconnectEvent).getClient();
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testExpiredInfoIndependentOfHandleOrder() {
+        InstancePublishInfo instancePublishInfo = Mockito.mock(InstancePublishInfo.class);
+        Mockito.when(instancePublishInfo.getMetadataId()).thenReturn(METADATA_ID);
+        Mockito.when(client.getAllPublishedService()).thenReturn(Collections.singletonList(service));
+        Mockito.when(client.getInstancePublishInfo(service)).thenReturn(instancePublishInfo);
+        ClientEvent.ClientDisconnectEvent disconnectEvent = new ClientEvent.ClientDisconnectEvent(client, true);
+        MetadataEvent.InstanceMetadataEvent registerEvent = new MetadataEvent.InstanceMetadataEvent(service,
+                METADATA_ID, false);
+        ExpiredMetadataInfo expiredMetadataInfo = ExpiredMetadataInfo.newExpiredInstanceMetadata(service, METADATA_ID);
+        // the register after disconnect is handled first
+        namingMetadataManager.onEvent(registerEvent);
+        namingMetadataManager.onEvent(disconnectEvent);
+        assertFalse(namingMetadataManager.getExpiredMetadataInfos().contains(expiredMetadataInfo));
+        // later deregister expires it again
+        namingMetadataManager.onEvent(new MetadataEvent.InstanceMetadataEvent(service, METADATA_ID, true));
+        assertTrue(namingMetadataManager.getExpiredMetadataInfos().contains(expiredMetadataInfo));
+        namingMetadataManager.removeInstanceMetadata(service, METADATA_ID);
+        assertTrue(namingMetadataManager.getExpiredMetadataInfos().isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.healthcheck.HealthCheckScheduler.ScheduledCheck;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HealthCheckSchedulerTest {
+    
+    private static final long TICK = 500L;
+    
+    private HealthCheckScheduler scheduler;
+    
+    private AtomicInteger counter;
+    
+    @BeforeEach
+    void setUp() {
+        scheduler = new HealthCheckScheduler(2, TICK);
+        counter = new AtomicInteger();
+    }
+    
+    @Test
+    void testScheduleOnce() {
+        long now = System.currentTimeMillis();
+        scheduler.schedule("task", counter::incrementAndGet, 2000L);
+        assertEquals(1, scheduler.size());
+        scheduler.executeDueChecks(now);
+        assertEquals(0, counter.get());
+        scheduler.executeDueChecks(now + 2000L + TICK);
+        assertEquals(1, counter.get());
+        assertEquals(0, scheduler.size());
+        scheduler.executeDueChecks(now + 10000L);
+        assertEquals(1, counter.get());
+    }
+    
+    @Test
+    void testSchedulePeriodically() {
+        scheduler.schedule("task", counter::incrementAndGet, 0L, 0L);
+        scheduler.executeDueChecks(System.currentTimeMillis() + TICK);
+        assertEquals(1, counter.get());
+        assertEquals(1, scheduler.size());
+        scheduler.executeDueChecks(System.currentTimeMillis() + TICK);
+        assertEquals(2, counter.get());
+    }
+    
+    @Test
+    void testCancel() {
+        ScheduledCheck check = scheduler.schedule("task", counter::incrementAndGet, 0L, 0L);
+        check.cancel();
+        assertTrue(check.isCancelled());
+        scheduler.executeDueChecks(System.currentTimeMillis() + TICK);
+        assertEquals(0, counter.get());
+        assertEquals(0, scheduler.size());
+    }
+    
+    @Test
+    void testExecuteInBulkWithFailedTask() {
+        for (int i = 0; i < 100; i++) {
+            scheduler.schedule("task" + i, counter::incrementAndGet, 0L);
+        }
+        scheduler.schedule("failed", () -> {
+            throw new IllegalStateException("test");
+        }, 0L);
+        long executedBefore = MetricsMonitor.getHealthCheckShardExecutedCount(0).get() + MetricsMonitor
+                .getHealthCheckShardExecutedCount(1).get();
+        scheduler.executeDueChecks(System.currentTimeMillis() + 3 * TICK);
+        assertEquals(100, counter.get());
+        long executedAfter = MetricsMonitor.getHealthCheckShardExecutedCount(0).get() + MetricsMonitor
+                .getHealthCheckShardExecutedCount(1).get();
+        assertEquals(101, executedAfter - executedBefore);
+        assertTrue(MetricsMonitor.getHealthCheckShardLag(0).get() >= TICK);
+    }
+}
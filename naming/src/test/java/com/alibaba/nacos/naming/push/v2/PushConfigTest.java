@@ -29,6 +29,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PushConfigTest {
     
@@ -66,12 +67,16 @@ class PushConfigTest {
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_DELAY, String.valueOf(pushTaskDelay));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_TIMEOUT, String.valueOf(pushTaskTimeout));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_RETRY_DELAY, String.valueOf(pushTaskRetryDelay));
+        mockEnvironment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "true");
+        mockEnvironment.setProperty(PushConstants.PUSH_DELTA_HISTORY_SIZE, "3");
         Constructor<PushConfig> declaredConstructor = PushConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
         PushConfig pushConfig = declaredConstructor.newInstance();
         assertEquals(pushTaskDelay, pushConfig.getPushTaskDelay());
         assertEquals(pushTaskTimeout, pushConfig.getPushTaskTimeout());
         assertEquals(pushTaskRetryDelay, pushConfig.getPushTaskRetryDelay());
+        assertTrue(pushConfig.isPushDeltaEnabled());
+        assertEquals(3, pushConfig.getPushDeltaHistorySize());
         
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.delta;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ServicePushHistoryTest {
+    
+    @Test
+    void testRecordSameHosts() {
+        ServicePushHistory history = new ServicePushHistory();
+        List<Instance> hosts = Arrays.asList(createInstance("1.1.1.1", 1), createInstance("1.1.1.2", 2));
+        long revision = history.record(hosts, 8);
+        assertEquals(revision, history.record(new ArrayList<>(hosts), 8));
+    }
+    
+    @Test
+    void testGetDelta() {
+        ServicePushHistory history = new ServicePushHistory();
+        Instance instance1 = createInstance("1.1.1.1", 1);
+        Instance instance2 = createInstance("1.1.1.2", 2);
+        Instance instance3 = createInstance("1.1.1.3", 3);
+        final long base = history.record(Arrays.asList(instance1, instance2), 8);
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0D);
+        long revision = history.record(Arrays.asList(modified, instance3), 8);
+        PushDelta delta = history.getDelta(base, revision);
+        assertEquals(2, delta.getUpsertedHosts().size());
+        assertSame(modified, delta.getUpsertedHosts().get(0));
+        assertSame(instance3, delta.getUpsertedHosts().get(1));
+        assertEquals(1, delta.getRemovedHosts().size());
+        assertSame(instance2, delta.getRemovedHosts().get(0));
+        assertSame(delta, history.getDelta(base, revision));
+    }
+    
+    @Test
+    void testGetDeltaOutOfHistory() {
+        ServicePushHistory history = new ServicePushHistory();
+        final long base = history.record(Arrays.asList(createInstance("1.1.1.1", 1)), 1);
+        long revision = history.record(Arrays.asList(createInstance("1.1.1.2", 2)), 1);
+        assertNull(history.getDelta(base, revision));
+    }
+    
+    @Test
+    void testGetDeltaWithDuplicatedInstance() {
+        ServicePushHistory history = new ServicePushHistory();
+        final long base = history.record(Arrays.asList(createInstance("1.1.1.1", 1)), 8);
+        long revision = history.record(Arrays.asList(createInstance("1.1.1.2", 2), createInstance("1.1.1.2", 2)), 8);
+        assertNull(history.getDelta(base, revision));
+    }
+    
+    private Instance createInstance(String ip, int port) {
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        instance.setPort(port);
+        return instance;
+    }
+}
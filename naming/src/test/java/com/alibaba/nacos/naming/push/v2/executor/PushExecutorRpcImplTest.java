@@ -22,9 +22,12 @@ import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.delta.PushDelta;
+import com.alibaba.nacos.naming.push.v2.delta.PushDeltaManager;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -39,10 +42,17 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -63,6 +73,9 @@ class PushExecutorRpcImplTest {
     @Mock
     private NamingPushCallback pushCallBack;
     
+    @Mock
+    private PushDeltaManager pushDeltaManager;
+    
     @Mock
     private SelectorManager selectorManager;
     
@@ -80,7 +93,7 @@ class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, pushDeltaManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
@@ -103,6 +116,61 @@ class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushWithCallbackByDelta() {
+        Service service = Service.newService("N", "G", "S");
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        List<Instance> hosts = new LinkedList<>();
+        for (int i = 1; i <= 3; i++) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1." + i);
+            instance.setPort(i);
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        final PushDataWrapper deltaPushData = new PushDataWrapper(service, serviceMetadata, serviceInfo);
+        when(pushDeltaManager.isDeltaSupported(rpcClientId)).thenReturn(true);
+        when(pushDeltaManager.recordPushData(service, serviceInfo)).thenReturn(2L);
+        when(pushDeltaManager.getDelta(service, rpcClientId, 2L)).thenReturn(Optional.of(
+                new PushDelta(1L, 2L, Collections.singletonList(hosts.get(0)), Collections.emptyList())));
+        doAnswer(invocationOnMock -> {
+            NotifySubscriberRequest pushRequest = invocationOnMock.getArgument(1);
+            assertTrue(pushRequest.isDelta());
+            assertEquals(1L, pushRequest.getBaseRevision());
+            assertEquals(2L, pushRequest.getRevision());
+            assertEquals(1, pushRequest.getServiceInfo().getHosts().size());
+            PushCallBack callBack = invocationOnMock.getArgument(2);
+            callBack.onSuccess();
+            return null;
+        }).when(pushService).pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), any(PushCallBack.class),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, deltaPushData, pushCallBack);
+        verify(pushDeltaManager).ackRevision(rpcClientId, service, 2L);
+        verify(pushCallBack).onSuccess();
+    }
+    
+    @Test
+    void testDoPushShareBodyForSameSelectedServiceInfo() {
+        final ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        final Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        final PushDataWrapper sharedPushData = new PushDataWrapper(serviceMetadata, serviceInfo);
+        final Subscriber otherSubscriber = new Subscriber("2.2.2.2:8848", "", "", "2.2.2.2", "N", "G@@S", 8848);
+        final List<NotifySubscriberRequest> requests = new LinkedList<>();
+        doAnswer(invocationOnMock -> requests.add(invocationOnMock.getArgument(1))).when(pushService)
+                .pushWithoutAck(eq(rpcClientId), any(NotifySubscriberRequest.class));
+        when(selectorManager.select(any(), eq("2.2.2.2"), any())).thenReturn(Collections.emptyList());
+        pushExecutor.doPush(rpcClientId, subscriber, sharedPushData);
+        pushExecutor.doPush(rpcClientId, subscriber, sharedPushData);
+        pushExecutor.doPush(rpcClientId, otherSubscriber, sharedPushData);
+        assertEquals(3, requests.size());
+        assertNotNull(requests.get(0).getSharedBody());
+        assertSame(requests.get(0).getSharedBody(), requests.get(1).getSharedBody());
+        assertNotSame(requests.get(0).getSharedBody(), requests.get(2).getSharedBody());
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchSubscribeServiceRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchSubscribeServiceResponse;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.core.v2.service.impl.EphemeralClientOperationServiceImpl;
+import com.alibaba.nacos.naming.selector.SelectorManager;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link BatchSubscribeServiceRequestHandler} unit tests.
+ *
+ * @author Nacos
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchSubscribeServiceRequestHandlerTest {
+    
+    @InjectMocks
+    private BatchSubscribeServiceRequestHandler batchSubscribeServiceRequestHandler;
+    
+    @Mock
+    private ServiceStorage serviceStorage;
+    
+    @Mock
+    private NamingMetadataManager metadataManager;
+    
+    @Mock
+    private EphemeralClientOperationServiceImpl clientOperationService;
+    
+    @Mock
+    private ConfigurableApplicationContext applicationContext;
+    
+    @Mock
+    private SelectorManager selectorManager;
+    
+    private RequestMeta meta;
+    
+    @BeforeEach
+    void setUp() {
+        ApplicationUtils applicationUtils = new ApplicationUtils();
+        applicationUtils.initialize(applicationContext);
+        meta = new RequestMeta();
+        meta.setConnectionId("connectionId");
+        meta.setClientIp("1.1.1.1");
+    }
+    
+    @Test
+    void testHandleSubscribe() throws NacosException {
+        Mockito.when(applicationContext.getBean(SelectorManager.class)).thenReturn(selectorManager);
+        Mockito.when(serviceStorage.getData(Mockito.any())).thenAnswer(invocation -> {
+            Service service = invocation.getArgument(0);
+            ServiceInfo serviceInfo = new ServiceInfo();
+            serviceInfo.setGroupName(service.getGroup());
+            serviceInfo.setName(service.getName());
+            Instance instance = new Instance();
+            instance.setIp("2.2.2.2");
+            serviceInfo.setHosts(Collections.singletonList(instance));
+            return serviceInfo;
+        });
+        Mockito.when(metadataManager.getServiceMetadata(Mockito.any())).thenReturn(Optional.of(new ServiceMetadata()));
+        BatchSubscribeServiceRequest request = new BatchSubscribeServiceRequest("A",
+                Arrays.asList(new BatchSubscribeServiceRequest.ServiceContext("B", "C", ""),
+                        new BatchSubscribeServiceRequest.ServiceContext("D", "E", "")), true);
+        BatchSubscribeServiceResponse response = batchSubscribeServiceRequestHandler.handle(request, meta);
+        assertEquals(2, response.getServiceInfos().size());
+        assertEquals("C", response.getServiceInfos().get(0).getName());
+        assertEquals("E", response.getServiceInfos().get(1).getName());
+        Mockito.verify(clientOperationService, Mockito.times(2))
+                .subscribeService(Mockito.any(), Mockito.any(), Mockito.eq("connectionId"));
+    }
+    
+    @Test
+    void testHandleUnsubscribe() throws NacosException {
+        BatchSubscribeServiceRequest request = new BatchSubscribeServiceRequest("A",
+                Arrays.asList(new BatchSubscribeServiceRequest.ServiceContext("B", "C", ""),
+                        new BatchSubscribeServiceRequest.ServiceContext("D", "E", "")), false);
+        BatchSubscribeServiceResponse response = batchSubscribeServiceRequestHandler.handle(request, meta);
+        assertTrue(response.getServiceInfos().isEmpty());
+        Mockito.verify(clientOperationService, Mockito.times(2))
+                .unsubscribeService(Mockito.any(), Mockito.any(), Mockito.eq("connectionId"));
+        Mockito.verify(serviceStorage, Mockito.never()).getData(Mockito.any());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroBatchDataRequest;
+import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroBatchDataRequestHandlerTest {
+    
+    @InjectMocks
+    private DistroBatchDataRequestHandler distroBatchDataRequestHandler;
+    
+    @Mock
+    private DistroProtocol distroProtocol;
+    
+    @Test
+    void testHandle() throws NacosException {
+        DistroData data1 = new DistroData(new DistroKey("1", "type"), new byte[0]);
+        DistroData data2 = new DistroData(new DistroKey("2", "type"), new byte[0]);
+        DistroBatchDataRequest request = new DistroBatchDataRequest(Arrays.asList(data1, data2));
+        when(distroProtocol.onReceive(data1)).thenReturn(true);
+        when(distroProtocol.onReceive(data2)).thenReturn(true);
+        DistroDataResponse response = distroBatchDataRequestHandler.handle(request, new RequestMeta());
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        verify(distroProtocol).onReceive(data1);
+        verify(distroProtocol).onReceive(data2);
+    }
+    
+    @Test
+    void testHandleWithFailedData() throws NacosException {
+        DistroData data1 = new DistroData(new DistroKey("1", "type"), new byte[0]);
+        DistroData data2 = new DistroData(new DistroKey("2", "type"), new byte[0]);
+        DistroBatchDataRequest request = new DistroBatchDataRequest(Arrays.asList(data1, data2));
+        when(distroProtocol.onReceive(data1)).thenThrow(new IllegalStateException("test"));
+        when(distroProtocol.onReceive(data2)).thenReturn(true);
+        DistroDataResponse response = distroBatchDataRequestHandler.handle(request, new RequestMeta());
+        assertEquals(ResponseCode.FAIL.getCode(), response.getResultCode());
+        verify(distroProtocol).onReceive(data2);
+    }
+}
@@ -16,14 +16,16 @@
 
 package com.alibaba.nacos.plugin.control.tps.barrier;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * local simple count rate counter.
  *
+ * <p>The counter is a lock-free ring of slots. Each slot belongs to one window and is replaced by CAS when the window
+ * moves on, counts are striped {@link LongAdder}s, so concurrent requests don't contend on one counter.
+ *
  * @author shiyiyue
  */
 public class LocalSimpleCountRateCounter extends RateCounter {
@@ -32,13 +34,16 @@ public class LocalSimpleCountRateCounter extends RateCounter {
     
     long startTime = System.currentTimeMillis();
     
-    private List<TpsSlot> slotList;
+    private final long periodMillis;
+    
+    private final AtomicReferenceArray<TpsSlot> slots;
     
     public LocalSimpleCountRateCounter(String name, TimeUnit period) {
         super(name, period);
-        slotList = new ArrayList<>(DEFAULT_RECORD_SIZE);
+        periodMillis = period.toMillis(1);
+        slots = new AtomicReferenceArray<>(DEFAULT_RECORD_SIZE);
         for (int i = 0; i < DEFAULT_RECORD_SIZE; i++) {
-            slotList.add(new TpsSlot());
+            slots.set(i, new TpsSlot(0L));
         }
         long now = System.currentTimeMillis();
         
@@ -56,27 +61,51 @@ public class LocalSimpleCountRateCounter extends RateCounter {
     
     @Override
     public long add(long timestamp, long count) {
-        return createSlotIfAbsent(timestamp).countHolder.count.addAndGet(count);
+        LongAdder currentCount = createSlotIfAbsent(timestamp).count;
+        currentCount.add(count);
+        return currentCount.sum();
     }
-
+    
+    /**
+     * Add count and check the upper limit.
+     *
+     * <p>The sum after adding includes all adds happened before, so the passed count never exceeds the upper limit.
+     * Under heavy contention a request near the limit may be intercepted while a concurrent one is intercepted too.
+     *
+     * @param timestamp  timestamp
+     * @param countDelta count
+     * @param upperLimit upperLimit
+     * @return {@code true} if passed
+     */
     @Override
     public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
-        if (createSlotIfAbsent(timestamp).countHolder.count.addAndGet(countDelta) <= upperLimit) {
+        TpsSlot tpsSlot = createSlotIfAbsent(timestamp);
+        tpsSlot.count.add(countDelta);
+        if (tpsSlot.count.sum() <= upperLimit) {
             return true;
         } else {
-            createSlotIfAbsent(timestamp).countHolder.interceptedCount.addAndGet(countDelta);
+            tpsSlot.interceptedCount.add(countDelta);
             return false;
         }
     }
-
+    
     public void minus(long timestamp, long count) {
-        AtomicLong currentCount = createSlotIfAbsent(timestamp).countHolder.count;
-        currentCount.addAndGet(count * -1);
+        createSlotIfAbsent(timestamp).count.add(count * -1);
     }
     
     public long getCount(long timestamp) {
         TpsSlot point = getPoint(timestamp);
-        return point == null ? 0L : point.countHolder.count.longValue();
+        return point == null ? 0L : point.count.sum();
+    }
+    
+    private long getWindowTime(long timeStamp) {
+        long distance = timeStamp - startTime;
+        long diff = (distance < 0 ? distance + periodMillis * DEFAULT_RECORD_SIZE : distance) / periodMillis;
+        return startTime + diff * periodMillis;
+    }
+    
+    private int getIndex(long windowTime) {
+        return (int) (((windowTime - startTime) / periodMillis) % DEFAULT_RECORD_SIZE);
     }
     
     /**
@@ -86,12 +115,8 @@ public class LocalSimpleCountRateCounter extends RateCounter {
      * @return tps slot.
      */
     private TpsSlot getPoint(long timeStamp) {
-        long distance = timeStamp - startTime;
-        long diff = (distance < 0 ? distance + getPeriod().toMillis(1) * DEFAULT_RECORD_SIZE : distance) / getPeriod()
-                .toMillis(1);
-        long currentWindowTime = startTime + diff * getPeriod().toMillis(1);
-        int index = (int) diff % DEFAULT_RECORD_SIZE;
-        TpsSlot tpsSlot = slotList.get(index);
+        long currentWindowTime = getWindowTime(timeStamp);
+        TpsSlot tpsSlot = slots.get(getIndex(currentWindowTime));
         if (tpsSlot.time != currentWindowTime) {
             return null;
         }
@@ -101,55 +126,42 @@ public class LocalSimpleCountRateCounter extends RateCounter {
     /**
      * get slot of the timestamp second,create if not exist.
      *
+     * <p>A timestamp older than the window of its slot is counted into the newer window, so a late request never
+     * resets counts of the current window.
+     *
      * @param timeStamp the timestamp second.
      * @return tps slot.
      */
     public TpsSlot createSlotIfAbsent(long timeStamp) {
-        long distance = timeStamp - startTime;
-        
-        long diff = (distance < 0 ? distance + getPeriod().toMillis(1) * DEFAULT_RECORD_SIZE : distance) / getPeriod()
-                .toMillis(1);
-        long currentWindowTime = startTime + diff * getPeriod().toMillis(1);
-        int index = (int) diff % DEFAULT_RECORD_SIZE;
-        TpsSlot tpsSlot = slotList.get(index);
-        if (tpsSlot.time != currentWindowTime) {
-            tpsSlot.reset(currentWindowTime);
+        long currentWindowTime = getWindowTime(timeStamp);
+        int index = getIndex(currentWindowTime);
+        TpsSlot tpsSlot = slots.get(index);
+        while (tpsSlot.time < currentWindowTime) {
+            TpsSlot newSlot = new TpsSlot(currentWindowTime);
+            if (slots.compareAndSet(index, tpsSlot, newSlot)) {
+                return newSlot;
+            }
+            tpsSlot = slots.get(index);
         }
-        return slotList.get(index);
+        return tpsSlot;
     }
     
     static class TpsSlot {
         
-        long time = 0L;
+        final long time;
         
-        private SlotCountHolder countHolder = new SlotCountHolder();
+        final LongAdder count = new LongAdder();
         
-        public void reset(long second) {
-            synchronized (this) {
-                if (this.time != second) {
-                    this.time = second;
-                    countHolder.count.set(0L);
-                    countHolder.interceptedCount.set(0);
-                }
-            }
-        }
+        final LongAdder interceptedCount = new LongAdder();
         
-        @Override
-        public String toString() {
-            return "TpsSlot{" + "time=" + time + ", countHolder=" + countHolder + '}';
+        TpsSlot(long time) {
+            this.time = time;
         }
         
-    }
-    
-    static class SlotCountHolder {
-        
-        AtomicLong count = new AtomicLong();
-        
-        AtomicLong interceptedCount = new AtomicLong();
-        
         @Override
         public String toString() {
-            return "{" + count + "|" + interceptedCount + '}';
+            return "TpsSlot{" + "time=" + time + ", countHolder={" + count + "|" + interceptedCount + "}}";
         }
+        
     }
 }
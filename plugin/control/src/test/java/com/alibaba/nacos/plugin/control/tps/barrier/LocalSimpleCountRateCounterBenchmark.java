@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2020 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of rate counter under contention as the tps control filter does for every grpc request.
+ *
+ * <p>Run with {@code main} method from IDE or test classpath, it is not executed by unit tests.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class LocalSimpleCountRateCounterBenchmark {
+    
+    private LocalSimpleCountRateCounter counter;
+    
+    @Setup
+    public void setUp() {
+        counter = new LocalSimpleCountRateCounter("benchmark", TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Check a limit which is never reached, so every call passes.
+     *
+     * @return whether passed
+     */
+    @Benchmark
+    public boolean tryAdd() {
+        return counter.tryAdd(System.currentTimeMillis(), 1, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Check a small limit, most calls are intercepted.
+     *
+     * @return whether passed
+     */
+    @Benchmark
+    public boolean tryAddIntercepted() {
+        return counter.tryAdd(System.currentTimeMillis(), 1, 100);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LocalSimpleCountRateCounterBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
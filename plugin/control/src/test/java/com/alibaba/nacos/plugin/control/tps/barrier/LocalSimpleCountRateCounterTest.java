@@ -0,0 +1,90 @@
+/*
+ * Copyright 1999-2020 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalSimpleCountRateCounterTest {
+    
+    @Test
+    void testTryAddAndGetCount() {
+        LocalSimpleCountRateCounter counter = new LocalSimpleCountRateCounter("test", TimeUnit.SECONDS);
+        long now = counter.startTime + 100L;
+        for (int i = 0; i < 5; i++) {
+            assertTrue(counter.tryAdd(now, 1, 5));
+        }
+        assertFalse(counter.tryAdd(now, 1, 5));
+        assertEquals(6, counter.getCount(now));
+        assertEquals(1, counter.createSlotIfAbsent(now).interceptedCount.sum());
+        
+        counter.minus(now, 1);
+        assertEquals(5, counter.getCount(now));
+        assertEquals(6, counter.add(now, 1));
+    }
+    
+    @Test
+    void testSlotResetWhenWindowMoved() {
+        LocalSimpleCountRateCounter counter = new LocalSimpleCountRateCounter("test", TimeUnit.SECONDS);
+        long now = counter.startTime + 100L;
+        counter.add(now, 3);
+        // same slot index after a whole round of the ring
+        long later = now + TimeUnit.SECONDS.toMillis(10);
+        assertEquals(0, counter.getCount(later));
+        assertEquals(1, counter.add(later, 1));
+        assertEquals(0, counter.getCount(now));
+        // late timestamp doesn't reset counts of the newer window
+        counter.add(now, 1);
+        assertEquals(2, counter.getCount(later));
+    }
+    
+    @Test
+    void testConcurrentTryAddNeverExceedLimit() throws InterruptedException {
+        LocalSimpleCountRateCounter counter = new LocalSimpleCountRateCounter("test", TimeUnit.SECONDS);
+        long now = counter.startTime + 100L;
+        int threadCount = 16;
+        int perThread = 1000;
+        int upperLimit = 5000;
+        AtomicInteger passed = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    if (counter.tryAdd(now, 1, upperLimit)) {
+                        passed.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(passed.get() <= upperLimit);
+        assertEquals(threadCount * perThread, counter.getCount(now));
+        assertEquals(threadCount * perThread - passed.get(), counter.createSlotIfAbsent(now).interceptedCount.sum());
+    }
+}
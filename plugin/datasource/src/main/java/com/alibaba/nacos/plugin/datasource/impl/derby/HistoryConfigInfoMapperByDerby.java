@@ -64,4 +64,13 @@ public class HistoryConfigInfoMapperByDerby extends AbstractMapper implements Hi
                         context.getWhereParameter(FieldConstant.LAST_MAX_ID),
                         context.getWhereParameter(FieldConstant.PAGE_SIZE)));
     }
+    
+    @Override
+    public MapperResult findChangeLog(MapperContext context) {
+        return new MapperResult(
+                "SELECT nid AS id,data_id,group_id,tenant_id,gmt_modified FROM his_config_info WHERE nid > ? "
+                        + "ORDER BY nid OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY",
+                CollectionUtils.list(context.getWhereParameter(FieldConstant.LAST_MAX_ID),
+                        context.getWhereParameter(FieldConstant.PAGE_SIZE)));
+    }
 }
@@ -68,6 +68,31 @@ public interface HistoryConfigInfoMapper extends Mapper {
                         context.getWhereParameter(FieldConstant.PAGE_SIZE)));
     }
     
+    /**
+     * Query config change log after the nid. The default sql: SELECT nid AS id,data_id,group_id,tenant_id,gmt_modified
+     * FROM his_config_info WHERE nid > ? ORDER BY nid LIMIT ?
+     *
+     * @param context sql paramMap
+     * @return The sql of querying config change log.
+     */
+    default MapperResult findChangeLog(MapperContext context) {
+        return new MapperResult(
+                "SELECT nid AS id,data_id,group_id,tenant_id,gmt_modified FROM his_config_info WHERE nid > ? "
+                        + "ORDER BY nid LIMIT ?",
+                CollectionUtils.list(context.getWhereParameter(FieldConstant.LAST_MAX_ID),
+                        context.getWhereParameter(FieldConstant.PAGE_SIZE)));
+    }
+    
+    /**
+     * Get the max nid of config change log. The default sql: SELECT max(nid) FROM his_config_info
+     *
+     * @param context sql paramMap
+     * @return The sql of getting the max nid of config change log.
+     */
+    default MapperResult findChangeLogMaxId(MapperContext context) {
+        return new MapperResult("SELECT max(nid) FROM his_config_info", Collections.emptyList());
+    }
+    
     /**
      * List configuration history change record. The default sql: SELECT
      * nid,data_id,group_id,tenant_id,app_name,src_ip,src_user,op_type,gmt_create,gmt_modified FROM his_config_info
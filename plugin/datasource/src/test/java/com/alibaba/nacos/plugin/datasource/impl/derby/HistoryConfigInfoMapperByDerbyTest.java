@@ -84,6 +84,21 @@ class HistoryConfigInfoMapperByDerbyTest {
         assertArrayEquals(new Object[] {startTime, lastMaxId, pageSize}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindChangeLog() {
+        MapperResult mapperResult = historyConfigInfoMapperByDerby.findChangeLog(context);
+        assertEquals("SELECT nid AS id,data_id,group_id,tenant_id,gmt_modified FROM his_config_info WHERE nid > ? "
+                + "ORDER BY nid OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY", mapperResult.getSql());
+        assertArrayEquals(new Object[] {lastMaxId, pageSize}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testFindChangeLogMaxId() {
+        MapperResult mapperResult = historyConfigInfoMapperByDerby.findChangeLogMaxId(context);
+        assertEquals("SELECT max(nid) FROM his_config_info", mapperResult.getSql());
+        assertEquals(0, mapperResult.getParamList().size());
+    }
+    
     @Test
     void testFindConfigHistoryFetchRows() {
         Object dataId = "dataId";
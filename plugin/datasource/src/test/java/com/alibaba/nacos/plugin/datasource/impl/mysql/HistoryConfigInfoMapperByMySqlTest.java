@@ -81,6 +81,21 @@ class HistoryConfigInfoMapperByMySqlTest {
         assertArrayEquals(new Object[] {startTime, lastMaxId, pageSize}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindChangeLog() {
+        MapperResult mapperResult = historyConfigInfoMapperByMySql.findChangeLog(context);
+        assertEquals("SELECT nid AS id,data_id,group_id,tenant_id,gmt_modified FROM his_config_info WHERE nid > ? "
+                + "ORDER BY nid LIMIT ?", mapperResult.getSql());
+        assertArrayEquals(new Object[] {lastMaxId, pageSize}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testFindChangeLogMaxId() {
+        MapperResult mapperResult = historyConfigInfoMapperByMySql.findChangeLogMaxId(context);
+        assertEquals("SELECT max(nid) FROM his_config_info", mapperResult.getSql());
+        assertEquals(0, mapperResult.getParamList().size());
+    }
+    
     @Test
     void testFindConfigHistoryFetchRows() {
         Object dataId = "dataId";